@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.gemfire.benchmarks.BenchmarkCache;
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.benchmarks.Customers;
+
+/**
+ * JMH benchmarks measuring {@link GemfireTemplate} data access operations on the {@literal Customers}
+ * {@link org.apache.geode.cache.Region} of the embedded peer {@link BenchmarkCache}.
+ *
+ * @see GemfireTemplate
+ * @see BenchmarkCache
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class GemfireTemplateBenchmarks {
+
+	private static final int BULK_SIZE = 100;
+
+	private int customerCount;
+
+	private long nextId;
+
+	private GemfireTemplate template;
+
+	private List<Long> keys;
+
+	private Map<Long, Customer> entries;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkCache cache) {
+
+		this.customerCount = cache.customerCount;
+		this.template = cache.getCustomersTemplate();
+		this.keys = new ArrayList<>(BULK_SIZE);
+		this.entries = new LinkedHashMap<>();
+
+		for (long id = 1; id <= BULK_SIZE; id++) {
+			this.keys.add(id);
+			this.entries.put(id, Customers.newCustomer(id));
+		}
+	}
+
+	private long nextId() {
+
+		long id = this.nextId % this.customerCount + 1;
+
+		this.nextId++;
+
+		return id;
+	}
+
+	@Benchmark
+	public Object get() {
+		return this.template.get(nextId());
+	}
+
+	@Benchmark
+	public Map<Long, Customer> getAll() {
+		return this.template.getAll(this.keys);
+	}
+
+	@Benchmark
+	public Object put() {
+
+		long id = nextId();
+
+		return this.template.put(id, Customers.newCustomer(id));
+	}
+
+	@Benchmark
+	public void putAll() {
+		this.template.putAll(this.entries);
+	}
+
+	@Benchmark
+	public SelectResults<Customer> find() {
+		return this.template.find("SELECT * FROM /Customers c WHERE c.lastName = $1", Customers.lastName(nextId()));
+	}
+}
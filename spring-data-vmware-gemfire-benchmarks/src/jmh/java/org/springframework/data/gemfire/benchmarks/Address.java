@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.benchmarks;
+
+/**
+ * Value type nested in the {@link Customer} entity used by the benchmarks.
+ *
+ * @see Customer
+ * @since 1.0.1
+ */
+public class Address {
+
+	private String street;
+	private String city;
+	private String postalCode;
+
+	public Address() { }
+
+	public Address(String street, String city, String postalCode) {
+		this.street = street;
+		this.city = city;
+		this.postalCode = postalCode;
+	}
+
+	public String getStreet() {
+		return this.street;
+	}
+
+	public void setStreet(String street) {
+		this.street = street;
+	}
+
+	public String getCity() {
+		return this.city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public String getPostalCode() {
+		return this.postalCode;
+	}
+
+	public void setPostalCode(String postalCode) {
+		this.postalCode = postalCode;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.benchmarks;
+
+import java.util.Collections;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory;
+
+/**
+ * JMH {@link State} bootstrapping an embedded, standalone peer {@link Cache} configured with
+ * the {@link MappingPdxSerializer} and a {@literal Customers} {@link Region} loaded with
+ * {@link #customerCount} {@link Customer Customers}.
+ *
+ * The {@link Cache} is created once per trial and closed at the end of the trial.
+ *
+ * @see Cache
+ * @see CustomerRepository
+ * @see GemfireTemplate
+ * @see MappingPdxSerializer
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+public class BenchmarkCache {
+
+	public static final String CUSTOMERS_REGION_NAME = "Customers";
+
+	@Param({ "10000" })
+	public int customerCount;
+
+	private Cache cache;
+
+	private CustomerRepository customerRepository;
+
+	private GemfireMappingContext mappingContext;
+
+	private GemfireTemplate customersTemplate;
+
+	private MappingPdxSerializer pdxSerializer;
+
+	private Region<Long, Customer> customers;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.mappingContext = new GemfireMappingContext();
+		this.pdxSerializer = new MappingPdxSerializer(this.mappingContext, new DefaultConversionService());
+
+		// Types in org.springframework packages are excluded from PDX serialization by default.
+		this.pdxSerializer.setIncludeTypeFilters(type -> type.getPackage() == Customer.class.getPackage());
+
+		this.cache = new CacheFactory()
+			.set("name", getClass().getSimpleName())
+			.set("locators", "")
+			.set("log-level", "error")
+			.set("mcast-port", "0")
+			.setPdxSerializer(this.pdxSerializer)
+			.setPdxReadSerialized(false)
+			.create();
+
+		this.customers = this.cache.<Long, Customer>createRegionFactory(RegionShortcut.LOCAL)
+			.create(CUSTOMERS_REGION_NAME);
+
+		this.customersTemplate = new GemfireTemplate(this.customers);
+
+		this.customerRepository = new GemfireRepositoryFactory(Collections.singleton(this.customers), this.mappingContext)
+			.getRepository(CustomerRepository.class);
+
+		this.customerRepository.saveAll(Customers.newCustomers(this.customerCount));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+
+		Cache cache = this.cache;
+
+		if (cache != null && !cache.isClosed()) {
+			cache.close();
+		}
+	}
+
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	public CustomerRepository getCustomerRepository() {
+		return this.customerRepository;
+	}
+
+	public Region<Long, Customer> getCustomers() {
+		return this.customers;
+	}
+
+	public GemfireTemplate getCustomersTemplate() {
+		return this.customersTemplate;
+	}
+
+	public GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	public MappingPdxSerializer getPdxSerializer() {
+		return this.pdxSerializer;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.benchmarks;
+
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+
+/**
+ * Entity stored in the {@literal Customers} {@link org.apache.geode.cache.Region} by the benchmarks,
+ * representative of an application domain object with scalar, nested and collection valued properties.
+ *
+ * @see Address
+ * @see CustomerRepository
+ * @since 1.0.1
+ */
+@Region(BenchmarkCache.CUSTOMERS_REGION_NAME)
+public class Customer {
+
+	@Id
+	private Long id;
+
+	private int age;
+
+	private boolean active;
+
+	private double balance;
+
+	private Address address;
+
+	private List<String> tags;
+
+	private String firstName;
+	private String lastName;
+
+	public Customer() { }
+
+	public Customer(Long id, String firstName, String lastName) {
+		this.id = id;
+		this.firstName = firstName;
+		this.lastName = lastName;
+	}
+
+	public Long getId() {
+		return this.id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public boolean isActive() {
+		return this.active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public Address getAddress() {
+		return this.address;
+	}
+
+	public void setAddress(Address address) {
+		this.address = address;
+	}
+
+	public int getAge() {
+		return this.age;
+	}
+
+	public void setAge(int age) {
+		this.age = age;
+	}
+
+	public double getBalance() {
+		return this.balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+
+	public String getFirstName() {
+		return this.firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return this.lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public List<String> getTags() {
+		return this.tags;
+	}
+
+	public void setTags(List<String> tags) {
+		this.tags = tags;
+	}
+}
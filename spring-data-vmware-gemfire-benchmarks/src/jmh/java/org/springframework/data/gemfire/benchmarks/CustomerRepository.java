@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.benchmarks;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Spring Data {@link CrudRepository} for {@link Customer Customers} used by the benchmarks.
+ *
+ * @see Customer
+ * @see CrudRepository
+ * @since 1.0.1
+ */
+public interface CustomerRepository extends CrudRepository<Customer, Long> {
+
+	List<Customer> findByLastName(String lastName);
+
+	List<Customer> findByFirstNameStartingWithAndAgeGreaterThanOrderByAgeDesc(String firstName, int age);
+
+	Page<Customer> findByAgeGreaterThan(int age, Pageable pageable);
+
+}
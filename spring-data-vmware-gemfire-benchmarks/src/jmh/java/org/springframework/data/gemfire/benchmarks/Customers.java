@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Abstract utility class generating {@link Customer Customers} for the benchmarks.
+ *
+ * {@link Customer Customers} are derived from their identifier only, so every run of the benchmarks
+ * stores and reads exactly the same data.
+ *
+ * @see Customer
+ * @since 1.0.1
+ */
+public abstract class Customers {
+
+	private static final String[] CITIES = { "Portland", "Seattle", "Denver", "Austin", "Boston" };
+
+	private static final String[] FIRST_NAMES = { "Jon", "Jane", "Pie", "Cookie", "Sour", "Fro", "Jack", "Sandy" };
+
+	private static final String[] LAST_NAMES = { "Doe", "Smith", "Handy", "Jones", "Baker", "Black", "Johnson" };
+
+	private static final String[] TAGS = { "gold", "silver", "bronze", "online", "retail", "wholesale" };
+
+	public static String firstName(long id) {
+		return FIRST_NAMES[(int) (id % FIRST_NAMES.length)];
+	}
+
+	public static String lastName(long id) {
+		return LAST_NAMES[(int) (id % LAST_NAMES.length)];
+	}
+
+	public static Customer newCustomer(long id) {
+
+		Customer customer = new Customer(id, firstName(id), lastName(id));
+
+		customer.setActive(id % 3 != 0);
+		customer.setAddress(new Address(id + " Main St.", CITIES[(int) (id % CITIES.length)],
+			String.valueOf(10000 + id % 90000)));
+		customer.setAge((int) (18 + id % 70));
+		customer.setBalance(id * 10.25d);
+		customer.setTags(Arrays.asList(TAGS[(int) (id % TAGS.length)], TAGS[(int) ((id + 1) % TAGS.length)]));
+
+		return customer;
+	}
+
+	public static List<Customer> newCustomers(int count) {
+
+		List<Customer> customers = new ArrayList<>(count);
+
+		for (long id = 1; id <= count; id++) {
+			customers.add(newCustomer(id));
+		}
+
+		return customers;
+	}
+}
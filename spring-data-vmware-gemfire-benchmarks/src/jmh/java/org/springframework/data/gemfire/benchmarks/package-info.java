@@ -0,0 +1,9 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * Package containing the domain model and the embedded peer cache shared by the JMH benchmarks.
+ */
+package org.springframework.data.gemfire.benchmarks;
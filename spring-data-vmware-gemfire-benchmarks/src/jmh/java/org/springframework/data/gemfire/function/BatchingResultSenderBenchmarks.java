@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function;
+
+import java.util.List;
+
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.benchmarks.Customers;
+
+/**
+ * JMH benchmarks measuring the chunking of {@link org.apache.geode.cache.execute.Function} results
+ * by the {@link BatchingResultSender}.
+ *
+ * The chunks are consumed by a {@link Blackhole} rather than sent to a caller.
+ *
+ * @see BatchingResultSender
+ * @see ResultSender
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class BatchingResultSenderBenchmarks {
+
+	@Param({ "0", "100" })
+	public int batchSize;
+
+	@Param({ "0", "65536" })
+	public long batchBytes;
+
+	@Param({ "10000" })
+	public int resultCount;
+
+	private List<Customer> results;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.results = Customers.newCustomers(this.resultCount);
+	}
+
+	@Benchmark
+	public void sendIterable(Blackhole blackhole) {
+		new BatchingResultSender(this.batchSize, this.batchBytes, new BlackholeResultSender(blackhole))
+			.sendResults(this.results);
+	}
+
+	@Benchmark
+	public void sendIterator(Blackhole blackhole) {
+		new BatchingResultSender(this.batchSize, this.batchBytes, new BlackholeResultSender(blackhole))
+			.sendResults(this.results.iterator());
+	}
+
+	private static final class BlackholeResultSender implements ResultSender<Object> {
+
+		private final Blackhole blackhole;
+
+		private BlackholeResultSender(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void lastResult(Object oneResult) {
+			this.blackhole.consume(oneResult);
+		}
+
+		@Override
+		public void sendResult(Object oneResult) {
+			this.blackhole.consume(oneResult);
+		}
+
+		@Override
+		public void sendException(Throwable cause) {
+			this.blackhole.consume(cause);
+		}
+	}
+}
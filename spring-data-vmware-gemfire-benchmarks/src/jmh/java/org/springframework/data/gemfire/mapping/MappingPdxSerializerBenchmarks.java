@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.apache.geode.DataSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.gemfire.benchmarks.BenchmarkCache;
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.benchmarks.Customers;
+
+/**
+ * JMH benchmarks measuring PDX serialization and deserialization of a {@link Customer}
+ * with the {@link MappingPdxSerializer} registered with the {@link BenchmarkCache}.
+ *
+ * @see MappingPdxSerializer
+ * @see BenchmarkCache
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class MappingPdxSerializerBenchmarks {
+
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+
+	private byte[] serializedCustomer;
+
+	private Customer customer;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkCache cache) throws IOException {
+
+		this.customer = Customers.newCustomer(42L);
+		this.serializedCustomer = serialize();
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+
+		ByteArrayOutputStream buffer = this.buffer;
+
+		buffer.reset();
+
+		DataSerializer.writeObject(this.customer, new DataOutputStream(buffer));
+
+		return buffer.toByteArray();
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException {
+		return DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(this.serializedCustomer)));
+	}
+
+	@Benchmark
+	public Object roundTrip() throws IOException, ClassNotFoundException {
+		return DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(serialize())));
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * JMH benchmarks measuring the preparation and post processing of {@link QueryString OQL queries}
+ * and the derivation of OQL queries from {@link PartTree query method names}.
+ *
+ * @see QueryString
+ * @see GemfireQueryCreator
+ * @see PartTree
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class QueryStringBenchmarks {
+
+	private static final String DERIVED_QUERY_METHOD_NAME =
+		"findByFirstNameStartingWithAndAgeGreaterThanOrderByAgeDesc";
+
+	private static final String IN_QUERY = "SELECT * FROM /Customers c WHERE c.lastName IN SET $1";
+
+	private static final String LIMITED_QUERY =
+		"SELECT * FROM /Customers c WHERE c.active = true ORDER BY c.lastName ASC LIMIT 100";
+
+	private final List<String> lastNames = Arrays.asList("Doe", "Smith", "Handy", "Jones", "Baker");
+
+	private final Sort sort = Sort.by("lastName", "firstName");
+
+	private GemfirePersistentEntity<?> entity;
+
+	private PartTree partTree;
+
+	private QueryString limitedQuery;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.entity = new GemfireMappingContext().getRequiredPersistentEntity(Customer.class);
+		this.partTree = new PartTree(DERIVED_QUERY_METHOD_NAME, Customer.class);
+		this.limitedQuery = QueryString.of(LIMITED_QUERY);
+	}
+
+	@Benchmark
+	public String prepareQuery() {
+
+		return QueryString.of(IN_QUERY)
+			.bindIn(this.lastNames)
+			.orderBy(this.sort)
+			.withHints("LastNameIdx")
+			.withLimit(100)
+			.withTrace()
+			.toString();
+	}
+
+	@Benchmark
+	public String adjustLimit() {
+		return this.limitedQuery.adjustLimit(20).toString();
+	}
+
+	@Benchmark
+	public Object asCountQuery() {
+		return this.limitedQuery.asCountQuery().map(QueryString::toString).orElse(null);
+	}
+
+	@Benchmark
+	public int inParameterIndexes() {
+
+		int sum = 0;
+
+		for (int index : QueryString.of(IN_QUERY).getInParameterIndexes()) {
+			sum += index;
+		}
+
+		return sum;
+	}
+
+	@Benchmark
+	public String deriveQuery() {
+		return new GemfireQueryCreator(this.partTree, this.entity).createQuery(Sort.unsorted()).toString();
+	}
+
+	@Benchmark
+	public String deriveQueryFromMethodName() {
+
+		PartTree partTree = new PartTree(DERIVED_QUERY_METHOD_NAME, Customer.class);
+
+		return new GemfireQueryCreator(partTree, this.entity).createQuery(this.sort).toString();
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.benchmarks.Customers;
+
+/**
+ * JMH benchmarks measuring the {@link PagingUtils} used to page the results of OQL queries.
+ *
+ * @see PagingUtils
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class PagingUtilsBenchmarks {
+
+	@Param({ "1000" })
+	public int resultCount;
+
+	private List<Customer> results;
+
+	private Pageable firstPage;
+	private Pageable lastPage;
+
+	@Setup(Level.Trial)
+	public void setup() {
+
+		this.results = Customers.newCustomers(this.resultCount);
+		this.firstPage = PageRequest.of(0, 20);
+		this.lastPage = PageRequest.of(this.resultCount / 20 - 1, 20);
+	}
+
+	@Benchmark
+	public List<Customer> pagedList() {
+		return PagingUtils.getPagedList(this.results, this.lastPage);
+	}
+
+	@Benchmark
+	public Page<Customer> firstPage() {
+		return PagingUtils.toPage(this.results, this.firstPage);
+	}
+
+	@Benchmark
+	public Page<Customer> pageOfLimitedResults() {
+
+		List<Customer> content = PagingUtils.getPagedList(this.results, this.lastPage);
+
+		return PagingUtils.toPage(content, this.lastPage, this.results::size);
+	}
+
+	@Benchmark
+	public int queryResultSetLimit() {
+		return PagingUtils.getQueryResultSetLimitForPage(this.lastPage);
+	}
+}
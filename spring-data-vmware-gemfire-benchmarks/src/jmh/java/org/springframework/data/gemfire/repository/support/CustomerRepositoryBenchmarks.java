@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.benchmarks.BenchmarkCache;
+import org.springframework.data.gemfire.benchmarks.Customer;
+import org.springframework.data.gemfire.benchmarks.CustomerRepository;
+import org.springframework.data.gemfire.benchmarks.Customers;
+
+/**
+ * JMH benchmarks measuring CRUD operations and query methods of a {@link CustomerRepository}
+ * created by the {@link GemfireRepositoryFactory} on the embedded peer {@link BenchmarkCache}.
+ *
+ * @see GemfireRepositoryFactory
+ * @see SimpleGemfireRepository
+ * @see BenchmarkCache
+ * @since 1.0.1
+ */
+@State(Scope.Thread)
+public class CustomerRepositoryBenchmarks {
+
+	private static final int BULK_SIZE = 100;
+
+	private int customerCount;
+
+	private long nextId;
+
+	private CustomerRepository repository;
+
+	private List<Long> ids;
+
+	private Pageable pageable;
+
+	@Setup(Level.Trial)
+	public void setup(BenchmarkCache cache) {
+
+		this.customerCount = cache.customerCount;
+		this.repository = cache.getCustomerRepository();
+		this.ids = new ArrayList<>(BULK_SIZE);
+		this.pageable = PageRequest.of(2, 20);
+
+		for (long id = 1; id <= BULK_SIZE; id++) {
+			this.ids.add(id);
+		}
+	}
+
+	private long nextId() {
+
+		long id = this.nextId % this.customerCount + 1;
+
+		this.nextId++;
+
+		return id;
+	}
+
+	@Benchmark
+	public Customer save() {
+		return this.repository.save(Customers.newCustomer(nextId()));
+	}
+
+	@Benchmark
+	public Optional<Customer> findById() {
+		return this.repository.findById(nextId());
+	}
+
+	@Benchmark
+	public Iterable<Customer> findAllById() {
+		return this.repository.findAllById(this.ids);
+	}
+
+	@Benchmark
+	public Customer deleteAndSave() {
+
+		long id = nextId();
+
+		this.repository.deleteById(id);
+
+		return this.repository.save(Customers.newCustomer(id));
+	}
+
+	@Benchmark
+	public long count() {
+		return this.repository.count();
+	}
+
+	@Benchmark
+	public List<Customer> findByLastName() {
+		return this.repository.findByLastName(Customers.lastName(nextId()));
+	}
+
+	@Benchmark
+	public List<Customer> findByDerivedQuery() {
+
+		long id = nextId();
+
+		return this.repository.findByFirstNameStartingWithAndAgeGreaterThanOrderByAgeDesc(
+			Customers.firstName(id).substring(0, 1), 65);
+	}
+
+	@Benchmark
+	public Page<Customer> findPage() {
+		return this.repository.findByAgeGreaterThan(30, this.pageable);
+	}
+}
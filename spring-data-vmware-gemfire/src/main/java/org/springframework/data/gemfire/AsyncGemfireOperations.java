@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+/**
+ * {@link AsyncGemfireOperations} defines the non-blocking {@link Region} data access operations that can be performed
+ * using the {@literal Template software design pattern}.
+ *
+ * Each operation returns immediately with a {@link CompletableFuture} that completes when the corresponding
+ * {@link GemfireOperations} operation completes, or completes exceptionally with the {@link RuntimeException}
+ * thrown by the operation.
+ *
+ * @see CompletableFuture
+ * @see Flow.Publisher
+ * @see GemfireOperations
+ * @see Region
+ * @since 1.0.1
+ */
+public interface AsyncGemfireOperations {
+
+	CompletableFuture<Boolean> containsKey(Object key);
+
+	CompletableFuture<Boolean> containsKeyOnServer(Object key);
+
+	CompletableFuture<Boolean> containsValue(Object value);
+
+	CompletableFuture<Boolean> containsValueForKey(Object key);
+
+	<K, V> CompletableFuture<Void> create(K key, V value);
+
+	<K, V> CompletableFuture<V> get(K key);
+
+	<K, V> CompletableFuture<Map<K, V>> getAll(Collection<?> keys);
+
+	<K, V> CompletableFuture<V> put(K key, V value);
+
+	<K, V> CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map);
+
+	<K, V> CompletableFuture<V> putIfAbsent(K key, V value);
+
+	<K, V> CompletableFuture<V> remove(K key);
+
+	CompletableFuture<Void> removeAll(Collection<?> keys);
+
+	<K, V> CompletableFuture<V> replace(K key, V value);
+
+	<K, V> CompletableFuture<Boolean> replace(K key, V oldValue, V newValue);
+
+	/**
+	 * Asynchronously executes the OQL query with the given (optional) parameters.
+	 *
+	 * @param <E> type parameter specifying the type of the select results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completing with the {@link SelectResults} of the query.
+	 * @see GemfireOperations#find(String, Object...)
+	 */
+	<E> CompletableFuture<SelectResults<E>> find(String query, Object... params);
+
+	/**
+	 * Asynchronously executes the OQL query, which must return a single result, with the given (optional) parameters.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link CompletableFuture} completing with the single result of the query.
+	 * @see GemfireOperations#findUnique(String, Object...)
+	 */
+	<T> CompletableFuture<T> findUnique(String query, Object... params);
+
+	/**
+	 * Asynchronously filters the values of the {@link Region} using the given OQL query predicate.
+	 *
+	 * @param <E> type parameter specifying the type of the select results.
+	 * @param query an OQL Query language boolean query predicate.
+	 * @return a {@link CompletableFuture} completing with the values of the {@link Region} matching the predicate.
+	 * @see GemfireOperations#query(String)
+	 */
+	<E> CompletableFuture<SelectResults<E>> query(String query);
+
+	/**
+	 * Returns a {@link Flow.Publisher} emitting the results of the OQL query with the given (optional) parameters.
+	 *
+	 * The query is executed when the first results are requested by the {@link Flow.Subscriber}, and results are
+	 * emitted no faster than requested, honoring back-pressure.
+	 *
+	 * Back-pressure only paces the emission of results to the {@link Flow.Subscriber}. The query is executed once
+	 * and all {@link SelectResults} are loaded into memory before the first result is emitted, so requesting fewer
+	 * results does not reduce the memory used by a query returning a large number of results. Use a derived
+	 * {@link java.util.stream.Stream} {@link org.springframework.data.gemfire.repository.GemfireRepository}
+	 * query method to fetch results lazily in keyset batches instead.
+	 *
+	 * @param <E> type parameter specifying the type of the query results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link Flow.Publisher} emitting the results of the query.
+	 * @see GemfireOperations#stream(String, Object...)
+	 * @see Flow.Publisher
+	 */
+	<E> Flow.Publisher<E> stream(String query, Object... params);
+
+	/**
+	 * Asynchronously executes the action specified by the given action object within a Region.
+	 *
+	 * @param <T> type parameter specifying the returned result type.
+	 * @param action callback object that specifies the Gemfire action to execute.
+	 * @return a {@link CompletableFuture} completing with the result returned by the action.
+	 * @see GemfireOperations#execute(GemfireCallback)
+	 */
+	<T> CompletableFuture<T> execute(GemfireCallback<T> action);
+
+}
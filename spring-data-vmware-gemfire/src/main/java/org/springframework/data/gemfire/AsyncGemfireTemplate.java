@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncGemfireOperations} implementation that runs the blocking {@link GemfireOperations} of a delegate
+ * template, such as a {@link GemfireTemplate}, on an {@link Executor}.
+ *
+ * By default, operations run on a pool of at most {@link #DEFAULT_MAX_CONCURRENCY} daemon {@link Thread Threads}
+ * waiting in a queue of at most {@link #DEFAULT_QUEUE_CAPACITY} operations. Operations rejected by a full queue
+ * complete exceptionally with a {@link RejectedExecutionException}. Any other {@link Executor}, for instance one
+ * creating a virtual {@link Thread} per task on Java 21 or later, can be provided instead.
+ *
+ * @see AsyncGemfireOperations
+ * @see GemfireOperations
+ * @see GemfireTemplate
+ * @see Executor
+ * @see DisposableBean
+ * @since 1.0.1
+ */
+public class AsyncGemfireTemplate implements AsyncGemfireOperations, DisposableBean {
+
+	public static final int DEFAULT_MAX_CONCURRENCY =
+		Integer.getInteger("spring.data.gemfire.template.async.max.concurrency",
+			Math.max(Runtime.getRuntime().availableProcessors() * 4, 16));
+
+	public static final int DEFAULT_QUEUE_CAPACITY =
+		Integer.getInteger("spring.data.gemfire.template.async.queue.capacity", 10_000);
+
+	private final Executor executor;
+
+	private final ExecutorService defaultExecutorService;
+
+	private final GemfireOperations template;
+
+	/**
+	 * Constructs a new instance of {@link AsyncGemfireTemplate} running the operations of the given
+	 * {@link GemfireOperations} on a default, bounded pool of {@link Thread Threads}.
+	 *
+	 * @param template {@link GemfireOperations} performing the data access operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} is {@literal null}.
+	 * @see #AsyncGemfireTemplate(GemfireOperations, Executor)
+	 */
+	public AsyncGemfireTemplate(@NonNull GemfireOperations template) {
+
+		Assert.notNull(template, "GemfireOperations must not be null");
+
+		this.template = template;
+		this.defaultExecutorService = newDefaultExecutorService();
+		this.executor = this.defaultExecutorService;
+	}
+
+	/**
+	 * Constructs a new instance of {@link AsyncGemfireTemplate} running the operations of the given
+	 * {@link GemfireOperations} on the given {@link Executor}.
+	 *
+	 * The given {@link Executor} is not shut down when this template is {@link #destroy() destroyed}.
+	 *
+	 * @param template {@link GemfireOperations} performing the data access operations; must not be {@literal null}.
+	 * @param executor {@link Executor} running the data access operations; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireOperations} or {@link Executor} are {@literal null}.
+	 */
+	public AsyncGemfireTemplate(@NonNull GemfireOperations template, @NonNull Executor executor) {
+
+		Assert.notNull(template, "GemfireOperations must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.template = template;
+		this.defaultExecutorService = null;
+		this.executor = executor;
+	}
+
+	private static ExecutorService newDefaultExecutorService() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("AsyncGemfireTemplate-");
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(DEFAULT_MAX_CONCURRENCY,
+			DEFAULT_MAX_CONCURRENCY, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(DEFAULT_QUEUE_CAPACITY),
+			threadFactory);
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		return threadPoolExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} running the data access operations.
+	 *
+	 * @return the {@link Executor} running the data access operations.
+	 * @see Executor
+	 */
+	public @NonNull Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Returns the {@link GemfireOperations} performing the data access operations.
+	 *
+	 * @return the {@link GemfireOperations} performing the data access operations.
+	 * @see GemfireOperations
+	 */
+	public @NonNull GemfireOperations getTemplate() {
+		return this.template;
+	}
+
+	/**
+	 * Shuts down the default {@link Executor}, if used.
+	 */
+	@Override
+	public void destroy() {
+
+		if (this.defaultExecutorService != null) {
+			this.defaultExecutorService.shutdown();
+		}
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsKey(Object key) {
+		return supplyAsync(() -> getTemplate().containsKey(key));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsKeyOnServer(Object key) {
+		return supplyAsync(() -> getTemplate().containsKeyOnServer(key));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsValue(Object value) {
+		return supplyAsync(() -> getTemplate().containsValue(value));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> containsValueForKey(Object key) {
+		return supplyAsync(() -> getTemplate().containsValueForKey(key));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Void> create(K key, V value) {
+		return runAsync(() -> getTemplate().create(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> get(K key) {
+		return supplyAsync(() -> getTemplate().get(key));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Map<K, V>> getAll(Collection<?> keys) {
+		return supplyAsync(() -> getTemplate().getAll(keys));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> put(K key, V value) {
+		return supplyAsync(() -> getTemplate().put(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Void> putAll(Map<? extends K, ? extends V> map) {
+		return runAsync(() -> getTemplate().putAll(map));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> putIfAbsent(K key, V value) {
+		return supplyAsync(() -> getTemplate().putIfAbsent(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> remove(K key) {
+		return supplyAsync(() -> getTemplate().remove(key));
+	}
+
+	@Override
+	public CompletableFuture<Void> removeAll(Collection<?> keys) {
+		return runAsync(() -> getTemplate().removeAll(keys));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<V> replace(K key, V value) {
+		return supplyAsync(() -> getTemplate().replace(key, value));
+	}
+
+	@Override
+	public <K, V> CompletableFuture<Boolean> replace(K key, V oldValue, V newValue) {
+		return supplyAsync(() -> getTemplate().replace(key, oldValue, newValue));
+	}
+
+	@Override
+	public <E> CompletableFuture<SelectResults<E>> find(String query, Object... params) {
+		return supplyAsync(() -> getTemplate().find(query, params));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> findUnique(String query, Object... params) {
+		return supplyAsync(() -> getTemplate().findUnique(query, params));
+	}
+
+	@Override
+	public <E> CompletableFuture<SelectResults<E>> query(String query) {
+		return supplyAsync(() -> getTemplate().query(query));
+	}
+
+	@Override
+	public <E> Flow.Publisher<E> stream(String query, Object... params) {
+
+		return subscriber -> {
+
+			Assert.notNull(subscriber, "Subscriber must not be null");
+
+			Supplier<Iterator<E>> results = () -> getTemplate().<E>stream(query, params).iterator();
+
+			QueryResultsSubscription<E> subscription = new QueryResultsSubscription<>(subscriber, results, getExecutor());
+
+			subscriber.onSubscribe(subscription);
+		};
+	}
+
+	@Override
+	public <T> CompletableFuture<T> execute(GemfireCallback<T> action) {
+		return supplyAsync(() -> getTemplate().execute(action));
+	}
+
+	private CompletableFuture<Void> runAsync(Runnable operation) {
+
+		try {
+			return CompletableFuture.runAsync(operation, getExecutor());
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	private <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+
+		try {
+			return CompletableFuture.supplyAsync(operation, getExecutor());
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	/**
+	 * {@link Flow.Subscription} emitting query results to a {@link Flow.Subscriber} on an {@link Executor},
+	 * no faster than requested.
+	 *
+	 * Emission is serialized by a work-in-progress counter so that at most one {@link Thread} emits at a time.
+	 * Demand only paces emission; the query results are fully loaded when the results {@link Iterator} is created.
+	 */
+	static final class QueryResultsSubscription<E> implements Flow.Subscription, Runnable {
+
+		private final AtomicInteger workInProgress = new AtomicInteger(0);
+
+		private final AtomicLong demand = new AtomicLong(0L);
+
+		private final Executor executor;
+
+		private final Flow.Subscriber<? super E> subscriber;
+
+		private Iterator<E> results;
+
+		private final Supplier<Iterator<E>> resultsSupplier;
+
+		private volatile boolean done;
+
+		private volatile Throwable invalidRequest;
+
+		QueryResultsSubscription(Flow.Subscriber<? super E> subscriber, Supplier<Iterator<E>> resultsSupplier,
+				Executor executor) {
+
+			this.subscriber = subscriber;
+			this.resultsSupplier = resultsSupplier;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long n) {
+
+			if (n <= 0L) {
+				this.invalidRequest = new IllegalArgumentException(
+					String.format("Requested number of results [%d] must be greater than 0", n));
+			}
+			else {
+				this.demand.getAndAccumulate(n, (current, requested) -> {
+					long sum = current + requested;
+					return sum < 0L ? Long.MAX_VALUE : sum;
+				});
+			}
+
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			this.done = true;
+		}
+
+		private void schedule() {
+
+			if (this.workInProgress.getAndIncrement() == 0) {
+				try {
+					this.executor.execute(this);
+				}
+				catch (RejectedExecutionException cause) {
+					this.workInProgress.set(0);
+					fail(cause);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+
+			int missed = 1;
+
+			do {
+
+				if (this.done) {
+					return;
+				}
+
+				Throwable invalidRequest = this.invalidRequest;
+
+				if (invalidRequest != null) {
+					fail(invalidRequest);
+					return;
+				}
+
+				try {
+
+					if (this.results == null) {
+						this.results = this.resultsSupplier.get();
+					}
+
+					long requested = this.demand.get();
+					long emitted = 0L;
+
+					while (emitted != requested && !this.done && this.results.hasNext()) {
+						this.subscriber.onNext(this.results.next());
+						emitted++;
+					}
+
+					if (!this.done && !this.results.hasNext()) {
+						this.done = true;
+						this.subscriber.onComplete();
+						return;
+					}
+
+					if (emitted > 0L && requested != Long.MAX_VALUE) {
+						this.demand.addAndGet(-emitted);
+					}
+				}
+				catch (RuntimeException cause) {
+					fail(cause);
+					return;
+				}
+
+				missed = this.workInProgress.addAndGet(-missed);
+			}
+			while (missed != 0);
+		}
+
+		private void fail(Throwable cause) {
+
+			if (!this.done) {
+				this.done = true;
+				this.subscriber.onError(cause);
+			}
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Result of a chunked bulk write of entries to a {@link Region}, recording the outcome of every chunk.
+ *
+ * Entries in a failed chunk may have been partially written to the {@link Region}.
+ *
+ * @see Region#putAll(java.util.Map)
+ * @see GemfireTemplate#putAllInChunks(Iterable)
+ * @since 1.0.1
+ */
+public final class BulkWriteResult {
+
+	private final int chunkCount;
+
+	private final long entryCount;
+
+	private final List<ChunkFailure> failures;
+
+	BulkWriteResult(long entryCount, int chunkCount, @NonNull Queue<ChunkFailure> failures) {
+
+		List<ChunkFailure> sortedFailures = new ArrayList<>(failures);
+
+		sortedFailures.sort(Comparator.comparingInt(ChunkFailure::getChunkIndex));
+
+		this.entryCount = entryCount;
+		this.chunkCount = chunkCount;
+		this.failures = Collections.unmodifiableList(sortedFailures);
+	}
+
+	/**
+	 * Returns the number of chunks in which the entries were written.
+	 *
+	 * @return the number of chunks in which the entries were written.
+	 */
+	public int getChunkCount() {
+		return this.chunkCount;
+	}
+
+	/**
+	 * Returns the total number of entries submitted for writing.
+	 *
+	 * @return the total number of entries submitted for writing.
+	 */
+	public long getEntryCount() {
+		return this.entryCount;
+	}
+
+	/**
+	 * Returns the number of entries in failed chunks.
+	 *
+	 * @return the number of entries in failed chunks.
+	 * @see #getFailures()
+	 */
+	public long getFailedEntryCount() {
+		return this.failures.stream().mapToLong(failure -> failure.getKeys().size()).sum();
+	}
+
+	/**
+	 * Returns the number of entries in chunks that were written successfully.
+	 *
+	 * @return the number of entries in chunks that were written successfully.
+	 */
+	public long getWrittenEntryCount() {
+		return getEntryCount() - getFailedEntryCount();
+	}
+
+	/**
+	 * Returns the {@link ChunkFailure failed chunks} ordered by chunk index.
+	 *
+	 * @return an unmodifiable {@link List} of {@link ChunkFailure failed chunks}; never {@literal null}.
+	 * @see ChunkFailure
+	 */
+	public @NonNull List<ChunkFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * Determines whether all chunks were written successfully.
+	 *
+	 * @return a boolean value indicating whether all chunks were written successfully.
+	 */
+	public boolean isSuccessful() {
+		return this.failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s{ entries = %2$d, chunks = %3$d, failedChunks = %4$d, failedEntries = %5$d }",
+			getClass().getSimpleName(), getEntryCount(), getChunkCount(), getFailures().size(), getFailedEntryCount());
+	}
+
+	/**
+	 * A chunk of entries that could not be written, along with the cause of the failure.
+	 */
+	public static final class ChunkFailure {
+
+		private final int chunkIndex;
+
+		private final List<Object> keys;
+
+		private final Throwable cause;
+
+		ChunkFailure(int chunkIndex, @NonNull List<Object> keys, @NonNull Throwable cause) {
+			this.chunkIndex = chunkIndex;
+			this.keys = Collections.unmodifiableList(keys);
+			this.cause = cause;
+		}
+
+		/**
+		 * Returns the zero-based index of the failed chunk in the order the chunks were submitted.
+		 *
+		 * @return the zero-based index of the failed chunk.
+		 */
+		public int getChunkIndex() {
+			return this.chunkIndex;
+		}
+
+		/**
+		 * Returns the keys of the entries in the failed chunk.
+		 *
+		 * @return an unmodifiable {@link List} of keys of the entries in the failed chunk.
+		 */
+		public @NonNull List<Object> getKeys() {
+			return this.keys;
+		}
+
+		/**
+		 * Returns the cause of the failure.
+		 *
+		 * @return the {@link Throwable} that caused the chunk to fail.
+		 */
+		public @NonNull Throwable getCause() {
+			return this.cause;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("ChunkFailure{ chunkIndex = %1$d, keys = %2$d, cause = %3$s }",
+				getChunkIndex(), getKeys().size(), getCause());
+		}
+	}
+
+	static final class Collector {
+
+		private int chunkCount;
+
+		private long entryCount;
+
+		private final Queue<ChunkFailure> failures = new ConcurrentLinkedQueue<>();
+
+		int nextChunk(int chunkSize) {
+			this.entryCount += chunkSize;
+			return this.chunkCount++;
+		}
+
+		void failed(int chunkIndex, @NonNull List<Object> keys, @NonNull Throwable cause) {
+			this.failures.add(new ChunkFailure(chunkIndex, keys, cause));
+		}
+
+		@NonNull BulkWriteResult toResult() {
+			return new BulkWriteResult(this.entryCount, this.chunkCount, this.failures);
+		}
+	}
+}
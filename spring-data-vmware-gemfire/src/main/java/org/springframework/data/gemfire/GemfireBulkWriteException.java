@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import org.springframework.dao.UncategorizedDataAccessException;
+import org.springframework.lang.NonNull;
+
+/**
+ * GemFire-specific subclass of {@link UncategorizedDataAccessException} thrown when one or more chunks
+ * of a chunked bulk write failed. The {@link BulkWriteResult} describes which chunks and keys failed.
+ *
+ * @see BulkWriteResult
+ * @since 1.0.1
+ */
+@SuppressWarnings("serial")
+public class GemfireBulkWriteException extends UncategorizedDataAccessException {
+
+	private final transient BulkWriteResult result;
+
+	public GemfireBulkWriteException(@NonNull BulkWriteResult result) {
+
+		super(String.format("Failed to write [%1$d] of [%2$d] entries in [%3$d] of [%4$d] chunks",
+			result.getFailedEntryCount(), result.getEntryCount(), result.getFailures().size(), result.getChunkCount()),
+			result.getFailures().isEmpty() ? null : result.getFailures().get(0).getCause());
+
+		this.result = result;
+	}
+
+	/**
+	 * Returns the {@link BulkWriteResult} of the failed bulk write.
+	 *
+	 * @return the {@link BulkWriteResult} of the failed bulk write.
+	 */
+	public @NonNull BulkWriteResult getResult() {
+		return this.result;
+	}
+}
@@ -8,6 +8,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.Query;
@@ -109,6 +111,29 @@ public interface GemfireOperations {
 	 */
 	<T> T findUnique(String query, Object... params) throws InvalidDataAccessApiUsageException;
 
+	/**
+	 * Executes a GemFire query with the given (optional) parameters and returns the results as a {@link Stream}.
+	 *
+	 * Unlike {@link SelectResults#asList()}, the results are not copied into another {@link java.util.List};
+	 * the returned {@link Stream} iterates the query results lazily, in the order returned by the query.
+	 *
+	 * @param <E> type parameter specifying the type of the query results.
+	 * @param query the OQL query statement to execute.
+	 * @param params an array of Object values used as arguments to bind to the OQL query parameters (such as $1).
+	 * @return a {@link Stream} over the objects matching the query.
+	 * @throws InvalidDataAccessApiUsageException in case the query returns a single result (not a {@link SelectResults}).
+	 * @see #find(String, Object...)
+	 * @see Stream
+	 */
+	default <E> Stream<E> stream(String query, Object... params) throws InvalidDataAccessApiUsageException {
+
+		SelectResults<E> selectResults = find(query, params);
+
+		return selectResults != null
+			? StreamSupport.stream(selectResults.spliterator(), false)
+			: Stream.empty();
+	}
+
 	/**
 	 * Shortcut for {@link Region#query(String)} method. Filters the values of this region using the predicate given as a string with the syntax of the WHERE clause of the query language.
 	 * The predefined variable this may be used inside the predicate to denote the current element being filtered.
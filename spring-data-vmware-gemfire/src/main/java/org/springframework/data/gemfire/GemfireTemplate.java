@@ -8,14 +8,32 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.query.IndexInvalidException;
@@ -26,9 +44,13 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -62,12 +84,34 @@ import org.springframework.util.StringUtils;
  * @see SelectResults
  * @see GemfireAccessor
  * @see GemfireOperations
+ * @see GemFireMetricsAware
  */
 @SuppressWarnings("unused")
-public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
+public class GemfireTemplate extends GemfireAccessor implements GemfireOperations, GemFireMetricsAware {
 
+	public static final int DEFAULT_BULK_WRITE_CHUNK_SIZE =
+		Integer.getInteger("spring.data.gemfire.template.bulk.write.chunk.size", 10_000);
+
+	public static final int DEFAULT_BULK_WRITE_PARALLELISM =
+		Integer.getInteger("spring.data.gemfire.template.bulk.write.parallelism", 1);
+
+	public static final int DEFAULT_QUERY_CACHE_SIZE = 256;
+
+	private boolean bulkWriteBucketGrouping = false;
+	private boolean bulkWriteChunkSizeConfigured = false;
 	private boolean exposeNativeRegion = false;
 
+	private int bulkWriteChunkSize = DEFAULT_BULK_WRITE_CHUNK_SIZE;
+	private int bulkWriteParallelism = DEFAULT_BULK_WRITE_PARALLELISM;
+
+	private Executor bulkWriteExecutor;
+
+	private volatile GemFireMetrics metrics = GemFireMetrics.NOOP;
+
+	private volatile QueryCache queryCache = new QueryCache(DEFAULT_QUERY_CACHE_SIZE);
+
+	private volatile QueryServiceHolder queryServiceHolder;
+
 	private Region<?, ?> regionProxy;
 
 	/**
@@ -103,6 +147,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		super.afterPropertiesSet();
 
 		this.regionProxy = createRegionProxy(getRegion());
+		this.queryServiceHolder = null;
+		this.queryCache.clear();
 	}
 
 	/**
@@ -134,6 +180,193 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Configures whether entries written in chunks are grouped by the bucket of a {@link Region#getAttributes()
+	 * partitioned} {@link Region} so that each chunk spans as few buckets as possible.
+	 *
+	 * <p>Grouping only applies to a peer {@link Region} that is partitioned in this member and does not use a custom
+	 * {@link org.apache.geode.cache.PartitionResolver}; it has no effect on client {@link Region Regions}, which have
+	 * no {@link PartitionAttributes}. The bucket of a key is estimated from {@link Object#hashCode()} modulo
+	 * the {@link PartitionAttributes#getTotalNumBuckets() total number of buckets}, which mirrors the default
+	 * routing of GemFire but is not part of its public API; a wrong estimate only affects how entries are grouped,
+	 * not where they are stored. Entries are grouped within a window of {@link #getBulkWriteChunkSize() chunk size}
+	 * times {@link #getBulkWriteParallelism() parallelism} entries. Default is {@literal false}.
+	 *
+	 * @param bulkWriteBucketGrouping boolean value indicating whether to group entries by bucket.
+	 * @see #putAllInChunks(Iterable)
+	 */
+	public void setBulkWriteBucketGrouping(boolean bulkWriteBucketGrouping) {
+		this.bulkWriteBucketGrouping = bulkWriteBucketGrouping;
+	}
+
+	/**
+	 * Determines whether entries written in chunks are grouped by bucket.
+	 *
+	 * @return a boolean value indicating whether entries written in chunks are grouped by bucket.
+	 * @see #setBulkWriteBucketGrouping(boolean)
+	 */
+	public boolean isBulkWriteBucketGrouping() {
+		return this.bulkWriteBucketGrouping;
+	}
+
+	/**
+	 * Configures the maximum number of entries written to the {@link Region} in a single {@link Region#putAll(Map)}.
+	 *
+	 * <p>Default is {@link #DEFAULT_BULK_WRITE_CHUNK_SIZE}. A chunk size of {@literal 0} or less writes all entries
+	 * in a single chunk.
+	 *
+	 * <p>{@link #putAll(Map)} and {@link #removeAll(Collection)} only split large {@link Map Maps} and
+	 * {@link Collection Collections} into chunks once a chunk size has been set explicitly with this method;
+	 * otherwise they remain a single, atomic {@link Region#putAll(Map)} or {@link Region#removeAll(Collection)}.
+	 *
+	 * @param bulkWriteChunkSize maximum number of entries written in a single {@link Region#putAll(Map)}.
+	 * @see #putAll(Map)
+	 * @see #putAllInChunks(Iterable)
+	 */
+	public void setBulkWriteChunkSize(int bulkWriteChunkSize) {
+		this.bulkWriteChunkSize = bulkWriteChunkSize;
+		this.bulkWriteChunkSizeConfigured = true;
+	}
+
+	/**
+	 * Returns the maximum number of entries written to the {@link Region} in a single {@link Region#putAll(Map)}.
+	 *
+	 * @return the maximum number of entries written in a single {@link Region#putAll(Map)}.
+	 * @see #setBulkWriteChunkSize(int)
+	 */
+	public int getBulkWriteChunkSize() {
+		return this.bulkWriteChunkSize;
+	}
+
+	/**
+	 * Configures the {@link Executor} used to write chunks in parallel.
+	 *
+	 * <p>Defaults to a shared pool of daemon {@link Thread Threads} bounded by the number of available processors.
+	 *
+	 * @param bulkWriteExecutor {@link Executor} used to write chunks in parallel.
+	 * @see #setBulkWriteParallelism(int)
+	 */
+	public void setBulkWriteExecutor(@Nullable Executor bulkWriteExecutor) {
+		this.bulkWriteExecutor = bulkWriteExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to write chunks in parallel.
+	 *
+	 * @return the {@link Executor} used to write chunks in parallel.
+	 * @see #setBulkWriteExecutor(Executor)
+	 */
+	public @NonNull Executor getBulkWriteExecutor() {
+		return this.bulkWriteExecutor != null ? this.bulkWriteExecutor : BulkWriteExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Configures the maximum number of chunks written to the {@link Region} concurrently.
+	 *
+	 * <p>Default is {@link #DEFAULT_BULK_WRITE_PARALLELISM}. A parallelism of {@literal 1} or less writes chunks
+	 * one after the other on the calling {@link Thread}.
+	 * Chunks are also written on the calling {@link Thread} while a GemFire cache transaction is in progress.
+	 *
+	 * @param bulkWriteParallelism maximum number of chunks written concurrently.
+	 * @see #putAllInChunks(Iterable)
+	 */
+	public void setBulkWriteParallelism(int bulkWriteParallelism) {
+		this.bulkWriteParallelism = bulkWriteParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of chunks written to the {@link Region} concurrently.
+	 *
+	 * @return the maximum number of chunks written concurrently.
+	 * @see #setBulkWriteParallelism(int)
+	 */
+	public int getBulkWriteParallelism() {
+		return this.bulkWriteParallelism;
+	}
+
+	/**
+	 * Configures the maximum number of compiled OQL {@link Query queries} cached by this template.
+	 *
+	 * <p>Compiled {@link Query queries} are keyed by OQL query {@link String} and evicted in approximately
+	 * least-recently-used order.
+	 * Default is {@link #DEFAULT_QUERY_CACHE_SIZE}. Setting the size to {@literal 0} disables caching, in which case
+	 * every OQL query is compiled on each execution. Changing the size clears the cache and resets its statistics.
+	 *
+	 * @param queryCacheSize maximum number of compiled OQL {@link Query queries} cached by this template.
+	 * @throws IllegalArgumentException if {@code queryCacheSize} is less than {@literal 0}.
+	 * @see #find(String, Object...)
+	 * @see #findUnique(String, Object...)
+	 */
+	public void setQueryCacheSize(int queryCacheSize) {
+		this.queryCache = new QueryCache(queryCacheSize);
+	}
+
+	/**
+	 * Returns the maximum number of compiled OQL {@link Query queries} cached by this template.
+	 *
+	 * @return the maximum number of compiled OQL {@link Query queries} cached by this template.
+	 * @see #setQueryCacheSize(int)
+	 */
+	public int getQueryCacheSize() {
+		return this.queryCache.getMaximumSize();
+	}
+
+	/**
+	 * Returns the number of OQL query executions that reused a cached, compiled {@link Query}.
+	 *
+	 * @return the number of OQL query executions that reused a cached, compiled {@link Query}.
+	 * @see #getQueryCacheMissCount()
+	 */
+	public long getQueryCacheHitCount() {
+		return this.queryCache.getHitCount();
+	}
+
+	/**
+	 * Returns the number of OQL query executions that required the OQL query to be compiled.
+	 *
+	 * @return the number of OQL query executions that required the OQL query to be compiled.
+	 * @see #getQueryCacheHitCount()
+	 */
+	public long getQueryCacheMissCount() {
+		return this.queryCache.getMissCount();
+	}
+
+	/**
+	 * Sets the {@link GemFireMetrics} used to record the data access operations performed by this template.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record data access operations;
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics
+	 */
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+	}
+
+	/**
+	 * Returns the {@link GemFireMetrics} used to record the data access operations performed by this template.
+	 *
+	 * @return the {@link GemFireMetrics} used to record data access operations; never {@literal null}.
+	 * @see GemFireMetrics
+	 */
+	public @NonNull GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	private GemFireMetrics.Sample startSample(String operation) {
+
+		GemFireMetrics metrics = this.metrics;
+
+		return metrics.isEnabled() ? metrics.startRegionOperation(getRegion(), operation) : GemFireMetrics.Sample.NOOP;
+	}
+
+	private static void recordPayloadSize(GemFireMetrics.Sample sample, Object value) {
+
+		if (value instanceof byte[]) {
+			sample.payloadSize(((byte[]) value).length);
+		}
+	}
+
 	@Override
 	public boolean containsKey(Object key) {
 		return getRegion().containsKey(key);
@@ -157,118 +390,493 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	@Override
 	public <K, V> void create(K key, V value) {
 
+		GemFireMetrics.Sample sample = startSample("create");
+
 		try {
 			getRegion().create(key, value);
+			recordPayloadSize(sample, value);
+			sample.succeeded();
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <K, V> V get(K key) {
 
+		GemFireMetrics.Sample sample = startSample("get");
+
 		try {
-			return this.<K, V>getRegion().get(key);
+
+			V value = this.<K, V>getRegion().get(key);
+
+			recordPayloadSize(sample, value);
+			sample.succeeded(value != null ? 1L : 0L);
+
+			return value;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
 
+		GemFireMetrics.Sample sample = startSample("getAll");
+
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+
+			Map<K, V> values = this.<K, V>getRegion().getAll(keys);
+
+			sample.succeeded(GemFireMetrics.resultCount(values));
+
+			return values;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <K, V> V put(K key, V value) {
 
+		GemFireMetrics.Sample sample = startSample("put");
+
 		try {
-			return this.<K, V>getRegion().put(key, value);
+
+			V previousValue = this.<K, V>getRegion().put(key, value);
+
+			recordPayloadSize(sample, value);
+			sample.succeeded();
+
+			return previousValue;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
+	/**
+	 * @inheritDoc
+	 *
+	 * <p>{@link Map Maps} larger than the {@link #setBulkWriteChunkSize(int) explicitly configured chunk size}
+	 * are written in chunks. Without an explicit chunk size, the {@link Map} is written in a single
+	 * {@link Region#putAll(Map)}.
+	 *
+	 * @throws GemfireBulkWriteException if one or more chunks failed.
+	 * @see #putAllInChunks(Iterable)
+	 */
 	@Override
 	public <K, V> void putAll(Map<? extends K, ? extends V> map) {
 
+		GemFireMetrics.Sample sample = startSample("putAll");
+
 		try {
-			this.<K, V>getRegion().putAll(map);
+			if (map != null && isChunked(map.size())) {
+
+				BulkWriteResult result = putAllInChunks(map.entrySet());
+
+				if (!result.isSuccessful()) {
+					throw new GemfireBulkWriteException(result);
+				}
+			}
+			else {
+				try {
+					this.<K, V>getRegion().putAll(map);
+				}
+				catch (GemFireException cause) {
+					throw convertGemFireAccessException(cause);
+				}
+			}
+
+			sample.succeeded(GemFireMetrics.resultCount(map));
 		}
-		catch (GemFireException cause) {
-			throw convertGemFireAccessException(cause);
+		finally {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Writes the given entries to the {@link Region} in chunks of at most {@link #getBulkWriteChunkSize()} entries,
+	 * with up to {@link #getBulkWriteParallelism()} chunks in flight at once.
+	 *
+	 * <p>The entries are consumed lazily so that no more than a window of chunks is held in memory at a time.
+	 * A failed chunk does not stop the remaining chunks from being written; instead, the failure is recorded in
+	 * the returned {@link BulkWriteResult}. When chunks are written in parallel, the order in which entries
+	 * with the same key in different chunks are written is undefined.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param entries {@link Iterable} of {@link Map.Entry entries} to write.
+	 * @return the {@link BulkWriteResult} describing the outcome of each chunk.
+	 * @see BulkWriteResult
+	 * @see Region#putAll(Map)
+	 */
+	public @NonNull <K, V> BulkWriteResult putAllInChunks(
+			@Nullable Iterable<? extends Map.Entry<? extends K, ? extends V>> entries) {
+
+		Region<K, V> region = getRegion();
+
+		int chunkSize = getBulkWriteChunkSize() > 0 ? getBulkWriteChunkSize() : Integer.MAX_VALUE;
+		int parallelism = resolveBulkWriteParallelism(region);
+
+		ToIntFunction<Object> bucketFunction = resolveBucketFunction(region);
+
+		int windowSize = bucketFunction != null
+			? (int) Math.min((long) chunkSize * parallelism, Integer.MAX_VALUE)
+			: chunkSize;
+
+		BulkWriteResult.Collector collector = new BulkWriteResult.Collector();
+		BulkWriteWindow window = new BulkWriteWindow(parallelism, getBulkWriteExecutor());
+
+		try {
+
+			List<Map.Entry<? extends K, ? extends V>> buffer = new ArrayList<>(Math.min(windowSize, 1024));
+
+			if (entries != null) {
+				for (Map.Entry<? extends K, ? extends V> entry : entries) {
+
+					buffer.add(entry);
+
+					if (buffer.size() >= windowSize) {
+						writeChunks(region, buffer, chunkSize, bucketFunction, collector, window);
+						buffer = new ArrayList<>(Math.min(windowSize, 1024));
+					}
+				}
+			}
+
+			if (!buffer.isEmpty()) {
+				writeChunks(region, buffer, chunkSize, bucketFunction, collector, window);
+			}
+		}
+		finally {
+			window.await();
+		}
+
+		return collector.toResult();
+	}
+
+	/**
+	 * Resolves the number of chunks written concurrently to the given {@link Region}.
+	 *
+	 * <p>GemFire cache transactions are bound to the {@link Thread} that began them, so chunks are written one after
+	 * the other on the calling {@link Thread} while a transaction is in progress.
+	 *
+	 * @param region {@link Region} to write.
+	 * @return the number of chunks written concurrently; at least {@literal 1}.
+	 * @see CacheTransactionManager#exists()
+	 */
+	int resolveBulkWriteParallelism(@NonNull Region<?, ?> region) {
+
+		int parallelism = Math.max(getBulkWriteParallelism(), 1);
+
+		return parallelism > 1 && isTransactionPresent(region) ? 1 : parallelism;
+	}
+
+	private boolean isTransactionPresent(@NonNull Region<?, ?> region) {
+
+		RegionService regionService = region.getRegionService();
+
+		CacheTransactionManager cacheTransactionManager = regionService instanceof GemFireCache
+			? ((GemFireCache) regionService).getCacheTransactionManager()
+			: null;
+
+		return cacheTransactionManager != null && cacheTransactionManager.exists();
+	}
+
+	boolean isChunked(int size) {
+
+		int chunkSize = getBulkWriteChunkSize();
+
+		return this.bulkWriteChunkSizeConfigured && chunkSize > 0 && size > chunkSize;
+	}
+
+	@Nullable ToIntFunction<Object> resolveBucketFunction(@NonNull Region<?, ?> region) {
+
+		if (isBulkWriteBucketGrouping()) {
+
+			RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+			PartitionAttributes<?, ?> partitionAttributes =
+				regionAttributes != null ? regionAttributes.getPartitionAttributes() : null;
+
+			if (partitionAttributes != null && partitionAttributes.getPartitionResolver() == null) {
+
+				int totalNumBuckets = Math.max(partitionAttributes.getTotalNumBuckets(), 1);
+
+				return key -> key != null ? Math.abs(key.hashCode() % totalNumBuckets) : 0;
+			}
+		}
+
+		return null;
+	}
+
+	private <K, V> void writeChunks(Region<K, V> region, List<Map.Entry<? extends K, ? extends V>> entries,
+			int chunkSize, @Nullable ToIntFunction<Object> bucketFunction, BulkWriteResult.Collector collector,
+			BulkWriteWindow window) {
+
+		if (bucketFunction != null) {
+
+			Map<Integer, List<Map.Entry<? extends K, ? extends V>>> entriesByBucket = new TreeMap<>();
+
+			for (Map.Entry<? extends K, ? extends V> entry : entries) {
+				entriesByBucket.computeIfAbsent(bucketFunction.applyAsInt(entry.getKey()), bucket -> new ArrayList<>())
+					.add(entry);
+			}
+
+			entries = new ArrayList<>(entries.size());
+
+			for (List<Map.Entry<? extends K, ? extends V>> bucketEntries : entriesByBucket.values()) {
+				entries.addAll(bucketEntries);
+			}
+		}
+
+		for (int index = 0, size = entries.size(); index < size; index += chunkSize) {
+
+			List<Map.Entry<? extends K, ? extends V>> chunkEntries =
+				entries.subList(index, Math.min(index + chunkSize, size));
+
+			Map<K, V> chunk = new LinkedHashMap<>(Math.max((int) (chunkEntries.size() / .75f) + 1, 16));
+
+			chunkEntries.forEach(entry -> chunk.put(entry.getKey(), entry.getValue()));
+
+			int chunkIndex = collector.nextChunk(chunkEntries.size());
+
+			window.submit(() -> {
+				try {
+					region.putAll(chunk);
+				}
+				catch (GemFireException cause) {
+					collector.failed(chunkIndex, new ArrayList<>(chunk.keySet()), convertGemFireAccessException(cause));
+				}
+				catch (RuntimeException cause) {
+					collector.failed(chunkIndex, new ArrayList<>(chunk.keySet()), cause);
+				}
+			});
 		}
 	}
 
 	@Override
 	public <K, V> V putIfAbsent(K key, V value) {
 
+		GemFireMetrics.Sample sample = startSample("putIfAbsent");
+
 		try {
-			return this.<K, V>getRegion().putIfAbsent(key, value);
+
+			V existingValue = this.<K, V>getRegion().putIfAbsent(key, value);
+
+			recordPayloadSize(sample, value);
+			sample.succeeded();
+
+			return existingValue;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <K, V> V remove(K key) {
 
+		GemFireMetrics.Sample sample = startSample("remove");
+
 		try {
-			return this.<K, V>getRegion().remove(key);
+
+			V value = this.<K, V>getRegion().remove(key);
+
+			sample.succeeded(value != null ? 1L : 0L);
+
+			return value;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
+	/**
+	 * @inheritDoc
+	 *
+	 * <p>{@link Collection Collections} of keys larger than the {@link #setBulkWriteChunkSize(int) explicitly
+	 * configured chunk size} are removed in chunks. Without an explicit chunk size, the keys are removed in a single
+	 * {@link Region#removeAll(Collection)}.
+	 *
+	 * @throws GemfireBulkWriteException if one or more chunks failed.
+	 * @see #removeAllInChunks(Iterable)
+	 */
 	@Override
 	public void removeAll(Collection<?> keys) {
 
+		GemFireMetrics.Sample sample = startSample("removeAll");
+
 		try {
-			getRegion().removeAll(keys);
+			if (keys != null && isChunked(keys.size())) {
+
+				BulkWriteResult result = removeAllInChunks(keys);
+
+				if (!result.isSuccessful()) {
+					throw new GemfireBulkWriteException(result);
+				}
+			}
+			else {
+				try {
+					getRegion().removeAll(keys);
+				}
+				catch (GemFireException cause) {
+					throw convertGemFireAccessException(cause);
+				}
+			}
+
+			sample.succeeded(GemFireMetrics.resultCount(keys));
 		}
-		catch (GemFireException cause) {
-			throw convertGemFireAccessException(cause);
+		finally {
+			sample.stop();
 		}
 	}
 
+	/**
+	 * Removes the entries with the given keys from the {@link Region} in chunks of at most
+	 * {@link #getBulkWriteChunkSize()} keys, with up to {@link #getBulkWriteParallelism()} chunks in flight at once.
+	 *
+	 * <p>The keys are consumed lazily so that no more than a window of chunks is held in memory at a time,
+	 * which allows a live {@link Region#keySet() key set} to be paged through while its entries are removed.
+	 * A failed chunk does not stop the remaining chunks from being removed; instead, the failure is recorded in
+	 * the returned {@link BulkWriteResult}.
+	 *
+	 * @param keys {@link Iterable} of keys to remove.
+	 * @return the {@link BulkWriteResult} describing the outcome of each chunk.
+	 * @see BulkWriteResult
+	 * @see Region#removeAll(Collection)
+	 */
+	public @NonNull BulkWriteResult removeAllInChunks(@Nullable Iterable<?> keys) {
+
+		Region<Object, ?> region = getRegion();
+
+		int chunkSize = getBulkWriteChunkSize() > 0 ? getBulkWriteChunkSize() : Integer.MAX_VALUE;
+
+		BulkWriteResult.Collector collector = new BulkWriteResult.Collector();
+		BulkWriteWindow window = new BulkWriteWindow(resolveBulkWriteParallelism(region), getBulkWriteExecutor());
+
+		try {
+
+			Set<Object> chunk = new LinkedHashSet<>();
+
+			if (keys != null) {
+				for (Object key : keys) {
+
+					chunk.add(key);
+
+					if (chunk.size() >= chunkSize) {
+						removeChunk(region, chunk, collector, window);
+						chunk = new LinkedHashSet<>();
+					}
+				}
+			}
+
+			if (!chunk.isEmpty()) {
+				removeChunk(region, chunk, collector, window);
+			}
+		}
+		finally {
+			window.await();
+		}
+
+		return collector.toResult();
+	}
+
+	private void removeChunk(Region<Object, ?> region, Set<Object> chunk, BulkWriteResult.Collector collector,
+			BulkWriteWindow window) {
+
+		int chunkIndex = collector.nextChunk(chunk.size());
+
+		window.submit(() -> {
+			try {
+				region.removeAll(chunk);
+			}
+			catch (GemFireException cause) {
+				collector.failed(chunkIndex, new ArrayList<>(chunk), convertGemFireAccessException(cause));
+			}
+			catch (RuntimeException cause) {
+				collector.failed(chunkIndex, new ArrayList<>(chunk), cause);
+			}
+		});
+	}
+
 	@Override
 	public <K, V> V replace(K key, V value) {
 
+		GemFireMetrics.Sample sample = startSample("replace");
+
 		try {
-			return this.<K, V>getRegion().replace(key, value);
+
+			V previousValue = this.<K, V>getRegion().replace(key, value);
+
+			recordPayloadSize(sample, value);
+			sample.succeeded();
+
+			return previousValue;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <K, V> boolean replace(K key, V oldValue, V newValue) {
 
+		GemFireMetrics.Sample sample = startSample("replace");
+
 		try {
-			return this.<K, V>getRegion().replace(key, oldValue, newValue);
+
+			boolean replaced = this.<K, V>getRegion().replace(key, oldValue, newValue);
+
+			recordPayloadSize(sample, newValue);
+			sample.succeeded();
+
+			return replaced;
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	public <E> SelectResults<E> query(String query) {
 
+		GemFireMetrics.Sample sample = startSample("query");
+
 		try {
-			return getRegion().query(query);
+
+			SelectResults<E> selectResults = getRegion().query(query);
+
+			sample.succeeded(GemFireMetrics.resultCount(selectResults));
+
+			return selectResults;
 		}
 		catch (IndexInvalidException | QueryInvalidException cause) {
 			throw convertGemFireQueryException(cause);
@@ -287,22 +895,32 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 			throw cause;
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <E> SelectResults<E> find(String query, Object... arguments) throws InvalidDataAccessApiUsageException {
 
-		try {
+		GemFireMetrics.Sample sample = startSample("find");
 
-			QueryService queryService = resolveQueryService(getRegion());
+		try {
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = resolveQuery(query);
 
 			Object result = compiledQuery.execute(arguments);
 
 			if (result instanceof SelectResults) {
-				return (SelectResults<E>) result;
+
+				SelectResults<E> selectResults = (SelectResults<E>) result;
+
+				if (sample != GemFireMetrics.Sample.NOOP) {
+					sample.succeeded(selectResults.size());
+				}
+
+				return selectResults;
 			}
 			else {
 
@@ -330,17 +948,20 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 			throw cause;
 		}
+		finally {
+			sample.stop();
+		}
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findUnique(String query, Object... arguments) throws InvalidDataAccessApiUsageException {
 
-		try {
+		GemFireMetrics.Sample sample = startSample("findUnique");
 
-			QueryService queryService = resolveQueryService(getRegion());
+		try {
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = resolveQuery(query);
 
 			Object result = compiledQuery.execute(arguments);
 
@@ -362,6 +983,8 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				}
 			}
 
+			sample.succeeded(result != null ? 1L : 0L);
+
 			return (T) result;
 		}
 		catch (IndexInvalidException | QueryInvalidException cause) {
@@ -381,6 +1004,46 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 			throw cause;
 		}
+		finally {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Resolves the compiled {@link Query} for the given OQL query {@link String}.
+	 *
+	 * The compiled {@link Query} is served from this template's bounded query cache when present, otherwise the OQL
+	 * query is compiled with the {@link QueryService} resolved for this template's {@link Region}.
+	 *
+	 * @param query {@link String} containing the OQL query.
+	 * @return the compiled {@link Query}.
+	 * @see #setQueryCacheSize(int)
+	 * @see #resolveQueryService()
+	 * @see Query
+	 */
+	Query resolveQuery(String query) {
+		return this.queryCache.get(query, queryString -> resolveQueryService().newQuery(queryString));
+	}
+
+	/**
+	 * Returns the {@link QueryService} for this template's {@link Region}, resolving the {@link QueryService}
+	 * only once per {@link Region}.
+	 *
+	 * @return the {@link QueryService} for this template's {@link Region}.
+	 * @see #resolveQueryService(Region)
+	 */
+	QueryService resolveQueryService() {
+
+		Region<?, ?> region = getRegion();
+
+		QueryServiceHolder queryServiceHolder = this.queryServiceHolder;
+
+		if (queryServiceHolder == null || queryServiceHolder.region != region) {
+			queryServiceHolder = new QueryServiceHolder(region, resolveQueryService(region));
+			this.queryServiceHolder = queryServiceHolder;
+		}
+
+		return queryServiceHolder.queryService;
 	}
 
 	/**
@@ -524,6 +1187,81 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				new RegionCloseSuppressingInvocationHandler(region));
 	}
 
+	/**
+	 * Bounds the number of chunks written concurrently by a chunked bulk write.
+	 */
+	private static final class BulkWriteWindow {
+
+		private final int parallelism;
+
+		private final Executor executor;
+
+		private final Semaphore permits;
+
+		BulkWriteWindow(int parallelism, Executor executor) {
+			this.parallelism = parallelism;
+			this.executor = executor;
+			this.permits = new Semaphore(parallelism);
+		}
+
+		void submit(Runnable chunkWrite) {
+
+			if (this.parallelism > 1) {
+
+				this.permits.acquireUninterruptibly();
+
+				try {
+					this.executor.execute(() -> {
+						try {
+							chunkWrite.run();
+						}
+						finally {
+							this.permits.release();
+						}
+					});
+				}
+				catch (RejectedExecutionException ignore) {
+					this.permits.release();
+					chunkWrite.run();
+				}
+			}
+			else {
+				chunkWrite.run();
+			}
+		}
+
+		void await() {
+			this.permits.acquireUninterruptibly(this.parallelism);
+			this.permits.release(this.parallelism);
+		}
+	}
+
+	private static final class BulkWriteExecutorHolder {
+
+		private static final ExecutorService EXECUTOR = newBulkWriteExecutor();
+
+		private static ExecutorService newBulkWriteExecutor() {
+
+			int poolSize = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), newBulkWriteThreadFactory());
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+
+		private static CustomizableThreadFactory newBulkWriteThreadFactory() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("GemfireTemplate-BulkWrite-");
+
+			threadFactory.setDaemon(true);
+
+			return threadFactory;
+		}
+	}
+
 	/**
 	 * {@link InvocationHandler} that suppresses the {@link Region#close()} call on a target {@link Region}.
 	 *
@@ -576,4 +1314,16 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 			}
 		}
 	}
+
+	private static final class QueryServiceHolder {
+
+		private final Region<?, ?> region;
+
+		private final QueryService queryService;
+
+		private QueryServiceHolder(Region<?, ?> region, QueryService queryService) {
+			this.region = region;
+			this.queryService = queryService;
+		}
+	}
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded cache of compiled {@link Query} objects keyed by OQL query {@link String}.
+ *
+ * A {@link Query} compiled once by the {@link QueryService} is returned for every subsequent execution
+ * of the same OQL query {@link String}. Compiled {@link Query queries} are evicted with a {@literal CLOCK}
+ * (second chance) policy approximating least recently used, so that a cache hit does not lock or reorder
+ * the cache.
+ *
+ * A {@link QueryCache} with a {@literal maximum size} of {@literal 0} disables caching; every query is compiled.
+ *
+ * @see Query
+ * @see QueryService
+ * @see GemfireTemplate
+ * @since 1.0.1
+ */
+class QueryCache {
+
+	private final int maximumSize;
+
+	private final ConcurrentMap<String, CachedQuery> queries = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final Queue<CachedQuery> evictionQueue = new ConcurrentLinkedQueue<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	/**
+	 * Constructs a new {@link QueryCache} holding at most the given number of compiled {@link Query queries}.
+	 *
+	 * @param maximumSize maximum number of compiled {@link Query queries} held by this cache;
+	 * {@literal 0} disables caching.
+	 * @throws IllegalArgumentException if {@code maximumSize} is less than {@literal 0}.
+	 */
+	QueryCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize >= 0, () -> String.format("Query cache size [%d] must be greater than or equal to 0",
+			maximumSize));
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Returns the compiled {@link Query} for the given OQL query {@link String}, compiling and caching the OQL query
+	 * with the given {@link Function compiler} on a cache miss.
+	 *
+	 * Concurrent misses on the same OQL query {@link String} may each compile the query, but only one
+	 * compiled {@link Query} is retained.
+	 *
+	 * @param query {@link String} containing the OQL query; must not be {@literal null}.
+	 * @param compiler {@link Function} used to compile the OQL query on a cache miss; must not be {@literal null}.
+	 * @return the compiled {@link Query} for the given OQL query {@link String}.
+	 */
+	@NonNull Query get(@NonNull String query, @NonNull Function<String, Query> compiler) {
+
+		if (isEnabled()) {
+
+			CachedQuery cachedQuery = this.queries.get(query);
+
+			if (cachedQuery != null) {
+				cachedQuery.accessed = true;
+				this.hitCount.increment();
+				return cachedQuery.query;
+			}
+
+			this.missCount.increment();
+
+			CachedQuery compiledQuery = new CachedQuery(query, compiler.apply(query));
+			CachedQuery existingCompiledQuery = this.queries.putIfAbsent(query, compiledQuery);
+
+			if (existingCompiledQuery != null) {
+				return existingCompiledQuery.query;
+			}
+
+			this.evictionQueue.offer(compiledQuery);
+
+			evictIfNecessary();
+
+			return compiledQuery.query;
+		}
+
+		this.missCount.increment();
+
+		return compiler.apply(query);
+	}
+
+	/**
+	 * Removes all compiled {@link Query queries} from this cache.
+	 */
+	void clear() {
+
+		// The eviction queue is cleared first so that a compiled Query cached concurrently
+		// is never retained without being queued for eviction.
+		this.evictionQueue.clear();
+		this.queries.clear();
+	}
+
+	private void evictIfNecessary() {
+
+		if (this.queries.size() > this.maximumSize && this.evictionLock.tryLock()) {
+
+			try {
+
+				// Each queued Query is given at most one second chance per call.
+				int remainingRequeues = this.maximumSize;
+
+				while (this.queries.size() > this.maximumSize) {
+
+					CachedQuery cachedQuery = this.evictionQueue.poll();
+
+					if (cachedQuery == null) {
+						break;
+					}
+					else if (this.queries.get(cachedQuery.queryString) != cachedQuery) {
+						continue;
+					}
+					else if (cachedQuery.accessed && remainingRequeues-- > 0) {
+						cachedQuery.accessed = false;
+						this.evictionQueue.offer(cachedQuery);
+					}
+					else {
+						this.queries.remove(cachedQuery.queryString, cachedQuery);
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Determines whether this cache retains compiled {@link Query queries}.
+	 *
+	 * @return a boolean value indicating whether this cache retains compiled {@link Query queries}.
+	 */
+	boolean isEnabled() {
+		return this.maximumSize > 0;
+	}
+
+	long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	int size() {
+		return this.queries.size();
+	}
+
+	private static final class CachedQuery {
+
+		private volatile boolean accessed;
+
+		private final Query query;
+
+		private final String queryString;
+
+		private CachedQuery(String queryString, Query query) {
+			this.queryString = queryString;
+			this.query = query;
+		}
+	}
+}
@@ -4,29 +4,106 @@
  */
 package org.springframework.data.gemfire.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.distributed.DistributedLockService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 /**
  * Spring Framework {@link Cache} implementation backed by a GemFire {@link Region}.
  *
+ * Concurrent cache misses for the same key in {@link #get(Object, Callable)} share a single load while
+ * cache misses for different keys load in parallel. Optionally, loads can be coordinated across the cluster
+ * using a GemFire {@link DistributedLockService}.
+ *
+ * Multiple entries can be read, written and evicted with a single {@link Region#getAll(Collection)},
+ * {@link Region#putAll(Map)} or {@link Region#removeAll(Collection)} in chunks of at most the configured
+ * {@link #setBatchSize(int) batch size}. When a {@link #setFlushInterval(long) flush interval} is configured,
+ * lookups issued by concurrent {@link Thread Threads} within the interval are coalesced into a single
+ * {@link Region#getAll(Collection)} and writes are deferred and coalesced into a single {@link Region#putAll(Map)}.
+ * Inside a {@link BatchScope}, values read or written by the current {@link Thread} are kept in the scope
+ * and written with {@link Region#putAll(Map)} when the scope is closed.
+ *
  * @author Costin Leau
  * @author John Blum
  * @author Oliver Gierke
  * @see Cache
  * @see Region
+ * @see DistributedLockService
+ * @see BatchScope
  */
 @SuppressWarnings("rawtypes")
 public class GemfireCache implements Cache {
 
+	// Default time in milliseconds to wait on the distributed lock for a key before loading the value regardless
+	public static final long DEFAULT_DISTRIBUTED_LOCK_WAIT_TIME = 60_000L;
+
+	// Default lease time in milliseconds of a distributed lock; -1 holds the lock until the value is loaded
+	public static final long DEFAULT_DISTRIBUTED_LOCK_LEASE_TIME = -1L;
+
+	public static final int DEFAULT_BATCH_SIZE =
+		Integer.getInteger("spring.data.gemfire.cache.batch.size", 500);
+
+	private static final Logger logger = LoggerFactory.getLogger(GemfireCache.class);
+
+	private final Object batchMonitor = new Object();
+
 	private final Region region;
 
+	private final ConcurrentMap<Object, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+	private DistributedLockService distributedLockService;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long distributedLockLeaseTime = DEFAULT_DISTRIBUTED_LOCK_LEASE_TIME;
+	private long distributedLockWaitTime = DEFAULT_DISTRIBUTED_LOCK_WAIT_TIME;
+
+	private volatile long flushInterval;
+
+	// Guarded by batchMonitor
+	private PendingReads pendingReads;
+
+	// Guarded by batchMonitor
+	private Map<Object, Object> pendingWrites;
+
+	// Deferred writes detached from pendingWrites and being written to the Region; guarded by batchMonitor
+	private final Set<Map<Object, Object>> flushingWrites = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	// Failure of a deferred write flushed in the background, thrown by the next put or flush; guarded by batchMonitor
+	private RuntimeException deferredWriteFailure;
+
 	/**
 	 * Wraps a GemFire {@link Region} in an instance of {@link GemfireCache} to adapt the GemFire {@link Region}
 	 * to function as a Spring {@link Cache} in Spring's caching infrastructure.
@@ -64,6 +141,127 @@ public class GemfireCache implements Cache {
 		return this.region;
 	}
 
+	/**
+	 * Configures the GemFire {@link DistributedLockService} used to coordinate the loading of values
+	 * in {@link #get(Object, Callable)} across all members of the cluster.
+	 *
+	 * When set, only one member at a time loads the value for a given key. Keys must be {@link java.io.Serializable}.
+	 * If the distributed lock for a key cannot be acquired within the configured
+	 * {@link #setDistributedLockWaitTime(long) wait time}, the value is loaded without the lock.
+	 *
+	 * @param distributedLockService GemFire {@link DistributedLockService}; may be {@literal null}.
+	 * @see DistributedLockService
+	 */
+	public void setDistributedLockService(@Nullable DistributedLockService distributedLockService) {
+		this.distributedLockService = distributedLockService;
+	}
+
+	/**
+	 * Returns the GemFire {@link DistributedLockService} used to coordinate the loading of values
+	 * across the cluster.
+	 *
+	 * @return the configured GemFire {@link DistributedLockService}, or {@literal null} if loads are only
+	 * coordinated within this JVM.
+	 * @see DistributedLockService
+	 */
+	public @Nullable DistributedLockService getDistributedLockService() {
+		return this.distributedLockService;
+	}
+
+	/**
+	 * Configures the lease time in milliseconds of the distributed lock held while loading a value.
+	 *
+	 * @param distributedLockLeaseTime lease time in milliseconds; {@literal -1} holds the lock until
+	 * the value is loaded.
+	 * @see DistributedLockService#lock(Object, long, long)
+	 */
+	public void setDistributedLockLeaseTime(long distributedLockLeaseTime) {
+		this.distributedLockLeaseTime = distributedLockLeaseTime;
+	}
+
+	/**
+	 * Returns the lease time in milliseconds of the distributed lock held while loading a value.
+	 *
+	 * @return the lease time in milliseconds of the distributed lock.
+	 */
+	public long getDistributedLockLeaseTime() {
+		return this.distributedLockLeaseTime;
+	}
+
+	/**
+	 * Configures the time in milliseconds to wait on the distributed lock for a key before loading the value
+	 * without the lock.
+	 *
+	 * @param distributedLockWaitTime wait time in milliseconds; {@literal -1} waits indefinitely.
+	 * @see DistributedLockService#lock(Object, long, long)
+	 */
+	public void setDistributedLockWaitTime(long distributedLockWaitTime) {
+		this.distributedLockWaitTime = distributedLockWaitTime;
+	}
+
+	/**
+	 * Returns the time in milliseconds to wait on the distributed lock for a key.
+	 *
+	 * @return the time in milliseconds to wait on the distributed lock for a key.
+	 */
+	public long getDistributedLockWaitTime() {
+		return this.distributedLockWaitTime;
+	}
+
+	/**
+	 * Configures the maximum number of keys read, written or evicted by a single {@link Region#getAll(Collection)},
+	 * {@link Region#putAll(Map)} or {@link Region#removeAll(Collection)}.
+	 *
+	 * @param batchSize maximum number of keys per bulk {@link Region} operation; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code batchSize} is less than {@literal 1}.
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys read, written or evicted by a single bulk {@link Region} operation.
+	 *
+	 * @return the maximum number of keys per bulk {@link Region} operation.
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Configures the time in milliseconds during which lookups are coalesced into a single
+	 * {@link Region#getAll(Collection)} and writes are deferred before being coalesced into
+	 * a single {@link Region#putAll(Map)}.
+	 *
+	 * Lookups wait at most the flush interval, or until {@link #getBatchSize() batch size} keys are pending.
+	 * Writes are visible to lookups in this JVM as soon as {@link #put(Object, Object)} returns. Evictions wait for
+	 * deferred writes of the same keys already being written to the {@link Region}. If deferred writes flushed
+	 * in the background fail, the failure is thrown by the next {@link #put(Object, Object)} or {@link #flush()}.
+	 *
+	 * @param flushInterval flush interval in milliseconds; {@literal 0} or less reads and writes
+	 * the {@link Region} immediately.
+	 */
+	public void setFlushInterval(long flushInterval) {
+
+		this.flushInterval = Math.max(flushInterval, 0L);
+
+		if (this.flushInterval == 0L) {
+			flush();
+		}
+	}
+
+	/**
+	 * Returns the time in milliseconds during which lookups and writes are coalesced.
+	 *
+	 * @return the flush interval in milliseconds; {@literal 0} if lookups and writes are not coalesced.
+	 */
+	public long getFlushInterval() {
+		return this.flushInterval;
+	}
+
 	/**
 	 * Returns the name of this Spring {@link Cache}.
 	 *
@@ -77,10 +275,40 @@ public class GemfireCache implements Cache {
 	/**
 	 * Clears the entire contents of this Spring {@link Cache}.
 	 *
+	 * If the {@link Region} does not support {@link Region#clear()}, the entries are removed
+	 * in chunks of {@link #getBatchSize() batch size} keys. For a client {@link Region}, all keys are first
+	 * fetched from the servers with {@link Region#keySetOnServer()} and held in memory on the client while
+	 * the entries are removed, so clearing a client {@link Region} with a very large number of entries
+	 * should be avoided; cache keys (e.g. {@link org.springframework.cache.interceptor.SimpleKey}) are
+	 * generally not {@link Comparable} and so cannot be fetched in ordered pages.
+	 *
 	 * @see Region#clear()
+	 * @see Region#keySetOnServer()
+	 * @see Region#removeAll(Collection)
 	 */
 	public void clear() {
-		getNativeCache().clear();
+
+		discardPendingWrites();
+		BatchScope.discard(this);
+
+		try {
+			getNativeCache().clear();
+		}
+		catch (UnsupportedOperationException ignore) {
+			removeAllKeys();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void removeAllKeys() {
+
+		Region<Object, ?> region = getNativeCache();
+
+		// Copy the keys of a local Region since its key set is a view of the entries being removed
+		Collection<Object> keys = RegionUtils.isClient(region) ? region.keySetOnServer()
+			: new ArrayList<>(region.keySet());
+
+		removeAll(keys);
 	}
 
 	/**
@@ -90,9 +318,43 @@ public class GemfireCache implements Cache {
 	 * @see Region#destroy(Object)
 	 */
 	public void evict(Object key) {
+
+		discardPendingWrite(key);
+		BatchScope.discard(this, key);
+
 		getNativeCache().remove(key);
 	}
 
+	/**
+	 * Evicts the entries mapped to the given keys from this Spring {@link Cache} in chunks of
+	 * {@link #getBatchSize() batch size} keys.
+	 *
+	 * @param keys {@link Collection} of keys identifying the cache entries to evict.
+	 * @see Region#removeAll(Collection)
+	 */
+	public void evictAll(@Nullable Collection<?> keys) {
+
+		if (keys != null && !keys.isEmpty()) {
+
+			for (Object key : keys) {
+				discardPendingWrite(key);
+				BatchScope.discard(this, key);
+			}
+
+			removeAll(keys);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void removeAll(Collection<?> keys) {
+
+		Region<Object, ?> region = getNativeCache();
+
+		for (List<?> chunk : chunk(keys)) {
+			region.removeAll(chunk);
+		}
+	}
+
 	/**
 	 * Returns the cache value for the given key wrapped in an instance of
 	 * {@link ValueWrapper}.
@@ -104,7 +366,7 @@ public class GemfireCache implements Cache {
 	 */
 	public ValueWrapper get(Object key) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		return value != null ? new SimpleValueWrapper(value) : null;
 	}
@@ -122,7 +384,7 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -154,17 +416,28 @@ public class GemfireCache implements Cache {
 		T value = (T) get(key, Object.class);
 
 		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
 
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
-					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
-					}
+			PendingLoad load = new PendingLoad();
+			PendingLoad pendingLoad = this.pendingLoads.putIfAbsent(key, load);
+
+			if (pendingLoad != null) {
+				value = (T) pendingLoad.await(key, valueLoader);
+			}
+			else {
+				try {
+					value = load(key, valueLoader);
+					load.complete(value);
+				}
+				catch (ValueRetrievalException cause) {
+					load.completeExceptionally(cause.getCause());
+					throw cause;
+				}
+				catch (RuntimeException | Error cause) {
+					load.completeExceptionally(cause);
+					throw cause;
+				}
+				finally {
+					this.pendingLoads.remove(key, load);
 				}
 			}
 		}
@@ -172,10 +445,114 @@ public class GemfireCache implements Cache {
 		return value;
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> T load(Object key, Callable<T> valueLoader) {
+
+		DistributedLockService lockService = getDistributedLockService();
+
+		boolean locked = lockService != null
+			&& lockService.lock(key, getDistributedLockWaitTime(), getDistributedLockLeaseTime());
+
+		try {
+
+			T value = (T) get(key, Object.class);
+
+			if (value == null) {
+				try {
+					value = valueLoader.call();
+					put(key, value);
+				}
+				catch (Exception cause) {
+					throw new ValueRetrievalException(key, valueLoader, cause);
+				}
+			}
+
+			return value;
+		}
+		finally {
+			if (locked) {
+				lockService.unlock(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns the cache values for the given keys, reading the {@link Region} in chunks of
+	 * {@link #getBatchSize() batch size} keys.
+	 *
+	 * Inside a {@link BatchScope}, the values, including the absence of a value, are kept in the scope
+	 * so that subsequent lookups of the same keys by the current {@link Thread} do not read the {@link Region}.
+	 *
+	 * @param keys {@link Collection} of keys identifying the values to retrieve from the cache.
+	 * @return a {@link Map} of the keys mapped to a value in the cache; never {@literal null}.
+	 * @see Region#getAll(Collection)
+	 */
+	@SuppressWarnings("unchecked")
+	public @NonNull Map<Object, Object> getAll(@Nullable Collection<?> keys) {
+
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Object, Object> scopedValues = BatchScope.values(this);
+		Map<Object, Object> values = new LinkedHashMap<>();
+		List<Object> missingKeys = new ArrayList<>(keys.size());
+
+		for (Object key : keys) {
+			if (scopedValues != null && scopedValues.containsKey(key)) {
+				Object value = scopedValues.get(key);
+				if (value != null) {
+					values.put(key, value);
+				}
+			}
+			else {
+				missingKeys.add(key);
+			}
+		}
+
+		if (this.flushInterval > 0L && !missingKeys.isEmpty()) {
+			synchronized (this.batchMonitor) {
+				missingKeys.removeIf(key -> {
+					Object value = deferredWrite(key);
+					if (value != null) {
+						values.put(key, value);
+						return true;
+					}
+					return false;
+				});
+			}
+		}
+
+		Region<Object, Object> region = getNativeCache();
+
+		for (List<?> chunk : chunk(missingKeys)) {
+
+			Map<Object, Object> chunkValues = region.getAll(chunk);
+
+			for (Object key : chunk) {
+
+				Object value = chunkValues != null ? chunkValues.get(key) : null;
+
+				if (scopedValues != null) {
+					scopedValues.put(key, value);
+				}
+
+				if (value != null) {
+					values.put(key, value);
+				}
+			}
+		}
+
+		return values;
+	}
+
 	/**
 	 * Stores the given value in the cache referenced by the given key.  This operation will only store the value
 	 * if the value is not {@literal null}.
 	 *
+	 * Inside a {@link BatchScope}, or when a {@link #setFlushInterval(long) flush interval} is configured,
+	 * the value is written to the {@link Region} later, together with other values.
+	 *
 	 * @param key key used to reference the value in the cache.
 	 * @param value value to store in the cache referenced by the key.
 	 * @see Region#put(Object, Object)
@@ -184,10 +561,379 @@ public class GemfireCache implements Cache {
 	public void put(Object key, Object value) {
 
 		if (value != null) {
-			getNativeCache().put(key, value);
+			if (!BatchScope.write(this, key, value) && !deferWrite(key, value)) {
+				getNativeCache().put(key, value);
+			}
 		}
 	}
 
+	/**
+	 * Stores the given entries in the cache, writing the {@link Region} in chunks of
+	 * {@link #getBatchSize() batch size} entries. Entries with a {@literal null} value are not stored.
+	 *
+	 * @param entries {@link Map} of entries to store in the cache.
+	 * @see Region#putAll(Map)
+	 */
+	public void putAll(@Nullable Map<?, ?> entries) {
+
+		if (entries != null && !entries.isEmpty()) {
+
+			for (Object key : entries.keySet()) {
+				discardPendingWrite(key);
+				BatchScope.discard(this, key);
+			}
+
+			writeAll(entries);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeAll(Map<?, ?> entries) {
+
+		Region<Object, Object> region = getNativeCache();
+		Map<Object, Object> chunk = new LinkedHashMap<>();
+
+		for (Map.Entry<?, ?> entry : entries.entrySet()) {
+			if (entry.getValue() != null) {
+
+				chunk.put(entry.getKey(), entry.getValue());
+
+				if (chunk.size() >= getBatchSize()) {
+					region.putAll(chunk);
+					chunk = new LinkedHashMap<>();
+				}
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			region.putAll(chunk);
+		}
+	}
+
+	/**
+	 * Writes all deferred values to the {@link Region}.
+	 *
+	 * @see #setFlushInterval(long)
+	 */
+	public void flush() {
+
+		Map<Object, Object> writes;
+
+		synchronized (this.batchMonitor) {
+			throwDeferredWriteFailure();
+			writes = detachPendingWrites();
+		}
+
+		if (writes != null) {
+			writeDeferred(writes);
+		}
+	}
+
+	private @Nullable Object lookup(Object key) {
+
+		Map<Object, Object> scopedValues = BatchScope.values(this);
+
+		if (scopedValues != null && scopedValues.containsKey(key)) {
+			return scopedValues.get(key);
+		}
+
+		Object value = this.flushInterval > 0L ? coalescedGet(key) : getNativeCache().get(key);
+
+		if (scopedValues != null) {
+			scopedValues.put(key, value);
+		}
+
+		return value;
+	}
+
+	private Object coalescedGet(Object key) {
+
+		CompletableFuture<Object> value;
+
+		PendingReads flushableReads = null;
+
+		synchronized (this.batchMonitor) {
+
+			Object deferredValue = deferredWrite(key);
+
+			if (deferredValue != null) {
+				return deferredValue;
+			}
+
+			if (this.pendingReads == null) {
+
+				PendingReads reads = new PendingReads();
+
+				this.pendingReads = reads;
+
+				if (!schedule(() -> flushReads(reads))) {
+					this.pendingReads = null;
+					flushableReads = reads;
+				}
+			}
+
+			PendingReads reads = flushableReads != null ? flushableReads : this.pendingReads;
+
+			value = reads.valueFor(key);
+
+			if (flushableReads == null && reads.size() >= getBatchSize()) {
+				this.pendingReads = null;
+				flushableReads = reads;
+			}
+		}
+
+		if (flushableReads != null) {
+			flushReads(flushableReads);
+		}
+
+		try {
+			return value.get();
+		}
+		catch (ExecutionException cause) {
+			throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause()
+				: new IllegalStateException(String.format("Failed to get value for key [%s]", key), cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(String.format("Interrupted while getting value for key [%s]", key), cause);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void flushReads(PendingReads reads) {
+
+		if (reads.flush()) {
+
+			synchronized (this.batchMonitor) {
+				if (this.pendingReads == reads) {
+					this.pendingReads = null;
+				}
+			}
+
+			try {
+
+				Map<Object, Object> values = new HashMap<>();
+				Region<Object, Object> region = getNativeCache();
+
+				for (List<?> chunk : chunk(reads.keys())) {
+
+					Map<Object, Object> chunkValues = region.getAll(chunk);
+
+					if (chunkValues != null) {
+						values.putAll(chunkValues);
+					}
+				}
+
+				reads.complete(values);
+			}
+			catch (RuntimeException | Error cause) {
+				reads.completeExceptionally(cause);
+			}
+		}
+	}
+
+	private boolean deferWrite(Object key, Object value) {
+
+		if (this.flushInterval <= 0L) {
+			return false;
+		}
+
+		Map<Object, Object> flushableWrites = null;
+
+		synchronized (this.batchMonitor) {
+
+			throwDeferredWriteFailure();
+
+			if (this.pendingWrites == null) {
+
+				Map<Object, Object> writes = new LinkedHashMap<>();
+
+				this.pendingWrites = writes;
+
+				if (!schedule(() -> flushWrites(writes))) {
+					this.pendingWrites = null;
+					return false;
+				}
+			}
+
+			this.pendingWrites.put(key, value);
+
+			if (this.pendingWrites.size() >= getBatchSize()) {
+				flushableWrites = detachPendingWrites();
+			}
+		}
+
+		if (flushableWrites != null) {
+			writeDeferred(flushableWrites);
+		}
+
+		return true;
+	}
+
+	private void flushWrites(Map<Object, Object> writes) {
+
+		synchronized (this.batchMonitor) {
+			if (this.pendingWrites != writes) {
+				return;
+			}
+
+			detachPendingWrites();
+		}
+
+		try {
+			writeDeferred(writes);
+		}
+		catch (RuntimeException cause) {
+
+			String message = String.format("Failed to write [%1$d] deferred values to Region [%2$s]",
+				writes.size(), getName());
+
+			logger.warn(message, cause);
+
+			synchronized (this.batchMonitor) {
+				if (this.deferredWriteFailure == null) {
+					this.deferredWriteFailure = new IllegalStateException(message, cause);
+				}
+				else {
+					this.deferredWriteFailure.addSuppressed(cause);
+				}
+			}
+		}
+	}
+
+	// Guarded by batchMonitor
+	private @Nullable Map<Object, Object> detachPendingWrites() {
+
+		Map<Object, Object> writes = this.pendingWrites;
+
+		if (writes != null) {
+			this.flushingWrites.add(writes);
+			this.pendingWrites = null;
+		}
+
+		return writes;
+	}
+
+	private void writeDeferred(Map<Object, Object> writes) {
+
+		try {
+			writeAll(writes);
+		}
+		finally {
+			synchronized (this.batchMonitor) {
+				this.flushingWrites.remove(writes);
+				this.batchMonitor.notifyAll();
+			}
+		}
+	}
+
+	// Guarded by batchMonitor
+	private @Nullable Object deferredWrite(Object key) {
+
+		Object value = this.pendingWrites != null ? this.pendingWrites.get(key) : null;
+
+		if (value == null) {
+			for (Map<Object, Object> writes : this.flushingWrites) {
+				value = writes.get(key);
+				if (value != null) {
+					break;
+				}
+			}
+		}
+
+		return value;
+	}
+
+	// Guarded by batchMonitor
+	private void throwDeferredWriteFailure() {
+
+		RuntimeException failure = this.deferredWriteFailure;
+
+		if (failure != null) {
+			this.deferredWriteFailure = null;
+			throw failure;
+		}
+	}
+
+	private void discardPendingWrites() {
+
+		synchronized (this.batchMonitor) {
+			this.pendingWrites = null;
+			awaitFlushingWrites(writes -> true);
+		}
+	}
+
+	private void discardPendingWrite(Object key) {
+
+		synchronized (this.batchMonitor) {
+			if (this.pendingWrites != null) {
+				this.pendingWrites.remove(key);
+			}
+
+			awaitFlushingWrites(writes -> writes.containsKey(key));
+		}
+	}
+
+	// Waits for deferred writes already being written to the Region so that they cannot overwrite
+	// a subsequent eviction or write; guarded by batchMonitor
+	private void awaitFlushingWrites(Predicate<Map<Object, Object>> predicate) {
+
+		boolean interrupted = false;
+
+		while (this.flushingWrites.stream().anyMatch(predicate)) {
+			try {
+				this.batchMonitor.wait();
+			}
+			catch (InterruptedException ignore) {
+				interrupted = true;
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean schedule(Runnable flush) {
+
+		try {
+			FlushSchedulerHolder.INSTANCE.schedule(flush, this.flushInterval, TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (RejectedExecutionException ignore) {
+			return false;
+		}
+	}
+
+	private Iterable<List<?>> chunk(Collection<?> keys) {
+
+		int batchSize = getBatchSize();
+
+		if (keys.size() <= batchSize) {
+			return keys.isEmpty() ? Collections.emptyList()
+				: Collections.singletonList(keys instanceof List ? (List<?>) keys : new ArrayList<>(keys));
+		}
+
+		List<List<?>> chunks = new ArrayList<>(keys.size() / batchSize + 1);
+		List<Object> chunk = new ArrayList<>(batchSize);
+
+		for (Object key : keys) {
+
+			chunk.add(key);
+
+			if (chunk.size() == batchSize) {
+				chunks.add(chunk);
+				chunk = new ArrayList<>(batchSize);
+			}
+		}
+
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+
+		return chunks;
+	}
+
 	/**
 	 * Implementation of {@link Cache#putIfAbsent(Object, Object)} satisfying the extension of
 	 * the {@link Cache} interface in Spring 4.1. Don't add the {@link Override} annotation
@@ -200,8 +946,262 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public ValueWrapper putIfAbsent(Object key, Object value) {
 
+		Object pendingValue = lookupPendingWrite(key);
+
+		if (pendingValue != null) {
+			return new SimpleValueWrapper(pendingValue);
+		}
+
+		BatchScope.discard(this, key);
+
 		Object existingValue = getNativeCache().putIfAbsent(key, value);
 
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	private @Nullable Object lookupPendingWrite(Object key) {
+
+		Object scopedWrite = BatchScope.pendingWrite(this, key);
+
+		if (scopedWrite != null) {
+			return scopedWrite;
+		}
+
+		synchronized (this.batchMonitor) {
+			return deferredWrite(key);
+		}
+	}
+
+	/**
+	 * Thread-bound scope in which values read from or written to any {@link GemfireCache} by the current
+	 * {@link Thread} are kept until the scope is {@link #close() closed}.
+	 *
+	 * Lookups of keys already read or written in the scope do not read the {@link Region}, and all values
+	 * written in the scope are written with {@link Region#putAll(Map)} when the outermost scope is closed.
+	 * Use {@link GemfireCache#getAll(Collection)} to read many keys needed later in the scope at once.
+	 *
+	 * <pre>
+	 * try (GemfireCache.BatchScope scope = GemfireCache.BatchScope.open()) {
+	 *   cache.getAll(keys);
+	 *   ...
+	 * }
+	 * </pre>
+	 *
+	 * Scopes are not shared between {@link Thread Threads} and may be nested.
+	 */
+	public static final class BatchScope implements AutoCloseable {
+
+		private static final ThreadLocal<BatchScope> CURRENT = new ThreadLocal<>();
+
+		private int depth = 1;
+
+		private final Map<GemfireCache, Map<Object, Object>> values = new LinkedHashMap<>();
+		private final Map<GemfireCache, Map<Object, Object>> writes = new LinkedHashMap<>();
+
+		private BatchScope() { }
+
+		/**
+		 * Opens a new scope bound to the current {@link Thread}, or joins the scope already open on
+		 * the current {@link Thread}.
+		 *
+		 * @return the {@link BatchScope} bound to the current {@link Thread}.
+		 */
+		public static @NonNull BatchScope open() {
+
+			BatchScope scope = CURRENT.get();
+
+			if (scope != null) {
+				scope.depth++;
+			}
+			else {
+				scope = new BatchScope();
+				CURRENT.set(scope);
+			}
+
+			return scope;
+		}
+
+		/**
+		 * Determines whether a scope is open on the current {@link Thread}.
+		 *
+		 * @return a boolean value indicating whether a scope is open on the current {@link Thread}.
+		 */
+		public static boolean isOpen() {
+			return CURRENT.get() != null;
+		}
+
+		static @Nullable Map<Object, Object> values(GemfireCache cache) {
+
+			BatchScope scope = CURRENT.get();
+
+			return scope != null ? scope.values.computeIfAbsent(cache, it -> new HashMap<>()) : null;
+		}
+
+		static boolean write(GemfireCache cache, Object key, Object value) {
+
+			BatchScope scope = CURRENT.get();
+
+			if (scope == null) {
+				return false;
+			}
+
+			scope.values.computeIfAbsent(cache, it -> new HashMap<>()).put(key, value);
+
+			Map<Object, Object> writes = scope.writes.computeIfAbsent(cache, it -> new LinkedHashMap<>());
+
+			writes.put(key, value);
+
+			if (writes.size() >= cache.getBatchSize()) {
+				scope.writes.remove(cache);
+				cache.writeAll(writes);
+			}
+
+			return true;
+		}
+
+		static @Nullable Object pendingWrite(GemfireCache cache, Object key) {
+
+			BatchScope scope = CURRENT.get();
+			Map<Object, Object> writes = scope != null ? scope.writes.get(cache) : null;
+
+			return writes != null ? writes.get(key) : null;
+		}
+
+		static void discard(GemfireCache cache) {
+
+			BatchScope scope = CURRENT.get();
+
+			if (scope != null) {
+				scope.values.remove(cache);
+				scope.writes.remove(cache);
+			}
+		}
+
+		static void discard(GemfireCache cache, Object key) {
+
+			BatchScope scope = CURRENT.get();
+
+			if (scope != null) {
+				Map<Object, Object> values = scope.values.get(cache);
+				Map<Object, Object> writes = scope.writes.get(cache);
+
+				if (values != null) {
+					values.remove(key);
+				}
+
+				if (writes != null) {
+					writes.remove(key);
+				}
+			}
+		}
+
+		/**
+		 * Closes this scope. Closing the outermost scope writes all values written in the scope
+		 * to the {@link Region Regions} and unbinds the scope from the current {@link Thread}.
+		 */
+		@Override
+		public void close() {
+
+			if (--this.depth == 0) {
+
+				CURRENT.remove();
+
+				Iterator<Map.Entry<GemfireCache, Map<Object, Object>>> writes = this.writes.entrySet().iterator();
+
+				while (writes.hasNext()) {
+					Map.Entry<GemfireCache, Map<Object, Object>> entry = writes.next();
+					writes.remove();
+					entry.getKey().writeAll(entry.getValue());
+				}
+
+				this.values.clear();
+			}
+		}
+	}
+
+	/**
+	 * Keys looked up within the same flush interval mapped to the value eventually read for each key.
+	 */
+	private static final class PendingReads {
+
+		private final Map<Object, CompletableFuture<Object>> values = new LinkedHashMap<>();
+
+		private boolean flushed;
+
+		CompletableFuture<Object> valueFor(Object key) {
+			return this.values.computeIfAbsent(key, it -> new CompletableFuture<>());
+		}
+
+		Set<Object> keys() {
+			return this.values.keySet();
+		}
+
+		int size() {
+			return this.values.size();
+		}
+
+		void complete(Map<Object, Object> values) {
+			this.values.forEach((key, value) -> value.complete(values.get(key)));
+		}
+
+		void completeExceptionally(Throwable cause) {
+			this.values.values().forEach(value -> value.completeExceptionally(cause));
+		}
+
+		synchronized boolean flush() {
+
+			boolean flush = !this.flushed;
+
+			this.flushed = true;
+
+			return flush;
+		}
+	}
+
+	/**
+	 * Shared {@link ScheduledExecutorService} flushing pending lookups and writes after the flush interval.
+	 */
+	private static final class FlushSchedulerHolder {
+
+		private static final ScheduledExecutorService INSTANCE = newScheduledExecutorService();
+
+		private static ScheduledExecutorService newScheduledExecutorService() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("GemfireCache-Flush-");
+
+			threadFactory.setDaemon(true);
+
+			ScheduledThreadPoolExecutor scheduledExecutor =
+				new ScheduledThreadPoolExecutor(Math.max(Runtime.getRuntime().availableProcessors(), 2), threadFactory);
+
+			scheduledExecutor.setRemoveOnCancelPolicy(true);
+
+			return scheduledExecutor;
+		}
+	}
+
+	/**
+	 * In-flight load of a value for a key shared by all Threads missing on the same key.
+	 */
+	private static final class PendingLoad extends CompletableFuture<Object> {
+
+		private final Thread loadingThread = Thread.currentThread();
+
+		Object await(Object key, Callable<?> valueLoader) {
+
+			Assert.state(this.loadingThread != Thread.currentThread(),
+				() -> String.format("Recursive load of value for key [%s]", key));
+
+			try {
+				return get();
+			}
+			catch (ExecutionException cause) {
+				throw new ValueRetrievalException(key, valueLoader, cause.getCause());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new ValueRetrievalException(key, valueLoader, cause);
+			}
+		}
+	}
 }
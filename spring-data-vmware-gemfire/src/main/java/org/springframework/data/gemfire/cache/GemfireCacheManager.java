@@ -12,7 +12,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.distributed.DistributedLockService;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.support.AbstractCacheManager;
@@ -31,14 +33,21 @@ import org.springframework.util.Assert;
  * @see Cache
  * @see CacheManager
  * @see AbstractCacheManager
+ * @see DisposableBean
  * @see GemFireCache
  * @see Region
  */
 @SuppressWarnings("unused")
-public class GemfireCacheManager extends AbstractCacheManager {
+public class GemfireCacheManager extends AbstractCacheManager implements DisposableBean {
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
+	private DistributedLockService distributedLockService;
+
+	private int batchSize = GemfireCache.DEFAULT_BATCH_SIZE;
+
+	private long flushInterval;
+
 	private GemFireCache gemfireCache;
 
 	private Set<Region<?, ?>> regions;
@@ -134,7 +143,32 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+
+		GemfireCache cache = GemfireCache.wrap(region);
+
+		cache.setDistributedLockService(getDistributedLockService());
+		cache.setBatchSize(getBatchSize());
+		cache.setFlushInterval(getFlushInterval());
+
+		return cache;
+	}
+
+	/**
+	 * Writes the deferred values of all {@link GemfireCache GemfireCaches} managed by this {@link CacheManager}.
+	 *
+	 * @see GemfireCache#flush()
+	 */
+	@Override
+	public void destroy() {
+
+		for (String cacheName : getCacheNames()) {
+
+			Cache cache = lookupCache(cacheName);
+
+			if (cache instanceof GemfireCache) {
+				((GemfireCache) cache).flush();
+			}
+		}
 	}
 
 	/* (non-Javadoc) */
@@ -198,6 +232,69 @@ public class GemfireCacheManager extends AbstractCacheManager {
 		return this.gemfireCache;
 	}
 
+	/**
+	 * Sets the GemFire {@link DistributedLockService} used by the Spring {@link Cache Caches} managed by
+	 * this {@link CacheManager} to coordinate the loading of cache values across the cluster.
+	 *
+	 * @param distributedLockService GemFire {@link DistributedLockService}; may be {@literal null}.
+	 * @see GemfireCache#setDistributedLockService(DistributedLockService)
+	 * @see DistributedLockService
+	 */
+	public void setDistributedLockService(DistributedLockService distributedLockService) {
+		this.distributedLockService = distributedLockService;
+	}
+
+	/**
+	 * Returns the GemFire {@link DistributedLockService} used to coordinate the loading of cache values
+	 * across the cluster.
+	 *
+	 * @return the GemFire {@link DistributedLockService}, or {@literal null} if not configured.
+	 * @see DistributedLockService
+	 */
+	protected DistributedLockService getDistributedLockService() {
+		return this.distributedLockService;
+	}
+
+	/**
+	 * Sets the maximum number of keys read, written or evicted by a single bulk {@link Region} operation
+	 * of the Spring {@link Cache Caches} managed by this {@link CacheManager}.
+	 *
+	 * @param batchSize maximum number of keys per bulk {@link Region} operation.
+	 * @see GemfireCache#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys read, written or evicted by a single bulk {@link Region} operation.
+	 *
+	 * @return the maximum number of keys per bulk {@link Region} operation.
+	 */
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the time in milliseconds during which lookups and writes of the Spring {@link Cache Caches} managed by
+	 * this {@link CacheManager} are coalesced into bulk {@link Region} operations.
+	 *
+	 * @param flushInterval flush interval in milliseconds; {@literal 0} or less disables coalescing.
+	 * @see GemfireCache#setFlushInterval(long)
+	 */
+	public void setFlushInterval(long flushInterval) {
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * Returns the time in milliseconds during which lookups and writes are coalesced.
+	 *
+	 * @return the flush interval in milliseconds.
+	 */
+	protected long getFlushInterval() {
+		return this.flushInterval;
+	}
+
 	/**
 	 * Sets the names of all Spring {@link Cache Caches} that will be used in the application.
 	 *
@@ -30,6 +30,7 @@ import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
+import org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.util.CacheUtils;
@@ -67,7 +68,16 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected static final String ORG_SPRINGFRAMEWORK_DATA_GEMFIRE_PACKAGE_NAME = "org.springframework.data.gemfire";
 	protected static final String ORG_SPRINGFRAMEWORK_PACKAGE_NAME = "org.springframework";
 
+	private boolean useVirtualThreads;
+
+	private int batchSize;
+	private int batchTimeInterval = ContinuousQueryListenerContainer.DEFAULT_BATCH_TIME_INTERVAL;
+	private int maxConcurrency;
 	private int phase;
+	private int queueCapacity = ContinuousQueryEventDispatcher.DEFAULT_QUEUE_CAPACITY;
+
+	private ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy =
+		ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK;
 
 	@Autowired(required = false)
 	private List<ContinuousQueryListenerContainerConfigurer> configurers = Collections.emptyList();
@@ -100,11 +110,17 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 			AnnotationAttributes enableContinuousQueriesAttributes = getAnnotationAttributes(importingClassMetadata);
 
+			setBatchSize(enableContinuousQueriesAttributes.<Integer>getNumber("batchSize"));
+			setBatchTimeInterval(enableContinuousQueriesAttributes.<Integer>getNumber("batchTimeInterval"));
 			setErrorHandlerBeanName(enableContinuousQueriesAttributes.getString("errorHandlerBeanName"));
+			setMaxConcurrency(enableContinuousQueriesAttributes.<Integer>getNumber("maxConcurrency"));
+			setOverflowPolicy(enableContinuousQueriesAttributes.getEnum("overflowPolicy"));
 			setPhase(enableContinuousQueriesAttributes.<Integer>getNumber("phase"));
 			setPoolName(enableContinuousQueriesAttributes.getString("poolName"));
+			setQueueCapacity(enableContinuousQueriesAttributes.<Integer>getNumber("queueCapacity"));
 			setQueryServiceBeanName(enableContinuousQueriesAttributes.getString("queryServiceBeanName"));
 			setTaskExecutorBeanName(enableContinuousQueriesAttributes.getString("taskExecutorBeanName"));
+			setUseVirtualThreads(enableContinuousQueriesAttributes.getBoolean("useVirtualThreads"));
 		}
 	}
 
@@ -192,11 +208,18 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 		container.setContinuousQueryListenerContainerConfigurers(resolveContinuousQueryListenerContainerConfigurers());
 
 		resolveErrorHandler().ifPresent(container::setErrorHandler);
+		resolveMaxConcurrency().ifPresent(container::setMaxConcurrency);
 		resolvePhase().ifPresent(container::setPhase);
 		resolvePoolName().ifPresent(container::setPoolName);
 		resolveQueryService().ifPresent(container::setQueryService);
 		resolveTaskExecutor().ifPresent(container::setTaskExecutor);
 
+		container.setBatchSize(getBatchSize());
+		container.setBatchTimeInterval(getBatchTimeInterval());
+		container.setOverflowPolicy(getOverflowPolicy());
+		container.setQueueCapacity(getQueueCapacity());
+		container.setUseVirtualThreads(isUseVirtualThreads());
+
 		return container;
 	}
 
@@ -214,6 +237,10 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 			.map(errorHandlerBeanName -> getBeanFactory().getBean(errorHandlerBeanName, ErrorHandler.class));
 	}
 
+	protected Optional<Integer> resolveMaxConcurrency() {
+		return Optional.of(getMaxConcurrency()).filter(maxConcurrency -> maxConcurrency > 0);
+	}
+
 	protected Optional<Integer> resolvePhase() {
 		return Optional.of(getPhase()).filter(phase -> phase != 0);
 	}
@@ -236,6 +263,22 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 			.map(taskExecutorBeanName -> getBeanFactory().getBean(taskExecutorBeanName, Executor.class));
 	}
 
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setBatchTimeInterval(int batchTimeInterval) {
+		this.batchTimeInterval = batchTimeInterval;
+	}
+
+	protected int getBatchTimeInterval() {
+		return this.batchTimeInterval;
+	}
+
 	public void setErrorHandlerBeanName(String errorHandlerBeanName) {
 		this.errorHandlerBeanName = errorHandlerBeanName;
 	}
@@ -244,6 +287,22 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 		return this.errorHandlerBeanName;
 	}
 
+	public void setMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	protected int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	public void setOverflowPolicy(ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	protected ContinuousQueryEventDispatcher.OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
 	public void setPhase(int phase) {
 		this.phase = phase;
 	}
@@ -260,6 +319,14 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 		return this.poolName;
 	}
 
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	protected int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
 	public void setQueryServiceBeanName(String queryServiceBeanName) {
 		this.queryServiceBeanName = queryServiceBeanName;
 	}
@@ -275,4 +342,12 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected String getTaskExecutorBeanName() {
 		return this.taskExecutorBeanName;
 	}
+
+	public void setUseVirtualThreads(boolean useVirtualThreads) {
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	protected boolean isUseVirtualThreads() {
+		return this.useVirtualThreads;
+	}
 }
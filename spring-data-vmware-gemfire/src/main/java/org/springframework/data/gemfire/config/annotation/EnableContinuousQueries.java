@@ -18,6 +18,7 @@ import org.apache.geode.cache.query.QueryService;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.util.ErrorHandler;
 
@@ -37,6 +38,7 @@ import org.springframework.util.ErrorHandler;
  * @see Import
  * @see ContinuousQueryConfiguration
  * @see ContinuousQueryListenerContainer
+ * @see ContinuousQueryEventDispatcher
  * @since @.0.0
  */
 @Target(ElementType.TYPE)
@@ -47,6 +49,24 @@ import org.springframework.util.ErrorHandler;
 @SuppressWarnings("unused")
 public @interface EnableContinuousQueries {
 
+	/**
+	 * Defines the maximum number of CQ events delivered in a single batch to batching CQ listeners,
+	 * such as {@link ContinuousQuery} annotated POJO methods accepting a {@link java.util.List} of CQ events.
+	 *
+	 * A batch size greater than {@literal 1} enables batching.
+	 *
+	 * Defaults to {@literal 0}, which delivers each CQ event individually.
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * Defines the maximum time in milliseconds a CQ event is held in an incomplete batch before the batch
+	 * is delivered to the batching CQ listener.
+	 *
+	 * Defaults to {@link ContinuousQueryListenerContainer#DEFAULT_BATCH_TIME_INTERVAL}.
+	 */
+	int batchTimeInterval() default ContinuousQueryListenerContainer.DEFAULT_BATCH_TIME_INTERVAL;
+
 	/**
 	 * Refers to the {@link String name} of the declared {@link ErrorHandler} bean that will handle errors
 	 * thrown during CQ event processing by CQ listeners.
@@ -55,6 +75,23 @@ public @interface EnableContinuousQueries {
 	 */
 	String errorHandlerBeanName() default "";
 
+	/**
+	 * Defines the maximum number of CQ events processed concurrently by the default CQ event dispatcher
+	 * when running on platform Threads.
+	 *
+	 * Defaults to {@literal 0}, which uses the number of available processors.
+	 */
+	int maxConcurrency() default 0;
+
+	/**
+	 * Defines the {@link ContinuousQueryEventDispatcher.OverflowPolicy policy} applied by the default
+	 * CQ event dispatcher when its queue is full.
+	 *
+	 * Defaults to {@link ContinuousQueryEventDispatcher.OverflowPolicy#BLOCK}.
+	 */
+	ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy()
+		default ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK;
+
 	/**
 	 * Defines the Spring container lifecycle phase in which the SDG {@link ContinuousQueryListenerContainer}
 	 * will be started on auto-start.
@@ -77,6 +114,13 @@ public @interface EnableContinuousQueries {
 	 */
 	String queryServiceBeanName() default "";
 
+	/**
+	 * Defines the maximum number of CQ events waiting to be processed by the default CQ event dispatcher.
+	 *
+	 * Defaults to {@link ContinuousQueryEventDispatcher#DEFAULT_QUEUE_CAPACITY}.
+	 */
+	int queueCapacity() default ContinuousQueryEventDispatcher.DEFAULT_QUEUE_CAPACITY;
+
 	/**
 	 * Refers to the name of the {@link Executor} bean used to process CQ events asynchronously.
 	 *
@@ -84,4 +128,14 @@ public @interface EnableContinuousQueries {
 	 */
 	String taskExecutorBeanName() default "";
 
+	/**
+	 * Determines whether the default CQ event dispatcher processes CQ events on virtual Threads,
+	 * when supported by the Java runtime.
+	 *
+	 * Ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean useVirtualThreads() default false;
+
 }
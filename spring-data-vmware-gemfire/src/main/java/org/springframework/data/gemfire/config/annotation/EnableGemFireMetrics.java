@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableGemFireMetrics} annotation enables Micrometer metrics for the data access operations
+ * performed by {@link org.springframework.data.gemfire.GemfireTemplate GemfireTemplates},
+ * {@link org.springframework.data.repository.Repository Repositories} and their query methods,
+ * {@link org.apache.geode.cache.execute.Function} executions and the dispatch of
+ * {@link org.apache.geode.cache.query.CqEvent CQ events} by
+ * {@link org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * ContinuousQueryListenerContainers}.
+ *
+ * Requires {@literal io.micrometer:micrometer-core} on the application classpath.
+ *
+ * @see GemFireMetricsConfiguration
+ * @see org.springframework.data.gemfire.metrics.GemFireMetrics
+ * @see org.springframework.data.gemfire.metrics.MicrometerGemFireMetrics
+ * @since 1.0.1
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(GemFireMetricsConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableGemFireMetrics {
+
+	/**
+	 * Name of the {@link io.micrometer.core.instrument.MeterRegistry} bean in which meters are recorded.
+	 *
+	 * Defaults to the single {@link io.micrometer.core.instrument.MeterRegistry} bean declared in the Spring
+	 * application context, or the Micrometer global registry when there is none.
+	 *
+	 * Use the {@literal spring.data.gemfire.metrics.meter-registry-bean-name} property
+	 * in {@literal application.properties}.
+	 */
+	String meterRegistryBeanName() default "";
+
+}
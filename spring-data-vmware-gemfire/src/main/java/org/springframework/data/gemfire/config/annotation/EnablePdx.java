@@ -87,4 +87,17 @@ public @interface EnablePdx {
 	 */
 	String serializerBeanName() default PdxConfiguration.DEFAULT_PDX_SERIALIZER_BEAN_NAME;
 
+	/**
+	 * Configures whether the {@link MappingPdxSerializer} reads and writes entity properties declared with a primitive,
+	 * {@link String}, {@link java.util.Date} or array of those {@link Class types} using the typed PDX read/write
+	 * methods, bypassing boxing and the {@link org.springframework.core.convert.ConversionService}.
+	 *
+	 * Only applies when the PDX serializer is a {@link MappingPdxSerializer}.
+	 *
+	 * Default is {@literal false}.
+	 *
+	 * Use the {@literal spring.data.gemfire.pdx.typed-field-access} property in {@literal application.properties}.
+	 */
+	boolean typedFieldAccess() default PdxConfiguration.DEFAULT_TYPED_FIELD_ACCESS;
+
 }
@@ -14,6 +14,7 @@ import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
  * The EnableRegionDataAccessTracing class...
@@ -30,4 +31,59 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings("unused")
 public @interface EnableRegionDataAccessTracing {
 
+	/**
+	 * Whether the size of the values read or written by sampled calls is estimated. Sizing walks the object graph
+	 * of every value and is expensive.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.payload-sizing-enabled} property
+	 * in {@literal application.properties}.
+	 */
+	boolean payloadSizingEnabled() default RegionDataAccessTracingAspect.DEFAULT_PAYLOAD_SIZING_ENABLED;
+
+	/**
+	 * Fraction of {@link org.apache.geode.cache.Region} data access calls that are sampled, between {@literal 0.0}
+	 * (none) and {@literal 1.0} (all).
+	 *
+	 * Defaults to {@literal 1.0}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.sample-rate} property
+	 * in {@literal application.properties}.
+	 */
+	double sampleRate() default RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE;
+
+	/**
+	 * Fractions of calls sampled per {@link org.apache.geode.cache.Region} and operation, overriding
+	 * {@link #sampleRate()}, in the form {@literal regionName.operation=rate}, {@literal regionName=rate}
+	 * or {@literal *.operation=rate}.
+	 *
+	 * Defaults to empty.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.sample-rates} property
+	 * in {@literal application.properties}.
+	 */
+	String[] sampleRates() default {};
+
+	/**
+	 * Minimum duration in milliseconds of a sampled call for its stack trace to be captured and logged.
+	 *
+	 * Defaults to {@literal 0}, capturing the stack trace of sampled calls only while {@literal TRACE} logging
+	 * is enabled for the {@link RegionDataAccessTracingAspect}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.slow-threshold} property
+	 * in {@literal application.properties}.
+	 */
+	long slowThreshold() default RegionDataAccessTracingAspect.DEFAULT_SLOW_THRESHOLD;
+
+	/**
+	 * Maximum number of the most recent sampled calls kept in memory.
+	 *
+	 * Defaults to {@literal 1024}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.trace-buffer-capacity} property
+	 * in {@literal application.properties}.
+	 */
+	int traceBufferCapacity() default RegionDataAccessTracingAspect.DEFAULT_TRACE_BUFFER_CAPACITY;
+
 }
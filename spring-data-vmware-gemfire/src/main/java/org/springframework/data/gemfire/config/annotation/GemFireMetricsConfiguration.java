@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Annotation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
+import org.springframework.data.gemfire.metrics.MicrometerGemFireMetrics;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link GemFireMetricsConfiguration} class is a Spring {@link ImportAware} {@link Configuration} class
+ * registering {@link MicrometerGemFireMetrics} and configuring all {@link GemFireMetricsAware} beans with it.
+ *
+ * Nothing is registered, and components record nothing, when the {@literal spring.data.gemfire.metrics.enabled}
+ * property is {@literal false}.
+ *
+ * @see EnableGemFireMetrics
+ * @see GemFireMetrics
+ * @see GemFireMetricsAware
+ * @see MicrometerGemFireMetrics
+ * @since 1.0.1
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class GemFireMetricsConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	public static final String SPRING_DATA_GEMFIRE_METRICS_ENABLED = "spring.data.gemfire.metrics.enabled";
+
+	private String meterRegistryBeanName;
+
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableGemFireMetrics.class;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		if (isAnnotationPresent(importMetadata)) {
+
+			AnnotationAttributes enableGemFireMetricsAttributes = getAnnotationAttributes(importMetadata);
+
+			this.meterRegistryBeanName = resolveProperty(propertyName("metrics.meter-registry-bean-name"),
+				enableGemFireMetricsAttributes.getString("meterRegistryBeanName"));
+		}
+	}
+
+	@Bean
+	@Conditional(GemFireMetricsEnabledCondition.class)
+	public GemFireMetrics gemfireMetrics(ObjectProvider<MeterRegistry> meterRegistries) {
+
+		MeterRegistry meterRegistry = StringUtils.hasText(this.meterRegistryBeanName)
+			? getBeanFactory().getBean(this.meterRegistryBeanName, MeterRegistry.class)
+			: meterRegistries.getIfUnique(() -> Metrics.globalRegistry);
+
+		return new MicrometerGemFireMetrics(meterRegistry);
+	}
+
+	/**
+	 * Declared {@literal static} so that registering the {@link BeanPostProcessor} does not instantiate
+	 * this {@link Configuration} class early; {@link GemFireMetrics} is only looked up when the first
+	 * {@link GemFireMetricsAware} bean is post processed.
+	 *
+	 * @param metricsProvider {@link ObjectProvider} used to lazily look up the {@link GemFireMetrics} bean.
+	 * @return the {@link BeanPostProcessor} configuring {@link GemFireMetricsAware} beans.
+	 */
+	@Bean
+	@Conditional(GemFireMetricsEnabledCondition.class)
+	public static BeanPostProcessor gemfireMetricsBeanPostProcessor(ObjectProvider<GemFireMetrics> metricsProvider) {
+
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+				if (bean instanceof GemFireMetricsAware) {
+					((GemFireMetricsAware) bean).setMetrics(metricsProvider.getObject());
+				}
+
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * A Spring {@link Condition} determining whether metrics are enabled with
+	 * the {@literal spring.data.gemfire.metrics.enabled} property.
+	 *
+	 * @see Condition
+	 */
+	public static class GemFireMetricsEnabledCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return context.getEnvironment().getProperty(SPRING_DATA_GEMFIRE_METRICS_ENABLED, Boolean.class, true);
+		}
+	}
+}
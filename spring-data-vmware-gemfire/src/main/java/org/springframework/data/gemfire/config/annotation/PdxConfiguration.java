@@ -61,6 +61,7 @@ public class PdxConfiguration extends AbstractAnnotationConfigSupport implements
 	public static final boolean DEFAULT_IGNORE_UNREAD_FIELDS = false;
 	public static final boolean DEFAULT_PERSISTENT = false;
 	public static final boolean DEFAULT_READ_SERIALIZED = false;
+	public static final boolean DEFAULT_TYPED_FIELD_ACCESS = false;
 
 	public static final String DEFAULT_PDX_DISK_STORE_NAME = "";
 	public static final String DEFAULT_PDX_SERIALIZER_BEAN_NAME = "";
@@ -68,6 +69,7 @@ public class PdxConfiguration extends AbstractAnnotationConfigSupport implements
 	private Boolean ignoreUnreadFields;
 	private Boolean persistent;
 	private Boolean readSerialized;
+	private Boolean typedFieldAccess;
 
 	private Class<?>[] includeDomainTypes = {};
 
@@ -117,6 +119,11 @@ public class PdxConfiguration extends AbstractAnnotationConfigSupport implements
 				enablePdxAttributes.containsKey("serializerBeanName")
 					? enablePdxAttributes.getString("serializerBeanName")
 					: null));
+
+			setTypedFieldAccess(resolveProperty(pdxProperty("typed-field-access"),
+				enablePdxAttributes.containsKey("typedFieldAccess")
+					? enablePdxAttributes.getBoolean("typedFieldAccess")
+					: DEFAULT_TYPED_FIELD_ACCESS));
 		}
 	}
 
@@ -168,6 +175,14 @@ public class PdxConfiguration extends AbstractAnnotationConfigSupport implements
 		return Optional.ofNullable(this.serializerBeanName).filter(StringUtils::hasText);
 	}
 
+	void setTypedFieldAccess(Boolean typedFieldAccess) {
+		this.typedFieldAccess = typedFieldAccess;
+	}
+
+	protected boolean isTypedFieldAccess() {
+		return Boolean.TRUE.equals(this.typedFieldAccess);
+	}
+
 	@Bean
 	BeanFactoryPostProcessor pdxDiskStoreAwareBeanFactoryPostProcessor() {
 
@@ -256,6 +271,10 @@ public class PdxConfiguration extends AbstractAnnotationConfigSupport implements
 
 		if (serializer instanceof MappingPdxSerializer mappingSerializer) {
 			mappingSerializer.setIncludeTypeFilters(buildIncludeTypeFilters());
+
+			if (isTypedFieldAccess()) {
+				mappingSerializer.setTypedFieldAccess(true);
+			}
 		}
 
 		return serializer;
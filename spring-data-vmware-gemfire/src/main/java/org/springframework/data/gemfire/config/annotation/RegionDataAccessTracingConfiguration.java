@@ -4,22 +4,135 @@
  */
 package org.springframework.data.gemfire.config.annotation;
 
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
- * The RegionDataAccessTracingConfiguration class...
+ * The RegionDataAccessTracingConfiguration class is a Spring {@link ImportAware} {@link Configuration} class
+ * registering the {@link RegionDataAccessTracingAspect} configured with the {@link EnableRegionDataAccessTracing}
+ * annotation attributes.
+ *
+ * The {@link RegionDataAccessTracingAspect} is not registered at all, and {@link org.apache.geode.cache.Region Regions}
+ * are not proxied, when the {@literal spring.data.gemfire.region.data-access.tracing.enabled} property is
+ * {@literal false}.
  *
  * @author John Blum
+ * @see EnableRegionDataAccessTracing
+ * @see RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Configuration
 @SuppressWarnings("unused")
-public class RegionDataAccessTracingConfiguration {
+public class RegionDataAccessTracingConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	public static final String SPRING_DATA_GEMFIRE_REGION_DATA_ACCESS_TRACING_ENABLED =
+		"spring.data.gemfire.region.data-access.tracing.enabled";
+
+	private boolean payloadSizingEnabled = RegionDataAccessTracingAspect.DEFAULT_PAYLOAD_SIZING_ENABLED;
+
+	private double sampleRate = RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE;
+
+	private int traceBufferCapacity = RegionDataAccessTracingAspect.DEFAULT_TRACE_BUFFER_CAPACITY;
+
+	private long slowThreshold = RegionDataAccessTracingAspect.DEFAULT_SLOW_THRESHOLD;
+
+	private Map<String, Double> sampleRates = new HashMap<>();
+
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableRegionDataAccessTracing.class;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importMetadata) {
+
+		if (isAnnotationPresent(importMetadata)) {
+
+			AnnotationAttributes enableRegionDataAccessTracingAttributes = getAnnotationAttributes(importMetadata);
+
+			this.payloadSizingEnabled = resolveProperty(tracingProperty("payload-sizing-enabled"),
+				enableRegionDataAccessTracingAttributes.getBoolean("payloadSizingEnabled"));
+
+			this.sampleRate = resolveProperty(tracingProperty("sample-rate"),
+				enableRegionDataAccessTracingAttributes.<Double>getNumber("sampleRate"));
+
+			this.slowThreshold = resolveProperty(tracingProperty("slow-threshold"),
+				enableRegionDataAccessTracingAttributes.<Long>getNumber("slowThreshold"));
+
+			this.traceBufferCapacity = resolveProperty(tracingProperty("trace-buffer-capacity"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("traceBufferCapacity"));
+
+			this.sampleRates = parseSampleRates(resolveProperty(tracingProperty("sample-rates"),
+				String[].class, enableRegionDataAccessTracingAttributes.getStringArray("sampleRates")));
+		}
+	}
+
+	private String tracingProperty(String propertyNameSuffix) {
+		return propertyName("region.data-access.tracing.".concat(propertyNameSuffix));
+	}
+
+	private Map<String, Double> parseSampleRates(String[] sampleRates) {
+
+		Map<String, Double> parsedSampleRates = new HashMap<>();
+
+		for (String sampleRate : nullSafeArray(sampleRates, String.class)) {
+
+			int separatorIndex = sampleRate.lastIndexOf('=');
+
+			if (separatorIndex < 1) {
+				throw new IllegalArgumentException(String.format(
+					"Sample rate [%s] must have the form name=rate", sampleRate));
+			}
+
+			parsedSampleRates.put(sampleRate.substring(0, separatorIndex).strip(),
+				Double.valueOf(sampleRate.substring(separatorIndex + 1).strip()));
+		}
+
+		return parsedSampleRates;
+	}
 
 	@Bean
+	@Conditional(RegionDataAccessTracingEnabledCondition.class)
 	public RegionDataAccessTracingAspect regionDataAccessTracingAspect() {
-		return new RegionDataAccessTracingAspect();
+
+		RegionDataAccessTracingAspect regionDataAccessTracingAspect = new RegionDataAccessTracingAspect();
+
+		regionDataAccessTracingAspect.setPayloadSizingEnabled(this.payloadSizingEnabled);
+		regionDataAccessTracingAspect.setSampleRate(this.sampleRate);
+		regionDataAccessTracingAspect.setSampleRates(this.sampleRates);
+		regionDataAccessTracingAspect.setSlowThreshold(this.slowThreshold);
+		regionDataAccessTracingAspect.setTraceBufferCapacity(this.traceBufferCapacity);
+
+		return regionDataAccessTracingAspect;
+	}
+
+	/**
+	 * A Spring {@link Condition} determining whether {@link org.apache.geode.cache.Region} data access tracing
+	 * is enabled with the {@literal spring.data.gemfire.region.data-access.tracing.enabled} property.
+	 *
+	 * @see Condition
+	 */
+	public static class RegionDataAccessTracingEnabledCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return context.getEnvironment()
+				.getProperty(SPRING_DATA_GEMFIRE_REGION_DATA_ACCESS_TRACING_ENABLED, Boolean.class, true);
+		}
 	}
 }
@@ -5,31 +5,92 @@
 
 package org.springframework.data.gemfire.config.annotation.support;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * The RegionDataAccessTracingAspect class...
+ * Spring/AspectJ AOP Aspect tracing {@link Region} data access operations.
+ *
+ * Calls are sampled at a configurable rate, which can be set per {@link Region} and per operation.
+ * For each sampled call, the latency and number of keys are recorded in {@link OperationStatistics} per {@link Region}
+ * and operation, and the call is recorded in a bounded, in-memory buffer of the most recent {@link TraceRecord traces}.
+ * The payload size is only estimated when {@link #setPayloadSizingEnabled(boolean) payload sizing} is enabled.
+ *
+ * The stack trace of a sampled call is only captured for calls taking at least the configured
+ * {@link #setSlowThreshold(long) slow threshold} or, when no slow threshold is set, while {@literal TRACE} logging
+ * is enabled for this Aspect. A captured stack trace is logged at {@literal TRACE} level.
+ *
+ * Calls that are not sampled, and all calls while tracing is {@link #setEnabled(boolean) disabled}, proceed
+ * without recording anything.
  *
  * @author John Blum
+ * @see Aspect
+ * @see Region
+ * @see OperationStatistics
+ * @see TraceRecord
  * @since 1.0.0
  */
 @Aspect
 @SuppressWarnings("unused")
 public class RegionDataAccessTracingAspect {
 
+	public static final boolean DEFAULT_PAYLOAD_SIZING_ENABLED = false;
+
+	public static final double DEFAULT_SAMPLE_RATE = 1.0d;
+
+	public static final int DEFAULT_TRACE_BUFFER_CAPACITY = 1024;
+
+	public static final long DEFAULT_SLOW_THRESHOLD = 0L;
+
+	protected static final String ANY_REGION = "*";
+
 	private final Logger logger = newLogger();
 
+	private final ConcurrentMap<String, ConcurrentMap<String, OperationStatistics>> operationStatistics =
+		new ConcurrentHashMap<>();
+
+	private volatile boolean enabled = true;
+
+	private volatile boolean payloadSizingEnabled = DEFAULT_PAYLOAD_SIZING_ENABLED;
+
+	private volatile double sampleRate = DEFAULT_SAMPLE_RATE;
+
+	private volatile long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_THRESHOLD);
+
+	private volatile Map<String, Double> sampleRates = Collections.emptyMap();
+
+	private volatile TraceBuffer traceBuffer = new TraceBuffer(DEFAULT_TRACE_BUFFER_CAPACITY);
+
 	/* (non-Javadoc) */
 	protected Logger newLogger() {
 		return LoggerFactory.getLogger(getClass());
@@ -37,12 +98,7 @@ public class RegionDataAccessTracingAspect {
 
 	/* (non-Javadoc) */
 	protected String getCurrentThreadStackTrace() {
-
-		StringWriter writer = new StringWriter();
-
-		new Throwable().printStackTrace(new PrintWriter(writer));
-
-		return writer.toString();
+		return toString(captureStackTrace());
 	}
 
 	/* (non-Javadoc) */
@@ -50,6 +106,193 @@ public class RegionDataAccessTracingAspect {
 		return this.logger;
 	}
 
+	/**
+	 * Enables or disables tracing at runtime. While disabled, {@link Region} data access calls proceed
+	 * without being sampled or recorded.
+	 *
+	 * @param enabled boolean value indicating whether tracing is enabled.
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Determines whether tracing is enabled.
+	 *
+	 * @return a boolean value indicating whether tracing is enabled.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Sets the fraction of {@link Region} data access calls that are sampled, unless overridden for a {@link Region}
+	 * or operation by {@link #setSampleRates(Map)}.
+	 *
+	 * @param sampleRate fraction of calls sampled between {@literal 0.0} (none) and {@literal 1.0} (all).
+	 * @throws IllegalArgumentException if {@code sampleRate} is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = validateSampleRate(sampleRate);
+		this.operationStatistics.clear();
+	}
+
+	/**
+	 * Returns the fraction of {@link Region} data access calls that are sampled by default.
+	 *
+	 * @return the default fraction of sampled calls.
+	 */
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * Sets the fraction of calls sampled per {@link Region} and operation.
+	 *
+	 * Keys have the form {@literal regionName.operation}, {@literal regionName} or {@literal *.operation},
+	 * and are matched in that order, for example {@literal Customers.get=0.01} or {@literal *.putAll=1.0}.
+	 *
+	 * @param sampleRates {@link Map} of {@link Region} and operation names to the fraction of calls sampled.
+	 * @throws IllegalArgumentException if any rate is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setSampleRates(@Nullable Map<String, Double> sampleRates) {
+
+		Map<String, Double> resolvedSampleRates = new ConcurrentHashMap<>();
+
+		Optional.ofNullable(sampleRates).ifPresent(rates -> rates.forEach((name, rate) ->
+			resolvedSampleRates.put(name, validateSampleRate(rate))));
+
+		this.sampleRates = Collections.unmodifiableMap(resolvedSampleRates);
+		this.operationStatistics.clear();
+	}
+
+	/**
+	 * Returns the fraction of calls sampled per {@link Region} and operation.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link Region} and operation names to the fraction of calls sampled.
+	 */
+	public @NonNull Map<String, Double> getSampleRates() {
+		return this.sampleRates;
+	}
+
+	private double validateSampleRate(Double sampleRate) {
+
+		Assert.isTrue(sampleRate != null && sampleRate >= 0.0d && sampleRate <= 1.0d,
+			() -> String.format("Sample rate [%s] must be between 0.0 and 1.0", sampleRate));
+
+		return sampleRate;
+	}
+
+	/**
+	 * Enables or disables estimating the size of the values read or written by sampled calls.
+	 *
+	 * Sizing walks the object graph of every value with {@link ObjectSizer#DEFAULT}, which is expensive,
+	 * so it is disabled by default.
+	 *
+	 * @param payloadSizingEnabled boolean value indicating whether payload sizing is enabled.
+	 */
+	public void setPayloadSizingEnabled(boolean payloadSizingEnabled) {
+		this.payloadSizingEnabled = payloadSizingEnabled;
+	}
+
+	/**
+	 * Determines whether the size of the values read or written by sampled calls is estimated.
+	 *
+	 * @return a boolean value indicating whether payload sizing is enabled.
+	 */
+	public boolean isPayloadSizingEnabled() {
+		return this.payloadSizingEnabled;
+	}
+
+	/**
+	 * Sets the minimum duration in milliseconds of a sampled call for its stack trace to be captured and logged.
+	 *
+	 * @param slowThreshold minimum duration in milliseconds; {@literal 0} captures the stack trace of sampled calls
+	 * only while {@literal TRACE} logging is enabled.
+	 */
+	public void setSlowThreshold(long slowThreshold) {
+		this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(slowThreshold, 0L));
+	}
+
+	/**
+	 * Returns the minimum duration in milliseconds of a sampled call for its stack trace to be captured.
+	 *
+	 * @return the minimum duration in milliseconds of a sampled slow call.
+	 */
+	public long getSlowThreshold() {
+		return TimeUnit.NANOSECONDS.toMillis(this.slowThresholdNanos);
+	}
+
+	/**
+	 * Sets the maximum number of most recent {@link TraceRecord traces} kept in memory.
+	 *
+	 * @param traceBufferCapacity maximum number of traces kept; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code traceBufferCapacity} is less than {@literal 1}.
+	 */
+	public void setTraceBufferCapacity(int traceBufferCapacity) {
+
+		Assert.isTrue(traceBufferCapacity > 0,
+			() -> String.format("Trace buffer capacity [%d] must be greater than 0", traceBufferCapacity));
+
+		this.traceBuffer = new TraceBuffer(traceBufferCapacity);
+	}
+
+	/**
+	 * Returns the maximum number of most recent {@link TraceRecord traces} kept in memory.
+	 *
+	 * @return the maximum number of traces kept.
+	 */
+	public int getTraceBufferCapacity() {
+		return this.traceBuffer.capacity();
+	}
+
+	/**
+	 * Returns the {@link OperationStatistics} recorded per {@link Region} name and operation.
+	 *
+	 * @return an unmodifiable {@link Map} of {@link Region} names to the {@link OperationStatistics}
+	 * per operation.
+	 * @see OperationStatistics
+	 */
+	public @NonNull Map<String, Map<String, OperationStatistics>> getOperationStatistics() {
+
+		Map<String, Map<String, OperationStatistics>> operationStatistics = new ConcurrentHashMap<>();
+
+		this.operationStatistics.forEach((regionName, statistics) -> {
+
+			Map<String, OperationStatistics> sampledStatistics = new ConcurrentHashMap<>();
+
+			statistics.forEach((operation, operationStatistic) -> {
+				if (operationStatistic.getCount() > 0L) {
+					sampledStatistics.put(operation, operationStatistic);
+				}
+			});
+
+			if (!sampledStatistics.isEmpty()) {
+				operationStatistics.put(regionName, Collections.unmodifiableMap(sampledStatistics));
+			}
+		});
+
+		return Collections.unmodifiableMap(operationStatistics);
+	}
+
+	/**
+	 * Returns the most recent {@link TraceRecord traces}, oldest first.
+	 *
+	 * @return a {@link List} of the most recent {@link TraceRecord traces}.
+	 * @see TraceRecord
+	 */
+	public @NonNull List<TraceRecord> getRecentTraces() {
+		return this.traceBuffer.toList();
+	}
+
+	/**
+	 * Discards all recorded {@link OperationStatistics} and {@link TraceRecord traces}.
+	 */
+	public void reset() {
+		this.operationStatistics.clear();
+		this.traceBuffer = new TraceBuffer(this.traceBuffer.capacity());
+	}
+
 	/* (non-Javadoc) */
 	@Pointcut("target(org.apache.geode.cache.Region)")
 	private void regionPointcut() {}
@@ -80,10 +323,189 @@ public class RegionDataAccessTracingAspect {
 	private void regionDataAccessPointcut() {}
 
 	/* (non-Javadoc) */
-	@Before("regionPointcut() && regionDataAccessPointcut()")
-	public void regionDataAccessTracingAdvice(JoinPoint joinPoint) {
-		getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
-			toRegionMethodSignature(joinPoint), getCurrentThreadStackTrace());
+	@Around("regionPointcut() && regionDataAccessPointcut()")
+	public Object regionDataAccessTracingAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		if (!this.enabled) {
+			return joinPoint.proceed();
+		}
+
+		String operation = joinPoint.getSignature().getName();
+
+		OperationStatistics statistics = resolveOperationStatistics(toRegionName(joinPoint.getTarget()), operation);
+
+		double sampleRate = statistics.getSampleRate();
+
+		if (sampleRate <= 0.0d || (sampleRate < 1.0d && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+			return joinPoint.proceed();
+		}
+
+		Object result = null;
+		Throwable failure = null;
+
+		long startTime = System.nanoTime();
+
+		try {
+			result = joinPoint.proceed();
+			return result;
+		}
+		catch (Throwable cause) {
+			failure = cause;
+			throw cause;
+		}
+		finally {
+			record(joinPoint, statistics, System.nanoTime() - startTime, result, failure);
+		}
+	}
+
+	private OperationStatistics resolveOperationStatistics(String regionName, String operation) {
+
+		ConcurrentMap<String, OperationStatistics> regionStatistics =
+			this.operationStatistics.computeIfAbsent(regionName, it -> new ConcurrentHashMap<>());
+
+		OperationStatistics statistics = regionStatistics.get(operation);
+
+		return statistics != null ? statistics : regionStatistics.computeIfAbsent(operation,
+			it -> new OperationStatistics(regionName, operation, resolveSampleRate(regionName, operation)));
+	}
+
+	private double resolveSampleRate(String regionName, String operation) {
+
+		Map<String, Double> sampleRates = this.sampleRates;
+
+		Double sampleRate = sampleRates.get(regionName + "." + operation);
+
+		sampleRate = sampleRate != null ? sampleRate : sampleRates.get(regionName);
+		sampleRate = sampleRate != null ? sampleRate : sampleRates.get(ANY_REGION + "." + operation);
+
+		return sampleRate != null ? sampleRate : this.sampleRate;
+	}
+
+	private void record(JoinPoint joinPoint, OperationStatistics statistics, long duration,
+			Object result, Throwable failure) {
+
+		Object[] arguments = joinPoint.getArgs();
+
+		long keyCount = resolveKeyCount(statistics.getOperation(), arguments);
+		long payloadSize = failure == null && this.payloadSizingEnabled
+			? resolvePayloadSize(statistics.getOperation(), arguments, result)
+			: -1L;
+
+		statistics.record(duration, keyCount, payloadSize, failure != null);
+
+		StackTraceElement[] stackTrace = null;
+
+		Logger logger = getLogger();
+
+		long slowThresholdNanos = this.slowThresholdNanos;
+
+		boolean captureStackTrace = slowThresholdNanos > 0L
+			? duration >= slowThresholdNanos
+			: logger.isTraceEnabled();
+
+		if (captureStackTrace) {
+
+			stackTrace = captureStackTrace();
+
+			if (logger.isTraceEnabled()) {
+				logger.trace("Region data access call [{}(..)] with stack trace [{}]",
+					toRegionMethodSignature(joinPoint), toString(stackTrace));
+			}
+		}
+
+		this.traceBuffer.add(new TraceRecord(statistics.getRegionName(), statistics.getOperation(),
+			System.currentTimeMillis(), duration, keyCount, payloadSize, failure != null, stackTrace));
+	}
+
+	private long resolveKeyCount(String operation, Object[] arguments) {
+
+		if (ObjectUtils.isEmpty(arguments)) {
+			return 0L;
+		}
+
+		Object firstArgument = arguments[0];
+
+		switch (operation) {
+			case "getAll":
+			case "removeAll":
+				return firstArgument instanceof Collection ? ((Collection<?>) firstArgument).size() : 0L;
+			case "putAll":
+				return firstArgument instanceof Map ? ((Map<?, ?>) firstArgument).size() : 0L;
+			case "query":
+			case "selectValue":
+				return 0L;
+			default:
+				return 1L;
+		}
+	}
+
+	private long resolvePayloadSize(String operation, Object[] arguments, Object result) {
+
+		switch (operation) {
+			case "create":
+			case "put":
+			case "putIfAbsent":
+				return arguments.length > 1 ? sizeOf(arguments[1]) : -1L;
+			case "replace":
+				return arguments.length > 1 ? sizeOf(arguments[arguments.length - 1]) : -1L;
+			case "putAll":
+				return arguments.length > 0 && arguments[0] instanceof Map
+					? sizeOf(((Map<?, ?>) arguments[0]).values()) : -1L;
+			case "get":
+				return sizeOf(result);
+			case "getAll":
+				return result instanceof Map ? sizeOf(((Map<?, ?>) result).values()) : -1L;
+			default:
+				return -1L;
+		}
+	}
+
+	private long sizeOf(Collection<?> values) {
+
+		long size = 0L;
+
+		for (Object value : values) {
+			size += Math.max(sizeOf(value), 0L);
+		}
+
+		return size;
+	}
+
+	private long sizeOf(@Nullable Object value) {
+
+		if (value == null) {
+			return 0L;
+		}
+		else if (value instanceof byte[]) {
+			return ((byte[]) value).length;
+		}
+
+		try {
+			return ObjectSizer.DEFAULT.sizeof(value);
+		}
+		catch (RuntimeException ignore) {
+			return -1L;
+		}
+	}
+
+	private StackTraceElement[] captureStackTrace() {
+		return new Throwable().getStackTrace();
+	}
+
+	private String toString(StackTraceElement[] stackTrace) {
+
+		StringBuilder buffer = new StringBuilder(Throwable.class.getName());
+
+		for (StackTraceElement element : stackTrace) {
+			buffer.append(System.lineSeparator()).append("\tat ").append(element);
+		}
+
+		return buffer.toString();
+	}
+
+	/* (non-Javadoc) */
+	private String toRegionName(Object target) {
+		return target instanceof Region ? String.valueOf(((Region<?, ?>) target).getName()) : ANY_REGION;
 	}
 
 	/* (non-Javadoc) */
@@ -95,4 +517,256 @@ public class RegionDataAccessTracingAspect {
 				String.format("%1$s.%2$s", ObjectUtils.nullSafeClassName(joinPoint.getTarget()), signature.getName()))
 			.orElse("");
 	}
+
+	/**
+	 * Statistics of the sampled calls of a single operation on a single {@link Region}.
+	 *
+	 * Latencies are counted in a histogram of power of 2 microsecond buckets; the bucket at index {@literal i}
+	 * counts calls taking less than {@literal 2^i} microseconds and at least {@literal 2^(i-1)} microseconds.
+	 */
+	public static final class OperationStatistics {
+
+		public static final int LATENCY_BUCKET_COUNT = 32;
+
+		private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKET_COUNT);
+
+		private final double sampleRate;
+
+		private final LongAccumulator maxKeyCount = new LongAccumulator(Math::max, 0L);
+		private final LongAccumulator maxPayloadSize = new LongAccumulator(Math::max, 0L);
+		private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0L);
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder failureCount = new LongAdder();
+		private final LongAdder totalKeyCount = new LongAdder();
+		private final LongAdder totalPayloadSize = new LongAdder();
+		private final LongAdder totalTime = new LongAdder();
+
+		private final String operation;
+		private final String regionName;
+
+		OperationStatistics(String regionName, String operation, double sampleRate) {
+			this.regionName = regionName;
+			this.operation = operation;
+			this.sampleRate = sampleRate;
+		}
+
+		/**
+		 * Returns the upper bound, exclusive, in microseconds of the latency histogram bucket at the given index.
+		 *
+		 * @param index index of the latency histogram bucket.
+		 * @return the upper bound in microseconds of the latency histogram bucket.
+		 */
+		public static long getLatencyBucketUpperBound(int index) {
+			return index < LATENCY_BUCKET_COUNT - 1 ? 1L << index : Long.MAX_VALUE;
+		}
+
+		void record(long duration, long keyCount, long payloadSize, boolean failed) {
+
+			long durationMicros = TimeUnit.NANOSECONDS.toMicros(duration);
+
+			this.count.increment();
+			this.totalTime.add(duration);
+			this.maxTime.accumulate(duration);
+			this.latencyHistogram.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(durationMicros),
+				LATENCY_BUCKET_COUNT - 1));
+
+			if (keyCount > 0L) {
+				this.totalKeyCount.add(keyCount);
+				this.maxKeyCount.accumulate(keyCount);
+			}
+
+			if (payloadSize > 0L) {
+				this.totalPayloadSize.add(payloadSize);
+				this.maxPayloadSize.accumulate(payloadSize);
+			}
+
+			if (failed) {
+				this.failureCount.increment();
+			}
+		}
+
+		public String getRegionName() {
+			return this.regionName;
+		}
+
+		public String getOperation() {
+			return this.operation;
+		}
+
+		public double getSampleRate() {
+			return this.sampleRate;
+		}
+
+		public long getCount() {
+			return this.count.sum();
+		}
+
+		public long getFailureCount() {
+			return this.failureCount.sum();
+		}
+
+		public long getTotalTime(@NonNull TimeUnit timeUnit) {
+			return timeUnit.convert(this.totalTime.sum(), TimeUnit.NANOSECONDS);
+		}
+
+		public long getMaxTime(@NonNull TimeUnit timeUnit) {
+			return timeUnit.convert(this.maxTime.get(), TimeUnit.NANOSECONDS);
+		}
+
+		public long[] getLatencyHistogram() {
+
+			long[] latencyHistogram = new long[LATENCY_BUCKET_COUNT];
+
+			Arrays.setAll(latencyHistogram, this.latencyHistogram::get);
+
+			return latencyHistogram;
+		}
+
+		public long getTotalKeyCount() {
+			return this.totalKeyCount.sum();
+		}
+
+		public long getMaxKeyCount() {
+			return this.maxKeyCount.get();
+		}
+
+		public long getTotalPayloadSize() {
+			return this.totalPayloadSize.sum();
+		}
+
+		public long getMaxPayloadSize() {
+			return this.maxPayloadSize.get();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s.%2$s{count=%3$d, failures=%4$d, totalTime=%5$dus, maxTime=%6$dus}",
+				getRegionName(), getOperation(), getCount(), getFailureCount(),
+				getTotalTime(TimeUnit.MICROSECONDS), getMaxTime(TimeUnit.MICROSECONDS));
+		}
+	}
+
+	/**
+	 * Immutable record of a single sampled {@link Region} data access call.
+	 */
+	public static final class TraceRecord {
+
+		private final boolean failed;
+
+		private final long duration;
+		private final long keyCount;
+		private final long payloadSize;
+		private final long timestamp;
+
+		private final StackTraceElement[] stackTrace;
+
+		private final String operation;
+		private final String regionName;
+
+		TraceRecord(String regionName, String operation, long timestamp, long duration, long keyCount,
+				long payloadSize, boolean failed, @Nullable StackTraceElement[] stackTrace) {
+
+			this.regionName = regionName;
+			this.operation = operation;
+			this.timestamp = timestamp;
+			this.duration = duration;
+			this.keyCount = keyCount;
+			this.payloadSize = payloadSize;
+			this.failed = failed;
+			this.stackTrace = stackTrace;
+		}
+
+		public String getRegionName() {
+			return this.regionName;
+		}
+
+		public String getOperation() {
+			return this.operation;
+		}
+
+		public long getTimestamp() {
+			return this.timestamp;
+		}
+
+		public long getDuration(@NonNull TimeUnit timeUnit) {
+			return timeUnit.convert(this.duration, TimeUnit.NANOSECONDS);
+		}
+
+		public long getKeyCount() {
+			return this.keyCount;
+		}
+
+		/**
+		 * Returns the estimated size in bytes of the values read or written, or {@literal -1} if unknown
+		 * or payload sizing is disabled.
+		 *
+		 * @return the estimated size in bytes of the values read or written.
+		 */
+		public long getPayloadSize() {
+			return this.payloadSize;
+		}
+
+		public boolean isFailed() {
+			return this.failed;
+		}
+
+		/**
+		 * Returns the stack trace of the call, which is only captured for slow calls or while {@literal TRACE}
+		 * logging is enabled.
+		 *
+		 * @return the stack trace of the call, or an empty array if the stack trace was not captured.
+		 */
+		public @NonNull StackTraceElement[] getStackTrace() {
+			return this.stackTrace != null ? this.stackTrace.clone() : new StackTraceElement[0];
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s.%2$s{duration=%3$dus, keys=%4$d, payloadSize=%5$d, failed=%6$s}",
+				getRegionName(), getOperation(), getDuration(TimeUnit.MICROSECONDS), getKeyCount(),
+				getPayloadSize(), isFailed());
+		}
+	}
+
+	/**
+	 * Lock-free ring buffer of the most recent {@link TraceRecord traces}.
+	 */
+	private static final class TraceBuffer {
+
+		private final AtomicLong sequence = new AtomicLong(0L);
+
+		private final AtomicReferenceArray<TraceRecord> traces;
+
+		TraceBuffer(int capacity) {
+			this.traces = new AtomicReferenceArray<>(capacity);
+		}
+
+		int capacity() {
+			return this.traces.length();
+		}
+
+		void add(TraceRecord trace) {
+			this.traces.set((int) (this.sequence.getAndIncrement() % capacity()), trace);
+		}
+
+		List<TraceRecord> toList() {
+
+			long sequence = this.sequence.get();
+			int capacity = capacity();
+
+			List<TraceRecord> traces = new ArrayList<>(capacity);
+
+			for (long index = Math.max(sequence - capacity, 0L); index < sequence; index++) {
+
+				TraceRecord trace = this.traces.get((int) (index % capacity));
+
+				if (trace != null) {
+					traces.add(trace);
+				}
+			}
+
+			return traces;
+		}
+	}
 }
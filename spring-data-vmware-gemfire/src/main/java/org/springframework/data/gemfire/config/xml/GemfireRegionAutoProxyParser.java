@@ -41,6 +41,7 @@ class GemfireRegionAutoProxyParser implements BeanDefinitionParser {
 
 		ParsingUtils.setPropertyValue(element, jsonRegionAdviceBuilder, "pretty-print");
 		ParsingUtils.setPropertyValue(element, jsonRegionAdviceBuilder, "convert-returned-collections");
+		ParsingUtils.setPropertyReference(element, jsonRegionAdviceBuilder, "object-mapper-ref", "objectMapper");
 
 		String regionNames = element.getAttribute("included-regions");
 
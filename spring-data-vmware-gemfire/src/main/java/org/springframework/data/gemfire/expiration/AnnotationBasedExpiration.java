@@ -6,6 +6,9 @@ package org.springframework.data.gemfire.expiration;
 
 import java.lang.annotation.Annotation;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
 import org.apache.geode.cache.CustomExpiry;
 import org.apache.geode.cache.ExpirationAction;
@@ -26,10 +29,14 @@ import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeConverter;
 import org.springframework.expression.spel.support.StandardTypeLocator;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -39,6 +46,10 @@ import org.springframework.util.ObjectUtils;
  * by introspecting the {@link Region} entry's class type and reflecting on any {@link Region} entries annotated
  * with SDG's Expiration-based Annotations.
  *
+ * The expiration policy is resolved once per {@link Region} entry value {@link Class type} and cached.
+ * Timeouts and actions declared as Spring Expression Language (SpEL) expressions are parsed once per type
+ * and evaluated on every call.
+ *
  * @author John Blum
  * @see Annotation
  * @see BeanFactory
@@ -65,6 +76,10 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	//private ExpirationAttributes defaultExpirationAttributes = ExpirationAttributes.DEFAULT;
 	private ExpirationAttributes defaultExpirationAttributes;
 
+	private volatile ClassValue<ExpirationMetaDataResolver> expirationResolvers;
+	private volatile ClassValue<ExpirationMetaDataResolver> idleTimeoutResolvers;
+	private volatile ClassValue<ExpirationMetaDataResolver> timeToLiveResolvers;
+
 	/**
 	 * Constructs a new instance of the AnnotationBasedExpiration class with no default expiration policy.
 	 */
@@ -81,6 +96,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 */
 	public AnnotationBasedExpiration(ExpirationAttributes defaultExpirationAttributes) {
 		this.defaultExpirationAttributes = defaultExpirationAttributes;
+		initExpirationMetaDataResolvers();
 	}
 
 	/**
@@ -122,9 +138,9 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			@Override
 			protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
 
-				return isIdleTimeoutConfigured(entry)
-					? ExpirationMetaData.from(getIdleTimeout(entry))
-					: super.getExpirationMetaData(entry);
+				ExpirationMetaData expirationMetaData = getIdleTimeoutExpirationMetaData(entry);
+
+				return expirationMetaData != null ? expirationMetaData : super.getExpirationMetaData(entry);
 			}
 		};
 	}
@@ -168,9 +184,9 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			@Override
 			protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
 
-				return isTimeToLiveConfigured(entry)
-					? ExpirationMetaData.from(getTimeToLive(entry))
-					: super.getExpirationMetaData(entry);
+				ExpirationMetaData expirationMetaData = getTimeToLiveExpirationMetaData(entry);
+
+				return expirationMetaData != null ? expirationMetaData : super.getExpirationMetaData(entry);
 			}
 		};
 	}
@@ -224,6 +240,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		BEAN_FACTORY_REFERENCE.set(beanFactory);
 		initEvaluationContext();
+		initExpirationMetaDataResolvers();
 	}
 
 	/**
@@ -291,7 +308,75 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 * @see ExpirationMetaData
 	 */
 	protected ExpirationMetaData getExpirationMetaData(Region.Entry<K, V> entry) {
-		return isExpirationConfigured(entry) ? ExpirationMetaData.from(getExpiration(entry)) : null;
+		return resolveExpirationMetaData(entry, this.expirationResolvers);
+	}
+
+	/**
+	 * Gets the Idle Timeout (TTI) expiration policy meta-data for the given {@link Region} entry.
+	 *
+	 * @param entry {@link Region} entry used as the source of the expiration policy meta-data.
+	 * @return {@link ExpirationMetaData} resolved from the {@link IdleTimeoutExpiration} Annotation
+	 * or {@literal null} if the {@link Region} entry value has not been annotated with @IdleTimeoutExpiration.
+	 * @see IdleTimeoutExpiration
+	 * @see ExpirationMetaData
+	 */
+	protected ExpirationMetaData getIdleTimeoutExpirationMetaData(Region.Entry<K, V> entry) {
+		return resolveExpirationMetaData(entry, this.idleTimeoutResolvers);
+	}
+
+	/**
+	 * Gets the Time-To-Live (TTL) expiration policy meta-data for the given {@link Region} entry.
+	 *
+	 * @param entry {@link Region} entry used as the source of the expiration policy meta-data.
+	 * @return {@link ExpirationMetaData} resolved from the {@link TimeToLiveExpiration} Annotation
+	 * or {@literal null} if the {@link Region} entry value has not been annotated with @TimeToLiveExpiration.
+	 * @see TimeToLiveExpiration
+	 * @see ExpirationMetaData
+	 */
+	protected ExpirationMetaData getTimeToLiveExpirationMetaData(Region.Entry<K, V> entry) {
+		return resolveExpirationMetaData(entry, this.timeToLiveResolvers);
+	}
+
+	private @Nullable ExpirationMetaData resolveExpirationMetaData(@Nullable Region.Entry<K, V> entry,
+			@NonNull ClassValue<ExpirationMetaDataResolver> resolvers) {
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		return value != null ? resolvers.get(value.getClass()).resolve() : null;
+	}
+
+	private static @NonNull <T extends Annotation> ClassValue<ExpirationMetaDataResolver> newExpirationMetaDataResolvers(
+			@NonNull Class<T> annotationType, @NonNull Function<T, String> timeout, @NonNull Function<T, String> action) {
+
+		return new ClassValue<>() {
+
+			@Override
+			protected ExpirationMetaDataResolver computeValue(Class<?> type) {
+
+				if (type.isAnnotationPresent(annotationType)) {
+
+					T annotation = AnnotationUtils.getAnnotation(type, annotationType);
+
+					return new ExpirationMetaDataResolver(
+						ExpirationMetaData.timeoutResolver(timeout.apply(annotation)),
+						ExpirationMetaData.actionResolver(action.apply(annotation)));
+				}
+
+				return ExpirationMetaDataResolver.NONE;
+			}
+		};
+	}
+
+	private void initExpirationMetaDataResolvers() {
+
+		this.expirationResolvers = newExpirationMetaDataResolvers(
+			Expiration.class, Expiration::timeout, Expiration::action);
+
+		this.idleTimeoutResolvers = newExpirationMetaDataResolvers(
+			IdleTimeoutExpiration.class, IdleTimeoutExpiration::timeout, IdleTimeoutExpiration::action);
+
+		this.timeToLiveResolvers = newExpirationMetaDataResolvers(
+			TimeToLiveExpiration.class, TimeToLiveExpiration::timeout, TimeToLiveExpiration::action);
 	}
 
 	/**
@@ -439,10 +524,15 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 		private static final ExpirationActionConverter EXPIRATION_ACTION_CONVERTER = new ExpirationActionConverter();
 
+		private static final SpelExpressionParser SPEL_EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, AnnotationBasedExpiration.class.getClassLoader()));
+
 		private final int timeout;
 
 		private final ExpirationActionType action;
 
+		private volatile ExpirationAttributes expirationAttributes;
+
 		protected ExpirationMetaData(int timeout, ExpirationActionType action) {
 			this.timeout = timeout;
 			this.action = action;
@@ -466,29 +556,52 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		}
 
 		public ExpirationAttributes toExpirationAttributes() {
-			return new ExpirationAttributes(timeout(), expirationAction());
+
+			ExpirationAttributes expirationAttributes = this.expirationAttributes;
+
+			if (expirationAttributes == null) {
+				expirationAttributes = new ExpirationAttributes(timeout(), expirationAction());
+				this.expirationAttributes = expirationAttributes;
+			}
+
+			return expirationAttributes;
 		}
 
-		@SuppressWarnings("all")
 		protected static int parseTimeout(String timeout) {
+			return timeoutResolver(timeout).getAsInt();
+		}
+
+		/**
+		 * Resolves the given {@link String timeout} into an {@link IntSupplier} evaluating the timeout.
+		 *
+		 * Numeric and property placeholder timeouts are resolved once while Spring Expressions (SpEL)
+		 * are parsed once and evaluated each time the {@link IntSupplier} is called.
+		 */
+		@SuppressWarnings("all")
+		static IntSupplier timeoutResolver(String timeout) {
 
 			try {
-				return Integer.parseInt(timeout);
+				int resolvedTimeout = Integer.parseInt(timeout);
+				return () -> resolvedTimeout;
 			}
 			catch (NumberFormatException cause) {
 
 				try {
 					// Next, try to parse the 'timeout' as a Spring Expression using SpEL.
-					return new SpelExpressionParser()
-						.parseExpression(timeout)
-						.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
+					Expression expression = SPEL_EXPRESSION_PARSER.parseExpression(timeout);
+
+					return (IntSupplier & DynamicValue) () ->
+						expression.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
 				}
 				catch (ParseException e) {
 
 					// Finally, try to process the 'timeout' as a Spring Property Placeholder.
 					if (BEAN_FACTORY_REFERENCE.get() instanceof ConfigurableBeanFactory) {
-						return Integer.parseInt(((ConfigurableBeanFactory) BEAN_FACTORY_REFERENCE.get())
+
+						int resolvedTimeout = Integer.parseInt(((ConfigurableBeanFactory) BEAN_FACTORY_REFERENCE.get())
 							.resolveEmbeddedValue(timeout));
+
+						return () -> resolvedTimeout;
 					}
 
 					throw cause;
@@ -497,9 +610,22 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		}
 
 		protected static ExpirationActionType parseAction(String action) {
+			return actionResolver(action).get();
+		}
+
+		/**
+		 * Resolves the given {@link String action} into a {@link Supplier} evaluating the {@link ExpirationActionType}.
+		 *
+		 * {@link ExpirationActionType} names and property placeholder actions are resolved once while
+		 * Spring Expressions (SpEL) are parsed once and evaluated each time the {@link Supplier} is called.
+		 */
+		static Supplier<ExpirationActionType> actionResolver(String action) {
 
 			try {
-				return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(action));
+				ExpirationActionType resolvedAction =
+					ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(action));
+
+				return () -> resolvedAction;
 			}
 			catch (IllegalArgumentException cause) {
 
@@ -507,26 +633,12 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 				EvaluationException evaluationException = new EvaluationException(String.format(
 					"[%s] is not resolvable as an ExpirationAction(Type)", action), cause);
 
-				EvaluationContext evaluationContext = EVALUATION_CONTEXT_REFERENCE.get();
-
 				try {
 
-					Expression expression = new SpelExpressionParser().parseExpression(action);
-
-					Class<?> valueType = expression.getValueType(evaluationContext);
+					Expression expression = SPEL_EXPRESSION_PARSER.parseExpression(action);
 
-					if (String.class.equals(valueType)) {
-						return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER
-							.convert(expression.getValue(evaluationContext, String.class)));
-					}
-					else if (ExpirationAction.class.equals(valueType)) {
-						return ExpirationActionType.valueOf(expression.getValue(evaluationContext, ExpirationAction.class));
-					}
-					else if (ExpirationActionType.class.equals(valueType)) {
-						return expression.getValue(evaluationContext, ExpirationActionType.class);
-					}
-
-					throw evaluationException;
+					return (Supplier<ExpirationActionType> & DynamicValue) () ->
+						evaluateAction(expression, evaluationException);
 				}
 				catch (ParseException e) {
 
@@ -537,7 +649,10 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 							String resolvedValue =
 								((ConfigurableBeanFactory) BEAN_FACTORY_REFERENCE.get()).resolveEmbeddedValue(action);
 
-							return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(resolvedValue));
+							ExpirationActionType resolvedAction =
+								ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER.convert(resolvedValue));
+
+							return () -> resolvedAction;
 						}
 						catch (IllegalArgumentException ignore) {
 						}
@@ -548,6 +663,32 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			}
 		}
 
+		private static ExpirationActionType evaluateAction(Expression expression,
+				EvaluationException evaluationException) {
+
+			EvaluationContext evaluationContext = EVALUATION_CONTEXT_REFERENCE.get();
+
+			Class<?> valueType = expression.getValueType(evaluationContext);
+
+			if (String.class.equals(valueType)) {
+				return ExpirationActionType.valueOf(EXPIRATION_ACTION_CONVERTER
+					.convert(expression.getValue(evaluationContext, String.class)));
+			}
+			else if (ExpirationAction.class.equals(valueType)) {
+				return ExpirationActionType.valueOf(expression.getValue(evaluationContext, ExpirationAction.class));
+			}
+			else if (ExpirationActionType.class.equals(valueType)) {
+				return expression.getValue(evaluationContext, ExpirationActionType.class);
+			}
+
+			throw evaluationException;
+		}
+
+		/**
+		 * Marker interface for timeout and action resolvers evaluating a Spring Expression on every call.
+		 */
+		interface DynamicValue { }
+
 		public ExpirationActionType action() {
 			return action;
 		}
@@ -603,4 +744,42 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 				getClass().getName(), timeout(), action());
 		}
 	}
+
+	/**
+	 * Resolves the {@link ExpirationMetaData} of the expiration policy declared on a {@link Region} entry value
+	 * {@link Class type}.
+	 */
+	private static final class ExpirationMetaDataResolver {
+
+		private static final ExpirationMetaDataResolver NONE = new ExpirationMetaDataResolver(null, null);
+
+		private final IntSupplier timeout;
+
+		private final Supplier<ExpirationActionType> action;
+
+		private final ExpirationMetaData expirationMetaData;
+
+		private ExpirationMetaDataResolver(IntSupplier timeout, Supplier<ExpirationActionType> action) {
+
+			this.timeout = timeout;
+			this.action = action;
+
+			// Expiration policies without Spring Expressions resolve to the same ExpirationMetaData on every call
+			this.expirationMetaData = timeout != null && action != null && isConstant(timeout, action)
+				? new ExpirationMetaData(timeout.getAsInt(), action.get())
+				: null;
+		}
+
+		private static boolean isConstant(IntSupplier timeout, Supplier<ExpirationActionType> action) {
+			return !(timeout instanceof ExpirationMetaData.DynamicValue)
+				&& !(action instanceof ExpirationMetaData.DynamicValue);
+		}
+
+		@Nullable ExpirationMetaData resolve() {
+
+			return this.expirationMetaData != null ? this.expirationMetaData
+				: this.timeout != null ? new ExpirationMetaData(this.timeout.getAsInt(), this.action.get())
+				: null;
+		}
+	}
 }
@@ -13,23 +13,33 @@ import java.util.List;
 
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
  * Sends {@link Collection} {@link Function} results using a {@link ResultSender} in chunks
- * determined by {@code batchSize}.
+ * determined by {@code batchSize} and an (optional) {@code batchBytes} budget.
+ *
+ * Results given as an {@link Iterator} are pulled lazily, one chunk at a time, so that only a single chunk
+ * is held in memory. When a {@code batchBytes} budget is configured, a chunk is sent as soon as the estimated
+ * size of its results, as determined by the {@link ObjectSizer}, reaches the budget.
  *
  * @author David Turanski
  * @author Udo Kohlmeyer
  * @author John Blum
+ * @see ObjectSizer
  * @since 1.3.0
  */
 class BatchingResultSender {
 
 	private final int batchSize;
 
+	private final long batchBytes;
+
+	private final ObjectSizer objectSizer;
+
 	private ResultSender<Object> resultSender;
 
 	/**
@@ -43,14 +53,49 @@ class BatchingResultSender {
 	 * @see ResultSender
 	 */
 	public BatchingResultSender(int batchSize, ResultSender<Object> resultSender) {
+		this(batchSize, 0L, resultSender);
+	}
+
+	/**
+	 * Constructs a new instance of {@link BatchingResultSender} initialized with the given {@link Integer batch size},
+	 * {@link Long batch bytes} budget and {@link ResultSender} object used to delegate all send operations.
+	 *
+	 * @param batchSize {@link Integer} specifying the maximum number of results in a chunk;
+	 * {@literal 0} for no limit.
+	 * @param batchBytes {@link Long} specifying the estimated size in bytes at which a chunk is sent;
+	 * {@literal 0} for no limit.
+	 * @param resultSender {@link ResultSender} used to delegate all send operations.
+	 * @throws IllegalArgumentException if {@link ResultSender} is {@literal null}
+	 * or {@code batchSize} or {@code batchBytes} are less than {@literal 0}.
+	 * @see ResultSender
+	 */
+	public BatchingResultSender(int batchSize, long batchBytes, ResultSender<Object> resultSender) {
+		this(batchSize, batchBytes, ObjectSizer.DEFAULT, resultSender);
+	}
+
+	BatchingResultSender(int batchSize, long batchBytes, ObjectSizer objectSizer, ResultSender<Object> resultSender) {
 
 		Assert.notNull(resultSender, "ResultSender must not be null");
 		Assert.isTrue(batchSize >= 0, "batchSize must be greater than equal to 0");
+		Assert.isTrue(batchBytes >= 0L, "batchBytes must be greater than equal to 0");
+		Assert.notNull(objectSizer, "ObjectSizer must not be null");
 
 		this.batchSize = batchSize;
+		this.batchBytes = batchBytes;
+		this.objectSizer = objectSizer;
 		this.resultSender = resultSender;
 	}
 
+	/**
+	 * Returns the configured {@link Long batchBytes} budget of this batching {@link ResultSender}.
+	 *
+	 * @return a {@link Long} value specifying the estimated size in bytes at which a chunk is sent,
+	 * or {@literal 0} if chunks are not limited in size.
+	 */
+	public long getBatchBytes() {
+		return this.batchBytes;
+	}
+
 	/**
 	 * Returns the configured {@link Integer batchSize} of this batching {@link ResultSender}.
 	 *
@@ -76,7 +121,7 @@ class BatchingResultSender {
 	}
 
 	protected boolean isBatchingEnabled() {
-		return getBatchSize() > 0;
+		return getBatchSize() > 0 || getBatchBytes() > 0L;
 	}
 
 	protected boolean doNotSendChunks(boolean resultSetIsEmpty) {
@@ -85,34 +130,76 @@ class BatchingResultSender {
 
 	public void sendResults(Iterable<?> result) {
 
-		ResultSender<Object> resultSender = getResultSender();
-
 		if (doNotSendChunks(!result.iterator().hasNext())) {
-			resultSender.lastResult(result);
+			getResultSender().lastResult(result);
 		}
 		else {
+			sendChunks(result.iterator());
+		}
+	}
 
-			int batchSize = getBatchSize();
+	/**
+	 * Sends the results pulled lazily from the given {@link Iterator}.
+	 *
+	 * When batching is disabled, all results are collected and sent as a single {@link List}.
+	 *
+	 * @param results {@link Iterator} over the {@link Function} results to send.
+	 * @see #sendResults(Iterable)
+	 */
+	public void sendResults(Iterator<?> results) {
 
-			List<Object> chunk = new ArrayList<>(batchSize);
+		if (isBatchingDisabled()) {
 
-			for (Iterator<?> it = result.iterator(); it.hasNext(); ) {
+			List<Object> allResults = new ArrayList<>();
 
-				if (chunk.size() < batchSize) {
-					chunk.add(it.next());
-				}
+			results.forEachRemaining(allResults::add);
+			getResultSender().lastResult(allResults);
+		}
+		else if (!results.hasNext()) {
+			getResultSender().lastResult(new ArrayList<>(0));
+		}
+		else {
+			sendChunks(results);
+		}
+	}
 
-				if (chunk.size() == batchSize || !it.hasNext()) {
+	private void sendChunks(Iterator<?> results) {
 
-					if (it.hasNext()) {
-						resultSender.sendResult(chunk);
-					}
-					else {
-						resultSender.lastResult(chunk);
-					}
+		ResultSender<Object> resultSender = getResultSender();
+
+		int batchSize = getBatchSize();
+		int initialChunkCapacity = batchSize > 0 ? batchSize : 16;
+
+		long batchBytes = getBatchBytes();
+		long chunkBytes = 0L;
+
+		List<Object> chunk = new ArrayList<>(initialChunkCapacity);
+
+		while (results.hasNext()) {
+
+			Object result = results.next();
+
+			chunk.add(result);
 
-					chunk.clear();
+			if (batchBytes > 0L) {
+				chunkBytes += sizeOf(result);
+			}
+
+			boolean chunkIsFull = (batchSize > 0 && chunk.size() >= batchSize)
+				|| (batchBytes > 0L && chunkBytes >= batchBytes);
+
+			if (chunkIsFull || !results.hasNext()) {
+
+				if (results.hasNext()) {
+					resultSender.sendResult(chunk);
 				}
+				else {
+					resultSender.lastResult(chunk);
+				}
+
+				// A new chunk is required since results sent to a local ResultCollector are not copied
+				chunk = new ArrayList<>(initialChunkCapacity);
+				chunkBytes = 0L;
 			}
 		}
 	}
@@ -131,11 +218,9 @@ class BatchingResultSender {
 		}
 		else {
 
-			int batchSize = getBatchSize();
+			for (int from = 0; from < arrayLength; ) {
 
-			for (int from = 0; from < arrayLength; from += batchSize) {
-
-				int to = Math.min(arrayLength, from + batchSize);
+				int to = resolveArrayChunkEnd(result, from, arrayLength);
 
 				Object chunk = copyOfRange(result, from, to);
 
@@ -145,10 +230,69 @@ class BatchingResultSender {
 				else {
 					resultSender.sendResult(chunk);
 				}
+
+				from = to;
 			}
 		}
 	}
 
+	private int resolveArrayChunkEnd(Object result, int from, int arrayLength) {
+
+		int batchSize = getBatchSize();
+		int to = batchSize > 0 ? Math.min(arrayLength, from + batchSize) : arrayLength;
+
+		long batchBytes = getBatchBytes();
+
+		if (batchBytes > 0L) {
+
+			Class<?> componentType = result.getClass().getComponentType();
+
+			if (componentType.isPrimitive()) {
+
+				long elementsInBudget = Math.max(1L, batchBytes / primitiveSizeOf(componentType));
+
+				to = (int) Math.min(to, from + elementsInBudget);
+			}
+			else {
+
+				Object[] array = (Object[]) result;
+
+				long chunkBytes = 0L;
+
+				for (int index = from; index < to; index++) {
+
+					chunkBytes += sizeOf(array[index]);
+
+					if (chunkBytes >= batchBytes) {
+						return index + 1;
+					}
+				}
+			}
+		}
+
+		return to;
+	}
+
+	private long sizeOf(Object result) {
+		return result != null ? this.objectSizer.sizeof(result) : 0L;
+	}
+
+	private int primitiveSizeOf(Class<?> primitiveType) {
+
+		if (boolean.class.equals(primitiveType) || byte.class.equals(primitiveType)) {
+			return Byte.BYTES;
+		}
+		else if (short.class.equals(primitiveType) || char.class.equals(primitiveType)) {
+			return Short.BYTES;
+		}
+		else if (int.class.equals(primitiveType) || float.class.equals(primitiveType)) {
+			return Integer.BYTES;
+		}
+		else {
+			return Long.BYTES;
+		}
+	}
+
 	private Object copyOfRange(Object result, int from, int to) {
 
 		Class<?> resultType = result.getClass();
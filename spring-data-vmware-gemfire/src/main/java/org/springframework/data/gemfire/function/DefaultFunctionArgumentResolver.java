@@ -37,6 +37,21 @@ class DefaultFunctionArgumentResolver implements FunctionArgumentResolver {
 			: getArguments(functionContext);
 	}
 
+	/**
+	 * Returns the arguments passed to the {@link Function} without copying an array of arguments.
+	 *
+	 * @param functionContext {@link FunctionContext} containing the arguments passed to the {@link Function}.
+	 * @return the arguments passed to the {@link Function}; never {@literal null}.
+	 */
+	Object[] getFunctionArguments(FunctionContext functionContext) {
+
+		Object arguments = functionContext.getArguments();
+
+		return arguments instanceof Object[] ? (Object[]) arguments
+			: arguments != null ? new Object[] { arguments }
+			: EMPTY_ARRAY;
+	}
+
 	private boolean isArray(final Object value) {
 		return value != null && value.getClass().isArray();
 	}
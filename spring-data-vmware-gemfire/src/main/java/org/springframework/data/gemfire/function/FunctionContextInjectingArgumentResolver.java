@@ -21,7 +21,6 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -44,6 +43,11 @@ import org.springframework.util.Assert;
  */
 class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolver {
 
+	private static final int FILTER_ARGUMENT = -1;
+	private static final int FUNCTION_CONTEXT_ARGUMENT = -2;
+	private static final int REGION_ARGUMENT = -3;
+	private static final int RESULT_SENDER_ARGUMENT = -4;
+
 	private final Logger logger = LoggerFactory.getLogger(FunctionContextInjectingArgumentResolver.class);
 
 	private final int filterParameterPosition;
@@ -51,6 +55,12 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 	private final int regionParameterPosition;
 	private final int resultSenderParameterPosition;
 
+	private final int functionArgumentCount;
+	private final int regionFunctionArgumentCount;
+
+	private final int[] argumentLayout;
+	private final int[] regionArgumentLayout;
+
 	private final Method method;
 
 	FunctionContextInjectingArgumentResolver(Method method) {
@@ -82,6 +92,62 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 		functionContextParameterPosition = getArgumentTypePosition(method, FunctionContext.class);
 
 		resultSenderParameterPosition = getArgumentTypePosition(method, ResultSender.class);
+
+		argumentLayout = newArgumentLayout(method, false);
+		regionArgumentLayout = newArgumentLayout(method, true);
+
+		functionArgumentCount = countFunctionArguments(argumentLayout);
+		regionFunctionArgumentCount = countFunctionArguments(regionArgumentLayout);
+	}
+
+	/**
+	 * Determines, for each parameter of the {@link Method}, either the index of the {@link Function} argument
+	 * passed for the parameter or the kind of {@link FunctionContext} object injected into the parameter.
+	 *
+	 * @param method {@link Function} {@link Method}.
+	 * @param regionFunctionContext boolean value indicating whether the {@link Function} is executed
+	 * with a {@link RegionFunctionContext}, in which case the {@link Region} and filter are injected.
+	 * @return an array with an element for each parameter of the {@link Method}.
+	 */
+	private int[] newArgumentLayout(Method method, boolean regionFunctionContext) {
+
+		int[] argumentLayout = new int[method.getParameterCount()];
+
+		int functionArgumentIndex = 0;
+
+		for (int position = 0; position < argumentLayout.length; position++) {
+
+			if (regionFunctionContext && position == this.regionParameterPosition) {
+				argumentLayout[position] = REGION_ARGUMENT;
+			}
+			else if (regionFunctionContext && position == this.filterParameterPosition) {
+				argumentLayout[position] = FILTER_ARGUMENT;
+			}
+			else if (position == this.functionContextParameterPosition) {
+				argumentLayout[position] = FUNCTION_CONTEXT_ARGUMENT;
+			}
+			else if (position == this.resultSenderParameterPosition) {
+				argumentLayout[position] = RESULT_SENDER_ARGUMENT;
+			}
+			else {
+				argumentLayout[position] = functionArgumentIndex++;
+			}
+		}
+
+		return argumentLayout;
+	}
+
+	private int countFunctionArguments(int[] argumentLayout) {
+
+		int count = 0;
+
+		for (int slot : argumentLayout) {
+			if (slot >= 0) {
+				count++;
+			}
+		}
+
+		return count;
 	}
 
 	@Override
@@ -92,31 +158,48 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 	@Override
 	public Object[] resolveFunctionArguments(FunctionContext functionContext) {
 
-		Object[] args = super.resolveFunctionArguments(functionContext);
+		Object[] functionArguments = getFunctionArguments(functionContext);
 
-		if (functionContext instanceof RegionFunctionContext) {
-			if (this.regionParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, regionParameterPosition, getRegionForContext(
-					(RegionFunctionContext) functionContext));
-			}
+		boolean regionFunctionContext = functionContext instanceof RegionFunctionContext;
 
-			if (this.filterParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, filterParameterPosition,
-					((RegionFunctionContext) functionContext).getFilter());
-			}
-		}
+		int[] argumentLayout = regionFunctionContext ? this.regionArgumentLayout : this.argumentLayout;
 
-		if (this.functionContextParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, functionContextParameterPosition, functionContext);
-		}
+		int expectedFunctionArgumentCount = regionFunctionContext
+			? this.regionFunctionArgumentCount
+			: this.functionArgumentCount;
 
-		if (this.resultSenderParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, resultSenderParameterPosition, functionContext.getResultSender());
-		}
+		Assert.isTrue(functionArguments.length == expectedFunctionArgumentCount,
+			() -> String.format("Wrong number of arguments for method [%s]; Expected [%d], but was [%d]",
+				this.method.getName(), argumentLayout.length,
+					argumentLayout.length - expectedFunctionArgumentCount + functionArguments.length));
+
+		boolean pdxSerializerConfigured = isPdxSerializerConfigured(functionContext);
+
+		Object[] args = new Object[argumentLayout.length];
 
-		Assert.isTrue(args.length == this.method.getParameterTypes().length,
-			String.format("Wrong number of arguments for method [%s]; Expected [%d], but was [%d]",
-				this.method.getName(), this.method.getParameterTypes().length, args.length));
+		for (int position = 0; position < args.length; position++) {
+
+			int slot = argumentLayout[position];
+
+			switch (slot) {
+				case REGION_ARGUMENT:
+					args[position] = getRegionForContext((RegionFunctionContext) functionContext);
+					break;
+				case FILTER_ARGUMENT:
+					args[position] = ((RegionFunctionContext) functionContext).getFilter();
+					break;
+				case FUNCTION_CONTEXT_ARGUMENT:
+					args[position] = functionContext;
+					break;
+				case RESULT_SENDER_ARGUMENT:
+					args[position] = functionContext.getResultSender();
+					break;
+				default:
+					args[position] = pdxSerializerConfigured
+						? resolvePdxArgument(functionArguments[slot])
+						: functionArguments[slot];
+			}
+		}
 
 		return args;
 	}
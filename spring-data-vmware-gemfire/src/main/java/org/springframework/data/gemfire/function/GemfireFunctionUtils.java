@@ -231,6 +231,7 @@ public abstract class GemfireFunctionUtils {
 			new PojoFunctionWrapper(target, method, resolveFunctionId(gemfireFunctionAttributes));
 
 		configureBatchSize(target, method, gemfireFunctionAttributes, function);
+		configureBatchBytes(target, method, gemfireFunctionAttributes, function);
 		configureHighAvailability(gemfireFunctionAttributes, function);
 		configureHasResult(gemfireFunctionAttributes, function);
 		configureOptimizeForWrite(gemfireFunctionAttributes, function);
@@ -261,6 +262,21 @@ public abstract class GemfireFunctionUtils {
 		}
 	}
 
+	static void configureBatchBytes(Object target, Method method, AnnotationAttributes gemfireFunctionAttributes,
+			PojoFunctionWrapper function) {
+
+		if (gemfireFunctionAttributes.containsKey("batchBytes")) {
+
+			long batchBytes = gemfireFunctionAttributes.<Long>getNumber("batchBytes");
+
+			Assert.isTrue(batchBytes >= 0L,
+				String.format("%1$s.batchBytes [%2$d] specified on [%3$s.%4$s] must be a non-negative value",
+					GemfireFunction.class.getSimpleName(), batchBytes, target.getClass().getName(), method.getName()));
+
+			function.setBatchBytes(batchBytes);
+		}
+	}
+
 	static void configureHighAvailability(AnnotationAttributes gemfireFunctionAttributes,
 			PojoFunctionWrapper function) {
 
@@ -5,11 +5,16 @@
 package org.springframework.data.gemfire.function;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheClosedException;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.Function;
 import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxSerializer;
 
 import org.springframework.lang.NonNull;
 import org.springframework.util.ClassUtils;
@@ -27,31 +32,47 @@ import org.springframework.util.ClassUtils;
 @SuppressWarnings("unused")
 class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 
+	private final Map<String, Boolean> deserializationNecessary = new ConcurrentHashMap<>();
+
+	private volatile PdxSerializerPresence pdxSerializerPresence;
+
 	@Override
 	@SuppressWarnings("rawtypes")
 	public Object[] resolveFunctionArguments(@NonNull FunctionContext functionContext) {
 
 		Object[] functionArguments = super.resolveFunctionArguments(functionContext);
 
-		if (isPdxSerializerConfigured()) {
+		if (isPdxSerializerConfigured(functionContext)) {
 
 			int index = 0;
 
 			for (Object functionArgument : functionArguments) {
-				if (functionArgument instanceof PdxInstance) {
+				functionArguments[index++] = resolvePdxArgument(functionArgument);
+			}
+		}
+
+		return functionArguments;
+	}
+
+	/**
+	 * Deserializes the given {@link Function} argument if it is a {@link PdxInstance} of a type declared
+	 * by a parameter of the {@link #getFunctionAnnotatedMethod() Function annotated method}.
+	 *
+	 * @param functionArgument {@link Function} argument to resolve.
+	 * @return the deserialized {@link PdxInstance} or the given {@link Function} argument.
+	 */
+	Object resolvePdxArgument(Object functionArgument) {
 
-					String className = ((PdxInstance) functionArgument).getClassName();
+		if (functionArgument instanceof PdxInstance) {
 
-					if (isDeserializationNecessary(className)) {
-						functionArguments[index] = ((PdxInstance) functionArgument).getObject();
-					}
-				}
+			String className = ((PdxInstance) functionArgument).getClassName();
 
-				index++;
+			if (isDeserializationNecessary(className)) {
+				return ((PdxInstance) functionArgument).getObject();
 			}
 		}
 
-		return functionArguments;
+		return functionArgument;
 	}
 
 	@Override
@@ -59,18 +80,51 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 		throw new UnsupportedOperationException("Not Implemented");
 	}
 
-	boolean isPdxSerializerConfigured() {
+	/**
+	 * Determines whether the {@link Cache} executing the {@link Function} is configured with a {@link PdxSerializer}.
+	 *
+	 * The result is cached for the {@link Cache} instance and is only determined again when the {@link Cache}
+	 * is (re)created.
+	 *
+	 * @param functionContext {@link FunctionContext} of the executing {@link Function}.
+	 * @return a boolean value indicating whether a {@link PdxSerializer} is configured.
+	 */
+	@SuppressWarnings("rawtypes")
+	boolean isPdxSerializerConfigured(@NonNull FunctionContext functionContext) {
+
+		Cache cache = resolveCache(functionContext);
+
+		if (cache == null) {
+			return false;
+		}
+
+		PdxSerializerPresence pdxSerializerPresence = this.pdxSerializerPresence;
+
+		if (pdxSerializerPresence == null || pdxSerializerPresence.cache != cache) {
+			pdxSerializerPresence = new PdxSerializerPresence(cache, cache.getPdxSerializer() != null);
+			this.pdxSerializerPresence = pdxSerializerPresence;
+		}
+
+		return pdxSerializerPresence.configured;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Cache resolveCache(FunctionContext functionContext) {
 
 		try {
-			return (CacheFactory.getAnyInstance().getPdxSerializer() != null);
+
+			Cache cache = functionContext.getCache();
+
+			return cache != null ? cache : CacheFactory.getAnyInstance();
 		}
 		catch (CacheClosedException ignore) {
-			return false;
+			return null;
 		}
 	}
 
 	boolean isDeserializationNecessary(final String className) {
-		return (isOnClasspath(className) && functionAnnotatedMethodHasParameterOfType(className));
+		return this.deserializationNecessary.computeIfAbsent(className,
+			key -> isOnClasspath(key) && functionAnnotatedMethodHasParameterOfType(key));
 	}
 
 	boolean isOnClasspath(final String className) {
@@ -87,4 +141,16 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 
 		return false;
 	}
+
+	private static final class PdxSerializerPresence {
+
+		private final boolean configured;
+
+		private final Cache cache;
+
+		private PdxSerializerPresence(Cache cache, boolean configured) {
+			this.cache = cache;
+			this.configured = configured;
+		}
+	}
 }
@@ -9,6 +9,8 @@ import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -52,6 +54,8 @@ public class PojoFunctionWrapper implements Function {
 
 	private volatile int batchSize;
 
+	private volatile long batchBytes;
+
 	private Collection<ResourcePermission> requiredPermissions = asSet(ResourcePermissions.DATA_WRITE);
 
 	private final FunctionArgumentResolver functionArgumentResolver;
@@ -97,6 +101,14 @@ public class PojoFunctionWrapper implements Function {
 		return this.batchSize;
 	}
 
+	public void setBatchBytes(long batchBytes) {
+		this.batchBytes = batchBytes;
+	}
+
+	public long getBatchBytes() {
+		return this.batchBytes;
+	}
+
 	public void setHA(boolean HA) {
 		this.HA = HA;
 	}
@@ -175,14 +187,26 @@ public class PojoFunctionWrapper implements Function {
 		}
 		else {
 			if (ObjectUtils.isArray(result)) {
-				new BatchingResultSender(this.batchSize, resultSender).sendArrayResults(result);
+				newBatchingResultSender(resultSender).sendArrayResults(result);
 			}
 			else if (Iterable.class.isAssignableFrom(result.getClass())) {
-				new BatchingResultSender(this.batchSize, resultSender).sendResults((Iterable<?>) result);
+				newBatchingResultSender(resultSender).sendResults((Iterable<?>) result);
+			}
+			else if (result instanceof Stream) {
+				try (Stream<?> stream = (Stream<?>) result) {
+					newBatchingResultSender(resultSender).sendResults(stream.iterator());
+				}
+			}
+			else if (result instanceof Iterator) {
+				newBatchingResultSender(resultSender).sendResults((Iterator<?>) result);
 			}
 			else {
 				resultSender.lastResult(result);
 			}
 		}
 	}
+
+	private BatchingResultSender newBatchingResultSender(ResultSender<Object> resultSender) {
+		return new BatchingResultSender(this.batchSize, this.batchBytes, resultSender);
+	}
 }
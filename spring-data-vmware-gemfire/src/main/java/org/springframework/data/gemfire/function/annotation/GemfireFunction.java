@@ -43,6 +43,19 @@ public @interface GemfireFunction {
 	 */
 	int batchSize() default 0;
 
+	/**
+	 * Controls the estimated size, in bytes, of the results sent at one time.
+	 *
+	 * Results returned as a {@link java.util.stream.Stream} or {@link java.util.Iterator} are pulled lazily,
+	 * and a batch is sent once either the {@link #batchSize()} or this byte budget is reached, bounding
+	 * the results held in memory.
+	 *
+	 * @return a long value indicating the estimated size in bytes of the results sent at one time,
+	 * or {@literal 0} for no limit.
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	long batchBytes() default 0L;
+
 	/**
 	 * Attribute used to configure whether the {@link Function} is HA (Highly Available).
 	 *
@@ -8,7 +8,15 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
@@ -18,8 +26,10 @@ import org.apache.geode.cache.execute.ResultCollector;
 
 import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
 import org.springframework.data.gemfire.function.UncategorizedFunctionException;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.data.gemfire.util.SpringExtensions.ValueReturningThrowableOperation;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -41,6 +51,20 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings("unused")
 abstract class AbstractFunctionExecution {
 
+	static final int DEFAULT_ASYNC_MAX_CONCURRENCY =
+		Integer.getInteger("spring.data.gemfire.function.async.max.concurrency",
+			Math.max(Runtime.getRuntime().availableProcessors() * 4, 16));
+
+	static final int DEFAULT_ASYNC_QUEUE_CAPACITY =
+		Integer.getInteger("spring.data.gemfire.function.async.queue.capacity", 10_000);
+
+	static final int DEFAULT_STREAMING_MAX_CONCURRENCY =
+		Integer.getInteger("spring.data.gemfire.function.streaming.max.concurrency",
+			Math.max(Runtime.getRuntime().availableProcessors() * 4, 16));
+
+	static final int DEFAULT_STREAMING_QUEUE_CAPACITY =
+		Integer.getInteger("spring.data.gemfire.function.streaming.queue.capacity", 1_000);
+
 	private static final boolean DEFAULT_RETURN_RESULT = true;
 
 	private static final String FUNCTION_EXECUTION_TIMEOUT_ERROR_MESSAGE =
@@ -58,6 +82,8 @@ abstract class AbstractFunctionExecution {
 
 	private Object[] arguments;
 
+	private GemFireMetrics metrics = GemFireMetrics.NOOP;
+
 	private volatile ResultCollector<?, ?> resultCollector;
 
 	private String functionId;
@@ -107,6 +133,10 @@ abstract class AbstractFunctionExecution {
 		return this.logger;
 	}
 
+	protected GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
 	protected ResultCollector<?, ?> getResultCollector() {
 		return this.resultCollector;
 	}
@@ -151,46 +181,203 @@ abstract class AbstractFunctionExecution {
 	@SuppressWarnings({ "rawtypes" })
 	<T> Iterable<T> execute(Boolean returnResult) {
 
-		Execution execution = prepare(getExecution());
-
 		Function function = getFunction();
 
-		ResultCollector<?, ?> resultCollector = function != null
-			? execution.execute(function)
-			: execution.execute(getFunctionId());
+		GemFireMetrics.Sample sample = startSample(function);
 
-		if (hasNoResult(returnResult, function, resultCollector)) {
-			return null;
+		try {
+
+			Execution execution = prepare(getExecution());
+
+			ResultCollector<?, ?> resultCollector = function != null
+				? execution.execute(function)
+				: execution.execute(getFunctionId());
+
+			if (hasNoResult(returnResult, function, resultCollector)) {
+				sample.succeeded();
+				return null;
+			}
+
+			long timeout = getTimeout();
+
+			logDebug("Configured timeout is [{} ms]", timeout);
+			logDebug("Using ResultCollector [{}]", ObjectUtils.nullSafeClassName(resultCollector));
+
+			Iterable<T> results = null;
+
+			try {
+
+				Object result = timeout > 0
+					? SpringExtensions.<T>safeGetValue(getResultWithTimeoutThrowableOperation(resultCollector, timeout),
+						newFunctionAndInterruptedExceptionHandler(timeout))
+					: resultCollector.getResult();
+
+				results = processResult(result);
+
+				sample.succeeded(GemFireMetrics.resultCount(results));
+
+				return results;
+			}
+			catch (FunctionException cause) {
+
+				// TODO: Use a more reliable way to determine that the Function does not return a result!
+				//  This only applies to Functions registered by ID!
+				if (!cause.getMessage().contains(NO_RESULT_ERROR_MESSAGE)) {
+					throw cause;
+				}
+
+				sample.succeeded();
+
+				return results;
+			}
+		}
+		finally {
+			sample.stop();
 		}
+	}
 
-		long timeout = getTimeout();
+	@SuppressWarnings("rawtypes")
+	private GemFireMetrics.Sample startSample(Function function) {
 
-		logDebug("Configured timeout is [{} ms]", timeout);
-		logDebug("Using ResultCollector [{}]", ObjectUtils.nullSafeClassName(resultCollector));
+		GemFireMetrics metrics = getMetrics();
 
-		Iterable<T> results = null;
+		if (metrics.isEnabled()) {
 
-		try {
+			String functionId = function != null ? function.getId() : getFunctionId();
+
+			return metrics.startFunctionExecution(functionId != null ? functionId : resolveFunctionIdentifier());
+		}
+
+		return GemFireMetrics.Sample.NOOP;
+	}
+
+	/**
+	 * Returns the default {@link Executor} used to execute {@link Function Functions} asynchronously.
+	 *
+	 * The default {@link Executor} runs at most {@link #DEFAULT_ASYNC_MAX_CONCURRENCY} {@link Function}
+	 * {@link Execution Executions} at once, queueing at most {@link #DEFAULT_ASYNC_QUEUE_CAPACITY} more.
+	 *
+	 * @return the default {@link Executor} used to execute {@link Function Functions} asynchronously.
+	 */
+	static Executor getDefaultAsyncExecutor() {
+		return AsyncExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Returns the default {@link Executor} used to execute {@link Function Functions} whose results are streamed.
+	 *
+	 * The default {@link Executor} runs at most {@link #DEFAULT_STREAMING_MAX_CONCURRENCY} streaming
+	 * {@link Function} {@link Execution Executions} at once, queueing at most {@link #DEFAULT_STREAMING_QUEUE_CAPACITY}
+	 * more.
+	 *
+	 * @return the default {@link Executor} used to execute {@link Function Functions} whose results are streamed.
+	 */
+	static Executor getDefaultStreamingExecutor() {
+		return StreamingExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Executes the configured {@link Function} asynchronously on the given {@link Executor}.
+	 *
+	 * The configured {@link #getTimeout() timeout} applies as for {@link #execute()}. If the {@link Executor}
+	 * rejects the {@link Function} {@link Execution}, the returned {@link CompletableFuture} completes exceptionally
+	 * with the {@link RejectedExecutionException}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to execute the {@link Function}.
+	 * @return a {@link CompletableFuture} completing with the results from the {@link Function} {@link Execution}.
+	 * @see #execute()
+	 */
+	<T> CompletableFuture<Iterable<T>> executeAsync(Executor executor) {
+		return supplyAsync(this::execute, executor);
+	}
 
-			Object result = timeout > 0
-				? SpringExtensions.<T>safeGetValue(getResultWithTimeoutThrowableOperation(resultCollector, timeout),
-					newFunctionAndInterruptedExceptionHandler(timeout))
-				: resultCollector.getResult();
+	/**
+	 * Executes the configured {@link Function} asynchronously on the given {@link Executor} and extracts the result
+	 * as a single value.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to execute the {@link Function}.
+	 * @return a {@link CompletableFuture} completing with the result as a single value.
+	 * @see #executeAndExtract()
+	 */
+	<T> CompletableFuture<T> executeAndExtractAsync(Executor executor) {
+		return supplyAsync(this::executeAndExtract, executor);
+	}
 
-			results = processResult(result);
+	static <T> CompletableFuture<T> supplyAsync(Supplier<T> functionExecution, Executor executor) {
 
-			return results;
+		try {
+			return CompletableFuture.supplyAsync(functionExecution, executor);
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
 		}
-		catch (FunctionException cause) {
+	}
+
+	/**
+	 * Executes the configured {@link Function} and returns a {@link Stream} of the results as each result arrives,
+	 * without waiting for all members to finish.
+	 *
+	 * The {@link Function} is executed on a {@link Thread} of the given {@link Executor} since client
+	 * {@link Execution Executions} add results to the {@link ResultCollector} on the {@link Thread} executing
+	 * the {@link Function}. Any configured {@link ResultCollector} is replaced by a {@link StreamingResultCollector}.
+	 *
+	 * Only the {@link Thread} executing the {@link Function} waits while the buffer is full. Results added by
+	 * GemFire message {@link Thread Threads} in peer {@link Execution Executions} spill over the buffer capacity
+	 * rather than stall the distribution of messages.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param bufferCapacity maximum number of results buffered before the {@link Thread} executing the
+	 * {@link Function} is made to wait.
+	 * @param executor {@link Executor} used to execute the {@link Function}.
+	 * @return a blocking {@link Stream} of the results from the {@link Function} {@link Execution}.
+	 * @see StreamingResultCollector
+	 * @see Stream
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	<T> Stream<T> executeStreaming(int bufferCapacity, Executor executor) {
+
+		StreamingResultCollector<T> resultCollector =
+			new StreamingResultCollector<>(resolveFunctionIdentifier(), bufferCapacity, getTimeout());
+
+		Execution execution = prepare(getExecution()).withCollector(resultCollector);
+
+		Function function = getFunction();
+
+		Runnable functionExecution = () -> {
+
+			resultCollector.bindProducerThread(Thread.currentThread());
+
+			try {
+				if (function != null) {
 
-			// TODO: Use a more reliable way to determine that the Function does not return a result!
-			//  This only applies to Functions registered by ID!
-			if (!cause.getMessage().contains(NO_RESULT_ERROR_MESSAGE)) {
-				throw cause;
+					execution.execute(function);
+
+					if (!function.hasResult()) {
+						resultCollector.endResults();
+					}
+				}
+				else {
+					execution.execute(getFunctionId());
+				}
+			}
+			catch (RuntimeException cause) {
+				resultCollector.fail(cause);
 			}
+		};
 
-			return results;
+		try {
+			executor.execute(functionExecution);
+		}
+		catch (RejectedExecutionException cause) {
+			resultCollector.fail(new FunctionException(String.format("Failed to execute Function [%s]",
+				resolveFunctionIdentifier()), cause));
 		}
+
+		logDebug("Streaming results using a buffer capacity of [{}]", bufferCapacity);
+
+		return resultCollector.stream();
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -343,6 +530,11 @@ abstract class AbstractFunctionExecution {
 		return this;
 	}
 
+	protected AbstractFunctionExecution setMetrics(GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+		return this;
+	}
+
 	protected AbstractFunctionExecution setResultCollector(ResultCollector<?, ?> resultCollector) {
 		this.resultCollector = resultCollector;
 		return this;
@@ -361,4 +553,44 @@ abstract class AbstractFunctionExecution {
 			logger.debug(message, arguments);
 		}
 	}
+
+	private static final class AsyncExecutorHolder {
+
+		private static final ExecutorService EXECUTOR = newAsyncExecutorService();
+
+		private static ExecutorService newAsyncExecutorService() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("FunctionExecution-Async-");
+
+			threadFactory.setDaemon(true);
+
+			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(DEFAULT_ASYNC_MAX_CONCURRENCY,
+				DEFAULT_ASYNC_MAX_CONCURRENCY, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(DEFAULT_ASYNC_QUEUE_CAPACITY), threadFactory);
+
+			threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+			return threadPoolExecutor;
+		}
+	}
+
+	private static final class StreamingExecutorHolder {
+
+		private static final ExecutorService EXECUTOR = newStreamingExecutorService();
+
+		private static ExecutorService newStreamingExecutorService() {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("FunctionExecution-Streaming-");
+
+			threadFactory.setDaemon(true);
+
+			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(DEFAULT_STREAMING_MAX_CONCURRENCY,
+				DEFAULT_STREAMING_MAX_CONCURRENCY, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(DEFAULT_STREAMING_QUEUE_CAPACITY), threadFactory);
+
+			threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+			return threadPoolExecutor;
+		}
+	}
 }
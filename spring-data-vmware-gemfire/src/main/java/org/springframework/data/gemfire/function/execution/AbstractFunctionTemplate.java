@@ -4,10 +4,17 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
+import org.springframework.lang.Nullable;
 
 /**
  * Abstract base class for all {@link Function} templates, containing operations common to invoking Apache Geode
@@ -21,8 +28,17 @@ import org.springframework.beans.factory.InitializingBean;
  * @see InitializingBean
  * @see GemfireFunctionOperations
  * @see AbstractFunctionExecution
+ * @see GemFireMetricsAware
  */
-abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, InitializingBean {
+abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, GemFireMetricsAware, InitializingBean {
+
+	private volatile Executor asyncExecutor;
+
+	private volatile GemFireMetrics metrics = GemFireMetrics.NOOP;
+
+	private volatile Executor streamingExecutor;
+
+	private volatile int streamingBufferCapacity = StreamingResultCollector.DEFAULT_BUFFER_CAPACITY;
 
 	private volatile long timeout;
 
@@ -73,6 +89,69 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		return executeAndExtract(functionExecution);
 	}
 
+	@Override
+	@SuppressWarnings("rawtypes")
+	public <T> CompletableFuture<Iterable<T>> executeAsync(Function function, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunction(function);
+
+		return executeAsync(functionExecution);
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAsync(functionExecution);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public <T> CompletableFuture<T> executeAndExtractAsync(Function function, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunction(function);
+
+		return executeAndExtractAsync(functionExecution);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAndExtractAsync(functionExecution);
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public <T> Stream<T> executeStreaming(Function function, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunction(function);
+
+		return executeStreaming(functionExecution);
+	}
+
+	@Override
+	public <T> Stream<T> executeStreaming(String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeStreaming(functionExecution);
+	}
+
 	@Override
 	public void executeWithNoResult(String functionId, Object... args) {
 
@@ -100,8 +179,22 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		 return prepare(functionExecution).executeAndExtract();
 	}
 
+	protected <T> CompletableFuture<Iterable<T>> executeAsync(AbstractFunctionExecution functionExecution) {
+		 return prepare(functionExecution).executeAsync(getAsyncExecutor());
+	}
+
+	protected <T> CompletableFuture<T> executeAndExtractAsync(AbstractFunctionExecution functionExecution) {
+		 return prepare(functionExecution).executeAndExtractAsync(getAsyncExecutor());
+	}
+
+	protected <T> Stream<T> executeStreaming(AbstractFunctionExecution functionExecution) {
+		 return prepare(functionExecution).executeStreaming(getStreamingBufferCapacity(), getStreamingExecutor());
+	}
+
 	AbstractFunctionExecution prepare(AbstractFunctionExecution functionExecution) {
 
+		functionExecution.setMetrics(getMetrics());
+
 		return functionExecution
 			.setResultCollector(getResultCollector())
 			.setTimeout(getTimeout());
@@ -117,6 +210,69 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		return this.resultCollector;
 	}
 
+	/**
+	 * Sets the {@link Executor} used by {@literal executeAsync} operations to execute {@link Function Functions}.
+	 *
+	 * Defaults to a shared, bounded pool of daemon {@link Thread Threads}.
+	 *
+	 * @param asyncExecutor {@link Executor} used to execute {@link Function Functions} asynchronously.
+	 * @see Executor
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	public Executor getAsyncExecutor() {
+
+		Executor asyncExecutor = this.asyncExecutor;
+
+		return asyncExecutor != null ? asyncExecutor : AbstractFunctionExecution.getDefaultAsyncExecutor();
+	}
+
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+	}
+
+	public GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Sets the maximum number of results buffered by {@literal executeStreaming} operations before the members
+	 * sending results are made to wait for the caller to consume them.
+	 *
+	 * @param streamingBufferCapacity maximum number of buffered results; must be greater than {@literal 0}.
+	 * @see StreamingResultCollector
+	 */
+	public void setStreamingBufferCapacity(int streamingBufferCapacity) {
+		this.streamingBufferCapacity = streamingBufferCapacity;
+	}
+
+	public int getStreamingBufferCapacity() {
+		return this.streamingBufferCapacity;
+	}
+
+	/**
+	 * Sets the {@link Executor} used by {@literal executeStreaming} operations to execute {@link Function Functions}.
+	 *
+	 * Each streaming {@link Function} execution occupies a {@link Thread} of the {@link Executor} until all results
+	 * have been added. Defaults to a shared, bounded pool of daemon {@link Thread Threads}.
+	 *
+	 * @param streamingExecutor {@link Executor} used to execute {@link Function Functions} whose results are streamed.
+	 * @see Executor
+	 */
+	public void setStreamingExecutor(Executor streamingExecutor) {
+		this.streamingExecutor = streamingExecutor;
+	}
+
+	public Executor getStreamingExecutor() {
+
+		Executor streamingExecutor = this.streamingExecutor;
+
+		return streamingExecutor != null ? streamingExecutor : AbstractFunctionExecution.getDefaultStreamingExecutor();
+	}
+
 	public void setTimeout(long timeout) {
 		this.timeout = timeout;
 	}
@@ -5,6 +5,10 @@
 
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.apache.geode.cache.execute.Function;
 
 /**
@@ -46,6 +50,96 @@ public interface GemfireFunctionOperations {
      */
 	<T> T executeAndExtract(Function function, Object... args);
 
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the given arguments.
+	 *
+	 * By default, the Function is executed on a shared, bounded pool of daemon {@link Thread Threads}
+	 * rather than the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completing with the contents of the ResultsCollector.
+	 * @see #execute(Function, Object...)
+	 */
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Function function, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> execute(function, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completing with the results.
+	 * @see #execute(String, Object...)
+	 */
+	default <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> execute(functionId, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completing with the first item in the ResultsCollector.
+	 * @see #executeAndExtract(Function, Object...)
+	 */
+	default <T> CompletableFuture<T> executeAndExtractAsync(Function function, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> executeAndExtract(function, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with an ID and with an expected singleton result.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completing with the first item in the results collector.
+	 * @see #executeAndExtract(String, Object...)
+	 */
+	default <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> executeAndExtract(functionId, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	/**
+	 * Execute an unregistered GemFire Function with the given arguments, streaming the results as they arrive.
+	 *
+	 * Each element of the returned {@link Stream} is a result sent by a member, in the order the results arrived.
+	 * The {@link Stream} should be closed when the caller stops consuming results before the end.
+	 *
+	 * By default, this method waits for all results before streaming them.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a blocking {@link Stream} of the results.
+	 * @see StreamingResultCollector
+	 */
+	default <T> Stream<T> executeStreaming(Function function, Object... args) {
+		return StreamSupport.stream(this.<T>execute(function, args).spliterator(), false);
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, streaming the results as they arrive.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a blocking {@link Stream} of the results.
+	 * @see #executeStreaming(Function, Object...)
+	 */
+	default <T> Stream<T> executeStreaming(String functionId, Object... args) {
+		return StreamSupport.stream(this.<T>execute(functionId, args).spliterator(), false);
+	}
+
 	/**
 	 * Execute a GemFire Function registered with an ID and with an expected singleton result
 
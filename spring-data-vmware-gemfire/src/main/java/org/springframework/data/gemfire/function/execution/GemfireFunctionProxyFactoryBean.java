@@ -5,12 +5,23 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.function.Function;
-import java.util.stream.StreamSupport;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.gemfire.function.annotation.OnMember;
 import org.springframework.data.gemfire.function.annotation.OnServer;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
@@ -18,6 +29,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -25,6 +37,9 @@ import org.aopalliance.intercept.MethodInvocation;
 /**
  * A Proxy {@link FactoryBean} for all non-Region Function Execution interfaces.
  *
+ * Function Execution interface methods declaring a {@link CompletableFuture}, {@link CompletionStage}
+ * or {@link Future} return type execute the {@link Function} asynchronously and return immediately.
+ *
  * @author David Turanski
  * @author John Blum
  * @author Patrick Johnson
@@ -46,6 +61,8 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 	private volatile Object functionExecutionProxy;
 
+	private final Map<Method, FunctionDispatch> functionDispatches = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs a new instance of {@link GemfireFunctionProxyFactoryBean} initialized with the given
 	 * {@link Class Function Excution Interface} and {@link GemfireFunctionOperations}.
@@ -100,28 +117,104 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 	@Override
 	public @Nullable Object invoke(@NonNull MethodInvocation invocation) {
 
-		if (AopUtils.isToStringMethod(invocation.getMethod())) {
-			return String.format("Function Proxy for interface [%s]", getFunctionExecutionInterface().getName());
+		Method method = invocation.getMethod();
+
+		FunctionDispatch dispatch = this.functionDispatches.get(method);
+
+		if (dispatch == null) {
+
+			if (AopUtils.isToStringMethod(method)) {
+				return String.format("Function Proxy for interface [%s]", getFunctionExecutionInterface().getName());
+			}
+
+			dispatch = getFunctionDispatch(method);
 		}
 
-		logDebug("Invoking method [{}]", invocation.getMethod().getName());
+		logDebug("Invoking method [{}]", method.getName());
 
-		Object result = invokeFunction(invocation.getMethod(), invocation.getArguments());
+		if (dispatch.isAsync()) {
+			return invokeFunctionAsync(dispatch, invocation.getArguments()).thenApply(dispatch::adaptResult);
+		}
 
-		return resolveResult(invocation, result);
+		return dispatch.adaptResult(invokeFunction(dispatch, invocation.getArguments()));
+	}
+
+	/**
+	 * Returns the {@link FunctionDispatch} for the given Function Execution interface {@link Method},
+	 * resolving it if it was not already resolved when this factory was initialized.
+	 *
+	 * @param method Function Execution interface {@link Method}.
+	 * @return the {@link FunctionDispatch} for the given {@link Method}.
+	 * @see FunctionDispatch
+	 */
+	protected @NonNull FunctionDispatch getFunctionDispatch(@NonNull Method method) {
+		return this.functionDispatches.computeIfAbsent(method, this::newFunctionDispatch);
+	}
+
+	protected @NonNull FunctionDispatch newFunctionDispatch(@NonNull Method method) {
+
+		MethodMetadata methodMetadata = getMethodMetadata(method);
+
+		String functionId = methodMetadata != null ? methodMetadata.getFunctionId() : method.getName();
+
+		int filterArgPosition = methodMetadata instanceof RegionMethodMetadata
+			? ((RegionMethodMetadata) methodMetadata).getFilterArgPosition()
+			: -1;
+
+		boolean async = isAsync(method);
+
+		Class<?> resultType = async ? resolveAsyncResultType(method) : method.getReturnType();
+
+		return new FunctionDispatch(functionId, filterArgPosition,
+			isFunctionExecutedOnSingleServerOrSingleMember(method), async, newResultAdapter(resultType));
+	}
+
+	protected @Nullable MethodMetadata getMethodMetadata(@NonNull Method method) {
+		return getFunctionExecutionMethodMetadata().getMethodMetadata(method);
+	}
+
+	protected boolean isAsync(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return CompletableFuture.class.equals(returnType)
+			|| CompletionStage.class.equals(returnType)
+			|| Future.class.equals(returnType);
+	}
+
+	protected @NonNull Class<?> resolveAsyncResultType(@NonNull Method method) {
+
+		return ResolvableType.forMethodReturnType(method)
+			.as(Future.class.equals(method.getReturnType()) ? Future.class : CompletionStage.class)
+			.getGeneric(0)
+			.resolve(Object.class);
 	}
 
 	protected @Nullable Object invokeFunction(@NonNull Method method, @NonNull Object[] args) {
+		return invokeFunction(getFunctionDispatch(method), args);
+	}
+
+	protected @Nullable Object invokeFunction(@NonNull FunctionDispatch dispatch, @NonNull Object[] args) {
 
 		GemfireFunctionOperations template = getGemfireFunctionOperations();
 
-		String functionId = getFunctionExecutionMethodMetadata()
-			.getMethodMetadata(method)
-			.getFunctionId();
+		return dispatch.isSingleResult()
+			? template.executeAndExtract(dispatch.getFunctionId(), args)
+			: template.execute(dispatch.getFunctionId(), args);
+	}
+
+	protected @NonNull CompletableFuture<?> invokeFunctionAsync(@NonNull Method method, @NonNull Object[] args) {
+		return invokeFunctionAsync(getFunctionDispatch(method), args);
+	}
+
+	protected @NonNull CompletableFuture<?> invokeFunctionAsync(@NonNull FunctionDispatch dispatch,
+			@NonNull Object[] args) {
+
+		GemfireFunctionOperations template = getGemfireFunctionOperations();
 
-		return isFunctionExecutedOnSingleServerOrSingleMember(method)
-			? template.executeAndExtract(functionId, args)
-			: template.execute(functionId, args);
+		return dispatch.isSingleResult()
+			? template.executeAndExtractAsync(dispatch.getFunctionId(), args)
+			: template.executeAsync(dispatch.getFunctionId(), args);
 	}
 
 	protected boolean isFunctionExecutedOnSingleServerOrSingleMember(@NonNull Method method) {
@@ -129,13 +222,48 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 			|| method.getDeclaringClass().isAnnotationPresent(OnMember.class);
 	}
 
+	/**
+	 * Returns a {@link Function} adapting the {@link Function} results to the given {@link Class result type}.
+	 *
+	 * Results for a {@link Collection} interface return type are copied into a {@link List} or {@link Set}
+	 * when the results are not already of that type. Results for a return type that cannot hold the results,
+	 * such as a single value, are reduced to the single result when there is only one.
+	 *
+	 * @param resultType {@link Class type} of result declared by the Function Execution interface {@link Method}.
+	 * @return a {@link Function} adapting the {@link Function} results to the given {@link Class result type}.
+	 */
+	protected @NonNull Function<Object, Object> newResultAdapter(@NonNull Class<?> resultType) {
+
+		if (resultType.isAssignableFrom(Iterable.class) || void.class.equals(resultType)
+				|| Void.class.equals(resultType)) {
+
+			return Function.identity();
+		}
+		else if (resultType.isInterface() && Collection.class.isAssignableFrom(resultType)
+				&& resultType.isAssignableFrom(Set.class) != resultType.isAssignableFrom(List.class)) {
+
+			boolean set = resultType.isAssignableFrom(LinkedHashSet.class);
+
+			return result -> isIterable(result) && !resultType.isInstance(result)
+				? copyResults((Iterable<?>) result, set ? new LinkedHashSet<>() : new ArrayList<>())
+				: result;
+		}
+
+		return result -> resolveResult(resultType, result);
+	}
+
+	private Collection<Object> copyResults(Iterable<?> results, Collection<Object> collection) {
+		results.forEach(collection::add);
+		return collection;
+	}
+
 	protected Object resolveResult(MethodInvocation invocation, Object result) {
+		return resolveResult(invocation.getMethod().getReturnType(), result);
+	}
+
+	protected Object resolveResult(Class<?> resultType, Object result) {
 
-		// TODO: The conditional logic needs more work!
-		//  For example, this conditional logic will fail if the result is a List but the Function (Execution method)
-		//  return type is a Set.
-		// TODO: Apply Spring Converters here???
-		return isIterable(result) && isNotInstanceOfFunctionReturnType(invocation, result)
+		return isIterable(result) && !resultType.isInstance(result)
 			? resolveSingleResultIfPossible((Iterable<?>) result)
 			: result;
 	}
@@ -143,9 +271,18 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 	protected Object resolveSingleResultIfPossible(Iterable<?> results) {
 
 		// TODO: Determine whether to throw an IncorrectResultSizeDataAccessException if the cardinality does not match.
-		return StreamSupport.stream(results.spliterator(), false).count() == 1
-			? results.iterator().next()
-			: results;
+		Iterator<?> iterator = results.iterator();
+
+		if (iterator.hasNext()) {
+
+			Object result = iterator.next();
+
+			if (!iterator.hasNext()) {
+				return result;
+			}
+		}
+
+		return results;
 	}
 
 	protected boolean isInstanceOfFunctionReturnType(MethodInvocation invocation, Object value) {
@@ -186,10 +323,86 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 		if (!this.initialized) {
 
+			ReflectionUtils.doWithMethods(getFunctionExecutionInterface(), this::getFunctionDispatch);
+
 			ProxyFactory proxyFactory = new ProxyFactory(getFunctionExecutionInterface(), this);
 
 			this.functionExecutionProxy = proxyFactory.getProxy(getBeanClassLoader());
 			this.initialized = true;
 		}
 	}
+
+	/**
+	 * Immutable plan for invoking a Function Execution interface {@link Method}, resolved once per {@link Method}
+	 * so that no reflection is required when the {@link Method} is invoked.
+	 */
+	protected static final class FunctionDispatch {
+
+		private final boolean async;
+		private final boolean singleResult;
+
+		private final int filterArgPosition;
+
+		private final Function<Object, Object> resultAdapter;
+
+		private final String functionId;
+
+		FunctionDispatch(String functionId, int filterArgPosition, boolean singleResult, boolean async,
+				Function<Object, Object> resultAdapter) {
+
+			this.functionId = functionId;
+			this.filterArgPosition = filterArgPosition;
+			this.singleResult = singleResult;
+			this.async = async;
+			this.resultAdapter = resultAdapter;
+		}
+
+		/**
+		 * Determines whether the {@link Method} returns a {@link Future} completed asynchronously.
+		 *
+		 * @return a boolean value indicating whether the {@link Function} is executed asynchronously.
+		 */
+		public boolean isAsync() {
+			return this.async;
+		}
+
+		/**
+		 * Returns the position of the {@link Method} parameter holding the {@link Set} of keys used to filter
+		 * a {@link org.apache.geode.cache.Region} {@link Function} {@link org.apache.geode.cache.execute.Execution}.
+		 *
+		 * @return the position of the filter parameter, or {@literal -1} if the {@link Method} declares no filter.
+		 */
+		public int getFilterArgPosition() {
+			return this.filterArgPosition;
+		}
+
+		/**
+		 * Returns the ID of the {@link Function} executed by the {@link Method}.
+		 *
+		 * @return the ID of the {@link Function} executed by the {@link Method}.
+		 */
+		public String getFunctionId() {
+			return this.functionId;
+		}
+
+		/**
+		 * Determines whether the {@link Function} is executed on a single server or member and returns
+		 * a single result.
+		 *
+		 * @return a boolean value indicating whether the {@link Function} returns a single result.
+		 */
+		public boolean isSingleResult() {
+			return this.singleResult;
+		}
+
+		/**
+		 * Adapts the {@link Function} results to the return type of the {@link Method}.
+		 *
+		 * @param result {@link Function} results to adapt.
+		 * @return the adapted results.
+		 */
+		public Object adaptResult(Object result) {
+			return this.resultAdapter.apply(result);
+		}
+	}
 }
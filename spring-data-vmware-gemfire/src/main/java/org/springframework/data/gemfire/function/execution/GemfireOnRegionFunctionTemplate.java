@@ -5,6 +5,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Execution;
@@ -80,4 +82,31 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 			.setFunctionId(functionId)
 			.setTimeout(getTimeout()), false);
 	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+
+		return executeAsync(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId));
+	}
+
+	@Override
+	public <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Set<?> keys, Object... args) {
+
+		return executeAndExtractAsync(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId));
+	}
+
+	@Override
+	public <T> Stream<T> executeStreaming(String functionId, Set<?> keys, Object... args) {
+
+		return executeStreaming(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId));
+	}
 }
@@ -6,6 +6,9 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -40,4 +43,30 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 
 	void executeWithNoResult(String functionId, Set<?> keys, Object... args);
 
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Function function, Set<?> keys, Object... args) {
+		return executeAsync(function.getId(), keys, args);
+	}
+
+	default <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> execute(functionId, keys, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	default <T> CompletableFuture<T> executeAndExtractAsync(Function function, Set<?> keys, Object... args) {
+		return executeAndExtractAsync(function.getId(), keys, args);
+	}
+
+	default <T> CompletableFuture<T> executeAndExtractAsync(String functionId, Set<?> keys, Object... args) {
+		return AbstractFunctionExecution.supplyAsync(() -> executeAndExtract(functionId, keys, args),
+			AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	default <T> Stream<T> executeStreaming(Function function, Set<?> keys, Object... args) {
+		return executeStreaming(function.getId(), keys, args);
+	}
+
+	default <T> Stream<T> executeStreaming(String functionId, Set<?> keys, Object... args) {
+		return StreamSupport.stream(this.<T>execute(functionId, keys, args).spliterator(), false);
+	}
+
 }
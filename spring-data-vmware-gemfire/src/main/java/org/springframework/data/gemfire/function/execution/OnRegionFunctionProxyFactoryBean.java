@@ -6,6 +6,7 @@ package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -30,16 +31,19 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 	}
 
 	@Override
-	protected Iterable<?> invokeFunction(Method method, Object[] args) {
+	protected MethodMetadata getMethodMetadata(Method method) {
+		return this.methodMetadata.getMethodMetadata(method);
+	}
+
+	@Override
+	protected Iterable<?> invokeFunction(FunctionDispatch dispatch, Object[] args) {
 
 		GemfireOnRegionOperations gemfireOnRegionOperations =
 			(GemfireOnRegionOperations) getGemfireFunctionOperations();
 
-		RegionMethodMetadata regionMethodMetadata = this.methodMetadata.getMethodMetadata(method);
+		int filterArgPosition = dispatch.getFilterArgPosition();
 
-		int filterArgPosition = regionMethodMetadata.getFilterArgPosition();
-
-		String functionId = regionMethodMetadata.getFunctionId();
+		String functionId = dispatch.getFunctionId();
 
 		Set<?> filter = null;
 
@@ -52,4 +56,26 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 		return filter != null ? gemfireOnRegionOperations.execute(functionId, filter, args)
 			: gemfireOnRegionOperations.execute(functionId, args);
 	}
+
+	@Override
+	protected CompletableFuture<?> invokeFunctionAsync(FunctionDispatch dispatch, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations =
+			(GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		int filterArgPosition = dispatch.getFilterArgPosition();
+
+		String functionId = dispatch.getFunctionId();
+
+		Set<?> filter = null;
+
+		// extract filter from args if necessary
+		if (filterArgPosition >= 0) {
+			filter = (Set<?>) args[filterArgPosition];
+			args = ArrayUtils.remove(args, filterArgPosition);
+		}
+
+		return filter != null ? gemfireOnRegionOperations.executeAsync(functionId, filter, args)
+			: gemfireOnRegionOperations.executeAsync(functionId, args);
+	}
 }
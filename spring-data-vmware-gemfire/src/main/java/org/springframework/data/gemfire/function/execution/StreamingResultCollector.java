@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} that hands each {@link Function} result to the caller as soon as it arrives,
+ * rather than collecting all results before returning them.
+ *
+ * Results are held in a buffer of limited capacity. When the buffer is full, the {@link Thread} adding results waits
+ * until the caller has consumed results, or has {@link #close() closed} this collector. Results are consumed through
+ * a single-use, blocking {@link Iterator} or {@link Stream} in the order the results arrived. Results that are
+ * {@link Throwable Throwables} are rethrown to the caller as a {@link FunctionException}.
+ *
+ * Once a {@link #bindProducerThread(Thread) producer Thread} is bound, only that {@link Thread} is made to wait.
+ * Results added by any other {@link Thread}, such as the GemFire message {@link Thread Threads} delivering results
+ * from remote members in peer {@link org.apache.geode.cache.execute.Execution Executions}, are never blocked; they
+ * spill over the buffer capacity and are held in memory until consumed instead. Without a bound producer
+ * {@link Thread}, every {@link Thread} adding results to a full buffer waits, so an unbound collector should only be
+ * used with client {@link org.apache.geode.cache.execute.Execution Executions}, which add results on the
+ * {@link Thread} executing the {@link Function}.
+ *
+ * The number of results received from each {@link DistributedMember} is tracked so that callers can determine
+ * which members responded.
+ *
+ * @param <T> {@link Class type} of the {@link Function} results.
+ * @see ResultCollector
+ * @see Iterator
+ * @see Stream
+ * @since 1.0.1
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Iterable<T>> {
+
+	public static final int DEFAULT_BUFFER_CAPACITY =
+		Integer.getInteger("spring.data.gemfire.function.streaming.buffer.capacity", 64);
+
+	private static final Object END_OF_RESULTS = new Object();
+
+	private static final long OFFER_INTERVAL_MILLISECONDS = 100L;
+
+	private final AtomicBoolean consumed = new AtomicBoolean(false);
+
+	private final BlockingQueue<Object> buffer = new LinkedBlockingQueue<>();
+
+	private final int bufferCapacity;
+
+	private final LongAdder consumedResultCount = new LongAdder();
+
+	private final Map<DistributedMember, AtomicLong> memberResultCounts = new ConcurrentHashMap<>();
+
+	private final Object bufferNotFull = new Object();
+
+	private volatile boolean closed;
+	private volatile boolean ended;
+	private volatile boolean producerWaiting;
+
+	private volatile long timeout;
+
+	private volatile Thread producerThread;
+
+	private final String functionIdentifier;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} buffering at most
+	 * {@link #DEFAULT_BUFFER_CAPACITY} results.
+	 *
+	 * @see #StreamingResultCollector(String, int, long)
+	 */
+	public StreamingResultCollector() {
+		this(null, DEFAULT_BUFFER_CAPACITY, 0L);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector}.
+	 *
+	 * @param functionIdentifier {@link String} identifying the {@link Function} in error messages.
+	 * @param bufferCapacity maximum number of results buffered before the producer {@link Thread} waits;
+	 * must be greater than {@literal 0}.
+	 * @param timeout maximum number of milliseconds to wait for the next result; {@literal 0} or less waits
+	 * indefinitely.
+	 * @throws IllegalArgumentException if {@code bufferCapacity} is less than {@literal 1}.
+	 */
+	public StreamingResultCollector(@Nullable String functionIdentifier, int bufferCapacity, long timeout) {
+
+		Assert.isTrue(bufferCapacity > 0,
+			() -> String.format("Buffer capacity [%d] must be greater than 0", bufferCapacity));
+
+		this.functionIdentifier = functionIdentifier != null ? functionIdentifier : "unknown";
+		this.bufferCapacity = bufferCapacity;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Binds the {@link Thread} executing the {@link Function} as the only {@link Thread} made to wait
+	 * while the buffer is full.
+	 *
+	 * @param producerThread {@link Thread} executing the {@link Function}.
+	 */
+	void bindProducerThread(@NonNull Thread producerThread) {
+		this.producerThread = producerThread;
+	}
+
+	/**
+	 * Returns the number of results received from each {@link DistributedMember} so far.
+	 *
+	 * @return an unmodifiable {@link Map} of the number of results received from each {@link DistributedMember}.
+	 * @see DistributedMember
+	 */
+	public @NonNull Map<DistributedMember, Long> getMemberResultCounts() {
+
+		Map<DistributedMember, Long> memberResultCounts = new ConcurrentHashMap<>();
+
+		this.memberResultCounts.forEach((member, count) -> memberResultCounts.put(member, count.get()));
+
+		return Collections.unmodifiableMap(memberResultCounts);
+	}
+
+	/**
+	 * Determines whether all members have finished sending results.
+	 *
+	 * @return a boolean value indicating whether all members have finished sending results.
+	 */
+	public boolean isComplete() {
+		return this.ended;
+	}
+
+	/**
+	 * Determines whether this collector has been {@link #close() closed} by the caller.
+	 *
+	 * @return a boolean value indicating whether this collector has been closed.
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	@Override
+	public void addResult(@Nullable DistributedMember member, Object result) {
+
+		if (!isClosed()) {
+
+			if (member != null) {
+				this.memberResultCounts.computeIfAbsent(member, key -> new AtomicLong()).incrementAndGet();
+			}
+
+			offer(result != null ? result : NullResult.INSTANCE);
+		}
+	}
+
+	/**
+	 * Signals that the {@link Function} {@link org.apache.geode.cache.execute.Execution} failed, ending the results
+	 * with the given {@link Throwable}, which is rethrown to the caller after all previous results are consumed.
+	 *
+	 * @param cause {@link Throwable} that caused the {@link Function} execution to fail.
+	 */
+	public void fail(@NonNull Throwable cause) {
+
+		if (!this.ended) {
+			offer(new FailedResult(cause));
+			endResults();
+		}
+	}
+
+	@Override
+	public void endResults() {
+
+		if (!this.ended) {
+			this.ended = true;
+			offer(END_OF_RESULTS);
+		}
+	}
+
+	/**
+	 * Discards buffered results when the {@link Function} is re-executed after a member failure.
+	 *
+	 * If the caller has already consumed results, the re-executed results can no longer be delivered consistently,
+	 * so the results end with a {@link FunctionException} instead.
+	 */
+	@Override
+	public void clearResults() {
+
+		if (this.consumedResultCount.sum() > 0L) {
+			fail(new FunctionException(String.format(
+				"Function [%s] was re-executed after results were consumed", this.functionIdentifier)));
+		}
+		else {
+			this.buffer.clear();
+			this.memberResultCounts.clear();
+			signalBufferNotFull();
+		}
+	}
+
+	/**
+	 * Closes this collector, discarding any buffered and further results and releasing any {@link Thread}
+	 * waiting to add results.
+	 */
+	public void close() {
+		this.closed = true;
+		this.buffer.clear();
+		signalBufferNotFull();
+	}
+
+	@Override
+	public Iterable<T> getResult() {
+		return this::iterator;
+	}
+
+	@Override
+	public Iterable<T> getResult(long timeout, TimeUnit unit) {
+		this.timeout = unit.toMillis(timeout);
+		return getResult();
+	}
+
+	/**
+	 * Returns a blocking {@link Iterator} over the {@link Function} results, in the order the results arrived.
+	 *
+	 * @return a blocking {@link Iterator} over the {@link Function} results.
+	 * @throws IllegalStateException if the results have already been consumed.
+	 */
+	public @NonNull Iterator<T> iterator() {
+
+		Assert.state(this.consumed.compareAndSet(false, true),
+			"Function results can only be consumed once");
+
+		return new ResultIterator();
+	}
+
+	/**
+	 * Returns a blocking {@link Stream} over the {@link Function} results, in the order the results arrived.
+	 *
+	 * Closing the {@link Stream} {@link #close() closes} this collector.
+	 *
+	 * @return a blocking {@link Stream} over the {@link Function} results.
+	 * @throws IllegalStateException if the results have already been consumed.
+	 */
+	public @NonNull Stream<T> stream() {
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false)
+			.onClose(this::close);
+	}
+
+	private void offer(Object result) {
+
+		if (isWaitingAllowed()) {
+			try {
+				synchronized (this.bufferNotFull) {
+					while (!isClosed() && this.buffer.size() >= this.bufferCapacity) {
+						this.producerWaiting = true;
+						this.bufferNotFull.wait(OFFER_INTERVAL_MILLISECONDS);
+					}
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				close();
+			}
+		}
+
+		if (!isClosed()) {
+			this.buffer.add(result);
+		}
+	}
+
+	private boolean isWaitingAllowed() {
+
+		Thread producerThread = this.producerThread;
+
+		return producerThread == null || producerThread == Thread.currentThread();
+	}
+
+	private void signalBufferNotFull() {
+
+		if (this.producerWaiting) {
+			synchronized (this.bufferNotFull) {
+				this.producerWaiting = false;
+				this.bufferNotFull.notifyAll();
+			}
+		}
+	}
+
+	private Object take() {
+
+		long timeout = this.timeout;
+
+		try {
+
+			Object result = timeout > 0L
+				? this.buffer.poll(timeout, TimeUnit.MILLISECONDS)
+				: this.buffer.take();
+
+			signalBufferNotFull();
+
+			if (result == null) {
+				close();
+				throw new ExecutionTimeoutFunctionException(String.format(
+					"Failed to collect Function [%1$s] results in the configured timeout [%2$d ms]",
+						this.functionIdentifier, timeout));
+			}
+
+			return result;
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new FunctionException(String.format("Interrupted while collecting Function [%s] results",
+				this.functionIdentifier), cause);
+		}
+	}
+
+	private final class ResultIterator implements Iterator<T> {
+
+		private Object next;
+
+		@Override
+		public boolean hasNext() {
+
+			if (this.next == null) {
+				this.next = !isClosed() ? take() : END_OF_RESULTS;
+			}
+
+			if (this.next instanceof FailedResult) {
+
+				Throwable cause = ((FailedResult) this.next).cause;
+
+				this.next = END_OF_RESULTS;
+				close();
+
+				throw cause instanceof RuntimeException ? (RuntimeException) cause : new FunctionException(cause);
+			}
+
+			return this.next != END_OF_RESULTS;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more Function results");
+			}
+
+			Object result = this.next;
+
+			this.next = null;
+			consumedResultCount.increment();
+
+			if (result instanceof Throwable) {
+				close();
+				throw new FunctionException(String.format("Execution of Function [%s] failed", functionIdentifier),
+					(Throwable) result);
+			}
+
+			return result != NullResult.INSTANCE ? (T) result : null;
+		}
+	}
+
+	private static final class FailedResult {
+
+		private final Throwable cause;
+
+		private FailedResult(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+
+	private enum NullResult {
+		INSTANCE
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * {@link ContinuousQueryListener} receiving events and notifications from a Continuous Query (CQ) in batches.
+ *
+ * When batching is enabled on the {@link ContinuousQueryListenerContainer}, {@link CqEvent CQ events} for a CQ are
+ * collected up to the configured batch size, or until the configured batch time interval elapses, and delivered
+ * to the listener in order as a single {@link List}.
+ *
+ * @see CqEvent
+ * @see ContinuousQueryListener
+ * @see ContinuousQueryListenerContainer#setBatchSize(int)
+ * @see ContinuousQueryListenerContainer#setBatchTimeInterval(int)
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface BatchingContinuousQueryListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of a single CQ event.
+	 *
+	 * Defaults to delivering the CQ event as a batch of one.
+	 *
+	 * @param event the event from the CQ.
+	 * @see #onEvents(List)
+	 * @see CqEvent
+	 */
+	@Override
+	default void onEvent(CqEvent event) {
+		onEvents(Collections.singletonList(event));
+	}
+
+	/**
+	 * Action performed by the listener when notified of a batch of CQ events.
+	 *
+	 * @param events {@link List} of events from the CQ, in the order the events occurred.
+	 * @see CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.listener;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded {@link Executor} used by the {@link ContinuousQueryListenerContainer} to dispatch {@link CqEvent CQ events}
+ * to {@link ContinuousQueryListener ContinuousQueryListeners}.
+ *
+ * {@link CqEvent CQ events} are routed to a serial {@literal lane} per {@link CqQuery}, preserving the order in which
+ * events for a single {@link CqQuery} are delivered, while events for different {@link CqQuery CQs} are processed
+ * concurrently. Lanes are drained by either a bounded pool of platform {@link Thread Threads} or, when enabled and
+ * supported by the Java runtime, virtual {@link Thread Threads}. A lane is removed as soon as it is drained,
+ * so closed {@link CqQuery CQs} do not retain a lane.
+ *
+ * The number of {@link CqEvent CQ events} waiting to be processed is bounded by the {@literal queue capacity}.
+ * When the queue is full, the {@link OverflowPolicy} determines whether the Apache Geode thread delivering
+ * the {@link CqEvent} blocks until capacity is available, applying back-pressure, or the event is dropped.
+ *
+ * @see Executor
+ * @see DisposableBean
+ * @see CqEvent
+ * @see CqQuery
+ * @see ContinuousQueryListenerContainer
+ * @since 1.0.1
+ */
+public class ContinuousQueryEventDispatcher implements Executor, DisposableBean {
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+	protected static final int MAX_EVENTS_PER_LANE_DRAIN = 64;
+
+	protected static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS = 5000L;
+
+	private final AtomicInteger queueDepth = new AtomicInteger(0);
+
+	private final AtomicBoolean shutdown = new AtomicBoolean(false);
+
+	private final boolean virtualThreads;
+
+	private final ExecutorService executorService;
+
+	private final int queueCapacity;
+
+	private final LongAccumulator maxDispatchLatencyNanos = new LongAccumulator(Long::max, 0L);
+
+	private final LongAdder dispatchedEventCount = new LongAdder();
+	private final LongAdder droppedEventCount = new LongAdder();
+	private final LongAdder totalDispatchLatencyNanos = new LongAdder();
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final Semaphore capacity;
+
+	/**
+	 * Constructs a new {@link ContinuousQueryEventDispatcher} processing {@link CqEvent CQ events} on
+	 * a bounded pool of platform {@link Thread Threads}.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the {@link Thread} names.
+	 * @param maxConcurrency maximum number of {@link CqEvent CQ events} processed concurrently;
+	 * must be greater than {@literal 0}.
+	 * @param queueCapacity maximum number of {@link CqEvent CQ events} waiting to be processed;
+	 * must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the queue is full; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code maxConcurrency} or {@code queueCapacity} are less than {@literal 1}
+	 * or the {@link OverflowPolicy} is {@literal null}.
+	 * @see #ContinuousQueryEventDispatcher(String, boolean, int, int, OverflowPolicy)
+	 */
+	public ContinuousQueryEventDispatcher(@NonNull String threadNamePrefix, int maxConcurrency, int queueCapacity,
+			@NonNull OverflowPolicy overflowPolicy) {
+
+		this(threadNamePrefix, false, maxConcurrency, queueCapacity, overflowPolicy);
+	}
+
+	/**
+	 * Constructs a new {@link ContinuousQueryEventDispatcher}.
+	 *
+	 * When {@code virtualThreads} is {@literal true} and the Java runtime supports virtual {@link Thread Threads},
+	 * {@link CqEvent CQ events} are processed on virtual {@link Thread Threads} and {@code maxConcurrency} is ignored.
+	 * Otherwise, {@link CqEvent CQ events} are processed on a pool of {@code maxConcurrency} platform
+	 * {@link Thread Threads}.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the {@link Thread} names.
+	 * @param virtualThreads boolean indicating whether to process {@link CqEvent CQ events}
+	 * on virtual {@link Thread Threads} when supported.
+	 * @param maxConcurrency maximum number of {@link CqEvent CQ events} processed concurrently on platform
+	 * {@link Thread Threads}; must be greater than {@literal 0}.
+	 * @param queueCapacity maximum number of {@link CqEvent CQ events} waiting to be processed;
+	 * must be greater than {@literal 0}.
+	 * @param overflowPolicy {@link OverflowPolicy} applied when the queue is full; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code maxConcurrency} or {@code queueCapacity} are less than {@literal 1}
+	 * or the {@link OverflowPolicy} is {@literal null}.
+	 */
+	public ContinuousQueryEventDispatcher(@NonNull String threadNamePrefix, boolean virtualThreads,
+			int maxConcurrency, int queueCapacity, @NonNull OverflowPolicy overflowPolicy) {
+
+		Assert.isTrue(maxConcurrency > 0,
+			() -> String.format("Max concurrency [%d] must be greater than 0", maxConcurrency));
+
+		Assert.isTrue(queueCapacity > 0,
+			() -> String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+		ExecutorService virtualThreadExecutorService = virtualThreads
+			? newVirtualThreadExecutorService(threadNamePrefix)
+			: null;
+
+		this.virtualThreads = virtualThreadExecutorService != null;
+
+		this.executorService = virtualThreadExecutorService != null
+			? virtualThreadExecutorService
+			: newPlatformThreadExecutorService(threadNamePrefix, maxConcurrency);
+
+		this.queueCapacity = queueCapacity;
+		this.capacity = new Semaphore(queueCapacity);
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	private @Nullable ExecutorService newVirtualThreadExecutorService(String threadNamePrefix) {
+
+		try {
+
+			Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+			Class<?> threadBuilderType = Class.forName("java.lang.Thread$Builder");
+
+			threadBuilder = threadBuilderType.getMethod("name", String.class, long.class)
+				.invoke(threadBuilder, threadNamePrefix, 1L);
+
+			ThreadFactory threadFactory = (ThreadFactory) threadBuilderType.getMethod("factory").invoke(threadBuilder);
+
+			Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+			return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+		}
+		catch (ReflectiveOperationException | LinkageError cause) {
+
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn("Virtual Threads are not supported by Java [{}];"
+					+ " CQ events will be processed on platform Threads", System.getProperty("java.version"));
+			}
+
+			return null;
+		}
+	}
+
+	private ExecutorService newPlatformThreadExecutorService(String threadNamePrefix, int maxConcurrency) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+			60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		return threadPoolExecutor;
+	}
+
+	/**
+	 * Dispatches the given {@link Runnable task} without ordering guarantees relative to other tasks.
+	 *
+	 * @param task {@link Runnable} to execute; must not be {@literal null}.
+	 * @see #dispatch(Object, Runnable)
+	 */
+	@Override
+	public void execute(@NonNull Runnable task) {
+		dispatch(null, task);
+	}
+
+	/**
+	 * Dispatches the given {@link Runnable task} to the serial lane identified by the given {@link Object key}.
+	 *
+	 * Tasks dispatched to the same lane are executed one at a time, in the order they were dispatched.
+	 * A {@literal null} key dispatches the task without ordering guarantees.
+	 *
+	 * @param key {@link Object} identifying the serial lane, typically the {@link CqQuery}.
+	 * @param task {@link Runnable} to execute; must not be {@literal null}.
+	 * @return a boolean value indicating whether the task was accepted for execution; {@literal false} if the task
+	 * was dropped because the queue was full, this dispatcher has been shutdown or the task was rejected
+	 * by the underlying {@link ExecutorService}.
+	 * @see OverflowPolicy
+	 */
+	public boolean dispatch(@Nullable Object key, @NonNull Runnable task) {
+
+		Assert.notNull(task, "Task must not be null");
+
+		if (this.shutdown.get() || !acquireCapacity()) {
+			this.droppedEventCount.increment();
+			return false;
+		}
+
+		this.queueDepth.incrementAndGet();
+
+		DispatchedTask dispatchedTask = new DispatchedTask(task);
+
+		if (key != null) {
+
+			Lane lane = this.lanes.compute(key, (it, existingLane) -> {
+
+				Lane resolvedLane = existingLane != null ? existingLane : new Lane(it);
+
+				resolvedLane.tasks.offer(dispatchedTask);
+
+				return resolvedLane;
+			});
+
+			return lane.schedule();
+		}
+
+		try {
+			this.executorService.execute(dispatchedTask);
+			return true;
+		}
+		catch (RejectedExecutionException cause) {
+			release();
+			this.droppedEventCount.increment();
+			return false;
+		}
+	}
+
+	private boolean acquireCapacity() {
+
+		if (this.capacity.tryAcquire()) {
+			return true;
+		}
+		else if (OverflowPolicy.BLOCK.equals(getOverflowPolicy())) {
+			try {
+				this.capacity.acquire();
+				return true;
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("CQ event queue capacity [{}] exceeded; dropping event", getQueueCapacity());
+		}
+
+		return false;
+	}
+
+	private void release() {
+		this.queueDepth.decrementAndGet();
+		this.capacity.release();
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} applied when the queue is full.
+	 *
+	 * @return the {@link OverflowPolicy} applied when the queue is full.
+	 * @see OverflowPolicy
+	 */
+	public @NonNull OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Returns the maximum number of {@link CqEvent CQ events} waiting to be processed.
+	 *
+	 * @return the maximum number of {@link CqEvent CQ events} waiting to be processed.
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CQ events} currently waiting to be processed.
+	 *
+	 * @return the number of {@link CqEvent CQ events} currently waiting to be processed.
+	 */
+	public int getQueueDepth() {
+		return this.queueDepth.get();
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CQ events} that were processed.
+	 *
+	 * @return the number of {@link CqEvent CQ events} that were processed.
+	 */
+	public long getDispatchedEventCount() {
+		return this.dispatchedEventCount.sum();
+	}
+
+	/**
+	 * Returns the number of {@link CqEvent CQ events} that were dropped because the queue was full
+	 * or this dispatcher was shutdown.
+	 *
+	 * @return the number of {@link CqEvent CQ events} that were dropped.
+	 */
+	public long getDroppedEventCount() {
+		return this.droppedEventCount.sum();
+	}
+
+	/**
+	 * Returns the average time {@link CqEvent CQ events} waited in the queue before being processed.
+	 *
+	 * @return the average time {@link CqEvent CQ events} waited in the queue before being processed.
+	 */
+	public @NonNull Duration getAverageDispatchLatency() {
+
+		long dispatchedEventCount = getDispatchedEventCount();
+
+		return dispatchedEventCount > 0
+			? Duration.ofNanos(this.totalDispatchLatencyNanos.sum() / dispatchedEventCount)
+			: Duration.ZERO;
+	}
+
+	/**
+	 * Returns the maximum time a {@link CqEvent CQ event} waited in the queue before being processed.
+	 *
+	 * @return the maximum time a {@link CqEvent CQ event} waited in the queue before being processed.
+	 */
+	public @NonNull Duration getMaxDispatchLatency() {
+		return Duration.ofNanos(this.maxDispatchLatencyNanos.get());
+	}
+
+	/**
+	 * Returns the number of serial lanes with {@link CqEvent CQ events} waiting to be, or being, processed.
+	 *
+	 * @return the number of active serial lanes.
+	 */
+	int getLaneCount() {
+		return this.lanes.size();
+	}
+
+	/**
+	 * Determines whether {@link CqEvent CQ events} are processed on virtual {@link Thread Threads}.
+	 *
+	 * @return a boolean value indicating whether {@link CqEvent CQ events} are processed
+	 * on virtual {@link Thread Threads}.
+	 */
+	public boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	/**
+	 * Shuts down this dispatcher, waiting a bounded amount of time for queued {@link CqEvent CQ events}
+	 * to be processed.
+	 *
+	 * @throws InterruptedException if the calling {@link Thread} is interrupted while waiting.
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+
+		if (this.shutdown.compareAndSet(false, true)) {
+
+			this.executorService.shutdown();
+
+			if (!this.executorService.awaitTermination(DEFAULT_SHUTDOWN_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+				this.executorService.shutdownNow();
+			}
+
+			this.lanes.clear();
+		}
+	}
+
+	/**
+	 * Policy applied when a {@link CqEvent} is dispatched while the queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the {@link Thread} delivering the {@link CqEvent} until capacity is available.
+		 */
+		BLOCK,
+
+		/**
+		 * Drops the {@link CqEvent}.
+		 */
+		DROP,
+
+	}
+
+	private final class DispatchedTask implements Runnable {
+
+		private final long dispatchedTimeNanos = System.nanoTime();
+
+		private final Runnable task;
+
+		private DispatchedTask(Runnable task) {
+			this.task = task;
+		}
+
+		@Override
+		public void run() {
+
+			long dispatchLatencyNanos = System.nanoTime() - this.dispatchedTimeNanos;
+
+			release();
+
+			totalDispatchLatencyNanos.add(dispatchLatencyNanos);
+			maxDispatchLatencyNanos.accumulate(dispatchLatencyNanos);
+			dispatchedEventCount.increment();
+
+			try {
+				this.task.run();
+			}
+			catch (Throwable cause) {
+				logger.warn("Failed to process CQ event", cause);
+			}
+		}
+	}
+
+	/**
+	 * Serial queue of the tasks dispatched for a single key.
+	 *
+	 * Tasks are only added while the lane is mapped to its key, and the lane is only unmapped while it is empty
+	 * and not scheduled, both atomically with respect to the key in {@link ConcurrentHashMap}. Therefore, a task
+	 * is never added to a removed lane, and at most one lane per key runs tasks at any time.
+	 */
+	private final class Lane implements Runnable {
+
+		private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+		private final Object key;
+
+		private final Queue<DispatchedTask> tasks = new ConcurrentLinkedQueue<>();
+
+		private Lane(Object key) {
+			this.key = key;
+		}
+
+		private boolean schedule() {
+
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					executorService.execute(this);
+				}
+				catch (RejectedExecutionException cause) {
+
+					this.scheduled.set(false);
+
+					for (DispatchedTask task = this.tasks.poll(); task != null; task = this.tasks.poll()) {
+						release();
+						droppedEventCount.increment();
+					}
+
+					removeIfIdle();
+
+					if (logger.isWarnEnabled()) {
+						logger.warn("CQ event processing was rejected; dropping queued events for [{}]", this.key);
+					}
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean removeIfIdle() {
+
+			Lane lane = lanes.computeIfPresent(this.key, (key, existingLane) ->
+				existingLane == this && !this.scheduled.get() && this.tasks.isEmpty() ? null : existingLane);
+
+			return lane != this;
+		}
+
+		@Override
+		public void run() {
+
+			try {
+				for (int count = 0; count < MAX_EVENTS_PER_LANE_DRAIN; count++) {
+
+					DispatchedTask task = this.tasks.poll();
+
+					if (task == null) {
+						break;
+					}
+
+					task.run();
+				}
+			}
+			finally {
+
+				this.scheduled.set(false);
+
+				if (!removeIfIdle()) {
+					schedule();
+				}
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@ package org.springframework.data.gemfire.listener;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -16,6 +17,11 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
@@ -39,7 +45,6 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
@@ -49,10 +54,13 @@ import org.springframework.data.gemfire.client.support.DelegatingPoolAdapter;
 import org.springframework.data.gemfire.client.support.PoolManagerPoolResolver;
 import org.springframework.data.gemfire.config.annotation.ContinuousQueryListenerContainerConfigurer;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
 import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 import org.springframework.util.StringUtils;
@@ -77,32 +85,41 @@ import org.springframework.util.StringUtils;
  * @see DisposableBean
  * @see InitializingBean
  * @see SmartLifecycle
- * @see SimpleAsyncTaskExecutor
  * @see TaskExecutor
+ * @see ContinuousQueryEventDispatcher
  * @see PoolResolver
  * @see DefaultableDelegatingPoolAdapter
  * @see DelegatingPoolAdapter
  * @see ErrorHandler
+ * @see GemFireMetricsAware
  * @since 1.1.0
  */
 @SuppressWarnings("unused")
 public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanNameAware,
-		InitializingBean, DisposableBean, SmartLifecycle {
+		GemFireMetricsAware, InitializingBean, DisposableBean, SmartLifecycle {
 
 	// Default Thread name prefix is "ContinuousQueryListenerContainer-"
 	public static final String DEFAULT_THREAD_NAME_PREFIX =
 		String.format("%s-", ContinuousQueryListenerContainer.class.getSimpleName());
 
+	// Default maximum time in milliseconds a CQ event is held in an incomplete batch
+	public static final int DEFAULT_BATCH_TIME_INTERVAL = 100;
+
 	// Default PoolResolver uses Apache Geode's PoolManager
 	protected static final PoolResolver DEFAULT_POOL_RESOLVER = new PoolManagerPoolResolver();
 
 	private boolean autoStartup = true;
+	private boolean useVirtualThreads = false;
 
 	private volatile boolean initialized = false;
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int batchSize = 0;
+	private int batchTimeInterval = DEFAULT_BATCH_TIME_INTERVAL;
+	private int maxConcurrency = Runtime.getRuntime().availableProcessors();
 	private int phase = Integer.MAX_VALUE;
+	private int queueCapacity = ContinuousQueryEventDispatcher.DEFAULT_QUEUE_CAPACITY;
 
 	private BeanFactory beanFactory;
 
@@ -110,6 +127,11 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Executor taskExecutor;
 
+	private volatile GemFireMetrics metrics = GemFireMetrics.NOOP;
+
+	private ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy =
+		ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK;
+
 	private List<ContinuousQueryListenerContainerConfigurer> cqListenerContainerConfigurers = Collections.emptyList();
 
 	private ContinuousQueryListenerContainerConfigurer compositeCqListenerContainerConfigurer =
@@ -122,6 +144,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Queue<CqQuery> continuousQueries = new ConcurrentLinkedQueue<>();
 
+	private volatile ScheduledExecutorService batchScheduler;
+
 	private QueryService queryService;
 
 	private Set<ContinuousQueryDefinition> continuousQueryDefinitions = new LinkedHashSet<>();
@@ -309,11 +333,16 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 *
 	 * <p>Called if no explicit {@link TaskExecutor} has been configured.
 	 *
-	 * <p>The default implementation builds a {@link SimpleAsyncTaskExecutor} with the specified bean name
-	 * (or the class name, if no bean name is specified) as the Thread name prefix.</p>
+	 * <p>The default implementation builds a {@link ContinuousQueryEventDispatcher} with the specified bean name
+	 * (or the class name, if no bean name is specified) as the Thread name prefix, processing CQ events on
+	 * virtual Threads or a bounded pool of Threads, with a bounded queue and serial, per-CQ ordering.</p>
 	 *
 	 * @return an instance of the {@link TaskExecutor} used to process CQ events asynchronously.
-	 * @see SimpleAsyncTaskExecutor
+	 * @see ContinuousQueryEventDispatcher
+	 * @see #setMaxConcurrency(int)
+	 * @see #setOverflowPolicy(ContinuousQueryEventDispatcher.OverflowPolicy)
+	 * @see #setQueueCapacity(int)
+	 * @see #setUseVirtualThreads(boolean)
 	 */
 	protected Executor createDefaultTaskExecutor() {
 
@@ -322,7 +351,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			.map(it -> String.format("%s-", it))
 			.orElse(DEFAULT_THREAD_NAME_PREFIX);
 
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+		return new ContinuousQueryEventDispatcher(threadNamePrefix, isUseVirtualThreads(), getMaxConcurrency(),
+			getQueueCapacity(), getOverflowPolicy());
 	}
 
 	/**
@@ -530,6 +560,30 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return Optional.ofNullable(this.errorHandler);
 	}
 
+	/**
+	 * Sets the {@link GemFireMetrics} used to record the dispatch of {@link CqEvent CQ events}
+	 * to {@link ContinuousQueryListener ContinuousQueryListeners}.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record the dispatch of {@link CqEvent CQ events};
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics
+	 */
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+	}
+
+	/**
+	 * Returns the {@link GemFireMetrics} used to record the dispatch of {@link CqEvent CQ events}
+	 * to {@link ContinuousQueryListener ContinuousQueryListeners}.
+	 *
+	 * @return the {@link GemFireMetrics} used to record the dispatch of {@link CqEvent CQ events}.
+	 * @see GemFireMetrics
+	 */
+	public GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
 	/**
 	 * Sets the phase in which this CQ listener container will start in the Spring container.
 	 *
@@ -621,9 +675,164 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.queryService;
 	}
 
+	/**
+	 * Configures the maximum number of CQ events delivered in a single batch to
+	 * {@link BatchingContinuousQueryListener BatchingContinuousQueryListeners}.
+	 *
+	 * A batch size greater than {@literal 1} enables batching. Defaults to {@literal 0}, which delivers
+	 * each CQ event individually.
+	 *
+	 * @param batchSize maximum number of CQ events delivered in a single batch.
+	 * @see BatchingContinuousQueryListener
+	 * @see #setBatchTimeInterval(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the maximum number of CQ events delivered in a single batch to
+	 * {@link BatchingContinuousQueryListener BatchingContinuousQueryListeners}.
+	 *
+	 * @return the maximum number of CQ events delivered in a single batch.
+	 * @see #setBatchSize(int)
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Configures the maximum time in milliseconds a CQ event is held in an incomplete batch before the batch
+	 * is delivered.
+	 *
+	 * Defaults to {@link #DEFAULT_BATCH_TIME_INTERVAL}.
+	 *
+	 * @param batchTimeInterval maximum time in milliseconds a CQ event is held in an incomplete batch.
+	 * @see #setBatchSize(int)
+	 */
+	public void setBatchTimeInterval(int batchTimeInterval) {
+		this.batchTimeInterval = batchTimeInterval;
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds a CQ event is held in an incomplete batch.
+	 *
+	 * @return the maximum time in milliseconds a CQ event is held in an incomplete batch.
+	 * @see #setBatchTimeInterval(int)
+	 */
+	public int getBatchTimeInterval() {
+		return this.batchTimeInterval;
+	}
+
+	/**
+	 * Determines whether CQ events are delivered in batches to
+	 * {@link BatchingContinuousQueryListener BatchingContinuousQueryListeners}.
+	 *
+	 * @return a boolean value indicating whether batching is enabled.
+	 * @see #setBatchSize(int)
+	 */
+	public boolean isBatching() {
+		return getBatchSize() > 1;
+	}
+
+	/**
+	 * Configures the maximum number of CQ events processed concurrently by the default
+	 * {@link ContinuousQueryEventDispatcher} when running on platform Threads.
+	 *
+	 * Defaults to the number of available processors.
+	 *
+	 * @param maxConcurrency maximum number of CQ events processed concurrently.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		this.maxConcurrency = maxConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of CQ events processed concurrently by the default
+	 * {@link ContinuousQueryEventDispatcher} when running on platform Threads.
+	 *
+	 * @return the maximum number of CQ events processed concurrently.
+	 * @see #setMaxConcurrency(int)
+	 */
+	public int getMaxConcurrency() {
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * Configures the {@link ContinuousQueryEventDispatcher.OverflowPolicy} applied by the default
+	 * {@link ContinuousQueryEventDispatcher} when its queue is full.
+	 *
+	 * Defaults to {@link ContinuousQueryEventDispatcher.OverflowPolicy#BLOCK}.
+	 *
+	 * @param overflowPolicy {@link ContinuousQueryEventDispatcher.OverflowPolicy} applied when the queue is full.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setOverflowPolicy(ContinuousQueryEventDispatcher.OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Returns the {@link ContinuousQueryEventDispatcher.OverflowPolicy} applied by the default
+	 * {@link ContinuousQueryEventDispatcher} when its queue is full.
+	 *
+	 * @return the {@link ContinuousQueryEventDispatcher.OverflowPolicy} applied when the queue is full.
+	 * @see #setOverflowPolicy(ContinuousQueryEventDispatcher.OverflowPolicy)
+	 */
+	public ContinuousQueryEventDispatcher.OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Configures the maximum number of CQ events waiting to be processed by the default
+	 * {@link ContinuousQueryEventDispatcher}.
+	 *
+	 * Defaults to {@link ContinuousQueryEventDispatcher#DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param queueCapacity maximum number of CQ events waiting to be processed.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Returns the maximum number of CQ events waiting to be processed by the default
+	 * {@link ContinuousQueryEventDispatcher}.
+	 *
+	 * @return the maximum number of CQ events waiting to be processed.
+	 * @see #setQueueCapacity(int)
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Configures whether the default {@link ContinuousQueryEventDispatcher} processes CQ events on virtual Threads,
+	 * when supported by the Java runtime.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @param useVirtualThreads boolean indicating whether to process CQ events on virtual Threads.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setUseVirtualThreads(boolean useVirtualThreads) {
+		this.useVirtualThreads = useVirtualThreads;
+	}
+
+	/**
+	 * Determines whether the default {@link ContinuousQueryEventDispatcher} processes CQ events on virtual Threads.
+	 *
+	 * @return a boolean value indicating whether to process CQ events on virtual Threads.
+	 * @see #setUseVirtualThreads(boolean)
+	 */
+	public boolean isUseVirtualThreads() {
+		return this.useVirtualThreads;
+	}
+
 	/**
 	 * Sets the Task Executor used for running the event listeners when messages are received.
-	 * If no task executor is set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default.
+	 * If no task executor is set, an instance of {@link ContinuousQueryEventDispatcher} will be used by default.
 	 * The task executor can be adjusted depending on the work done by the listeners and the number of
 	 * messages coming in.
 	 *
@@ -686,7 +895,10 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	}
 
 	protected CqListener newCqListener(ContinuousQueryListener listener) {
-		return new EventDispatcherAdapter(listener);
+
+		return isBatching() && listener instanceof BatchingContinuousQueryListener
+			? new BatchingEventDispatcherAdapter((BatchingContinuousQueryListener) listener)
+			: new EventDispatcherAdapter(listener);
 	}
 
 	private CqQuery newNamedContinuousQuery(ContinuousQueryDefinition definition, CqAttributes attributes)
@@ -740,13 +952,96 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
+	 * When the {@link #getTaskExecutor() TaskExecutor} is a {@link ContinuousQueryEventDispatcher}, events are
+	 * dispatched to a serial lane per {@link CqQuery}, preserving the order of events for each CQ.
+	 *
+	 * The time from dispatching the {@link CqEvent CQ event} until the {@link ContinuousQueryListener} returns
+	 * is recorded with the configured {@link #getMetrics() GemFireMetrics}.
+	 *
 	 * @param listener {@link ContinuousQueryListener} which will process/handle the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process.
+	 * @see ContinuousQueryEventDispatcher
 	 * @see ContinuousQueryListener
 	 * @see CqEvent
 	 */
 	protected void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
-		getTaskExecutor().execute(() -> notify(listener, event));
+
+		GemFireMetrics.Sample sample = startSample(event, 1);
+
+		if (!dispatch(listener, event, () -> notify(listener, event, sample))) {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Asynchronously dispatches the batch of {@link CqEvent CQ events} to the targeted
+	 * {@link BatchingContinuousQueryListener}.
+	 *
+	 * @param listener {@link BatchingContinuousQueryListener} which will process/handle
+	 * the batch of {@link CqEvent CQ events}.
+	 * @param events {@link List} of {@link CqEvent CQ events} to process.
+	 * @see #dispatchEvent(ContinuousQueryListener, CqEvent)
+	 * @see BatchingContinuousQueryListener
+	 * @see CqEvent
+	 */
+	protected void dispatchEvents(BatchingContinuousQueryListener listener, List<CqEvent> events) {
+
+		if (!events.isEmpty()) {
+
+			CqEvent event = events.get(0);
+
+			GemFireMetrics.Sample sample = startSample(event, events.size());
+
+			if (!dispatch(listener, event, () -> notify(listener, events, sample))) {
+				sample.stop();
+			}
+		}
+	}
+
+	private GemFireMetrics.Sample startSample(CqEvent event, int eventCount) {
+
+		GemFireMetrics metrics = this.metrics;
+
+		if (metrics.isEnabled()) {
+
+			CqQuery query = event.getCq();
+
+			GemFireMetrics.Sample sample =
+				metrics.startContinuousQueryDispatch(query != null ? query.getName() : "unknown", eventCount);
+
+			byte[] deltaValue = eventCount == 1 ? event.getDeltaValue() : null;
+
+			if (deltaValue != null) {
+				sample.payloadSize(deltaValue.length);
+			}
+
+			return sample;
+		}
+
+		return GemFireMetrics.Sample.NOOP;
+	}
+
+	private boolean dispatch(ContinuousQueryListener listener, CqEvent event, Runnable task) {
+
+		Executor taskExecutor = getTaskExecutor();
+
+		if (taskExecutor instanceof ContinuousQueryEventDispatcher) {
+
+			CqQuery query = event.getCq();
+
+			boolean dispatched =
+				((ContinuousQueryEventDispatcher) taskExecutor).dispatch(query != null ? query : listener, task);
+
+			if (!dispatched && this.logger.isDebugEnabled()) {
+				this.logger.debug("CQ event for query [{}] was dropped", query != null ? query.getName() : "unknown");
+			}
+
+			return dispatched;
+		}
+
+		taskExecutor.execute(task);
+
+		return true;
 	}
 
 	/**
@@ -754,16 +1049,75 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 *
 	 * @param listener {@link ContinuousQueryListener} to notify of the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process/handle.
+	 * @param sample {@link GemFireMetrics.Sample} measuring the dispatch of the {@link CqEvent CQ event}.
 	 * @see #handleListenerError(Throwable)
 	 */
-	private void notify(ContinuousQueryListener listener, CqEvent event) {
+	private void notify(ContinuousQueryListener listener, CqEvent event, GemFireMetrics.Sample sample) {
 
 		try {
 			listener.onEvent(event);
+			sample.succeeded();
+		}
+		catch (Throwable cause) {
+			handleListenerError(cause);
+		}
+		finally {
+			sample.stop();
+		}
+	}
+
+	/**
+	 * Invoke the specified {@link BatchingContinuousQueryListener listener} to process/handle the batch of
+	 * {@link CqEvent CQ events}.
+	 *
+	 * @param listener {@link BatchingContinuousQueryListener} to notify of the {@link CqEvent CQ events}.
+	 * @param events {@link List} of {@link CqEvent CQ events} to process/handle.
+	 * @param sample {@link GemFireMetrics.Sample} measuring the dispatch of the {@link CqEvent CQ events}.
+	 * @see #handleListenerError(Throwable)
+	 */
+	private void notify(BatchingContinuousQueryListener listener, List<CqEvent> events,
+			GemFireMetrics.Sample sample) {
+
+		try {
+			listener.onEvents(events);
+			sample.succeeded(events.size());
 		}
 		catch (Throwable cause) {
 			handleListenerError(cause);
 		}
+		finally {
+			sample.stop();
+		}
+	}
+
+	private ScheduledExecutorService resolveBatchScheduler() {
+
+		ScheduledExecutorService batchScheduler = this.batchScheduler;
+
+		if (batchScheduler == null) {
+			synchronized (this) {
+
+				batchScheduler = this.batchScheduler;
+
+				if (batchScheduler == null) {
+
+					String threadNamePrefix = Optional.ofNullable(getBeanName())
+						.filter(StringUtils::hasText)
+						.map(it -> String.format("%s-Batch-", it))
+						.orElse(DEFAULT_THREAD_NAME_PREFIX + "Batch-");
+
+					CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+
+					threadFactory.setDaemon(true);
+
+					batchScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+					this.batchScheduler = batchScheduler;
+				}
+			}
+		}
+
+		return batchScheduler;
 	}
 
 	/**
@@ -837,6 +1191,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		stop();
 		closeQueries();
+		destroyBatchScheduler();
 		destroyExecutor();
 
 		this.initialized = false;
@@ -861,6 +1216,13 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		getContinuousQueries().clear();
 	}
 
+	private synchronized void destroyBatchScheduler() {
+
+		Optional.ofNullable(this.batchScheduler).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.batchScheduler = null;
+	}
+
 	private void destroyExecutor() {
 
 		Optional.ofNullable(getTaskExecutor())
@@ -908,4 +1270,112 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		public void close() { }
 
 	}
+
+	/**
+	 * {@link EventDispatcherAdapter} collecting {@link CqEvent CQ events} into batches that are dispatched
+	 * to a {@link BatchingContinuousQueryListener} when the batch is full or the batch time interval elapses.
+	 *
+	 * Completed batches are swapped out while holding the lock and dispatched, in order, after releasing it,
+	 * so a blocked dispatch neither blocks the CQ thread adding events nor stalls the shared batch scheduler
+	 * while it holds the lock.
+	 */
+	protected class BatchingEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private final AtomicBoolean dispatching = new AtomicBoolean(false);
+
+		private final Object lock = new Object();
+
+		private final Queue<List<CqEvent>> completedBatches = new ConcurrentLinkedQueue<>();
+
+		private List<CqEvent> batch;
+
+		private ScheduledFuture<?> flushTask;
+
+		protected BatchingEventDispatcherAdapter(BatchingContinuousQueryListener listener) {
+			super(listener);
+		}
+
+		@Override
+		protected BatchingContinuousQueryListener getListener() {
+			return (BatchingContinuousQueryListener) super.getListener();
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			add(event);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+			add(event);
+		}
+
+		private void add(CqEvent event) {
+
+			synchronized (this.lock) {
+
+				if (this.batch == null) {
+
+					this.batch = new ArrayList<>(getBatchSize());
+
+					this.flushTask = resolveBatchScheduler()
+						.schedule(this::flush, getBatchTimeInterval(), TimeUnit.MILLISECONDS);
+				}
+
+				this.batch.add(event);
+
+				if (this.batch.size() >= getBatchSize()) {
+					this.flushTask.cancel(false);
+					completeBatch();
+				}
+			}
+
+			dispatchCompletedBatches();
+		}
+
+		/**
+		 * Dispatches the current, incomplete batch of {@link CqEvent CQ events}, if any.
+		 */
+		protected void flush() {
+
+			synchronized (this.lock) {
+				completeBatch();
+			}
+
+			dispatchCompletedBatches();
+		}
+
+		private void completeBatch() {
+
+			List<CqEvent> batch = this.batch;
+
+			this.batch = null;
+			this.flushTask = null;
+
+			if (batch != null) {
+				this.completedBatches.offer(batch);
+			}
+		}
+
+		private void dispatchCompletedBatches() {
+
+			while (!this.completedBatches.isEmpty() && this.dispatching.compareAndSet(false, true)) {
+				try {
+					for (List<CqEvent> batch = this.completedBatches.poll(); batch != null;
+							batch = this.completedBatches.poll()) {
+
+						dispatchEvents(getListener(), batch);
+					}
+				}
+				finally {
+					this.dispatching.set(false);
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			flush();
+		}
+	}
 }
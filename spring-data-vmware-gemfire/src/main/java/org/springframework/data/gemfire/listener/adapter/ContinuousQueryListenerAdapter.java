@@ -8,6 +8,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,8 +16,10 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
 
+import org.springframework.core.ResolvableType;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.listener.BatchingContinuousQueryListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
 import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 import org.springframework.util.Assert;
@@ -51,8 +54,13 @@ import org.slf4j.LoggerFactory;
  *    void handleEvent(Throwable cause);
  *    void handleEvent(CqEvent event, Operation baseOp, byte[] deltaValue);
  *    void handleEvent(CqEvent event, Operation baseOp, Operation queryOp, Object key, Object newValue);
+ *    void handleEvent(List&lt;CqEvent&gt; events);
  * }</pre>
  *
+ * <p>Listener methods accepting a {@link List} of {@link CqEvent CQ events} receive CQ events in batches
+ * when batching is enabled on the {@link org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer},
+ * and a batch of one otherwise.</p>
+ *
  * @author Juergen Hoeller
  * @author Costin Leau
  * @author Oliver Gierke
@@ -62,9 +70,10 @@ import org.slf4j.LoggerFactory;
  * @see CqEvent
  * @see CqQuery
  * @see ContinuousQueryListener
+ * @see BatchingContinuousQueryListener
  * @since 1.1.0
  */
-public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
+public class ContinuousQueryListenerAdapter implements BatchingContinuousQueryListener {
 
 	// Out-of-the-box value for the default listener handler method "handleEvent".
 	public static final String DEFAULT_LISTENER_METHOD_NAME = "handleEvent";
@@ -181,15 +190,9 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			// Else, find the listener method handler reflectively
 			else {
 
-				String methodName = Optional.ofNullable(getListenerMethodName(event))
-					.filter(StringUtils::hasText)
-					.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
-						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
-						+ " or override the 'getListenerMethodName' method."));
-
-				this.invoker = Optional.ofNullable(this.invoker)
-					.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+				String methodName = resolveListenerMethodName(event);
 
+				resolveMethodInvoker(methodName);
 				invokeListenerMethod(event, methodName);
 			}
 
@@ -199,6 +202,86 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
+	/**
+	 * {@link BatchingContinuousQueryListener} callback method for handling a batch of CQ events.
+	 *
+	 * <p>When every listener method with the resolved name accepts a {@link List} of {@link CqEvent CQ events},
+	 * the listener method is invoked once with the batch. Otherwise, each CQ event in the batch is passed to
+	 * {@link #invokeListenerMethod(CqEvent, String)} in turn. If the listener method name resolved for the CQ events
+	 * in the batch differs, each CQ event is handled individually by {@link #onEvent(CqEvent)}.
+	 *
+	 * <p>Exceptions are handled per CQ event, so a failure handling one CQ event does not prevent the remaining
+	 * CQ events in the batch from being delivered. Only a {@link BatchingContinuousQueryListener} delegate or
+	 * {@link List} listener methods receive the batch in a single call, and therefore fail as a whole.
+	 * In case of an exception, the {@link #handleListenerException(Throwable)} method will be invoked.
+	 *
+	 * @param events {@link List} of incoming {@link CqEvent CQ events}.
+	 * @see #handleListenerException
+	 */
+	@Override
+	public void onEvents(List<CqEvent> events) {
+
+		if (events.isEmpty()) {
+			return;
+		}
+
+		Object delegate = getDelegate();
+
+		if (delegate != this && delegate instanceof BatchingContinuousQueryListener) {
+			invokeSafely(() -> ((BatchingContinuousQueryListener) delegate).onEvents(events));
+		}
+		else if (delegate != this && delegate instanceof ContinuousQueryListener) {
+			events.forEach(event -> invokeSafely(() -> ((ContinuousQueryListener) delegate).onEvent(event)));
+		}
+		else {
+			invokeSafely(() -> {
+
+				String methodName = resolveListenerMethodName(events.get(0));
+
+				for (CqEvent event : events) {
+					if (!methodName.equals(getListenerMethodName(event))) {
+						events.forEach(this::onEvent);
+						return;
+					}
+				}
+
+				resolveMethodInvoker(methodName);
+
+				if (this.invoker.isBatchOnly()) {
+					invokeListenerMethod(events, methodName);
+				}
+				else {
+					events.forEach(event -> invokeSafely(() -> invokeListenerMethod(event, methodName)));
+				}
+			});
+		}
+	}
+
+	private void invokeSafely(Runnable listenerInvocation) {
+
+		try {
+			listenerInvocation.run();
+		}
+		catch (Throwable cause) {
+			handleListenerException(cause);
+		}
+	}
+
+	private String resolveListenerMethodName(CqEvent event) {
+
+		return Optional.ofNullable(getListenerMethodName(event))
+			.filter(StringUtils::hasText)
+			.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
+				+ " Either specify a non-null value for the 'defaultListenerMethod' property"
+				+ " or override the 'getListenerMethodName' method."));
+	}
+
+	private void resolveMethodInvoker(String methodName) {
+
+		this.invoker = Optional.ofNullable(this.invoker)
+			.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * The default implementation logs the exception at error level.
@@ -215,9 +298,19 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 	 * @see #getListenerMethodName
 	 */
 	protected void invokeListenerMethod(CqEvent event, String methodName) {
+		invokeListenerMethod(Collections.singletonList(event), methodName);
+	}
+
+	/**
+	 * Invoke the specified listener method for the batch of CQ events.
+	 * @param events the batch of events to be passed in
+	 * @param methodName the method to invoke
+	 * @see #getListenerMethodName
+	 */
+	protected void invokeListenerMethod(List<CqEvent> events, String methodName) {
 
 		try {
-			this.invoker.invoke(event);
+			this.invoker.invoke(events);
 		}
 		catch (InvocationTargetException cause) {
 			if (cause.getTargetException() instanceof DataAccessException) {
@@ -240,16 +333,20 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 		private final List<Method> methods;
 
+		private final List<Boolean> batchMethods;
+
 		MethodInvoker(Object delegate, String methodName) {
 
 			Class<?> delegateType = delegate.getClass();
 
 			this.delegate = delegate;
 			this.methods = new ArrayList<>();
+			this.batchMethods = new ArrayList<>();
 
 			ReflectionUtils.doWithMethods(delegateType, method -> {
 				ReflectionUtils.makeAccessible(method);
 				this.methods.add(method);
+				this.batchMethods.add(isBatchEventHandlerMethod(method));
 			}, method -> isValidEventHandlerMethodSignature(method, methodName));
 
 			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
@@ -259,7 +356,19 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 
 		private boolean isValidEventHandlerMethodSignature(Method method, String methodName) {
 			return isValidEventHandlerMethodWithName(method, methodName)
-				&& isValidEventHandlerMethodWithSignature(method);
+				&& (isBatchEventHandlerMethod(method) || isValidEventHandlerMethodWithSignature(method));
+		}
+
+		private boolean isBatchEventHandlerMethod(Method method) {
+
+			if (method.getParameterCount() == 1 && List.class.equals(method.getParameterTypes()[0])) {
+
+				Class<?> elementType = ResolvableType.forMethodParameter(method, 0).asCollection().resolveGeneric(0);
+
+				return elementType == null || elementType.isAssignableFrom(CqEvent.class);
+			}
+
+			return false;
 		}
 
 		private boolean isValidEventHandlerMethodWithName(Method method, String methodName) {
@@ -305,10 +414,27 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
-		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
+		boolean isBatchOnly() {
+			return !this.batchMethods.contains(Boolean.FALSE);
+		}
+
+		void invoke(List<CqEvent> events) throws IllegalAccessException, InvocationTargetException {
+
+			for (int index = 0, size = this.methods.size(); index < size; index++) {
+				if (this.batchMethods.get(index)) {
+					this.methods.get(index).invoke(this.delegate, events);
+				}
+			}
+
+			for (CqEvent event : events) {
+				for (int index = 0, size = this.methods.size(); index < size; index++) {
+					if (!this.batchMethods.get(index)) {
+
+						Method method = this.methods.get(index);
 
-			for (Method method : this.methods) {
-				method.invoke(this.delegate, getMethodArguments(method, event));
+						method.invoke(this.delegate, getMethodArguments(method, event));
+					}
+				}
 			}
 		}
 
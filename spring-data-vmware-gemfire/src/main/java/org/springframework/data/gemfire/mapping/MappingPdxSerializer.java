@@ -12,7 +12,6 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
@@ -28,8 +27,6 @@ import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
-import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
@@ -37,6 +34,7 @@ import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
 import org.slf4j.Logger;
@@ -59,8 +57,6 @@ import org.slf4j.LoggerFactory;
  * @see PersistentEntity
  * @see PersistentProperty
  * @see PersistentPropertyAccessor
- * @see PropertyHandler
- * @see ConvertingPropertyAccessor
  * @see EntityInstantiator
  * @see EntityInstantiators
  * @see PersistentEntityParameterValueProvider
@@ -202,6 +198,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private final Map<Object, PdxSerializer> customPdxSerializers = new ConcurrentHashMap<>();
 
+	private final Map<GemfirePersistentEntity<?>, PdxCodecPlan> codecPlans = new ConcurrentHashMap<>();
+
 	private Predicate<Class<?>> excludeTypeFilters = TypeFilters.EXCLUDE_NULL_TYPES
 		.and(TypeFilters.EXCLUDE_JAVA_TYPES)
 		.and(TypeFilters.EXCLUDE_COM_GEMSTONE_GEMFIRE_TYPES)
@@ -210,6 +208,10 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private Predicate<Class<?>> includeTypeFilters = TypeFilters.EXCLUDE_ALL_TYPES;
 
+	private volatile boolean typedFieldAccess;
+
+	private volatile ClassValue<Boolean> typeFilterResults = newTypeFilterResults();
+
 	// TODO remove? SpELContext is not used
 	private SpELContext spelContext;
 
@@ -288,7 +290,9 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * @see Map
 	 */
 	public void setCustomPdxSerializers(Map<?, PdxSerializer> customPdxSerializers) {
+
 		Optional.ofNullable(customPdxSerializers).ifPresent(this.customPdxSerializers::putAll);
+		invalidateCodecPlans();
 	}
 
 	/**
@@ -410,6 +414,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.excludeTypeFilters = excludeTypeFilters != null
 			? this.excludeTypeFilters.and(excludeTypeFilters)
 			: this.excludeTypeFilters;
+
+		this.typeFilterResults = newTypeFilterResults();
 	}
 
 	/**
@@ -429,6 +435,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.includeTypeFilters = includeTypeFilters != null
 			? this.includeTypeFilters.or(includeTypeFilters)
 			: this.includeTypeFilters;
+
+		this.typeFilterResults = newTypeFilterResults();
 	}
 
 	/**
@@ -442,6 +450,63 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return this.excludeTypeFilters.or(TypeFilters.EXCLUDE_NULL_TYPES.and(this.includeTypeFilters));
 	}
 
+	/**
+	 * Determines whether the given {@link Class type} is serializable by this {@link MappingPdxSerializer}
+	 * as determined by the {@link #getTypeFilters() type filters}.
+	 *
+	 * The result is computed once per {@link Class type} and cached until the {@link Predicate type filters}
+	 * are reconfigured with {@link #setExcludeTypeFilters(Predicate)} or {@link #setIncludeTypeFilters(Predicate)}.
+	 *
+	 * @param type {@link Class type} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} is serializable
+	 * by this {@link MappingPdxSerializer}; {@literal null} {@link Class types} are never serializable.
+	 * @see #getTypeFilters()
+	 */
+	boolean isSerializableType(@Nullable Class<?> type) {
+		return type != null && this.typeFilterResults.get(type);
+	}
+
+	private @NonNull ClassValue<Boolean> newTypeFilterResults() {
+
+		return new ClassValue<>() {
+
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				return getTypeFilters().test(type);
+			}
+		};
+	}
+
+	/**
+	 * Configures whether entity properties declared with a primitive, {@link String}, {@link java.util.Date}
+	 * or primitive/{@link String} array {@link Class type} are read from and written to PDX with the typed
+	 * {@link PdxReader} and {@link PdxWriter} methods (e.g. {@link PdxWriter#writeLong(String, long)}).
+	 *
+	 * Typed field access transfers values directly between the entity's getter/setter methods or fields and PDX,
+	 * avoiding boxing of primitive values along with the {@link ConversionService}. The PDX field types written are
+	 * the same as those written by {@link PdxWriter#writeField(String, Object, Class)}.
+	 *
+	 * Properties handled by a custom {@link PdxSerializer} are unaffected. Defaults to {@literal false}.
+	 *
+	 * @param typedFieldAccess boolean indicating whether to enable typed field access.
+	 * @see #isTypedFieldAccess()
+	 */
+	public void setTypedFieldAccess(boolean typedFieldAccess) {
+
+		this.typedFieldAccess = typedFieldAccess;
+		invalidateCodecPlans();
+	}
+
+	/**
+	 * Determines whether typed field access is enabled.
+	 *
+	 * @return a boolean value indicating whether typed field access is enabled.
+	 * @see #setTypedFieldAccess(boolean)
+	 */
+	public boolean isTypedFieldAccess() {
+		return this.typedFieldAccess;
+	}
+
 	/**
 	 * Registers the given {@link PdxSerializerResolver}, which will be used to resolve a custom {@link PdxSerializer}
 	 * for a entity property.
@@ -456,9 +521,60 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		if (pdxSerializerResolver != null) {
 			this.pdxSerializerResolvers.add(0, pdxSerializerResolver);
+			invalidateCodecPlans();
 		}
 	}
 
+	/**
+	 * Returns the cached {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}, computing the plan
+	 * on first use.
+	 *
+	 * The {@link PdxCodecPlan} captures the ordered properties of the entity to serialize and deserialize along with
+	 * any custom {@link PdxSerializer} resolved for each property so that the per-object serialization path
+	 * performs no additional lookups.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which to return the {@link PdxCodecPlan};
+	 * must not be {@literal null}.
+	 * @return the {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}.
+	 * @see #newCodecPlan(GemfirePersistentEntity)
+	 * @see PdxCodecPlan
+	 */
+	@NonNull PdxCodecPlan getCodecPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		PdxCodecPlan codecPlan = this.codecPlans.get(entity);
+
+		return codecPlan != null ? codecPlan : this.codecPlans.computeIfAbsent(entity, this::newCodecPlan);
+	}
+
+	/**
+	 * Computes a new {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which to compute the {@link PdxCodecPlan}.
+	 * @return a new {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}.
+	 * @see #isReadable(GemfirePersistentProperty)
+	 * @see #isWritable(GemfirePersistentEntity, GemfirePersistentProperty)
+	 * @see #resolveCustomPdxSerializer(PersistentProperty)
+	 * @see #isTypedFieldAccess()
+	 */
+	@NonNull PdxCodecPlan newCodecPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		return PdxCodecPlan.from(entity,
+			this::isReadable,
+			persistentProperty -> isWritable(entity, persistentProperty),
+			this::resolveCustomPdxSerializer,
+			isTypedFieldAccess());
+	}
+
+	/**
+	 * Invalidates all cached {@link PdxCodecPlan PdxCodecPlans} causing the plans to be recomputed on next use.
+	 *
+	 * This method is called whenever the configuration affecting the {@link PdxCodecPlan PdxCodecPlans},
+	 * such as the custom {@link PdxSerializer PdxSerializers}, changes.
+	 */
+	protected void invalidateCodecPlans() {
+		this.codecPlans.clear();
+	}
+
 	/**
 	 * Deserializes (reads) an {@link Object} of {@link Class type} from PDX using the {@link PdxReader}.
 	 *
@@ -469,13 +585,13 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * of {@link Class} type cannot be deserialized from PDX.
 	 * @see PdxReader
 	 * @see #doFromData(Class, PdxReader)
-	 * @see #getTypeFilters()
+	 * @see #isSerializableType(Class)
 	 * @see Class
 	 * @see Object
 	 */
 	@Override
 	public Object fromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
-		return getTypeFilters().test(type) ? doFromData(type, pdxReader) : null;
+		return isSerializableType(type) ? doFromData(type, pdxReader) : null;
 	}
 
 	/**
@@ -495,54 +611,74 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
 
+		PdxCodecPlan codecPlan = getCodecPlan(entity);
+
 		Object instance = resolveEntityInstantiator(entity)
 			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
 				new GemfirePropertyValueProvider(pdxReader), null));
 
-		PersistentPropertyAccessor propertyAccessor =
-			new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
+		PersistentPropertyAccessor propertyAccessor = entity.getPropertyAccessor(instance);
 
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+		boolean debugEnabled = getLogger().isDebugEnabled();
 
-			if (isWritable(entity, persistentProperty)) {
+		for (PdxCodecPlan.PropertyCodec propertyCodec : codecPlan.getWritableProperties()) {
 
-				Object value = null;
+			Object value = null;
 
-				PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+			PdxSerializer customPdxSerializer = propertyCodec.getCustomPdxSerializer();
 
-				Supplier<String> messageSuffix = () -> customPdxSerializer != null
-					? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-					: "";
+			try {
+				if (debugEnabled) {
+					getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
+						propertyCodec.getName(), instance, type, propertyCodec.getMessageSuffix());
+				}
 
-				try {
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
-							persistentProperty.getName(), instance, type, messageSuffix.get());
-					}
+				if (propertyCodec.hasTypedPdxReader()) {
+					// Typed PDX reads set the value directly on the entity, without boxing or conversion
+					propertyCodec.readTypedField(pdxReader, propertyAccessor.getBean());
+				}
+				else {
 
 					value = customPdxSerializer != null
-						? customPdxSerializer.fromData(persistentProperty.getType(), pdxReader)
-						: pdxReader.readField(persistentProperty.getName());
+						? customPdxSerializer.fromData(propertyCodec.getType(), pdxReader)
+						: pdxReader.readField(propertyCodec.getName());
 
-					if (getLogger().isDebugEnabled()) {
+					if (debugEnabled) {
 						getLogger().debug("... with value [{}]", value);
 					}
 
-					propertyAccessor.setProperty(persistentProperty, value);
+					propertyAccessor.setProperty(propertyCodec.getProperty(),
+						convertIfNecessary(value, propertyCodec.getType()));
 				}
-				catch (Exception cause) {
+			}
+			catch (Exception cause) {
 
-					String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-						value, persistentProperty.getName(), type, messageSuffix.get());
+				String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
+					value, propertyCodec.getName(), type, propertyCodec.getMessageSuffix());
 
-					throw new MappingException(message, cause);
-				}
+				throw new MappingException(message, cause);
 			}
-		});
+		}
 
 		return propertyAccessor.getBean();
 	}
 
+	/**
+	 * Converts the given {@link Object value} to the given {@link Class type} using the configured
+	 * {@link ConversionService} if the {@link Object value} is not already assignable to the {@link Class type}.
+	 *
+	 * @param value {@link Object} to convert.
+	 * @param type {@link Class type} to convert the {@link Object value} to.
+	 * @return the converted {@link Object value}.
+	 * @see #getConversionService()
+	 */
+	private @Nullable Object convertIfNecessary(@Nullable Object value, @NonNull Class<?> type) {
+
+		return value == null || ClassUtils.isAssignableValue(type, value)
+			? value
+			: getConversionService().convert(value, type);
+	}
+
 	/**
 	 * Determines whether the {@link PersistentProperty} of the given {@link PersistentEntity} is writable.
 	 *
@@ -574,12 +710,12 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * the given {@link Object} to PDX.
 	 * @see PdxWriter
 	 * @see #doToData(Object, PdxWriter)
-	 * @see #getTypeFilters()
+	 * @see #isSerializableType(Class)
 	 * @see Object
 	 */
 	@Override
 	public boolean toData(@Nullable Object value, @NonNull PdxWriter pdxWriter) {
-		return getTypeFilters().test(resolveType(value)) && doToData(value, pdxWriter);
+		return isSerializableType(resolveType(value)) && doToData(value, pdxWriter);
 	}
 
 	/**
@@ -592,7 +728,6 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * @see PdxWriter
 	 * @see Object
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	boolean doToData(Object value, @NonNull PdxWriter pdxWriter) {
 
 		GemfirePersistentEntity<?> entity = getPersistentEntity(value);
@@ -600,56 +735,57 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		// The entity will be null for primitive & wrapper types (e.g. int, Long, String, etc).
 		if (entity != null) {
 
-			PersistentPropertyAccessor propertyAccessor =
-				new ConvertingPropertyAccessor(entity.getPropertyAccessor(value), getConversionService());
+			PdxCodecPlan codecPlan = getCodecPlan(entity);
 
-			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+			PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(value);
 
-				if (isReadable(persistentProperty)) {
+			boolean debugEnabled = getLogger().isDebugEnabled();
 
-					Object propertyValue = null;
+			for (PdxCodecPlan.PropertyCodec propertyCodec : codecPlan.getReadableProperties()) {
 
-					PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+				Object propertyValue = null;
 
-					String propertyName = persistentProperty.getName();
+				PdxSerializer customPdxSerializer = propertyCodec.getCustomPdxSerializer();
 
-					Supplier<String> messageSuffix = () -> customPdxSerializer != null
-						? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-						: "";
+				boolean typedPdxWriter = propertyCodec.hasTypedPdxWriter();
 
-					try {
+				try {
 
-						propertyValue = propertyAccessor.getProperty(persistentProperty);
+					// Typed PDX writes get the value directly from the entity, without boxing
+					if (!typedPdxWriter || debugEnabled) {
+						propertyValue = propertyAccessor.getProperty(propertyCodec.getProperty());
+					}
 
-						if (getLogger().isDebugEnabled()) {
-							getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
-								entity.getType().getName(), propertyName, propertyValue,
-								ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
-						}
+					if (debugEnabled) {
+						getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
+							entity.getType().getName(), propertyCodec.getName(), propertyValue,
+							ObjectUtils.nullSafeClassName(propertyValue), propertyCodec.getMessageSuffix());
+					}
 
-						if (customPdxSerializer != null) {
-							customPdxSerializer.toData(propertyValue, pdxWriter);
-						}
-						else {
-							pdxWriter.writeField(propertyName, propertyValue,
-								(Class<Object>) persistentProperty.getType());
-						}
+					if (customPdxSerializer != null) {
+						customPdxSerializer.toData(propertyValue, pdxWriter);
+					}
+					else if (typedPdxWriter) {
+						propertyCodec.writeTypedField(pdxWriter, value);
+					}
+					else {
+						pdxWriter.writeField(propertyCodec.getName(), propertyValue, propertyCodec.getType());
 					}
-					catch (Exception cause) {
+				}
+				catch (Exception cause) {
 
-						String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
-							entity.getType().getName(), persistentProperty.getName(), propertyValue,
-							ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
+					String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
+						entity.getType().getName(), propertyCodec.getName(), propertyValue,
+						ObjectUtils.nullSafeClassName(propertyValue), propertyCodec.getMessageSuffix());
 
-						throw new MappingException(message, cause);
-					}
+					throw new MappingException(message, cause);
 				}
-			});
+			}
 
-			GemfirePersistentProperty idProperty = entity.getIdProperty();
+			String identityFieldName = codecPlan.getIdentityFieldName();
 
-			if (idProperty != null) {
-				pdxWriter.markIdentityField(idProperty.getName());
+			if (identityFieldName != null) {
+				pdxWriter.markIdentityField(identityFieldName);
 			}
 
 			return true;
@@ -782,9 +918,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
 
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(JAVA_PACKAGE_NAME))
-					.isPresent();
+				return type != null && !type.getPackageName().startsWith(JAVA_PACKAGE_NAME);
 			}
 		},
 
@@ -801,9 +935,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
 
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(COM_GEMSTONE_GEMFIRE_PACKAGE_NAME))
-					.isPresent();
+				return type != null && !type.getPackageName().startsWith(COM_GEMSTONE_GEMFIRE_PACKAGE_NAME);
 			}
 		},
 
@@ -812,9 +944,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			@Override
 			public boolean accept(Class<?> type) {
 
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(ORG_APACHE_GEODE_PACKAGE_NAME))
-					.isPresent();
+				return type != null && !type.getPackageName().startsWith(ORG_APACHE_GEODE_PACKAGE_NAME);
 			}
 		},
 
@@ -823,9 +953,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 			@Override
 			public boolean accept(@Nullable Class<?> type) {
 
-				return Optional.ofNullable(type)
-					.filter(it -> !it.getPackage().getName().startsWith(ORG_SPRINGFRAMEWORK_PACKAGE_NAME))
-					.isPresent();
+				return type != null && !type.getPackageName().startsWith(ORG_SPRINGFRAMEWORK_PACKAGE_NAME);
 			}
 		},
 	}
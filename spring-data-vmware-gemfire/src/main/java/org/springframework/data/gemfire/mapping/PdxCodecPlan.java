@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, precompiled plan describing how a {@link GemfirePersistentEntity} is read from and written to PDX.
+ *
+ * The plan is computed once per {@link GemfirePersistentEntity} by the {@link MappingPdxSerializer} and captures
+ * the ordered {@link PropertyCodec properties} to serialize and deserialize, the custom {@link PdxSerializer}
+ * (if any) resolved for each property along with the PDX identity field so that the per-object serialization path
+ * performs no meta-data lookups.
+ *
+ * When typed field access is enabled, properties declared with a {@link Class type} supported by
+ * the {@link PdxFieldCodec} are read and written with the typed {@link PdxReader} and {@link PdxWriter} methods.
+ *
+ * @see MappingPdxSerializer
+ * @see GemfirePersistentEntity
+ * @see GemfirePersistentProperty
+ * @see PdxFieldCodec
+ * @see PdxSerializer
+ * @since 1.0.1
+ */
+class PdxCodecPlan {
+
+	/**
+	 * Factory method used to construct a new {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} for which the {@link PdxCodecPlan} is computed;
+	 * must not be {@literal null}.
+	 * @param readable {@link Predicate} used to determine whether a {@link GemfirePersistentProperty}
+	 * is serialized (written) to PDX.
+	 * @param writable {@link Predicate} used to determine whether a {@link GemfirePersistentProperty}
+	 * is deserialized (read) from PDX and set on the entity.
+	 * @param customPdxSerializerResolver {@link Function} used to resolve a custom {@link PdxSerializer}
+	 * for a {@link GemfirePersistentProperty}.
+	 * @param typedFieldAccess boolean indicating whether properties are read and written with
+	 * the typed {@link PdxReader} and {@link PdxWriter} methods when possible.
+	 * @return a new {@link PdxCodecPlan} for the given {@link GemfirePersistentEntity}.
+	 * @throws IllegalArgumentException if the {@link GemfirePersistentEntity} is {@literal null}.
+	 */
+	static @NonNull PdxCodecPlan from(@NonNull GemfirePersistentEntity<?> entity,
+			@NonNull Predicate<GemfirePersistentProperty> readable,
+			@NonNull Predicate<GemfirePersistentProperty> writable,
+			@NonNull Function<GemfirePersistentProperty, PdxSerializer> customPdxSerializerResolver,
+			boolean typedFieldAccess) {
+
+		Assert.notNull(entity, "GemfirePersistentEntity must not be null");
+
+		List<PropertyCodec> readableProperties = new ArrayList<>();
+		List<PropertyCodec> writableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+			boolean isReadable = readable.test(persistentProperty);
+			boolean isWritable = writable.test(persistentProperty);
+
+			if (isReadable || isWritable) {
+
+				PdxSerializer customPdxSerializer = customPdxSerializerResolver.apply(persistentProperty);
+
+				PdxFieldCodec fieldCodec = typedFieldAccess && customPdxSerializer == null
+					? PdxFieldCodec.from(persistentProperty.getType())
+					: null;
+
+				PropertyCodec propertyCodec = fieldCodec != null
+					? new PropertyCodec(persistentProperty, fieldCodec,
+						isReadable ? fieldCodec.resolveGetter(persistentProperty) : null,
+						isWritable ? fieldCodec.resolveSetter(persistentProperty) : null)
+					: new PropertyCodec(persistentProperty, customPdxSerializer);
+
+				if (isReadable) {
+					readableProperties.add(propertyCodec);
+				}
+
+				if (isWritable) {
+					writableProperties.add(propertyCodec);
+				}
+			}
+		});
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		return new PdxCodecPlan(entity, readableProperties.toArray(new PropertyCodec[0]),
+			writableProperties.toArray(new PropertyCodec[0]), idProperty != null ? idProperty.getName() : null);
+	}
+
+	private final GemfirePersistentEntity<?> entity;
+
+	private final PropertyCodec[] readableProperties;
+	private final PropertyCodec[] writableProperties;
+
+	private final String identityFieldName;
+
+	private PdxCodecPlan(@NonNull GemfirePersistentEntity<?> entity, @NonNull PropertyCodec[] readableProperties,
+			@NonNull PropertyCodec[] writableProperties, @Nullable String identityFieldName) {
+
+		this.entity = entity;
+		this.readableProperties = readableProperties;
+		this.writableProperties = writableProperties;
+		this.identityFieldName = identityFieldName;
+	}
+
+	/**
+	 * Returns the {@link GemfirePersistentEntity} described by this plan.
+	 *
+	 * @return the {@link GemfirePersistentEntity} described by this plan.
+	 * @see GemfirePersistentEntity
+	 */
+	@NonNull GemfirePersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * Returns the name of the PDX identity field, or {@literal null} if the entity has no identifier.
+	 *
+	 * @return the name of the PDX identity field, or {@literal null} if the entity has no identifier.
+	 */
+	@Nullable String getIdentityFieldName() {
+		return this.identityFieldName;
+	}
+
+	/**
+	 * Returns the ordered {@link PropertyCodec properties} serialized (written) to PDX.
+	 *
+	 * Callers must not modify the returned array.
+	 *
+	 * @return the ordered {@link PropertyCodec properties} serialized (written) to PDX.
+	 */
+	@NonNull PropertyCodec[] getReadableProperties() {
+		return this.readableProperties;
+	}
+
+	/**
+	 * Returns the ordered {@link PropertyCodec properties} deserialized (read) from PDX and set on the entity.
+	 *
+	 * Callers must not modify the returned array.
+	 *
+	 * @return the ordered {@link PropertyCodec properties} deserialized (read) from PDX.
+	 */
+	@NonNull PropertyCodec[] getWritableProperties() {
+		return this.writableProperties;
+	}
+
+	/**
+	 * Precomputed PDX serialization meta-data for a single {@link GemfirePersistentProperty}.
+	 */
+	static final class PropertyCodec {
+
+		private final Class<Object> type;
+
+		private final GemfirePersistentProperty property;
+
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		private final PdxFieldCodec fieldCodec;
+
+		private final PdxSerializer customPdxSerializer;
+
+		private final String messageSuffix;
+		private final String name;
+
+		PropertyCodec(@NonNull GemfirePersistentProperty property, @Nullable PdxSerializer customPdxSerializer) {
+			this(property, customPdxSerializer, null, null, null);
+		}
+
+		PropertyCodec(@NonNull GemfirePersistentProperty property, @NonNull PdxFieldCodec fieldCodec,
+				@Nullable MethodHandle getter, @Nullable MethodHandle setter) {
+
+			this(property, null, fieldCodec, getter, setter);
+		}
+
+		@SuppressWarnings("unchecked")
+		private PropertyCodec(@NonNull GemfirePersistentProperty property, @Nullable PdxSerializer customPdxSerializer,
+				@Nullable PdxFieldCodec fieldCodec, @Nullable MethodHandle getter, @Nullable MethodHandle setter) {
+
+			this.property = property;
+			this.name = property.getName();
+			this.type = (Class<Object>) property.getType();
+			this.customPdxSerializer = customPdxSerializer;
+			this.fieldCodec = fieldCodec;
+			this.getter = getter;
+			this.setter = setter;
+			this.messageSuffix = customPdxSerializer != null
+				? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
+				: "";
+		}
+
+		@Nullable PdxSerializer getCustomPdxSerializer() {
+			return this.customPdxSerializer;
+		}
+
+		@NonNull String getMessageSuffix() {
+			return this.messageSuffix;
+		}
+
+		@NonNull String getName() {
+			return this.name;
+		}
+
+		@NonNull GemfirePersistentProperty getProperty() {
+			return this.property;
+		}
+
+		@NonNull Class<Object> getType() {
+			return this.type;
+		}
+
+		/**
+		 * Determines whether this property is read from PDX with a typed {@link PdxReader} method.
+		 *
+		 * @return a boolean value indicating whether this property is read from PDX
+		 * with a typed {@link PdxReader} method.
+		 * @see #readTypedField(PdxReader, Object)
+		 */
+		boolean hasTypedPdxReader() {
+			return this.fieldCodec != null && this.setter != null;
+		}
+
+		/**
+		 * Determines whether this property is written to PDX with a typed {@link PdxWriter} method.
+		 *
+		 * @return a boolean value indicating whether this property is written to PDX
+		 * with a typed {@link PdxWriter} method.
+		 * @see #writeTypedField(PdxWriter, Object)
+		 */
+		boolean hasTypedPdxWriter() {
+			return this.fieldCodec != null && this.getter != null;
+		}
+
+		/**
+		 * Reads this property from PDX with a typed {@link PdxReader} method and sets the value on the given entity.
+		 *
+		 * @param reader {@link PdxReader} used to read the PDX field.
+		 * @param bean entity on which to set the property value.
+		 * @throws Exception if the PDX field cannot be read or the property value cannot be set.
+		 * @see #hasTypedPdxReader()
+		 */
+		void readTypedField(@NonNull PdxReader reader, @NonNull Object bean) throws Exception {
+
+			try {
+				this.fieldCodec.read(reader, this.name, bean, this.setter);
+			}
+			catch (Exception | Error cause) {
+				throw cause;
+			}
+			catch (Throwable cause) {
+				throw new UndeclaredThrowableException(cause);
+			}
+		}
+
+		/**
+		 * Gets this property value from the given entity and writes it to PDX with a typed {@link PdxWriter} method.
+		 *
+		 * @param writer {@link PdxWriter} used to write the PDX field.
+		 * @param bean entity from which to get the property value.
+		 * @throws Exception if the property value cannot be read or the PDX field cannot be written.
+		 * @see #hasTypedPdxWriter()
+		 */
+		void writeTypedField(@NonNull PdxWriter writer, @NonNull Object bean) throws Exception {
+
+			try {
+				this.fieldCodec.write(writer, this.name, bean, this.getter);
+			}
+			catch (Exception | Error cause) {
+				throw cause;
+			}
+			catch (Throwable cause) {
+				throw new UndeclaredThrowableException(cause);
+			}
+		}
+	}
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Date;
+
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Enumeration of PDX field types that are read and written with the typed {@link PdxReader} and {@link PdxWriter}
+ * methods (e.g. {@link PdxWriter#writeInt(String, int)}, {@link PdxReader#readDouble(String)}) rather than
+ * the generic {@link PdxWriter#writeField(String, Object, Class)} and {@link PdxReader#readField(String)} methods.
+ *
+ * The values are transferred between the entity and PDX using {@link MethodHandle MethodHandles} adapted to the exact
+ * (primitive) type of the property, which avoids boxing primitive values and any conversion through
+ * the {@link org.springframework.core.convert.ConversionService}.
+ *
+ * Only {@link Class types} for which {@link PdxWriter#writeField(String, Object, Class)} would have written
+ * the same PDX field type are supported, so PDX types remain compatible whether or not typed field access is used.
+ *
+ * @see MethodHandle
+ * @see PdxReader
+ * @see PdxWriter
+ * @see MappingPdxSerializer
+ * @since 1.0.1
+ */
+enum PdxFieldCodec {
+
+	BOOLEAN(boolean.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readBoolean(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeBoolean(name, (boolean) getter.invokeExact(bean));
+		}
+	},
+
+	BYTE(byte.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readByte(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeByte(name, (byte) getter.invokeExact(bean));
+		}
+	},
+
+	CHAR(char.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readChar(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeChar(name, (char) getter.invokeExact(bean));
+		}
+	},
+
+	SHORT(short.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readShort(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeShort(name, (short) getter.invokeExact(bean));
+		}
+	},
+
+	INT(int.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readInt(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeInt(name, (int) getter.invokeExact(bean));
+		}
+	},
+
+	LONG(long.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readLong(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeLong(name, (long) getter.invokeExact(bean));
+		}
+	},
+
+	FLOAT(float.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readFloat(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeFloat(name, (float) getter.invokeExact(bean));
+		}
+	},
+
+	DOUBLE(double.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, reader.readDouble(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeDouble(name, (double) getter.invokeExact(bean));
+		}
+	},
+
+	STRING(String.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readString(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeString(name, (String) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	DATE(Date.class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readDate(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeDate(name, (Date) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	BOOLEAN_ARRAY(boolean[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readBooleanArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeBooleanArray(name, (boolean[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	BYTE_ARRAY(byte[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readByteArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeByteArray(name, (byte[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	CHAR_ARRAY(char[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readCharArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeCharArray(name, (char[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	SHORT_ARRAY(short[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readShortArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeShortArray(name, (short[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	INT_ARRAY(int[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readIntArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeIntArray(name, (int[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	LONG_ARRAY(long[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readLongArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeLongArray(name, (long[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	FLOAT_ARRAY(float[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readFloatArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeFloatArray(name, (float[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	DOUBLE_ARRAY(double[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readDoubleArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeDoubleArray(name, (double[]) (Object) getter.invokeExact(bean));
+		}
+	},
+
+	STRING_ARRAY(String[].class) {
+
+		@Override
+		void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable {
+			setter.invokeExact(bean, (Object) reader.readStringArray(name));
+		}
+
+		@Override
+		void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable {
+			writer.writeStringArray(name, (String[]) (Object) getter.invokeExact(bean));
+		}
+	};
+
+	/**
+	 * Returns the {@link PdxFieldCodec} for the given {@link Class type}.
+	 *
+	 * @param type {@link Class type} of the entity property.
+	 * @return the {@link PdxFieldCodec} for the given {@link Class type} or {@literal null} if the {@link Class type}
+	 * is not read and written with a typed PDX method.
+	 */
+	static @Nullable PdxFieldCodec from(@Nullable Class<?> type) {
+
+		for (PdxFieldCodec fieldCodec : values()) {
+			if (fieldCodec.getType().equals(type)) {
+				return fieldCodec;
+			}
+		}
+
+		return null;
+	}
+
+	private final Class<?> type;
+
+	PdxFieldCodec(@NonNull Class<?> type) {
+		this.type = type;
+	}
+
+	/**
+	 * Returns the declared {@link Class type} of the entity property handled by this {@link PdxFieldCodec}.
+	 *
+	 * @return the declared {@link Class type} of the entity property handled by this {@link PdxFieldCodec}.
+	 */
+	@NonNull Class<?> getType() {
+		return this.type;
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} reading the value of the given {@link GemfirePersistentProperty} adapted to
+	 * the {@link MethodType} {@literal (Object)T}, where {@literal T} is the {@link #getType() type} handled by
+	 * this {@link PdxFieldCodec}.
+	 *
+	 * @param property {@link GemfirePersistentProperty} to read.
+	 * @return an adapted {@link MethodHandle} reading the given {@link GemfirePersistentProperty} or {@literal null}
+	 * if the property is not accessible by a getter {@link Method} or {@link Field}.
+	 */
+	@Nullable MethodHandle resolveGetter(@NonNull GemfirePersistentProperty property) {
+
+		try {
+
+			MethodType methodType = MethodType.methodType(getReferenceType(), Object.class);
+
+			Method getter = property.getGetter();
+
+			if (getter != null) {
+				ReflectionUtils.makeAccessible(getter);
+				return MethodHandles.lookup().unreflect(getter).asType(methodType);
+			}
+
+			Field field = property.getField();
+
+			if (field != null) {
+				ReflectionUtils.makeAccessible(field);
+				return MethodHandles.lookup().unreflectGetter(field).asType(methodType);
+			}
+		}
+		catch (Exception ignore) { }
+
+		return null;
+	}
+
+	/**
+	 * Returns a {@link MethodHandle} writing the value of the given {@link GemfirePersistentProperty} adapted to
+	 * the {@link MethodType} {@literal (Object, T)void}, where {@literal T} is the {@link #getType() type} handled by
+	 * this {@link PdxFieldCodec}.
+	 *
+	 * @param property {@link GemfirePersistentProperty} to write.
+	 * @return an adapted {@link MethodHandle} writing the given {@link GemfirePersistentProperty} or {@literal null}
+	 * if the property is not accessible by a setter {@link Method} or a non-final {@link Field}.
+	 */
+	@Nullable MethodHandle resolveSetter(@NonNull GemfirePersistentProperty property) {
+
+		try {
+
+			MethodType methodType = MethodType.methodType(void.class, Object.class, getReferenceType());
+
+			Method setter = property.getSetter();
+
+			if (setter != null) {
+				ReflectionUtils.makeAccessible(setter);
+				return MethodHandles.lookup().unreflect(setter).asType(methodType);
+			}
+
+			Field field = property.getField();
+
+			if (field != null && !Modifier.isFinal(field.getModifiers())) {
+				ReflectionUtils.makeAccessible(field);
+				return MethodHandles.lookup().unreflectSetter(field).asType(methodType);
+			}
+		}
+		catch (Exception ignore) { }
+
+		return null;
+	}
+
+	private @NonNull Class<?> getReferenceType() {
+		return getType().isPrimitive() ? getType() : Object.class;
+	}
+
+	/**
+	 * Reads the PDX field with the given {@link String name} using the typed {@link PdxReader} method
+	 * and sets the value on the given entity using the {@link MethodHandle setter}.
+	 *
+	 * @param reader {@link PdxReader} used to read the PDX field.
+	 * @param name {@link String name} of the PDX field.
+	 * @param bean entity on which to set the value.
+	 * @param setter {@link MethodHandle} returned by {@link #resolveSetter(GemfirePersistentProperty)}.
+	 * @throws Throwable if the PDX field cannot be read or the value cannot be set.
+	 */
+	abstract void read(PdxReader reader, String name, Object bean, MethodHandle setter) throws Throwable;
+
+	/**
+	 * Gets the value from the given entity using the {@link MethodHandle getter} and writes the value
+	 * to the PDX field with the given {@link String name} using the typed {@link PdxWriter} method.
+	 *
+	 * @param writer {@link PdxWriter} used to write the PDX field.
+	 * @param name {@link String name} of the PDX field.
+	 * @param bean entity from which to get the value.
+	 * @param getter {@link MethodHandle} returned by {@link #resolveGetter(GemfirePersistentProperty)}.
+	 * @throws Throwable if the value cannot be read or the PDX field cannot be written.
+	 */
+	abstract void write(PdxWriter writer, String name, Object bean, MethodHandle getter) throws Throwable;
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.metrics;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy interface used by Spring Data for VMware GemFire components to time data access operations
+ * and record the size of the results.
+ *
+ * Each operation is measured with a {@link Sample} that is started before the operation, marked as
+ * {@link Sample#succeeded() succeeded} once the operation returns and {@link Sample#stop() stopped}
+ * in a {@literal finally} block, for example:
+ *
+ * <pre>
+ * <code>
+ * GemFireMetrics.Sample sample = metrics.startRegionOperation(region, "get");
+ *
+ * try {
+ *     Object value = region.get(key);
+ *     sample.succeeded(value != null ? 1 : 0);
+ *     return value;
+ * }
+ * finally {
+ *     sample.stop();
+ * }
+ * </code>
+ * </pre>
+ *
+ * A {@link Sample} that is stopped without having succeeded is recorded as a failure.
+ *
+ * Components use the {@link #NOOP} implementation until configured otherwise, which returns the shared
+ * {@link Sample#NOOP} {@link Sample} so that measuring an operation neither allocates nor reads the clock.
+ *
+ * @see Sample
+ * @see GemFireMetricsAware
+ * @see MicrometerGemFireMetrics
+ * @since 1.0.1
+ */
+public interface GemFireMetrics {
+
+	/**
+	 * {@link GemFireMetrics} implementation that does not record anything.
+	 */
+	GemFireMetrics NOOP = new GemFireMetrics() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public @NonNull Sample startRegionOperation(@NonNull Region<?, ?> region, @NonNull String operation) {
+			return Sample.NOOP;
+		}
+
+		@Override
+		public @NonNull Sample startRepositoryInvocation(@NonNull Class<?> repositoryInterface,
+				@NonNull String methodName) {
+
+			return Sample.NOOP;
+		}
+
+		@Override
+		public @NonNull Sample startRepositoryQuery(@NonNull Class<?> repositoryInterface,
+				@NonNull String queryMethodName) {
+
+			return Sample.NOOP;
+		}
+
+		@Override
+		public @NonNull Sample startFunctionExecution(@NonNull String functionId) {
+			return Sample.NOOP;
+		}
+
+		@Override
+		public @NonNull Sample startContinuousQueryDispatch(@NonNull String queryName, int eventCount) {
+			return Sample.NOOP;
+		}
+	};
+
+	/**
+	 * Null-safe method returning the given {@link GemFireMetrics} or {@link #NOOP} if {@literal null}.
+	 *
+	 * @param metrics {@link GemFireMetrics} to evaluate.
+	 * @return the given {@link GemFireMetrics} or {@link #NOOP} if {@literal null}.
+	 */
+	static @NonNull GemFireMetrics nullSafe(@Nullable GemFireMetrics metrics) {
+		return metrics != null ? metrics : NOOP;
+	}
+
+	/**
+	 * Determines the number of elements in the given result of a data access operation.
+	 *
+	 * @param result result of a data access operation.
+	 * @return the number of elements in the result, or {@literal -1} if the number is not known without
+	 * consuming the result, as with a {@link java.util.stream.Stream} or lazy {@link Iterable}.
+	 */
+	static long resultCount(@Nullable Object result) {
+
+		if (result == null) {
+			return 0L;
+		}
+		else if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		else if (result instanceof Map) {
+			return ((Map<?, ?>) result).size();
+		}
+		else if (result instanceof Slice) {
+			return ((Slice<?>) result).getNumberOfElements();
+		}
+		else if (result instanceof Optional) {
+			return ((Optional<?>) result).isPresent() ? 1L : 0L;
+		}
+		else if (result instanceof Iterable || result instanceof Iterator || result instanceof BaseStream) {
+			return -1L;
+		}
+
+		return 1L;
+	}
+
+	/**
+	 * Determines whether operations are being recorded.
+	 *
+	 * @return a boolean value indicating whether operations are being recorded.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Starts measuring a data access operation performed on the given {@link Region}.
+	 *
+	 * @param region {@link Region} on which the operation is performed.
+	 * @param operation {@link String name} of the operation, such as {@literal get} or {@literal putAll}.
+	 * @return the started {@link Sample}.
+	 * @see Region
+	 */
+	@NonNull Sample startRegionOperation(@NonNull Region<?, ?> region, @NonNull String operation);
+
+	/**
+	 * Starts measuring the invocation of a {@link org.springframework.data.repository.Repository} method.
+	 *
+	 * @param repositoryInterface {@link Class} of the {@link org.springframework.data.repository.Repository}
+	 * interface.
+	 * @param methodName {@link String name} of the invoked method.
+	 * @return the started {@link Sample}.
+	 */
+	@NonNull Sample startRepositoryInvocation(@NonNull Class<?> repositoryInterface, @NonNull String methodName);
+
+	/**
+	 * Starts measuring the execution of the OQL query of a {@link org.springframework.data.repository.Repository}
+	 * query method.
+	 *
+	 * @param repositoryInterface {@link Class} of the {@link org.springframework.data.repository.Repository}
+	 * interface declaring the query method.
+	 * @param queryMethodName {@link String name} of the query method.
+	 * @return the started {@link Sample}.
+	 */
+	@NonNull Sample startRepositoryQuery(@NonNull Class<?> repositoryInterface, @NonNull String queryMethodName);
+
+	/**
+	 * Starts measuring the {@link org.apache.geode.cache.execute.Execution} of a
+	 * {@link org.apache.geode.cache.execute.Function}.
+	 *
+	 * @param functionId {@link String ID} of the {@link org.apache.geode.cache.execute.Function}.
+	 * @return the started {@link Sample}.
+	 */
+	@NonNull Sample startFunctionExecution(@NonNull String functionId);
+
+	/**
+	 * Starts measuring the dispatch of one or more {@link org.apache.geode.cache.query.CqEvent CQ events}
+	 * to a {@link org.springframework.data.gemfire.listener.ContinuousQueryListener}.
+	 *
+	 * @param queryName {@link String name} of the {@link org.apache.geode.cache.query.CqQuery}.
+	 * @param eventCount number of {@link org.apache.geode.cache.query.CqEvent CQ events} dispatched.
+	 * @return the started {@link Sample}.
+	 */
+	@NonNull Sample startContinuousQueryDispatch(@NonNull String queryName, int eventCount);
+
+	/**
+	 * Records a lookup of an entity in the near cache of a {@link org.springframework.data.repository.Repository}.
+	 *
+	 * Does nothing by default.
+	 *
+	 * @param repositoryName {@link String name} of the {@link org.springframework.data.repository.Repository}.
+	 * @param hit {@literal true} if the entity was found in the near cache, {@literal false} if it was loaded.
+	 * @see org.springframework.data.gemfire.repository.support.NearCache
+	 */
+	default void recordNearCacheAccess(@NonNull String repositoryName, boolean hit) { }
+
+	/**
+	 * Measurement of a single data access operation.
+	 */
+	interface Sample {
+
+		/**
+		 * {@link Sample} that does not record anything.
+		 */
+		Sample NOOP = new Sample() {
+
+			@Override
+			public void succeeded() { }
+
+			@Override
+			public void succeeded(long resultCount) { }
+
+			@Override
+			public void payloadSize(long bytes) { }
+
+			@Override
+			public void stop() { }
+		};
+
+		/**
+		 * Marks the operation as successful.
+		 */
+		void succeeded();
+
+		/**
+		 * Marks the operation as successful, returning the given number of results.
+		 *
+		 * @param resultCount number of results returned by the operation; {@literal -1} if not known.
+		 */
+		void succeeded(long resultCount);
+
+		/**
+		 * Records the serialized size in bytes of the value written or received by the operation.
+		 *
+		 * @param bytes serialized size in bytes.
+		 */
+		void payloadSize(long bytes);
+
+		/**
+		 * Stops measuring the operation and records the measurement.
+		 */
+		void stop();
+
+	}
+}
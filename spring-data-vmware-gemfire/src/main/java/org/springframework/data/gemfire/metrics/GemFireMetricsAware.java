@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface implemented by components that record {@link GemFireMetrics}.
+ *
+ * Beans implementing this interface are configured with the {@link GemFireMetrics} bean when metrics are
+ * enabled with {@link org.springframework.data.gemfire.config.annotation.EnableGemFireMetrics}.
+ *
+ * @see GemFireMetrics
+ * @since 1.0.1
+ */
+public interface GemFireMetricsAware {
+
+	/**
+	 * Sets the {@link GemFireMetrics} used to record data access operations.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record data access operations;
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics
+	 */
+	void setMetrics(@Nullable GemFireMetrics metrics);
+
+}
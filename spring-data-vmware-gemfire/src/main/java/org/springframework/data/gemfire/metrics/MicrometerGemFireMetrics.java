@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link GemFireMetrics} implementation recording data access operations as Micrometer meters
+ * in a {@link MeterRegistry}.
+ *
+ * Each kind of operation is recorded with a {@link Timer} tagged with the {@literal outcome}
+ * ({@literal success} or {@literal failure}) of the operation, a {@link DistributionSummary} of the number
+ * of results returned by successful operations and, where known, a {@link DistributionSummary} of the serialized
+ * size in bytes of the values written or received:
+ *
+ * <ul>
+ *     <li>{@literal gemfire.region.operations} tagged with {@literal region} and {@literal operation}</li>
+ *     <li>{@literal gemfire.repository.invocations} tagged with {@literal repository} and {@literal method}</li>
+ *     <li>{@literal gemfire.repository.queries} tagged with {@literal repository} and {@literal method}</li>
+ *     <li>{@literal gemfire.function.executions} tagged with {@literal function}</li>
+ *     <li>{@literal gemfire.cq.dispatches} tagged with {@literal cq}, along with a {@literal gemfire.cq.events}
+ *     {@link Counter}</li>
+ * </ul>
+ *
+ * Lookups in the near cache of a {@link org.springframework.data.repository.Repository} are counted by
+ * a {@literal gemfire.repository.cache.gets} {@link Counter} tagged with {@literal repository} and
+ * {@literal result} ({@literal hit} or {@literal miss}).
+ *
+ * The result and payload summaries are named after the {@link Timer} with a {@literal .results} and
+ * {@literal .payload} suffix. Meters are registered once per distinct set of tags and cached, so that recording
+ * an operation does not look up the meters in the {@link MeterRegistry}.
+ *
+ * No {@link Sample Samples} are recorded while the {@link MeterRegistry} is a {@link CompositeMeterRegistry}
+ * without any registries, such as the global registry when no monitoring system has been added.
+ *
+ * @see GemFireMetrics
+ * @see MeterRegistry
+ * @see Timer
+ * @see DistributionSummary
+ * @see Counter
+ * @since 1.0.1
+ */
+public class MicrometerGemFireMetrics implements GemFireMetrics {
+
+	public static final String CONTINUOUS_QUERY_DISPATCHES_METER_NAME = "gemfire.cq.dispatches";
+	public static final String CONTINUOUS_QUERY_EVENTS_METER_NAME = "gemfire.cq.events";
+	public static final String FUNCTION_EXECUTIONS_METER_NAME = "gemfire.function.executions";
+	public static final String REGION_OPERATIONS_METER_NAME = "gemfire.region.operations";
+	public static final String REPOSITORY_CACHE_GETS_METER_NAME = "gemfire.repository.cache.gets";
+	public static final String REPOSITORY_INVOCATIONS_METER_NAME = "gemfire.repository.invocations";
+	public static final String REPOSITORY_QUERIES_METER_NAME = "gemfire.repository.queries";
+
+	static final String FAILURE_OUTCOME = "failure";
+	static final String HIT_RESULT = "hit";
+	static final String MISS_RESULT = "miss";
+	static final String OUTCOME_TAG = "outcome";
+	static final String PAYLOAD_METER_NAME_SUFFIX = ".payload";
+	static final String RESULT_TAG = "result";
+	static final String RESULTS_METER_NAME_SUFFIX = ".results";
+	static final String SUCCESS_OUTCOME = "success";
+
+	private final ConcurrentMap<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Counter[]> nearCacheCounters = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Constructs a new instance of {@link MicrometerGemFireMetrics} recording meters in the given
+	 * {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which meters are recorded; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null}.
+	 * @see MeterRegistry
+	 */
+	public MicrometerGemFireMetrics(@NonNull MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the {@link MeterRegistry} in which meters are recorded.
+	 *
+	 * @return the {@link MeterRegistry} in which meters are recorded.
+	 * @see MeterRegistry
+	 */
+	public @NonNull MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	@Override
+	public boolean isEnabled() {
+
+		MeterRegistry meterRegistry = getMeterRegistry();
+
+		return !(meterRegistry instanceof CompositeMeterRegistry)
+			|| !((CompositeMeterRegistry) meterRegistry).getRegistries().isEmpty();
+	}
+
+	@Override
+	public @NonNull Sample startRegionOperation(@NonNull Region<?, ?> region, @NonNull String operation) {
+		return isEnabled() ? start(new MeterKey(MeterType.REGION, region.getName(), operation)) : Sample.NOOP;
+	}
+
+	@Override
+	public @NonNull Sample startRepositoryInvocation(@NonNull Class<?> repositoryInterface,
+			@NonNull String methodName) {
+
+		return isEnabled()
+			? start(new MeterKey(MeterType.REPOSITORY, repositoryInterface.getSimpleName(), methodName))
+			: Sample.NOOP;
+	}
+
+	@Override
+	public @NonNull Sample startRepositoryQuery(@NonNull Class<?> repositoryInterface,
+			@NonNull String queryMethodName) {
+
+		return isEnabled()
+			? start(new MeterKey(MeterType.QUERY, repositoryInterface.getSimpleName(), queryMethodName))
+			: Sample.NOOP;
+	}
+
+	@Override
+	public @NonNull Sample startFunctionExecution(@NonNull String functionId) {
+		return isEnabled() ? start(new MeterKey(MeterType.FUNCTION, functionId, null)) : Sample.NOOP;
+	}
+
+	@Override
+	public @NonNull Sample startContinuousQueryDispatch(@NonNull String queryName, int eventCount) {
+
+		if (isEnabled()) {
+
+			MeterKey meterKey = new MeterKey(MeterType.CONTINUOUS_QUERY, queryName, null);
+
+			resolveMeters(meterKey).events.increment(eventCount);
+
+			return start(meterKey);
+		}
+
+		return Sample.NOOP;
+	}
+
+	@Override
+	public void recordNearCacheAccess(@NonNull String repositoryName, boolean hit) {
+
+		if (isEnabled()) {
+
+			Counter[] counters = this.nearCacheCounters.get(repositoryName);
+
+			if (counters == null) {
+				counters = this.nearCacheCounters.computeIfAbsent(repositoryName, this::newNearCacheCounters);
+			}
+
+			counters[hit ? 0 : 1].increment();
+		}
+	}
+
+	private Counter[] newNearCacheCounters(String repositoryName) {
+
+		return new Counter[] {
+			newNearCacheCounter(repositoryName, HIT_RESULT),
+			newNearCacheCounter(repositoryName, MISS_RESULT)
+		};
+	}
+
+	private Counter newNearCacheCounter(String repositoryName, String result) {
+
+		return Counter.builder(REPOSITORY_CACHE_GETS_METER_NAME)
+			.description("Number of entity lookups in the near cache of a Repository")
+			.tag("repository", repositoryName)
+			.tag(RESULT_TAG, result)
+			.register(getMeterRegistry());
+	}
+
+	private Sample start(MeterKey meterKey) {
+		return new MicrometerSample(meterKey, getMeterRegistry().config().clock().monotonicTime());
+	}
+
+	private Meters resolveMeters(MeterKey meterKey) {
+
+		Meters meters = this.meters.get(meterKey);
+
+		return meters != null ? meters : this.meters.computeIfAbsent(meterKey, Meters::new);
+	}
+
+	private enum MeterType {
+
+		CONTINUOUS_QUERY(CONTINUOUS_QUERY_DISPATCHES_METER_NAME, "cq", null),
+		FUNCTION(FUNCTION_EXECUTIONS_METER_NAME, "function", null),
+		QUERY(REPOSITORY_QUERIES_METER_NAME, "repository", "method"),
+		REGION(REGION_OPERATIONS_METER_NAME, "region", "operation"),
+		REPOSITORY(REPOSITORY_INVOCATIONS_METER_NAME, "repository", "method");
+
+		private final String meterName;
+		private final String nameTag;
+		private final String operationTag;
+
+		MeterType(String meterName, String nameTag, String operationTag) {
+			this.meterName = meterName;
+			this.nameTag = nameTag;
+			this.operationTag = operationTag;
+		}
+	}
+
+	private static final class MeterKey {
+
+		private final MeterType type;
+
+		private final String name;
+		private final String operation;
+
+		private MeterKey(MeterType type, String name, @Nullable String operation) {
+			this.type = type;
+			this.name = name;
+			this.operation = operation;
+		}
+
+		private Tags toTags() {
+
+			Tags tags = Tags.of(this.type.nameTag, String.valueOf(this.name));
+
+			return this.type.operationTag != null ? tags.and(this.type.operationTag, this.operation) : tags;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof MeterKey)) {
+				return false;
+			}
+
+			MeterKey that = (MeterKey) obj;
+
+			return this.type == that.type
+				&& Objects.equals(this.name, that.name)
+				&& Objects.equals(this.operation, that.operation);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.type, this.name, this.operation);
+		}
+	}
+
+	private final class Meters {
+
+		private final Counter events;
+
+		private final MeterKey meterKey;
+
+		private final Tags tags;
+
+		private final Timer failureTimer;
+		private final Timer successTimer;
+
+		private volatile DistributionSummary payloadSummary;
+		private volatile DistributionSummary resultsSummary;
+
+		private Meters(MeterKey meterKey) {
+
+			this.meterKey = meterKey;
+			this.tags = meterKey.toTags();
+			this.successTimer = newTimer(SUCCESS_OUTCOME);
+			this.failureTimer = newTimer(FAILURE_OUTCOME);
+			this.events = meterKey.type == MeterType.CONTINUOUS_QUERY
+				? Counter.builder(CONTINUOUS_QUERY_EVENTS_METER_NAME)
+					.description("Number of CQ events dispatched to ContinuousQueryListeners")
+					.tags(this.tags)
+					.register(getMeterRegistry())
+				: null;
+		}
+
+		private Timer newTimer(String outcome) {
+
+			return Timer.builder(this.meterKey.type.meterName)
+				.tags(this.tags)
+				.tag(OUTCOME_TAG, outcome)
+				.register(getMeterRegistry());
+		}
+
+		private DistributionSummary payloadSummary() {
+
+			DistributionSummary payloadSummary = this.payloadSummary;
+
+			if (payloadSummary == null) {
+				payloadSummary = DistributionSummary.builder(this.meterKey.type.meterName + PAYLOAD_METER_NAME_SUFFIX)
+					.baseUnit("bytes")
+					.tags(this.tags)
+					.register(getMeterRegistry());
+				this.payloadSummary = payloadSummary;
+			}
+
+			return payloadSummary;
+		}
+
+		private DistributionSummary resultsSummary() {
+
+			DistributionSummary resultsSummary = this.resultsSummary;
+
+			if (resultsSummary == null) {
+				resultsSummary = DistributionSummary.builder(this.meterKey.type.meterName + RESULTS_METER_NAME_SUFFIX)
+					.tags(this.tags)
+					.register(getMeterRegistry());
+				this.resultsSummary = resultsSummary;
+			}
+
+			return resultsSummary;
+		}
+	}
+
+	private final class MicrometerSample implements Sample {
+
+		private boolean succeeded;
+
+		private long payloadSize = -1L;
+		private long resultCount = -1L;
+
+		private final long startTime;
+
+		private final MeterKey meterKey;
+
+		private MicrometerSample(MeterKey meterKey, long startTime) {
+			this.meterKey = meterKey;
+			this.startTime = startTime;
+		}
+
+		@Override
+		public void succeeded() {
+			this.succeeded = true;
+		}
+
+		@Override
+		public void succeeded(long resultCount) {
+			this.succeeded = true;
+			this.resultCount = resultCount;
+		}
+
+		@Override
+		public void payloadSize(long bytes) {
+			this.payloadSize = bytes;
+		}
+
+		@Override
+		public void stop() {
+
+			long duration = getMeterRegistry().config().clock().monotonicTime() - this.startTime;
+
+			Meters meters = resolveMeters(this.meterKey);
+
+			(this.succeeded ? meters.successTimer : meters.failureTimer).record(duration, TimeUnit.NANOSECONDS);
+
+			if (this.succeeded && this.resultCount > -1L) {
+				meters.resultsSummary().record(this.resultCount);
+			}
+
+			if (this.payloadSize > -1L) {
+				meters.payloadSummary().record(this.payloadSize);
+			}
+		}
+	}
+}
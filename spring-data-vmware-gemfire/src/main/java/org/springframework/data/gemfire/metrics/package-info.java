@@ -0,0 +1,10 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * Package containing the {@link org.springframework.data.gemfire.metrics.GemFireMetrics} strategy used to record
+ * the latency and throughput of data access operations, along with its Micrometer implementation.
+ */
+package org.springframework.data.gemfire.metrics;
@@ -4,6 +4,12 @@
  */
 package org.springframework.data.gemfire.repository;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newUnsupportedOperationException;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -25,4 +31,28 @@ public interface GemfireRepository<T, ID> extends CrudRepository<T, ID>, PagingA
 	 */
 	T save(Wrapper<T, ID> wrapper);
 
+	/**
+	 * Returns a {@link Window} of entities using keyset-based scrolling.
+	 *
+	 * Unlike {@link #findAll(Pageable) offset-based paging}, keyset-based scrolling seeks directly to the entities
+	 * following (or preceding) the {@link KeysetScrollPosition} using a predicate on the {@link Sort} properties,
+	 * so that the OQL query never returns the entities of preceding windows. The entity identifier is appended
+	 * to the {@link Sort} as a tie-breaker when necessary.
+	 *
+	 * The default implementation throws an {@link UnsupportedOperationException}; it is implemented by
+	 * {@link org.springframework.data.gemfire.repository.support.SimpleGemfireRepository}.
+	 *
+	 * @param scrollPosition {@link KeysetScrollPosition} from which to scroll; must not be {@literal null}.
+	 * @param sort {@link Sort} defining the order of the entities.
+	 * @param limit maximum number of entities returned in the {@link Window}; must be greater than {@literal 0}.
+	 * @return a {@link Window} containing at most {@code limit} entities following the {@link KeysetScrollPosition}.
+	 * @throws UnsupportedOperationException if keyset-based scrolling is not implemented by the {@link org.springframework.data.repository.Repository}.
+	 * @see KeysetScrollPosition
+	 * @see Window
+	 */
+	default Window<T> findAll(KeysetScrollPosition scrollPosition, Sort sort, int limit) {
+		throw newUnsupportedOperationException("Keyset-based scrolling is not supported by [%s]",
+			getClass().getName());
+	}
+
 }
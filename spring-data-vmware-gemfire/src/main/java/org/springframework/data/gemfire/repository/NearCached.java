@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The {@link NearCached} annotation enables a local, bounded near cache of the entities returned by
+ * {@link org.springframework.data.repository.CrudRepository#findById(Object)},
+ * {@link org.springframework.data.repository.CrudRepository#existsById(Object)} and
+ * {@link org.springframework.data.repository.CrudRepository#findAllById(Iterable)}.
+ *
+ * The annotation is declared on the {@link org.springframework.data.repository.Repository} interface, or on
+ * the entity class to near cache the entities for all {@link org.springframework.data.repository.Repository
+ * Repositories} of the entity. Entities saved or deleted using the {@link org.springframework.data.repository.Repository}
+ * are evicted from the near cache, while changes made by other clients are evicted as configured by
+ * {@link #invalidation()}.
+ *
+ * Each caller is returned its own copy of a cached entity unless {@link #copyOnRead()} is disabled.
+ *
+ * @see org.springframework.data.gemfire.repository.support.NearCache
+ * @since 1.0.1
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@SuppressWarnings("unused")
+public @interface NearCached {
+
+	/**
+	 * Maximum number of entities held in the near cache.
+	 *
+	 * Defaults to {@literal 10000}.
+	 */
+	int maxEntries() default 10_000;
+
+	/**
+	 * Maximum estimated size in bytes of the entities held in the near cache, as determined by
+	 * the {@link org.apache.geode.cache.util.ObjectSizer#DEFAULT default ObjectSizer}.
+	 *
+	 * Defaults to {@literal 0}, which does not bound the size of the near cache in bytes.
+	 */
+	long maxBytes() default 0L;
+
+	/**
+	 * Number of seconds an entity remains in the near cache after it was loaded.
+	 *
+	 * Defaults to {@literal 0}, which keeps entities until they are evicted or invalidated.
+	 */
+	int ttl() default 0;
+
+	/**
+	 * Whether each caller is returned its own copy of a cached entity, so that modifying an entity
+	 * before it is saved does not change the cached entity.
+	 *
+	 * Entities are copied with {@link org.apache.geode.CopyHelper#copy(Object)} and must therefore be serializable
+	 * by GemFire, for example with the {@literal PdxSerializer} configured for the cache. Disable only for immutable
+	 * entities, since callers then share the cached entity.
+	 *
+	 * Defaults to {@literal true}.
+	 */
+	boolean copyOnRead() default true;
+
+	/**
+	 * How changes made to the {@link org.apache.geode.cache.Region} by other members or clients
+	 * invalidate the near cache.
+	 *
+	 * Defaults to {@link Invalidation#INTEREST}.
+	 */
+	Invalidation invalidation() default Invalidation.INTEREST;
+
+	enum Invalidation {
+
+		/**
+		 * Entities are invalidated by {@link org.apache.geode.cache.Region} events. Client {@link
+		 * org.apache.geode.cache.Region Regions} register interest in all keys, which requires a {@literal Pool}
+		 * with subscriptions enabled.
+		 *
+		 * Not supported for peer partitioned {@link org.apache.geode.cache.Region Regions}, since a member
+		 * is only notified of changes to the buckets it hosts.
+		 */
+		INTEREST,
+
+		/**
+		 * Entities are invalidated by the events of a Continuous Query selecting all entities in the
+		 * {@link org.apache.geode.cache.Region}, registered with the
+		 * {@link org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer}.
+		 */
+		CONTINUOUS_QUERY,
+
+		/**
+		 * Entities are only invalidated by writes through the {@link org.springframework.data.repository.Repository}
+		 * and the {@link #ttl()}.
+		 */
+		NONE
+
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Iterator} over the results of an OQL query that fetches the results lazily in batches using
+ * keyset pagination.
+ *
+ * Each batch is fetched by an OQL query ordered by, and limited to results after the last value of, the keyset
+ * property, so that only a single batch of results is held in memory at a time.
+ *
+ * @param <T> {@link Class type} of the query results.
+ * @see Iterator
+ * @see GemfireTemplate
+ * @see QueryString
+ * @since 1.0.1
+ */
+final class BatchedQueryResultsIterator<T> implements Iterator<T> {
+
+	private boolean exhausted = false;
+
+	private final int batchSize;
+
+	private final Object[] arguments;
+
+	private Object lastKey;
+
+	private Iterator<T> batch = Collections.emptyIterator();
+
+	private final GemfireTemplate template;
+
+	private final String firstBatchQuery;
+	private final String keyProperty;
+	private final String nextBatchQuery;
+
+	/**
+	 * Constructs a new instance of {@link BatchedQueryResultsIterator}.
+	 *
+	 * @param template {@link GemfireTemplate} used to execute the OQL queries; must not be {@literal null}.
+	 * @param query {@link QueryString} containing the OQL query, which must neither be ordered nor limited.
+	 * @param keyProperty {@link String name} of the unique property by which the results are paged.
+	 * @param batchSize maximum number of results fetched in a single batch; must be greater than {@literal 0}.
+	 * @param arguments array of {@link Object arguments} for the OQL query bind parameters.
+	 */
+	BatchedQueryResultsIterator(@NonNull GemfireTemplate template, @NonNull QueryString query,
+			@NonNull String keyProperty, int batchSize, @NonNull Object... arguments) {
+
+		Assert.notNull(template, "GemfireTemplate must not be null");
+		Assert.notNull(query, "Query must not be null");
+		Assert.hasText(keyProperty, "Key property must not be null or empty");
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		Sort keySort = Sort.by(keyProperty);
+
+		this.template = template;
+		this.keyProperty = keyProperty;
+		this.batchSize = batchSize;
+		this.arguments = arguments != null ? arguments : new Object[0];
+
+		this.firstBatchQuery = query.orderBy(keySort).withLimit(batchSize).toString();
+
+		this.nextBatchQuery = query.where(String.format("%1$s > $%2$d", keyProperty, this.arguments.length + 1))
+			.orderBy(keySort)
+			.withLimit(batchSize)
+			.toString();
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (!this.batch.hasNext() && !this.exhausted) {
+			fetchNextBatch();
+		}
+
+		return this.batch.hasNext();
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException("No more query results");
+		}
+
+		return this.batch.next();
+	}
+
+	private void fetchNextBatch() {
+
+		boolean firstBatch = this.lastKey == null;
+
+		SelectResults<T> selectResults = firstBatch
+			? this.template.find(this.firstBatchQuery, this.arguments)
+			: this.template.find(this.nextBatchQuery, withLastKey(this.arguments, this.lastKey));
+
+		List<T> results = selectResults != null ? selectResults.asList() : Collections.emptyList();
+
+		this.exhausted = results.size() < this.batchSize;
+
+		if (!results.isEmpty()) {
+
+			this.lastKey = new DirectFieldAccessFallbackBeanWrapper(results.get(results.size() - 1))
+				.getPropertyValue(this.keyProperty);
+
+			Assert.state(this.exhausted || this.lastKey != null,
+				() -> String.format("Key property [%s] of a query result must not be null", this.keyProperty));
+		}
+
+		this.batch = results.iterator();
+	}
+
+	private static Object[] withLastKey(Object[] arguments, Object lastKey) {
+
+		Object[] batchArguments = Arrays.copyOf(arguments, arguments.length + 1);
+
+		batchArguments[arguments.length] = lastKey;
+
+		return batchArguments;
+	}
+}
@@ -5,9 +5,11 @@
 package org.springframework.data.gemfire.repository.query;
 
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.core.support.PersistentEntityInformation;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 /**
  * Implementation of {@link GemfireEntityInformation} and Spring Data's {@link PersistentEntityInformation}
@@ -44,4 +46,15 @@ public class DefaultGemfireEntityInformation<T, ID> extends PersistentEntityInfo
 	public String getRegionName() {
 		return entity.getRegionName();
 	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @Nullable String getIdPropertyName() {
+
+		GemfirePersistentProperty idProperty = entity.getIdProperty();
+
+		return idProperty != null ? idProperty.getName() : null;
+	}
 }
@@ -7,6 +7,7 @@ package org.springframework.data.gemfire.repository.query;
 import org.apache.geode.cache.Region;
 
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link EntityInformation} capturing GemFire specific information.
@@ -24,4 +25,14 @@ public interface GemfireEntityInformation<T, ID> extends EntityInformation<T, ID
 	 */
 	String getRegionName();
 
+	/**
+	 * Returns the name of the identifier property of the entity.
+	 *
+	 * @return the name of the identifier property of the entity, or {@literal null} if the identifier property
+	 * cannot be determined.
+	 */
+	default @Nullable String getIdPropertyName() {
+		return null;
+	}
+
 }
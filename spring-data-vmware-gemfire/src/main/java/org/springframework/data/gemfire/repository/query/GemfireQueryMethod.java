@@ -5,6 +5,7 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
@@ -234,6 +235,17 @@ public class GemfireQueryMethod extends QueryMethod {
 		return limit != null ? limit.value() : Integer.MAX_VALUE;
 	}
 
+	/**
+	 * Determines whether this query method returns the query results as an {@link Iterator}.
+	 *
+	 * @return a boolean value indicating whether this query method returns an {@link Iterator}.
+	 * @see #isStreamQuery()
+	 * @see Iterator
+	 */
+	public boolean isIteratorQuery() {
+		return Iterator.class.equals(getMethod().getReturnType());
+	}
+
 	/**
 	 * Determines whether this query method has TRACE (i.e. logging) enabled.
 	 *
@@ -5,8 +5,10 @@
 package org.springframework.data.gemfire.repository.query;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -15,7 +17,9 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.Repository;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -33,10 +37,20 @@ import org.springframework.util.Assert;
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	static final int MAX_CACHED_SORTED_QUERIES = 64;
+
+	private final boolean dynamicallySorted;
+
 	private final GemfireTemplate template;
 
+	private final Map<Sort, StringBasedGemfireRepositoryQuery> sortedRepositoryQueries = new ConcurrentHashMap<>();
+
 	private final PartTree tree;
 
+	private final UnaryOperator<String>[] parameterFormatters;
+
+	private volatile StringBasedGemfireRepositoryQuery unsortedRepositoryQuery;
+
 	/**
 	 * Constructs a new instance of {@link PartTreeGemfireRepositoryQuery} initialized with
 	 * the given {@link GemfireQueryMethod} and {@link GemfireTemplate}.
@@ -57,6 +71,32 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.template = template;
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+		this.parameterFormatters = newParameterFormatters(this.tree);
+		this.dynamicallySorted = queryMethod.getParameters().potentiallySortsDynamically();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static UnaryOperator<String>[] newParameterFormatters(PartTree tree) {
+
+		List<UnaryOperator<String>> parameterFormatters = new ArrayList<>();
+
+		for (Part part : tree.getParts()) {
+			switch (part.getType()) {
+				case CONTAINING:
+					parameterFormatters.add(parameter -> "%" + parameter + "%");
+					break;
+				case STARTING_WITH:
+					parameterFormatters.add(parameter -> parameter + "%");
+					break;
+				case ENDING_WITH:
+					parameterFormatters.add(parameter -> "%" + parameter);
+					break;
+				default:
+					parameterFormatters.add(null);
+			}
+		}
+
+		return parameterFormatters.toArray(new UnaryOperator[0]);
 	}
 
 	/**
@@ -85,30 +125,66 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	@Override
 	public Object execute(Object[] arguments) {
 
-		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
-
-		QueryString query = newQueryString(queryMethod, getPartTree(), arguments);
-
-		GemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+		GemfireRepositoryQuery repositoryQuery = resolveRepositoryQuery(arguments);
 
 		return repositoryQuery.execute(prepareStringParameters(arguments));
 	}
 
-	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments) {
+	/**
+	 * Resolves the {@link StringBasedGemfireRepositoryQuery} executing the OQL query derived from the {@link PartTree}.
+	 *
+	 * The derived OQL query only varies by the dynamic {@link Sort} of the {@link QueryMethod}, therefore the
+	 * {@link StringBasedGemfireRepositoryQuery} is created once when the {@link QueryMethod} does not sort dynamically,
+	 * and otherwise cached per {@link Sort}, up to {@value #MAX_CACHED_SORTED_QUERIES} distinct {@link Sort Sorts}.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return the {@link StringBasedGemfireRepositoryQuery} executing the derived OQL query.
+	 * @see StringBasedGemfireRepositoryQuery
+	 */
+	@NonNull StringBasedGemfireRepositoryQuery resolveRepositoryQuery(@NonNull Object[] arguments) {
+
+		if (this.dynamicallySorted) {
+
+			Sort sort = new ParametersParameterAccessor(getGemfireQueryMethod().getParameters(), arguments).getSort();
+
+			StringBasedGemfireRepositoryQuery repositoryQuery = this.sortedRepositoryQueries.get(sort);
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
+			if (repositoryQuery == null) {
 
-		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
+				repositoryQuery = newRepositoryQuery(sort);
 
-		return queryCreator.createQuery(parameterAccessor.getSort());
+				if (this.sortedRepositoryQueries.size() < MAX_CACHED_SORTED_QUERIES) {
+
+					StringBasedGemfireRepositoryQuery existingRepositoryQuery =
+						this.sortedRepositoryQueries.putIfAbsent(sort, repositoryQuery);
+
+					repositoryQuery = existingRepositoryQuery != null ? existingRepositoryQuery : repositoryQuery;
+				}
+			}
+
+			return repositoryQuery;
+		}
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = this.unsortedRepositoryQuery;
+
+		if (repositoryQuery == null) {
+			repositoryQuery = newRepositoryQuery(Sort.unsorted());
+			this.unsortedRepositoryQuery = repositoryQuery;
+		}
+
+		return repositoryQuery;
 	}
 
-	private GemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
-			QueryString query, GemfireTemplate template) {
+	private StringBasedGemfireRepositoryQuery newRepositoryQuery(Sort sort) {
+
+		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(getPartTree(), queryMethod.getPersistentEntity());
+
+		QueryString query = queryCreator.createQuery(sort);
 
 		StringBasedGemfireRepositoryQuery repositoryQuery =
-			new StringBasedGemfireRepositoryQuery(query.toString(), queryMethod, template);
+			new StringBasedGemfireRepositoryQuery(query.toString(), queryMethod, getTemplate());
 
 		repositoryQuery.register(getQueryPostProcessor());
 		repositoryQuery.asDerivedQuery();
@@ -116,33 +192,52 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return repositoryQuery;
 	}
 
-	private Object[] prepareStringParameters(Object[] parameters) {
+	/**
+	 * Registers the given {@link QueryPostProcessor} and discards the cached, derived OQL queries
+	 * so they are post processed by the given {@link QueryPostProcessor}.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to register.
+	 * @return this {@link GemfireRepositoryQuery}.
+	 * @see GemfireRepositoryQuery#register(QueryPostProcessor)
+	 */
+	@Override
+	public GemfireRepositoryQuery register(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
 
-		Iterator<Part> partsIterator = getPartTree().getParts().iterator();
+		GemfireRepositoryQuery repositoryQuery = super.register(queryPostProcessor);
 
-		List<Object> stringParameters = new ArrayList<>(parameters.length);
+		this.unsortedRepositoryQuery = null;
+		this.sortedRepositoryQueries.clear();
+
+		return repositoryQuery;
+	}
+
+	Object[] prepareStringParameters(Object[] parameters) {
+
+		UnaryOperator<String>[] parameterFormatters = this.parameterFormatters;
+
+		Object[] stringParameters = new Object[parameters.length];
+
+		int partIndex = 0;
+
+		for (int index = 0; index < parameters.length; index++) {
+
+			Object parameter = parameters[index];
 
-		for (Object parameter : parameters) {
 			if (parameter == null || parameter instanceof Sort) {
-				stringParameters.add(parameter);
+				stringParameters[index] = parameter;
 			}
 			else {
-				switch (partsIterator.next().getType()) {
-					case CONTAINING:
-						stringParameters.add(String.format("%%%s%%", parameter.toString()));
-						break;
-					case STARTING_WITH:
-						stringParameters.add(String.format("%s%%", parameter.toString()));
-						break;
-					case ENDING_WITH:
-						stringParameters.add(String.format("%%%s", parameter.toString()));
-						break;
-					default:
-						stringParameters.add(parameter);
-				}
+
+				UnaryOperator<String> parameterFormatter = partIndex < parameterFormatters.length
+					? parameterFormatters[partIndex++]
+					: null;
+
+				stringParameters[index] = parameterFormatter != null
+					? parameterFormatter.apply(parameter.toString())
+					: parameter;
 			}
 		}
 
-		return stringParameters.toArray();
+		return stringParameters;
 	}
 }
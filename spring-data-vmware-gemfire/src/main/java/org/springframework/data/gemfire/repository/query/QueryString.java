@@ -46,10 +46,20 @@ import org.springframework.util.StringUtils;
 public class QueryString {
 
 	// OQL Query Patterns
+	protected static final Pattern AGGREGATE_PATTERN =
+		Pattern.compile("\\b(count|sum|avg|min|max)\\s*\\(", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern GROUP_BY_PATTERN = Pattern.compile("\\s+GROUP\\s+BY\\s+", Pattern.CASE_INSENSITIVE);
 	protected static final Pattern HINT_PATTERN = Pattern.compile("<HINT '\\w+'(, '\\w+')*>");
 	protected static final Pattern IMPORT_PATTERN = Pattern.compile("IMPORT .+;");
 	protected static final Pattern LIMIT_PATTERN = Pattern.compile("LIMIT \\d+");
+	protected static final Pattern ORDER_BY_PATTERN =
+		Pattern.compile("\\s+ORDER\\s+BY\\s+.+?(?=\\s+LIMIT\\s+\\d+|$)", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern SELECT_PROJECTION_PATTERN =
+		Pattern.compile("SELECT\\s+(?!DISTINCT\\s)(\\S.*?)\\s+FROM(?=\\s)", Pattern.CASE_INSENSITIVE);
+	protected static final Pattern SELECT_STAR_PATTERN =
+		Pattern.compile("SELECT\\s+(DISTINCT\\s+)?\\*\\s+FROM", Pattern.CASE_INSENSITIVE);
 	protected static final Pattern TRACE_PATTERN = Pattern.compile("<TRACE>");
+	protected static final Pattern WHERE_PATTERN = Pattern.compile("\\s+WHERE\\s+", Pattern.CASE_INSENSITIVE);
 
 	// OQL Query Templates
 	protected static final String HINTS_OQL_TEMPLATE = "<HINT %1$s> %2$s";
@@ -63,6 +73,8 @@ public class QueryString {
 	protected static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
 	protected static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
 	protected static final String IN_VALUES_TEMPLATE = "(%s)";
+
+	private static final Pattern IN_PARAMETER_REGEX = Pattern.compile(IN_PARAMETER_PATTERN);
 //	protected static final String REGION_PATTERN = "\\/(\\/?\\w)+";
 	protected static final String REGION_PATTERN = "\\/(\\/?[-.\\w])+";
 	protected static final String STAR_PROJECTION = "*";
@@ -225,6 +237,26 @@ public class QueryString {
 		return LIMIT_PATTERN.matcher(getQuery()).find();
 	}
 
+	/**
+	 * Determines whether an {@literal ORDER BY} clause is present in the OQL query.
+	 *
+	 * @return a boolean value determining whether an {@literal ORDER BY} clause is present in the OQL query.
+	 * @see #orderBy(Sort)
+	 */
+	public boolean isOrdered() {
+		return ORDER_BY_PATTERN.matcher(getQuery()).find();
+	}
+
+	/**
+	 * Determines whether the OQL query selects whole objects (i.e. {@literal SELECT *}
+	 * or {@literal SELECT DISTINCT *}) rather than a projection.
+	 *
+	 * @return a boolean value determining whether the OQL query selects whole objects.
+	 */
+	public boolean isSelectStar() {
+		return SELECT_STAR_PATTERN.matcher(getQuery()).find();
+	}
+
 	/**
 	 * Returns the parameter indexes used in this query.
 	 *
@@ -233,9 +265,7 @@ public class QueryString {
 	 */
 	public Iterable<Integer> getInParameterIndexes() {
 
-		Pattern pattern = Pattern.compile(IN_PARAMETER_PATTERN);
-
-		Matcher matcher = pattern.matcher(getQuery());
+		Matcher matcher = IN_PARAMETER_REGEX.matcher(getQuery());
 
 		List<Integer> indexes = new ArrayList<>();
 
@@ -298,6 +328,59 @@ public class QueryString {
 			: this;
 	}
 
+	/**
+	 * Converts this OQL {@literal SELECT} query into an OQL {@literal SELECT count(*)} query counting the number
+	 * of results that this OQL query would return without a {@literal LIMIT}.
+	 *
+	 * Any {@literal ORDER BY} clause and {@literal LIMIT} are removed from the count query. A {@literal DISTINCT} query
+	 * is converted into a {@literal SELECT DISTINCT count(*)} query, which counts only the distinct results. A query
+	 * with a projection (e.g. {@literal SELECT x.name FROM}) returns one result per object matching
+	 * the {@literal FROM} and {@literal WHERE} clauses, and so is counted over those clauses. Queries with
+	 * a {@literal DISTINCT} projection, an aggregate or nested query in the projection, or a {@literal GROUP BY}
+	 * clause cannot be converted into a count query.
+	 *
+	 * @return an {@link Optional} containing the count {@link QueryString}, or an {@link Optional#empty() empty}
+	 * {@link Optional} if this OQL query cannot be converted into a count query.
+	 * @see Optional
+	 */
+	public @NonNull Optional<QueryString> asCountQuery() {
+
+		String query = getQuery();
+
+		String countQuery = null;
+
+		Matcher matcher = SELECT_STAR_PATTERN.matcher(query);
+
+		if (matcher.find()) {
+
+			String select = matcher.group(1) != null
+				? String.format("%1$s %2$s", OqlKeyword.SELECT.getKeyword(), OqlKeyword.DISTINCT.getKeyword())
+				: OqlKeyword.SELECT.getKeyword();
+
+			countQuery = matcher.replaceFirst(String.format("%1$s %2$s FROM", select, COUNT_PROJECTION));
+		}
+		else if (!GROUP_BY_PATTERN.matcher(query).find()) {
+
+			matcher = SELECT_PROJECTION_PATTERN.matcher(query);
+
+			if (matcher.find() && isCountableProjection(matcher.group(1))) {
+				countQuery = matcher.replaceFirst(String.format("%1$s %2$s FROM",
+					OqlKeyword.SELECT.getKeyword(), COUNT_PROJECTION));
+			}
+		}
+
+		return Optional.ofNullable(countQuery)
+			.map(it -> ORDER_BY_PATTERN.matcher(it).replaceAll(""))
+			.map(it -> LIMIT_PATTERN.matcher(it).replaceAll("").trim())
+			.map(QueryString::of);
+	}
+
+	private boolean isCountableProjection(String projection) {
+
+		return !AGGREGATE_PATTERN.matcher(projection).find()
+			&& !projection.toUpperCase().contains(OqlKeyword.SELECT.getKeyword());
+	}
+
 	/**
 	 * Replaces an OQL {@literal SELECT} query with an OQL {@literal SELECT DISTINCT} query if the {@link String query}
 	 * is not already {@literal distinct}; i.e. does not contain the {@literal DISTINCT} OQL keyword.
@@ -466,6 +549,46 @@ public class QueryString {
 			: this;
 	}
 
+	/**
+	 * Adds the given predicate to the {@literal WHERE} clause of the OQL Query.
+	 *
+	 * Any existing {@literal WHERE} clause condition is preserved and combined with the given predicate
+	 * using {@literal AND}. The predicate is placed before any {@literal ORDER BY} clause and {@literal LIMIT}.
+	 *
+	 * @param predicate {@link String} containing the conditional expression to add to the {@literal WHERE} clause.
+	 * @return a new {@link QueryString} if a predicate was specified, or return this {@link QueryString}.
+	 */
+	public @NonNull QueryString where(@Nullable String predicate) {
+
+		if (StringUtils.hasText(predicate)) {
+
+			String query = getQuery();
+
+			int endIndex = query.length();
+
+			Matcher orderByMatcher = ORDER_BY_PATTERN.matcher(query);
+			Matcher limitMatcher = LIMIT_PATTERN.matcher(query);
+
+			endIndex = orderByMatcher.find() ? Math.min(endIndex, orderByMatcher.start()) : endIndex;
+			endIndex = limitMatcher.find() ? Math.min(endIndex, limitMatcher.start()) : endIndex;
+
+			String selectFrom = query.substring(0, endIndex).trim();
+			String remainder = query.substring(endIndex);
+
+			Matcher whereMatcher = WHERE_PATTERN.matcher(selectFrom);
+
+			String predicateQuery = whereMatcher.find()
+				? String.format("%1$s WHERE (%2$s) AND %3$s", selectFrom.substring(0, whereMatcher.start()),
+					selectFrom.substring(whereMatcher.end()), predicate)
+				: String.format("%1$s WHERE %2$s", selectFrom, predicate);
+
+			return QueryString.of(String.format("%1$s%2$s", predicateQuery,
+				remainder.isEmpty() || Character.isWhitespace(remainder.charAt(0)) ? remainder : " " + remainder));
+		}
+
+		return this;
+	}
+
 	/**
 	 * Applies TRACE logging to the OQL Query.
 	 *
@@ -6,9 +6,18 @@ package org.springframework.data.gemfire.repository.query;
 
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.query.SelectResults;
 
@@ -18,7 +27,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
 import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.query.support.CachedCount;
 import org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor;
@@ -28,6 +41,7 @@ import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -53,10 +67,22 @@ import org.springframework.util.Assert;
 @SuppressWarnings("unused")
 public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	protected static final int DEFAULT_STREAM_BATCH_SIZE =
+		Integer.getInteger("spring.data.gemfire.repository.query.stream.batch.size", 1000);
+
+	static final int MAX_CACHED_COUNTS = 256;
+
 	private static final String INVALID_QUERY = "Modifying queries are not supported";
 
+	private volatile boolean argumentIndependentQueryPostProcessing = true;
 	private volatile boolean userDefinedQuery = false;
 
+	private volatile Duration countCacheTimeToLive = CachedCount.DEFAULT_TIME_TO_LIVE;
+
+	private volatile PreparedQuery preparedQuery;
+
+	private final Map<List<Object>, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
 	private final GemfireTemplate template;
 
 	private final OqlQueryExecutor nonPagedQueryExecutor;
@@ -74,7 +100,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.pagedQueryExecutor = (queryMethod, query, arguments) -> null;
 		this.template = null;
 
-		register(ProvidedQueryPostProcessors.LIMIT
+		super.register(ProvidedQueryPostProcessors.LIMIT
 			.processBefore(ProvidedQueryPostProcessors.IMPORT)
 			.processBefore(ProvidedQueryPostProcessors.HINT)
 			.processBefore(ProvidedQueryPostProcessors.TRACE));
@@ -108,11 +134,9 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		this.nonPagedQueryExecutor = new TemplateBasedOqlQueryExecutor(template);
 
-		this.pagedQueryExecutor = new SmartPagedOqlQueryExecutor(template)
-			.thenExecuteWith(new TwoPhasePagedOqlQueryExecutor(template)
-				.thenExecuteWith(new TemplateBasedOqlQueryExecutor(template)));
+		this.pagedQueryExecutor = new PageLimitingOqlQueryExecutor(template);
 
-		register(ProvidedQueryPostProcessors.LIMIT
+		super.register(ProvidedQueryPostProcessors.LIMIT
 			.processBefore(ProvidedQueryPostProcessors.IMPORT)
 			.processBefore(ProvidedQueryPostProcessors.HINT)
 			.processBefore(ProvidedQueryPostProcessors.TRACE));
@@ -127,6 +151,7 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	public @NonNull StringBasedGemfireRepositoryQuery asDerivedQuery() {
 		this.userDefinedQuery = false;
+		this.preparedQuery = null;
 		return this;
 	}
 
@@ -138,9 +163,62 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 */
 	public @NonNull StringBasedGemfireRepositoryQuery asUserDefinedQuery() {
 		this.userDefinedQuery = true;
+		this.preparedQuery = null;
 		return this;
 	}
 
+	/**
+	 * Registers the given {@link QueryPostProcessor}.
+	 *
+	 * The prepared OQL query is only reused across executions while all registered
+	 * {@link QueryPostProcessor QueryPostProcessors} are provided by this {@link RepositoryQuery}, since
+	 * user-defined {@link QueryPostProcessor QueryPostProcessors} may depend on the query method arguments.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to register.
+	 * @return this {@link RepositoryQuery}.
+	 * @see GemfireRepositoryQuery#register(QueryPostProcessor)
+	 */
+	@Override
+	public GemfireRepositoryQuery register(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
+
+		if (queryPostProcessor != null && queryPostProcessor != ProvidedQueryPostProcessor.IDENTITY) {
+			this.argumentIndependentQueryPostProcessing = false;
+		}
+
+		this.preparedQuery = null;
+
+		return super.register(queryPostProcessor);
+	}
+
+	/**
+	 * Sets the {@link Duration} for which the count of results used to compute the total of
+	 * a {@link Page requested page} is cached.
+	 *
+	 * Counts are cached per OQL query and bind in parameter arguments. A {@literal null}, {@literal zero}
+	 * or {@literal negative} {@link Duration} disables caching so that the results are counted for every
+	 * {@link Page requested page} that requires the total.
+	 *
+	 * @param countCacheTimeToLive {@link Duration} for which the count of results is cached.
+	 * @see #getCountCacheTimeToLive()
+	 * @see Duration
+	 */
+	public void setCountCacheTimeToLive(@Nullable Duration countCacheTimeToLive) {
+		this.countCacheTimeToLive = countCacheTimeToLive != null ? countCacheTimeToLive : Duration.ZERO;
+		this.cachedCounts.clear();
+	}
+
+	/**
+	 * Returns the {@link Duration} for which the count of results used to compute the total of
+	 * a {@link Page requested page} is cached.
+	 *
+	 * @return the {@link Duration} for which the count of results is cached.
+	 * @see #setCountCacheTimeToLive(Duration)
+	 * @see Duration
+	 */
+	protected @NonNull Duration getCountCacheTimeToLive() {
+		return this.countCacheTimeToLive;
+	}
+
 	/**
 	 * Determines whether the OQL query represented by this {@link RepositoryQuery} is derived from
 	 * the {@link Repository} infrastructure {@link QueryMethod} name/signature conventions.
@@ -205,6 +283,20 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return this.query;
 	}
 
+	/**
+	 * Returns the maximum number of results fetched in a single batch by {@link Stream} and {@link Iterator}
+	 * query methods.
+	 *
+	 * Defaults to {@link #DEFAULT_STREAM_BATCH_SIZE}, which can be configured with
+	 * the {@literal spring.data.gemfire.repository.query.stream.batch.size} System property.
+	 *
+	 * @return the maximum number of results fetched in a single batch by streaming query methods.
+	 * @see #processStreamingQuery(QueryMethod, String, Object...)
+	 */
+	protected int getStreamBatchSize() {
+		return DEFAULT_STREAM_BATCH_SIZE;
+	}
+
 	/**
 	 * Returns a reference to the {@link GemfireTemplate} used to perform all data access and query operations.
 	 *
@@ -223,14 +315,54 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		QueryMethod queryMethod = getQueryMethod();
 
-		QueryString query = getQuery();
+		GemFireMetrics.Sample sample = startSample(queryMethod);
+
+		try {
+
+			QueryString query = getQuery();
+
+			String preparedQuery = resolvePreparedQuery(queryMethod, query, arguments);
+
+			Object result;
+
+			if (isStreamingQuery(queryMethod)) {
+				result = processStreamingQuery(queryMethod, preparedQuery, arguments);
+			}
+			else {
+
+				SelectResults<?> selectResults =
+					resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
+
+				result = queryMethod.isPageQuery()
+					? processPagedQueryResults(queryMethod, preparedQuery, selectResults, arguments)
+					: processQueryResults(queryMethod, selectResults, arguments);
+			}
+
+			sample.succeeded(GemFireMetrics.resultCount(result));
+
+			return result;
+		}
+		finally {
+			sample.stop();
+		}
+	}
+
+	private GemFireMetrics.Sample startSample(QueryMethod queryMethod) {
 
-		String preparedQuery = prepareQuery(queryMethod, query, arguments);
+		GemfireTemplate template = getTemplate();
 
-		SelectResults<?> selectResults =
-			resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
+		GemFireMetrics metrics = template != null ? GemFireMetrics.nullSafe(template.getMetrics()) : GemFireMetrics.NOOP;
 
-		return processQueryResults(queryMethod, selectResults, arguments);
+		if (metrics.isEnabled()) {
+
+			Class<?> repositoryInterface = queryMethod instanceof GemfireQueryMethod
+				? ((GemfireQueryMethod) queryMethod).getMethod().getDeclaringClass()
+				: queryMethod.getEntityInformation().getJavaType();
+
+			return metrics.startRepositoryQuery(repositoryInterface, queryMethod.getName());
+		}
+
+		return GemFireMetrics.Sample.NOOP;
 	}
 
 	/**
@@ -258,6 +390,37 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return processedQueryString;
 	}
 
+	/**
+	 * Resolves the prepared OQL query statement to execute.
+	 *
+	 * OQL queries without {@literal IN} parameters and without user-defined {@link QueryPostProcessor
+	 * QueryPostProcessors} do not vary by argument, so the query is prepared once and reused on each execution.
+	 * Otherwise, the query is prepared for each execution.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link QueryString} containing the OQL query statement.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return the {@literal prepared} OQL query to execute.
+	 * @see #prepareQuery(QueryMethod, QueryString, Object[])
+	 */
+	@NonNull String resolvePreparedQuery(@NonNull QueryMethod queryMethod, @NonNull QueryString query,
+			@NonNull Object[] arguments) {
+
+		if (this.argumentIndependentQueryPostProcessing && !query.getInParameterIndexes().iterator().hasNext()) {
+
+			PreparedQuery preparedQuery = this.preparedQuery;
+
+			if (preparedQuery == null || preparedQuery.source != query) {
+				preparedQuery = new PreparedQuery(query, prepareQuery(queryMethod, query, arguments));
+				this.preparedQuery = preparedQuery;
+			}
+
+			return preparedQuery.queryString;
+		}
+
+		return prepareQuery(queryMethod, query, arguments);
+	}
+
 	private QueryString bindInParameters(QueryMethod queryMethod, QueryString query, Object[] arguments) {
 
 		Parameters<?, ?> queryMethodParameters = queryMethod.getParameters();
@@ -295,6 +458,64 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			: getNonPagedQueryExecutor();
 	}
 
+	private boolean isStreamingQuery(QueryMethod queryMethod) {
+
+		return queryMethod.isStreamQuery()
+			|| (queryMethod instanceof GemfireQueryMethod && ((GemfireQueryMethod) queryMethod).isIteratorQuery());
+	}
+
+	/**
+	 * Executes the OQL query for a {@link QueryMethod} returning a {@link Stream} or an {@link Iterator}.
+	 *
+	 * Derived OQL queries selecting whole entities, that are neither ordered, limited nor paged, fetch the results
+	 * lazily in batches of {@link #getStreamBatchSize()} results using keyset pagination on the entity identifier.
+	 * All other OQL queries are executed once and the results are iterated without being copied.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link String} containing the prepared OQL query to execute.
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return a {@link Stream} or {@link Iterator} over the OQL query results.
+	 * @see BatchedQueryResultsIterator
+	 */
+	protected @NonNull Object processStreamingQuery(@NonNull QueryMethod queryMethod, @NonNull String query,
+			@NonNull Object... arguments) {
+
+		QueryString queryString = QueryString.of(query);
+
+		String keyProperty = resolveKeyProperty(queryMethod);
+
+		Iterator<?> results;
+
+		if (keyProperty != null && isDerivedQuery() && queryString.isSelectStar() && !queryString.isOrdered()
+				&& !queryString.isLimited() && !PagingUtils.isPagingPresent(queryMethod)) {
+
+			results = new BatchedQueryResultsIterator<>(getTemplate(), queryString, keyProperty,
+				getStreamBatchSize(), arguments);
+		}
+		else {
+
+			SelectResults<?> selectResults = resolveOqlQueryExecutor(queryMethod).execute(queryMethod, query, arguments);
+
+			results = selectResults != null ? selectResults.iterator() : Collections.emptyIterator();
+		}
+
+		return queryMethod.isStreamQuery() ? StreamUtils.createStreamFromIterator(results) : results;
+	}
+
+	private @Nullable String resolveKeyProperty(QueryMethod queryMethod) {
+
+		if (queryMethod instanceof GemfireQueryMethod) {
+
+			GemfirePersistentEntity<?> entity = ((GemfireQueryMethod) queryMethod).getPersistentEntity();
+
+			GemfirePersistentProperty idProperty = entity != null ? entity.getIdProperty() : null;
+
+			return idProperty != null ? idProperty.getName() : null;
+		}
+
+		return null;
+	}
+
 	/**
 	 * Processes the OQL query {@link SelectResults result set}.
 	 *
@@ -338,6 +559,127 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
+	/**
+	 * Processes the {@link SelectResults result set} of a {@link Page paged} OQL query.
+	 *
+	 * The {@link SelectResults} already contain only the contents of the {@link Pageable requested page}.
+	 * The total number of results is only counted, using a {@literal SELECT count(*)} OQL query derived from
+	 * the given OQL query, when the total cannot be determined from the {@link Pageable requested page}
+	 * and the contents of the page. The count is cached for the configured
+	 * {@link #getCountCacheTimeToLive() time-to-live}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param query {@link String} containing the prepared OQL query that was executed.
+	 * @param selectResults {@link SelectResults} containing the contents of the {@link Pageable requested page}.
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return the {@link Page requested page}.
+	 * @see PagingUtils#toPage(List, Pageable, LongSupplier)
+	 * @see #getCachedCount(String, Object...)
+	 * @see SelectResults
+	 * @see QueryMethod
+	 * @see Page
+	 */
+	protected @NonNull Page<?> processPagedQueryResults(@NonNull QueryMethod queryMethod, @NonNull String query,
+			@NonNull SelectResults<?> selectResults, @NonNull Object... arguments) {
+
+		Pageable pageRequest = PagingUtils.getPageRequest(queryMethod, arguments);
+
+		List<Object> content = new ArrayList<>(toCollection(selectResults));
+
+		return PagingUtils.toPage(content, pageRequest, () -> getCachedCount(query, arguments));
+	}
+
+	/**
+	 * Returns the count of results used to compute the total of a {@link Page requested page}.
+	 *
+	 * The count is cached per OQL query and bind in parameter arguments for the configured
+	 * {@link #getCountCacheTimeToLive() time-to-live}. {@link Pageable} and {@link Sort} arguments
+	 * are not part of the cache key, so that all pages of the same query share the count.
+	 *
+	 * @param query {@link String} containing the OQL query to count.
+	 * @param arguments array of {@link Object arguments} for the OQL query bind in parameters.
+	 * @return the (possibly cached) total number of results returned by the given OQL query.
+	 * @see #setCountCacheTimeToLive(Duration)
+	 * @see #count(String, Object...)
+	 */
+	long getCachedCount(@NonNull String query, @NonNull Object... arguments) {
+
+		Duration countCacheTimeToLive = getCountCacheTimeToLive();
+
+		if (!CachedCount.isEnabled(countCacheTimeToLive)) {
+			return count(query, arguments);
+		}
+
+		List<Object> key = newCountCacheKey(query, arguments);
+
+		CachedCount cachedCount = this.cachedCounts.get(key);
+
+		if (cachedCount == null || cachedCount.isExpired()) {
+
+			if (this.cachedCounts.size() >= MAX_CACHED_COUNTS) {
+				this.cachedCounts.values().removeIf(CachedCount::isExpired);
+				if (this.cachedCounts.size() >= MAX_CACHED_COUNTS) {
+					this.cachedCounts.clear();
+				}
+			}
+
+			cachedCount = CachedCount.of(count(query, arguments), countCacheTimeToLive);
+			this.cachedCounts.put(key, cachedCount);
+		}
+
+		return cachedCount.getCount();
+	}
+
+	private List<Object> newCountCacheKey(String query, Object[] arguments) {
+
+		List<Object> key = new ArrayList<>(arguments.length + 1);
+
+		key.add(query);
+
+		for (Object argument : arguments) {
+			if (!(argument instanceof Pageable || argument instanceof Sort)) {
+				key.add(argument instanceof Object[] ? Arrays.asList((Object[]) argument) : argument);
+			}
+		}
+
+		return key;
+	}
+
+	/**
+	 * Counts the total number of results returned by the given OQL query.
+	 *
+	 * If the OQL query cannot be converted into a {@literal SELECT count(*)} OQL query (e.g. the query uses
+	 * a {@literal DISTINCT} projection), then the OQL query is executed in full and the size of
+	 * the {@link SelectResults} is returned.
+	 *
+	 * @param query {@link String} containing the OQL query to count.
+	 * @param arguments array of {@link Object arguments} for the OQL query bind in parameters.
+	 * @return the total number of results returned by the given OQL query, bounded by the query {@literal LIMIT}.
+	 * @see QueryString#asCountQuery()
+	 */
+	long count(@NonNull String query, @NonNull Object... arguments) {
+
+		QueryString queryString = QueryString.of(query);
+
+		long limit = queryString.isLimited() ? queryString.getLimit() : Long.MAX_VALUE;
+
+		Optional<QueryString> countQuery = queryString.asCountQuery();
+
+		if (countQuery.isPresent()) {
+			return Optional.ofNullable(getTemplate().find(countQuery.get().toString(), arguments))
+				.map(SelectResults::iterator)
+				.filter(Iterator::hasNext)
+				.map(Iterator::next)
+				.filter(Number.class::isInstance)
+				.map(count -> Math.min(((Number) count).longValue(), limit))
+				.orElse(0L);
+		}
+
+		SelectResults<?> selectResults = getTemplate().find(queryString.toString(), arguments);
+
+		return selectResults != null ? Math.min(selectResults.size(), limit) : 0L;
+	}
+
 	private boolean isSingleNonEntityResult(QueryMethod method, Collection<?> result) {
 
 		Class<?> methodReturnType = method.getReturnedObjectType();
@@ -446,121 +788,6 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
-	/**
-	 * A {@link SimplePagedOqlQueryExecutor} implementation that implements a paged OQL query statement
-	 * using a 2-phase approach.
-	 *
-	 * The first phase executes a {@literal keys query} (or OQL query for keys) satisfying the user's defined
-	 * OQL query predicate(s) specified in the {@literal WHERE} clause, {@link Sort sorted} according to
-	 * the user-defined {@literal ORDER BY} clause.
-	 *
-	 * The returned keys are then filtered by the {@link Pageable requested page}.
-	 *
-	 * Then, in the second (and final) phase, the keys returned by the {@literal keys query} are used as a predicate
-	 * in the user's original OQL query statement to limit the results returned to exactly those keys satisfying
-	 * the {@link Pageable requested page}.
-	 *
-	 * @see SimplePagedOqlQueryExecutor
-	 */
-	static class TwoPhasePagedOqlQueryExecutor extends SimplePagedOqlQueryExecutor {
-
-		/**
-		 * Constructs a new instance of {@link TwoPhasePagedOqlQueryExecutor} initialized with the given, required
-		 * {@link GemfireTemplate}.
-		 *
-		 * @param template {@link GemfireTemplate} used to execute Apache Geode OQL queries; must not be {@literal null}.
-		 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
-		 * @see GemfireTemplate
-		 */
-		TwoPhasePagedOqlQueryExecutor(@NonNull GemfireTemplate template) {
-			super(template);
-		}
-
-		/**
-		 * Simply return the {@link SelectResults} as is.
-		 *
-		 * The {@link SelectResults} were already limited to the {@link Pageable requested page} in this 2-phased
-		 * paged query implementation.
-		 *
-		 * @param selectResults {@link SelectResults} to process; must not be {@literal null}.
-		 * @param pageRequest {@link Pageable} object encapsulating the details of the {@link Page requested page};
-		 * must not be {@literal null}.
-		 * @return the {@link SelectResults} as is.
-		 * @see SelectResults
-		 * @see Pageable
-		 */
-		@Override
-		@SuppressWarnings("rawtypes")
-		protected SelectResults processPagedQueryResults(SelectResults selectResults, Pageable pageRequest) {
-			//return selectResults;
-			return super.processPagedQueryResults(selectResults, pageRequest);
-		}
-	}
-
-	/**
-	 * A {@literal smart} {@link PageLimitingOqlQueryExecutor} implementation that looks ahead at
-	 * the {@link Pageable requested page}, and if the user requested page on or the number of results needed
-	 * to satisfy the contents of the page are withing a pre-defined, configurable/tunable threshold, then the limited
-	 * {@link SelectResults OQL query result set} is returned.
-	 *
-	 * Alternatively, a 2-phased paged query can be used when the page number or page size is relatively large. Another
-	 * consideration is the size of the objects returned in the {@link SelectResults OQL query result set}.
-	 *
-	 * @see PageLimitingOqlQueryExecutor
-	 */
-	class SmartPagedOqlQueryExecutor extends PageLimitingOqlQueryExecutor {
-
-		// TODO enable this parameter to be configurable/tunable using the Spring Environment
-		final int PAGED_QUERY_RESULT_SET_LIMIT_THRESHOLD =
-			Integer.getInteger("spring.data.gemfire.query.limit.threshold", 101);
-
-		/**
-		 * Constructs a new instance of {@link SmartPagedOqlQueryExecutor} initialized with the given, required
-		 * {@link GemfireTemplate}.
-		 *
-		 * @param template {@link GemfireTemplate} used to execute Apache Geode OQL queries; must not be {@literal null}.
-		 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
-		 * @see GemfireTemplate
-		 */
-		SmartPagedOqlQueryExecutor(@NonNull GemfireTemplate template) {
-			super(template);
-		}
-
-		/**
-		 * @inheritDoc
-		 */
-		@Override
-		@SuppressWarnings("rawtypes")
-		protected SelectResults doExecute(Pageable pageRequest, QueryMethod queryMethod, String query,
-			Object... arguments) {
-
-			if (isExecutable(pageRequest)) {
-				return super.doExecute(pageRequest, queryMethod, query, arguments);
-			}
-
-			throw newUnsupportedQueryExecutionException(query);
-		}
-
-		/**
-		 * Determines whether this {@link OqlQueryExecutor} can execute the {@link String OQL query} directly (as is).
-		 *
-		 * Just execute the OQL query as is, bypassing the 2-phase implementation, if the requested page
-		 * is the first page or the query result set size would be less than the threshold (e.g. 101 results).
-		 * Dynamically supports 10 pages if page size were 10, 5 pages if page size were 20, 4 pages if page size
-		 * were 25, 2 pages if page size were 50 and so on.
-		 *
-		 * @param pageRequest {@link Pageable} object encapsulating the details of the requested page.
-		 * @return a boolean value indicating whether the original {@link String OQL query} should be executed directly,
-		 * bypassing the 2-phase implementation.
-		 * @see Pageable
-		 */
-		protected boolean isExecutable(@NonNull Pageable pageRequest) {
-
-			return PagingUtils.isPageOne(pageRequest)
-				|| PagingUtils.getQueryResultSetLimitForPage(pageRequest) < PAGED_QUERY_RESULT_SET_LIMIT_THRESHOLD;
-		}
-	}
-
 	/**
 	 * A {@link SimplePagedOqlQueryExecutor} implementation that applies a {@literal LIMIT} to
 	 * the {@link String OQL query statement} based on the {@link Pageable requested page} in order to limit
@@ -722,4 +949,16 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			return new PagedSelectResults(selectResults, pageRequest);
 		}
 	}
+
+	private static final class PreparedQuery {
+
+		private final QueryString source;
+
+		private final String queryString;
+
+		private PreparedQuery(QueryString source, String queryString) {
+			this.source = source;
+			this.queryString = queryString;
+		}
+	}
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query.support;
+
+import java.time.Duration;
+
+import org.springframework.data.domain.Page;
+import org.springframework.lang.NonNull;
+
+/**
+ * A count of query results, used to compute the total of a {@link Page}, that expires after
+ * a configured time-to-live.
+ *
+ * @see Duration
+ * @see Page
+ * @since 1.0.1
+ */
+public final class CachedCount {
+
+	/**
+	 * Default {@link Duration} for which a count is cached, configured with the
+	 * {@literal spring.data.gemfire.repository.count.cache.ttl} System property in milliseconds.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE =
+		Duration.ofMillis(Long.getLong("spring.data.gemfire.repository.count.cache.ttl", 1000L));
+
+	private final long count;
+	private final long expiresAt;
+
+	/**
+	 * Factory method used to construct a new {@link CachedCount} of the given {@literal count} expiring
+	 * the given {@link Duration time-to-live} from now.
+	 *
+	 * @param count {@link Long#TYPE count} to cache.
+	 * @param timeToLive {@link Duration} for which the count is valid; must not be {@literal null}.
+	 * @return a new {@link CachedCount}.
+	 * @see #isExpired()
+	 */
+	public static @NonNull CachedCount of(long count, @NonNull Duration timeToLive) {
+		return new CachedCount(count, System.nanoTime() + timeToLive.toNanos());
+	}
+
+	/**
+	 * Determines whether the given {@link Duration time-to-live} enables caching of counts.
+	 *
+	 * @param timeToLive {@link Duration} to evaluate.
+	 * @return {@literal true} if the given {@link Duration} is positive.
+	 */
+	public static boolean isEnabled(@NonNull Duration timeToLive) {
+		return !(timeToLive.isZero() || timeToLive.isNegative());
+	}
+
+	private CachedCount(long count, long expiresAt) {
+		this.count = count;
+		this.expiresAt = expiresAt;
+	}
+
+	/**
+	 * Returns the cached count.
+	 *
+	 * @return the cached count.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * Determines whether this count has outlived its time-to-live.
+	 *
+	 * @return a boolean value indicating whether this count has expired.
+	 */
+	public boolean isExpired() {
+		return System.nanoTime() - this.expiresAt >= 0;
+	}
+}
@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import org.springframework.data.domain.Page;
@@ -259,6 +260,40 @@ public abstract class PagingUtils {
 			: StreamSupport.stream(iterable.spliterator(), false).count();
 	}
 
+	/**
+	 * Constructs a new {@link Page} from the given {@link List} containing the contents of the requested page.
+	 *
+	 * The total number of elements is only computed with the given {@link LongSupplier} when it cannot be determined
+	 * from the {@link Pageable page request} and the contents of the page; i.e. when the requested page is full
+	 * or the contents of the page are empty and the requested page is not the first page.
+	 *
+	 * @param <T> {@link Class type} of the {@link List} elements.
+	 * @param content {@link List} containing the contents of the requested page.
+	 * @param pageable {@link Pageable} object encapsulating the details of the {@link Page} requested;
+	 * must not be {@literal null}.
+	 * @param totalSupplier {@link LongSupplier} used to compute the total number of elements;
+	 * must not be {@literal null}.
+	 * @return a {@literal non-null} {@link Page} with the given contents.
+	 * @see #getQueryResultSetStartIndexForPage(Pageable)
+	 * @see LongSupplier
+	 * @see Pageable
+	 * @see Page
+	 */
+	public static @NonNull <T> Page<T> toPage(@NonNull List<T> content, @NonNull Pageable pageable,
+			@NonNull LongSupplier totalSupplier) {
+
+		List<T> resolvedContent = CollectionUtils.nullSafeList(content);
+
+		int pageSize = pageable.getPageSize();
+		int size = resolvedContent.size();
+
+		long total = size < pageSize && (size > 0 || isPageOne(pageable))
+			? getQueryResultSetStartIndexForPage(pageable) + size
+			: totalSupplier.getAsLong();
+
+		return new PageImpl<>(resolvedContent, pageable, total);
+	}
+
 	/**
 	 * Gets a {@link Page} view from the given {@link List} based on the {@link Pageable} object (page request).
 	 *
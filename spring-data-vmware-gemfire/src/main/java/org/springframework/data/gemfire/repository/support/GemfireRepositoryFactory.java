@@ -9,18 +9,37 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
+import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Regions;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
+import org.springframework.data.gemfire.repository.NearCached;
 import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.GemfireQueryMethod;
 import org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery;
+import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -44,8 +63,9 @@ import org.springframework.util.StringUtils;
  * @author Oliver Gierke
  * @author David Turanski
  * @author John Blum
+ * @see GemFireMetricsAware
  */
-public class GemfireRepositoryFactory extends RepositoryFactorySupport {
+public class GemfireRepositoryFactory extends RepositoryFactorySupport implements GemFireMetricsAware {
 
 	private static final Class<org.springframework.data.gemfire.mapping.annotation.Region> REGION_ANNOTATION =
 		org.springframework.data.gemfire.mapping.annotation.Region.class;
@@ -63,6 +83,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Regions regions;
 
+	private volatile GemFireMetrics metrics = GemFireMetrics.NOOP;
+
+	private Supplier<ContinuousQueryListenerContainer> continuousQueryListenerContainerProvider = () -> null;
+
 	/**
 	 * Constructs a new instance of {@link GemfireRepositoryFactory} initialized with the given collection
 	 * of configured {@link Region Regions} and the {@link MappingContext}.
@@ -108,6 +132,66 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return this.regions;
 	}
 
+	/**
+	 * Sets the {@link GemFireMetrics} used to record {@link Repository} method invocations, query method executions
+	 * and the {@link Region} data access operations performed by the {@link Repository Repositories} created by
+	 * this factory.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record data access operations;
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics
+	 */
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+
+		GemFireMetrics resolvedMetrics = GemFireMetrics.nullSafe(metrics);
+
+		if (this.metrics == GemFireMetrics.NOOP && resolvedMetrics != GemFireMetrics.NOOP) {
+			addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+				new MetricsRecordingMethodInterceptor(repositoryInformation.getRepositoryInterface(), getMetrics())));
+		}
+
+		this.metrics = resolvedMetrics;
+	}
+
+	/**
+	 * Returns the {@link GemFireMetrics} used to record data access operations.
+	 *
+	 * @return the {@link GemFireMetrics} used to record data access operations.
+	 * @see GemFireMetrics
+	 */
+	protected @NonNull GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Sets the {@link Supplier} of the {@link ContinuousQueryListenerContainer} with which {@link NearCached}
+	 * {@link Repository Repositories} register the Continuous Query invalidating their {@link NearCache}.
+	 *
+	 * @param continuousQueryListenerContainerProvider {@link Supplier} of the {@link ContinuousQueryListenerContainer};
+	 * may supply {@literal null} if there is no {@link ContinuousQueryListenerContainer}.
+	 * @see NearCached.Invalidation#CONTINUOUS_QUERY
+	 * @see ContinuousQueryListenerContainer
+	 */
+	public void setContinuousQueryListenerContainerProvider(
+			@Nullable Supplier<ContinuousQueryListenerContainer> continuousQueryListenerContainerProvider) {
+
+		this.continuousQueryListenerContainerProvider = continuousQueryListenerContainerProvider != null
+			? continuousQueryListenerContainerProvider
+			: () -> null;
+	}
+
+	/**
+	 * Returns the {@link Supplier} of the {@link ContinuousQueryListenerContainer} with which {@link NearCached}
+	 * {@link Repository Repositories} register the Continuous Query invalidating their {@link NearCache}.
+	 *
+	 * @return the {@link Supplier} of the {@link ContinuousQueryListenerContainer}.
+	 * @see ContinuousQueryListenerContainer
+	 */
+	protected @NonNull Supplier<ContinuousQueryListenerContainer> getContinuousQueryListenerContainerProvider() {
+		return this.continuousQueryListenerContainerProvider;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -135,7 +219,109 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfireTemplate gemfireTemplate = newTemplate(repositoryInformation);
 
-		return getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(repositoryInformation, gemfireTemplate, entityInformation);
+
+		if (repository instanceof SimpleGemfireRepository) {
+			configureNearCache(repositoryInformation, (SimpleGemfireRepository<?, ?>) repository);
+		}
+
+		return repository;
+	}
+
+	/**
+	 * Configures the {@link NearCache} of the {@link SimpleGemfireRepository} when the {@link Repository} interface
+	 * or the entity class is annotated with {@link NearCached}, and registers the invalidation of the {@link NearCache}
+	 * when the {@link Region} is changed by other members or clients.
+	 *
+	 * @param repositoryMetadata {@link RepositoryMetadata} containing meta-data about the {@link Repository}.
+	 * @param repository {@link SimpleGemfireRepository} to configure.
+	 * @see NearCached
+	 * @see NearCache
+	 */
+	@SuppressWarnings("unchecked")
+	protected void configureNearCache(@NonNull RepositoryMetadata repositoryMetadata,
+			@NonNull SimpleGemfireRepository<?, ?> repository) {
+
+		NearCached nearCached = resolveNearCached(repositoryMetadata);
+
+		if (nearCached != null) {
+
+			NearCache<Object, Object> nearCache =
+				NearCache.from(repositoryMetadata.getRepositoryInterface().getSimpleName(), nearCached);
+
+			nearCache.setMetrics(getMetrics());
+
+			registerNearCacheInvalidation(repository.getRegion(), nearCache, nearCached.invalidation());
+
+			((SimpleGemfireRepository<Object, Object>) repository).setNearCache(nearCache);
+		}
+	}
+
+	private @Nullable NearCached resolveNearCached(@NonNull RepositoryMetadata repositoryMetadata) {
+
+		NearCached nearCached =
+			AnnotatedElementUtils.findMergedAnnotation(repositoryMetadata.getRepositoryInterface(), NearCached.class);
+
+		return nearCached != null ? nearCached
+			: AnnotatedElementUtils.findMergedAnnotation(repositoryMetadata.getDomainType(), NearCached.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void registerNearCacheInvalidation(@NonNull Region<?, ?> region, @NonNull NearCache<Object, Object> nearCache,
+			@NonNull NearCached.Invalidation invalidation) {
+
+		switch (invalidation) {
+			case INTEREST:
+				assertRegionEventsReachAllMembers(region, nearCache);
+				((Region<Object, Object>) region).getAttributesMutator()
+					.addCacheListener(new NearCacheInvalidatingCacheListener(nearCache));
+				if (RegionUtils.isClient(region)) {
+					region.registerInterestForAllKeys(InterestResultPolicy.NONE);
+				}
+				break;
+			case CONTINUOUS_QUERY:
+				registerNearCacheInvalidatingContinuousQuery(region, nearCache);
+				break;
+			default:
+				break;
+		}
+	}
+
+	// A CacheListener on a peer partitioned Region is only notified of changes to the buckets hosted by the member,
+	// so a member would keep stale entities changed in the buckets hosted by other members.
+	private void assertRegionEventsReachAllMembers(@NonNull Region<?, ?> region, @NonNull NearCache<?, ?> nearCache) {
+
+		RegionAttributes<?, ?> regionAttributes = region.getAttributes();
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		if (!RegionUtils.isClient(region) && dataPolicy != null && dataPolicy.withPartitioning()) {
+			throw newIllegalStateException("NearCached Repository [%1$s] cannot be invalidated by interest"
+				+ " in peer PARTITION Region [%2$s]; use a client Region or Invalidation.NONE with a ttl",
+				nearCache.getName(), region.getFullPath());
+		}
+	}
+
+	private void registerNearCacheInvalidatingContinuousQuery(@NonNull Region<?, ?> region,
+			@NonNull NearCache<Object, Object> nearCache) {
+
+		ContinuousQueryListenerContainer container = getContinuousQueryListenerContainerProvider().get();
+
+		if (container == null) {
+			throw newIllegalStateException("A ContinuousQueryListenerContainer is required to invalidate"
+				+ " the NearCache of Repository [%s] with a Continuous Query", nearCache.getName());
+		}
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition(String.format("SELECT * FROM %s", region.getFullPath()),
+				new NearCacheInvalidatingContinuousQueryListener(nearCache));
+
+		if (container.isActive()) {
+			container.addListener(definition);
+		}
+		else {
+			container.addContinuousQueryDefinition(definition);
+		}
 	}
 
 	/**
@@ -155,7 +341,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfirePersistentEntity<?> entity = resolvePersistentEntity(repositoryMetadata.getDomainType());
 
-		return new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+		GemfireTemplate template =
+			new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+
+		template.setMetrics(getMetrics());
+
+		return template;
 	}
 
 	@Nullable
@@ -258,4 +449,112 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return (T) new GemfireQueryMethod(method, repositoryMetadata, projectionFactory, getMappingContext(),
 			evaluationContextProvider);
 	}
+
+	/**
+	 * {@link MethodInterceptor} recording the invocation of each {@link Repository} method with
+	 * {@link GemFireMetrics}.
+	 */
+	static class MetricsRecordingMethodInterceptor implements MethodInterceptor {
+
+		private final Class<?> repositoryInterface;
+
+		private final GemFireMetrics metrics;
+
+		MetricsRecordingMethodInterceptor(@NonNull Class<?> repositoryInterface, @NonNull GemFireMetrics metrics) {
+			this.repositoryInterface = repositoryInterface;
+			this.metrics = metrics;
+		}
+
+		@Override
+		public Object invoke(@NonNull MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (!this.metrics.isEnabled() || Object.class.equals(method.getDeclaringClass())) {
+				return invocation.proceed();
+			}
+
+			GemFireMetrics.Sample sample = this.metrics.startRepositoryInvocation(this.repositoryInterface,
+				method.getName());
+
+			try {
+
+				Object result = invocation.proceed();
+
+				sample.succeeded(GemFireMetrics.resultCount(result));
+
+				return result;
+			}
+			finally {
+				sample.stop();
+			}
+		}
+	}
+
+	/**
+	 * {@link org.apache.geode.cache.CacheListener} invalidating a {@link NearCache} on {@link Region} events.
+	 */
+	static class NearCacheInvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		private final NearCache<Object, Object> nearCache;
+
+		NearCacheInvalidatingCacheListener(@NonNull NearCache<Object, Object> nearCache) {
+			this.nearCache = nearCache;
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+			this.nearCache.invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			this.nearCache.invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			this.nearCache.invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			this.nearCache.clear();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			this.nearCache.clear();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			this.nearCache.clear();
+		}
+	}
+
+	/**
+	 * {@link ContinuousQueryListener} invalidating a {@link NearCache} on {@link CqEvent CQ events}.
+	 */
+	static class NearCacheInvalidatingContinuousQueryListener implements ContinuousQueryListener {
+
+		private final NearCache<Object, Object> nearCache;
+
+		NearCacheInvalidatingContinuousQueryListener(@NonNull NearCache<Object, Object> nearCache) {
+			this.nearCache = nearCache;
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+
+			Object key = event.getKey();
+
+			if (key != null) {
+				this.nearCache.invalidate(key);
+			}
+			else {
+				this.nearCache.clear();
+			}
+		}
+	}
 }
@@ -25,9 +25,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.OrderComparator;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
 import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
 import org.springframework.data.gemfire.repository.query.QueryPostProcessor;
 import org.springframework.data.gemfire.util.CollectionUtils;
@@ -65,14 +68,17 @@ import org.springframework.util.ObjectUtils;
  * @see QueryCreationListener
  * @see RepositoryFactoryBeanSupport
  * @see RepositoryFactorySupport
+ * @see GemFireMetricsAware
  */
 public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
-		extends RepositoryFactoryBeanSupport<T, S, ID> implements ApplicationContextAware {
+		extends RepositoryFactoryBeanSupport<T, S, ID> implements ApplicationContextAware, GemFireMetricsAware {
 
 	private ApplicationContext applicationContext;
 
 	private GemFireCache cache;
 
+	private GemFireMetrics metrics = GemFireMetrics.NOOP;
+
 	private Iterable<Region<?, ?>> regions;
 
 	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
@@ -159,6 +165,28 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return this.mappingContext;
 	}
 
+	/**
+	 * Sets the {@link GemFireMetrics} used to record the data access operations of the {@link Repository}.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record data access operations;
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics
+	 */
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+	}
+
+	/**
+	 * Returns the {@link GemFireMetrics} used to record the data access operations of the {@link Repository}.
+	 *
+	 * @return the {@link GemFireMetrics} used to record data access operations.
+	 * @see GemFireMetrics
+	 */
+	protected @NonNull GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
 	/**
 	 * Returns an {@link Iterable} of {@link Region Regions}defined in the Spring {@link ApplicationContext}.
 	 *
@@ -228,10 +256,17 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		GemfireRepositoryFactory repositoryFactory =
 			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
 
+		repositoryFactory.setMetrics(getMetrics());
+
 		getApplicationContext()
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
 			.ifPresent(repositoryFactory::addQueryCreationListener);
 
+		getApplicationContext()
+			.map(applicationContext -> applicationContext.getBeanProvider(ContinuousQueryListenerContainer.class))
+			.ifPresent(containerProvider ->
+				repositoryFactory.setContinuousQueryListenerContainerProvider(containerProvider::getIfUnique));
+
 		return repositoryFactory;
 	}
 
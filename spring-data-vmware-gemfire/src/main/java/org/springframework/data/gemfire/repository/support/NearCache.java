@@ -0,0 +1,629 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+import org.apache.geode.CopyHelper;
+import org.apache.geode.cache.util.ObjectSizer;
+
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
+import org.springframework.data.gemfire.repository.NearCached;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, local cache of the entities of a {@link org.springframework.data.repository.Repository},
+ * configured with {@link NearCached}.
+ *
+ * The near cache holds at most {@link #getMaxEntries() max entries} and, when configured, at most
+ * {@link #getMaxBytes() max bytes} as estimated by the {@link ObjectSizer}. Entities are evicted with
+ * a {@literal CLOCK} (second chance) policy approximating least recently used, so that a lookup does not
+ * lock or reorder the cache.
+ *
+ * Concurrent misses on the same key are collapsed into a single load; the other callers wait for the loaded entity.
+ * An entity invalidated while it is being loaded is returned to the callers but is not cached.
+ * {@literal null} values are never cached.
+ *
+ * By default, the near cache keeps a private copy of each loaded entity and returns a new copy, made with
+ * {@link CopyHelper#copy(Object)}, to every caller, so that an entity modified by one caller, but not saved,
+ * is neither visible to other callers nor kept in the near cache. Copying can be disabled for immutable entities.
+ *
+ * @param <K> {@link Class type} of the keys.
+ * @param <V> {@link Class type} of the entities.
+ * @see NearCached
+ * @see SimpleGemfireRepository
+ * @since 1.0.1
+ */
+public class NearCache<K, V> implements GemFireMetricsAware {
+
+	private final int maxEntries;
+
+	private final long maxBytes;
+	private final long timeToLiveNanos;
+
+	private final AtomicInteger queuedEntryCount = new AtomicInteger();
+
+	private final AtomicLong estimatedBytes = new AtomicLong();
+
+	private final boolean copyOnRead;
+
+	private final ConcurrentMap<K, CachedEntry<K, V>> entries = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+	private volatile GemFireMetrics metrics = GemFireMetrics.NOOP;
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongSupplier clock;
+
+	private final ObjectSizer objectSizer;
+
+	private final Queue<CachedEntry<K, V>> evictionQueue = new ConcurrentLinkedQueue<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final String name;
+
+	private final UnaryOperator<V> copier;
+
+	/**
+	 * Factory method used to construct a new instance of {@link NearCache} configured with
+	 * the given {@link NearCached} annotation.
+	 *
+	 * @param <K> {@link Class type} of the keys.
+	 * @param <V> {@link Class type} of the entities.
+	 * @param name {@link String name} of the near cache; must not be {@literal null}.
+	 * @param nearCached {@link NearCached} annotation configuring the near cache; must not be {@literal null}.
+	 * @return a new {@link NearCache}.
+	 * @throws IllegalArgumentException if {@link NearCached} is {@literal null} or the configuration is invalid.
+	 * @see NearCached
+	 */
+	public static @NonNull <K, V> NearCache<K, V> from(@NonNull String name, @NonNull NearCached nearCached) {
+
+		Assert.notNull(nearCached, "NearCached must not be null");
+
+		return new NearCache<>(name, nearCached.maxEntries(), nearCached.maxBytes(),
+			Duration.ofSeconds(nearCached.ttl()), nearCached.copyOnRead());
+	}
+
+	/**
+	 * Constructs a new instance of {@link NearCache}.
+	 *
+	 * @param name {@link String name} of the near cache; must not be {@literal null} or {@literal empty}.
+	 * @param maxEntries maximum number of entities held in the near cache; must be greater than {@literal 0}.
+	 * @param maxBytes maximum estimated size in bytes of the entities held in the near cache;
+	 * {@literal 0} for no limit.
+	 * @param timeToLive {@link Duration} an entity remains in the near cache after it was loaded;
+	 * {@literal null} or {@literal zero} for no expiration.
+	 * @throws IllegalArgumentException if {@code name} is {@literal null} or {@literal empty}, {@code maxEntries}
+	 * is less than {@literal 1} or {@code maxBytes} or {@code timeToLive} are negative.
+	 */
+	public NearCache(@NonNull String name, int maxEntries, long maxBytes, @Nullable Duration timeToLive) {
+		this(name, maxEntries, maxBytes, timeToLive, true);
+	}
+
+	/**
+	 * Constructs a new instance of {@link NearCache}.
+	 *
+	 * @param name {@link String name} of the near cache; must not be {@literal null} or {@literal empty}.
+	 * @param maxEntries maximum number of entities held in the near cache; must be greater than {@literal 0}.
+	 * @param maxBytes maximum estimated size in bytes of the entities held in the near cache;
+	 * {@literal 0} for no limit.
+	 * @param timeToLive {@link Duration} an entity remains in the near cache after it was loaded;
+	 * {@literal null} or {@literal zero} for no expiration.
+	 * @param copyOnRead whether each caller is returned a copy of the cached entity.
+	 * @throws IllegalArgumentException if {@code name} is {@literal null} or {@literal empty}, {@code maxEntries}
+	 * is less than {@literal 1} or {@code maxBytes} or {@code timeToLive} are negative.
+	 * @see CopyHelper#copy(Object)
+	 */
+	public NearCache(@NonNull String name, int maxEntries, long maxBytes, @Nullable Duration timeToLive,
+			boolean copyOnRead) {
+
+		this(name, maxEntries, maxBytes, timeToLive, copyOnRead ? CopyHelper::copy : null,
+			ObjectSizer.DEFAULT, System::nanoTime);
+	}
+
+	NearCache(String name, int maxEntries, long maxBytes, @Nullable Duration timeToLive,
+			@Nullable UnaryOperator<V> copier, ObjectSizer objectSizer, LongSupplier clock) {
+
+		Assert.hasText(name, "Name must not be null or empty");
+		Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+		Assert.isTrue(maxBytes >= 0L, "maxBytes must be greater than equal to 0");
+		Assert.isTrue(timeToLive == null || !timeToLive.isNegative(), "timeToLive must not be negative");
+
+		this.name = name;
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : 0L;
+		this.copyOnRead = copier != null;
+		this.copier = copier != null ? copier : UnaryOperator.identity();
+		this.objectSizer = objectSizer;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the {@link String name} of this near cache.
+	 *
+	 * @return the {@link String name} of this near cache.
+	 */
+	public @NonNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the maximum number of entities held in this near cache.
+	 *
+	 * @return the maximum number of entities held in this near cache.
+	 */
+	public int getMaxEntries() {
+		return this.maxEntries;
+	}
+
+	/**
+	 * Returns the maximum estimated size in bytes of the entities held in this near cache.
+	 *
+	 * @return the maximum estimated size in bytes of the entities held in this near cache;
+	 * {@literal 0} if unbounded.
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * Determines whether callers are returned a copy of the cached entity.
+	 *
+	 * @return a boolean value indicating whether callers are returned a copy of the cached entity.
+	 */
+	public boolean isCopyOnRead() {
+		return this.copyOnRead;
+	}
+
+	/**
+	 * Sets the {@link GemFireMetrics} used to record near cache hits and misses.
+	 *
+	 * @param metrics {@link GemFireMetrics} used to record near cache hits and misses;
+	 * {@literal null} disables recording.
+	 * @see GemFireMetrics#recordNearCacheAccess(String, boolean)
+	 */
+	@Override
+	public void setMetrics(@Nullable GemFireMetrics metrics) {
+		this.metrics = GemFireMetrics.nullSafe(metrics);
+	}
+
+	/**
+	 * Returns the {@link GemFireMetrics} used to record near cache hits and misses.
+	 *
+	 * @return the {@link GemFireMetrics} used to record near cache hits and misses.
+	 */
+	protected @NonNull GemFireMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * Returns the number of lookups that found the entity in this near cache.
+	 *
+	 * @return the number of near cache hits.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that loaded the entity.
+	 *
+	 * @return the number of near cache misses.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the number of entities evicted to keep this near cache within its bounds.
+	 *
+	 * @return the number of evicted entities.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Returns the estimated size in bytes of the entities held in this near cache.
+	 *
+	 * @return the estimated size in bytes of the entities held in this near cache;
+	 * {@literal 0} if {@link #getMaxBytes() max bytes} is not configured.
+	 */
+	public long getEstimatedBytes() {
+		return this.estimatedBytes.get();
+	}
+
+	/**
+	 * Returns the number of entities held in this near cache.
+	 *
+	 * @return the number of entities held in this near cache.
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Returns the entity with the given key from this near cache, loading and caching the entity
+	 * with the given {@link Function loader} on a miss.
+	 *
+	 * @param key key of the entity; must not be {@literal null}.
+	 * @param loader {@link Function} loading the entity with the given key; must not be {@literal null}.
+	 * @return the cached or loaded entity, or {@literal null} if no entity exists with the given key.
+	 */
+	public @Nullable V get(@NonNull K key, @NonNull Function<? super K, ? extends V> loader) {
+
+		CachedEntry<K, V> entry = lookup(key);
+
+		if (entry != null) {
+			return copy(entry.value);
+		}
+
+		CompletableFuture<V> load = new CompletableFuture<>();
+		CompletableFuture<V> inFlightLoad = this.loads.putIfAbsent(key, load);
+
+		if (inFlightLoad != null) {
+			return copy(await(inFlightLoad));
+		}
+
+		try {
+
+			V value = loader.apply(key);
+
+			complete(key, load, value);
+
+			return value;
+		}
+		catch (RuntimeException | Error cause) {
+			fail(key, load, cause);
+			throw cause;
+		}
+	}
+
+	/**
+	 * Returns the entities with the given keys from this near cache, loading and caching the missing entities
+	 * with a single call to the given {@link Function bulk loader}.
+	 *
+	 * @param keys {@link Collection} of keys of the entities; must not be {@literal null}.
+	 * @param loader {@link Function} loading the entities with the given keys; must not be {@literal null}.
+	 * @return a {@link Map} of the given keys, in order, to the cached or loaded entities;
+	 * the value is {@literal null} if no entity exists with the key.
+	 */
+	public @NonNull Map<K, V> getAll(@NonNull Collection<K> keys,
+			@NonNull Function<? super Collection<K>, ? extends Map<K, V>> loader) {
+
+		Map<K, V> results = new LinkedHashMap<>(keys.size() * 4 / 3 + 1);
+
+		Map<K, CompletableFuture<V>> inFlightLoads = null;
+		Map<K, CompletableFuture<V>> loadsToComplete = null;
+
+		for (K key : keys) {
+
+			CachedEntry<K, V> entry = lookup(key);
+
+			results.put(key, entry != null ? copy(entry.value) : null);
+
+			if (entry == null) {
+
+				CompletableFuture<V> load = new CompletableFuture<>();
+				CompletableFuture<V> inFlightLoad = this.loads.putIfAbsent(key, load);
+
+				if (inFlightLoad != null) {
+					inFlightLoads = inFlightLoads != null ? inFlightLoads : new LinkedHashMap<>();
+					inFlightLoads.put(key, inFlightLoad);
+				}
+				else {
+					loadsToComplete = loadsToComplete != null ? loadsToComplete : new LinkedHashMap<>();
+					loadsToComplete.put(key, load);
+				}
+			}
+		}
+
+		if (loadsToComplete != null) {
+
+			try {
+
+				Map<K, V> values = loader.apply(new ArrayList<>(loadsToComplete.keySet()));
+
+				for (Map.Entry<K, CompletableFuture<V>> load : loadsToComplete.entrySet()) {
+
+					V value = values != null ? values.get(load.getKey()) : null;
+
+					complete(load.getKey(), load.getValue(), value);
+					results.put(load.getKey(), value);
+				}
+			}
+			catch (RuntimeException | Error cause) {
+				loadsToComplete.forEach((key, load) -> fail(key, load, cause));
+				throw cause;
+			}
+		}
+
+		if (inFlightLoads != null) {
+			inFlightLoads.forEach((key, load) -> results.put(key, copy(await(load))));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Removes the entity with the given key from this near cache, and prevents an entity being loaded concurrently
+	 * from being cached.
+	 *
+	 * @param key key of the entity to invalidate.
+	 */
+	public void invalidate(@Nullable K key) {
+
+		if (key != null) {
+
+			this.loads.remove(key);
+
+			CachedEntry<K, V> entry = this.entries.remove(key);
+
+			if (entry != null) {
+				this.estimatedBytes.addAndGet(-entry.size);
+			}
+		}
+	}
+
+	/**
+	 * Removes the entities with the given keys from this near cache.
+	 *
+	 * @param keys {@link Iterable} of keys of the entities to invalidate.
+	 * @see #invalidate(Object)
+	 */
+	public void invalidateAll(@Nullable Iterable<? extends K> keys) {
+
+		if (keys != null) {
+			for (K key : keys) {
+				invalidate(key);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entities from this near cache.
+	 */
+	public void clear() {
+
+		this.loads.clear();
+
+		List<K> keys = new ArrayList<>(this.entries.keySet());
+
+		invalidateAll(keys);
+
+		this.evictionLock.lock();
+
+		try {
+			this.evictionQueue.removeIf(entry -> this.entries.get(entry.key) != entry);
+			this.queuedEntryCount.set(this.evictionQueue.size());
+		}
+		finally {
+			this.evictionLock.unlock();
+		}
+	}
+
+	private @Nullable CachedEntry<K, V> lookup(K key) {
+
+		CachedEntry<K, V> entry = this.entries.get(key);
+
+		if (entry != null) {
+
+			if (entry.expiresAt == 0L || !entry.isExpired(this.clock.getAsLong())) {
+
+				entry.accessed = true;
+				this.hitCount.increment();
+				recordAccess(true);
+
+				return entry;
+			}
+
+			remove(key, entry);
+		}
+
+		this.missCount.increment();
+		recordAccess(false);
+
+		return null;
+	}
+
+	private void recordAccess(boolean hit) {
+
+		GemFireMetrics metrics = getMetrics();
+
+		if (metrics.isEnabled()) {
+			metrics.recordNearCacheAccess(getName(), hit);
+		}
+	}
+
+	private V await(CompletableFuture<V> load) {
+
+		try {
+			return load.join();
+		}
+		catch (CompletionException cause) {
+
+			Throwable loadFailure = cause.getCause();
+
+			if (loadFailure instanceof RuntimeException) {
+				throw (RuntimeException) loadFailure;
+			}
+
+			if (loadFailure instanceof Error) {
+				throw (Error) loadFailure;
+			}
+
+			throw cause;
+		}
+	}
+
+	private void complete(K key, CompletableFuture<V> load, @Nullable V value) {
+
+		if (value != null) {
+
+			// The loaded entity is returned to the loading caller, so the near cache and the waiting callers
+			// share a private copy.
+			V cachedValue = copy(value);
+
+			CachedEntry<K, V> entry = put(key, cachedValue);
+
+			// The entity was invalidated while loading and the cached entity may be stale.
+			if (!this.loads.remove(key, load)) {
+				remove(key, entry);
+			}
+
+			load.complete(cachedValue);
+		}
+		else {
+			this.loads.remove(key, load);
+			load.complete(null);
+		}
+	}
+
+	private @Nullable V copy(@Nullable V value) {
+		return value != null ? this.copier.apply(value) : null;
+	}
+
+	private void fail(K key, CompletableFuture<V> load, Throwable cause) {
+		this.loads.remove(key, load);
+		load.completeExceptionally(cause);
+	}
+
+	private CachedEntry<K, V> put(K key, V value) {
+
+		long size = this.maxBytes > 0L ? this.objectSizer.sizeof(value) : 0L;
+		long expiresAt = this.timeToLiveNanos > 0L ? this.clock.getAsLong() + this.timeToLiveNanos : 0L;
+
+		CachedEntry<K, V> entry = new CachedEntry<>(key, value, size, expiresAt);
+		CachedEntry<K, V> previousEntry = this.entries.put(key, entry);
+
+		this.estimatedBytes.addAndGet(previousEntry != null ? size - previousEntry.size : size);
+		this.evictionQueue.offer(entry);
+		this.queuedEntryCount.incrementAndGet();
+
+		evictIfNecessary();
+
+		return entry;
+	}
+
+	private boolean remove(K key, CachedEntry<K, V> entry) {
+
+		if (this.entries.remove(key, entry)) {
+			this.estimatedBytes.addAndGet(-entry.size);
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean isOverCapacity() {
+
+		return this.entries.size() > this.maxEntries
+			|| (this.maxBytes > 0L && this.estimatedBytes.get() > this.maxBytes);
+	}
+
+	// Invalidated and replaced entries remain queued until polled, so the queue is also trimmed
+	// once it holds twice as many entries as the near cache.
+	private boolean isOverQueued() {
+		return this.queuedEntryCount.get() > this.maxEntries * 2;
+	}
+
+	private void evictIfNecessary() {
+
+		if ((isOverCapacity() || isOverQueued()) && this.evictionLock.tryLock()) {
+
+			try {
+
+				// Each queued entry is given at most one second chance per call.
+				int remainingRequeues = this.queuedEntryCount.get();
+
+				boolean overCapacity;
+
+				while ((overCapacity = isOverCapacity()) || isOverQueued()) {
+
+					CachedEntry<K, V> entry = this.evictionQueue.poll();
+
+					if (entry == null) {
+						this.queuedEntryCount.set(0);
+						break;
+					}
+
+					if (this.entries.get(entry.key) != entry) {
+						this.queuedEntryCount.decrementAndGet();
+					}
+					else if ((!overCapacity || entry.accessed) && remainingRequeues-- > 0) {
+						entry.accessed = false;
+						this.evictionQueue.offer(entry);
+					}
+					else if (overCapacity) {
+
+						this.queuedEntryCount.decrementAndGet();
+
+						if (remove(entry.key, entry)) {
+							this.evictionCount.increment();
+						}
+					}
+					else {
+						this.evictionQueue.offer(entry);
+						this.queuedEntryCount.set(this.evictionQueue.size());
+						break;
+					}
+				}
+			}
+			finally {
+				this.evictionLock.unlock();
+			}
+		}
+	}
+
+	static final class CachedEntry<K, V> {
+
+		private volatile boolean accessed;
+
+		private final K key;
+
+		private final long expiresAt;
+		private final long size;
+
+		private final V value;
+
+		CachedEntry(K key, V value, long size, long expiresAt) {
+			this.key = key;
+			this.value = value;
+			this.size = size;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now - this.expiresAt >= 0L;
+		}
+	}
+}
@@ -4,11 +4,16 @@
  */
 package org.springframework.data.gemfire.repository.support;
 
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -16,19 +21,26 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.CacheTransactionManager;
-import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.gemfire.BulkWriteResult;
+import org.springframework.data.gemfire.GemfireBulkWriteException;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.QueryString;
+import org.springframework.data.gemfire.repository.query.support.CachedCount;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.RegionUtils;
@@ -36,6 +48,7 @@ import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.data.util.StreamUtils;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.NonNull;
@@ -63,8 +76,23 @@ import org.slf4j.LoggerFactory;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	protected static final Duration DEFAULT_COUNT_CACHE_TIME_TO_LIVE = CachedCount.DEFAULT_TIME_TO_LIVE;
+
+	protected static final String SELECT_ALL_OQL_QUERY = "SELECT * FROM %s";
 	protected static final String SELECT_COUNT_OQL_QUERY = "SELECT count(*) FROM %s";
 
+	static final String SELECT_FIRST_KEYS_OQL_QUERY =
+		"SELECT DISTINCT key FROM %1$s.keySet key ORDER BY key LIMIT %2$d";
+
+	static final String SELECT_NEXT_KEYS_OQL_QUERY =
+		"SELECT DISTINCT key FROM %1$s.keySet key WHERE key > $1 ORDER BY key LIMIT %2$d";
+
+	private volatile CachedCount cachedCount;
+
+	private volatile Duration countCacheTimeToLive = DEFAULT_COUNT_CACHE_TIME_TO_LIVE;
+
+	private volatile NearCache<ID, T> nearCache;
+
 	private final EntityInformation<T, ID> entityInformation;
 
 	private final GemfireTemplate template;
@@ -134,6 +162,62 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return this.template;
 	}
 
+	/**
+	 * Sets the {@link Duration} for which the count of entities used to compute the total of
+	 * a {@link Page requested page} is cached.
+	 *
+	 * A {@literal null}, {@literal zero} or {@literal negative} {@link Duration} disables caching so that
+	 * a {@literal SELECT count(*)} OQL query is executed for every {@link Page requested page} that requires
+	 * the total. The cached count is evicted when entities are saved or deleted using this {@link GemfireRepository}.
+	 *
+	 * @param countCacheTimeToLive {@link Duration} for which the count of entities is cached.
+	 * @see #getCountCacheTimeToLive()
+	 * @see Duration
+	 */
+	public void setCountCacheTimeToLive(@Nullable Duration countCacheTimeToLive) {
+		this.countCacheTimeToLive = countCacheTimeToLive != null ? countCacheTimeToLive : Duration.ZERO;
+		evictCachedCount();
+	}
+
+	/**
+	 * Returns the {@link Duration} for which the count of entities used to compute the total of
+	 * a {@link Page requested page} is cached.
+	 *
+	 * @return the {@link Duration} for which the count of entities is cached.
+	 * @see #setCountCacheTimeToLive(Duration)
+	 * @see Duration
+	 */
+	protected @NonNull Duration getCountCacheTimeToLive() {
+		return this.countCacheTimeToLive;
+	}
+
+	/**
+	 * Sets the {@link NearCache} used to cache the entities looked up by ID.
+	 *
+	 * Entities saved or deleted using this {@link GemfireRepository} are evicted from the {@link NearCache}.
+	 * The {@link NearCache} is bypassed inside a transaction.
+	 *
+	 * @param nearCache {@link NearCache} used to cache the entities looked up by ID;
+	 * {@literal null} disables near caching.
+	 * @see org.springframework.data.gemfire.repository.NearCached
+	 * @see NearCache
+	 */
+	public void setNearCache(@Nullable NearCache<ID, T> nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * Returns the {@link NearCache} used to cache the entities looked up by ID.
+	 *
+	 * @return the {@link NearCache} used to cache the entities looked up by ID,
+	 * or {@literal null} if near caching is disabled.
+	 * @see #setNearCache(NearCache)
+	 * @see NearCache
+	 */
+	public @Nullable NearCache<ID, T> getNearCache() {
+		return this.nearCache;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -145,6 +229,9 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		// CREATE/UPDATE entity in Region
 		T existingValue = getTemplate().put(id, entity);
 
+		evictCachedCount();
+		evictNearCachedEntity(id);
+
 		if (getLogger().isDebugEnabled()) {
 			getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, id);
 		}
@@ -163,6 +250,9 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		// CREATE/UPDATE entity in Region
 		T existingValue = getTemplate().put(wrapper.getKey(), entity);
 
+		evictCachedCount();
+		evictNearCachedEntity(wrapper.getKey());
+
 		if (getLogger().isDebugEnabled()) {
 			getLogger().debug("Overwrote existing value [{}] for ID [{}]", existingValue, wrapper.getKey());
 		}
@@ -172,23 +262,44 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 	/**
 	 * @inheritDoc
+	 *
+	 * Entities are written in chunks as configured on the {@link GemfireTemplate}.
+	 *
+	 * @throws GemfireBulkWriteException if one or more chunks of entities could not be saved.
+	 * @see GemfireTemplate#putAllInChunks(Iterable)
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(@NonNull Iterable<U> entities) {
 
 		EntityInformation<T, ID> entityInformation = getEntityInformation();
 
-		Map<ID, U> entitiesToSave = new HashMap<>();
-
-		Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
+		List<U> entitiesToSave = Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
 			.filter(Objects::nonNull)
-			.forEach(entity -> entitiesToSave.put(entityInformation.getRequiredId(entity), entity));
+			.collect(Collectors.toList());
 
 		if (!entitiesToSave.isEmpty()) {
-			getTemplate().putAll(entitiesToSave);
+
+			Iterable<Map.Entry<ID, U>> entries = () -> entitiesToSave.stream()
+				.map(entity -> (Map.Entry<ID, U>)
+					new AbstractMap.SimpleImmutableEntry<>(entityInformation.getRequiredId(entity), entity))
+				.iterator();
+
+			BulkWriteResult result;
+
+			try {
+				result = getTemplate().putAllInChunks(entries);
+			}
+			finally {
+				evictCachedCount();
+				evictNearCachedEntities(() -> entitiesToSave.stream().map(entityInformation::getRequiredId).iterator());
+			}
+
+			if (!result.isSuccessful()) {
+				throw new GemfireBulkWriteException(result);
+			}
 		}
 
-		return entitiesToSave.values();
+		return entitiesToSave;
 	}
 
 	/**
@@ -233,7 +344,7 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	public @NonNull Iterable<T> findAll() {
 
 		String regionPath = getRegion().getFullPath();
-		String query = String.format("SELECT * FROM %s", regionPath);
+		String query = String.format(SELECT_ALL_OQL_QUERY, regionPath);
 
 		SelectResults<T> selectResults = getTemplate().find(query);
 
@@ -241,16 +352,39 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Returns the {@link Page requested page} of entities.
+	 *
+	 * The OQL query is {@literal LIMIT} bounded by the end of the {@link Pageable requested page} so that
+	 * entities following the {@link Pageable requested page} are never returned by the server. The total
+	 * number of entities is only counted when it cannot be determined from the {@link Page} contents,
+	 * in which case the count is cached for the configured {@link #getCountCacheTimeToLive() time-to-live}.
+	 *
+	 * Use {@link #findAll(KeysetScrollPosition, Sort, int)} to scroll through large {@link Region Regions}
+	 * without returning the entities of preceding pages.
+	 *
+	 * @param pageable {@link Pageable} object encapsulating the details of the requested page;
+	 * must not be {@literal null}.
+	 * @return the {@link Page requested page} of entities.
+	 * @throws IllegalArgumentException if {@link Pageable} is {@literal null}.
+	 * @see #findAll(Sort, int)
+	 * @see #getCachedCount()
 	 */
 	@Override
 	public Page<T> findAll(@NonNull Pageable pageable) {
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
-		Iterable<T> results = findAll(pageable.getSort());
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(toList(findAll(pageable.getSort())));
+		}
+
+		PagingUtils.assertPageable(pageable);
+
+		List<T> results = findAll(pageable.getSort(), PagingUtils.getQueryResultSetEndIndexForPage(pageable));
+
+		List<T> content = PagingUtils.getPagedList(results, pageable);
 
-		return toPage(results, pageable);
+		return PagingUtils.toPage(content, pageable, this::getCachedCount);
 	}
 
 	/**
@@ -268,6 +402,65 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return toList(selectResults);
 	}
 
+	/**
+	 * Finds at most {@code limit} entities in the given {@link Sort} order.
+	 *
+	 * @param sort {@link Sort} defining the order of the entities.
+	 * @param limit maximum number of entities to return.
+	 * @return a {@link List} containing at most {@code limit} entities in {@link Sort} order.
+	 * @see Sort
+	 */
+	@NonNull List<T> findAll(@NonNull Sort sort, int limit) {
+
+		QueryString query = QueryString.of("SELECT * FROM /RegionPlaceholder")
+			.fromRegion(getRegion(), getEntityInformation().getJavaType())
+			.orderBy(sort)
+			.withLimit(limit);
+
+		SelectResults<T> selectResults = getTemplate().find(query.toString());
+
+		return toList(selectResults);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public @NonNull Window<T> findAll(@NonNull KeysetScrollPosition scrollPosition, @Nullable Sort sort, int limit) {
+
+		Assert.notNull(scrollPosition, "KeysetScrollPosition must not be null");
+		Assert.isTrue(limit > 0, () -> String.format("Limit [%d] must be greater than 0", limit));
+
+		Sort keysetSort = resolveKeysetSort(sort);
+		Sort querySort = scrollPosition.scrollsForward() ? keysetSort : keysetSort.reverse();
+
+		List<Object> parameters = new ArrayList<>();
+
+		String query = String.format(SELECT_ALL_OQL_QUERY, getRegion().getFullPath());
+
+		if (!scrollPosition.isInitial()) {
+			query = String.format("%1$s WHERE %2$s", query,
+				toKeysetPredicate(querySort, scrollPosition.getKeys(), parameters));
+		}
+
+		QueryString keysetQuery = QueryString.of(query)
+			.orderBy(querySort)
+			.withLimit(limit < Integer.MAX_VALUE ? limit + 1 : limit);
+
+		List<T> results = toList(getTemplate().<T>find(keysetQuery.toString(), parameters.toArray()));
+
+		boolean hasNext = results.size() > limit;
+
+		List<T> content = new ArrayList<>(hasNext ? results.subList(0, limit) : results);
+
+		if (scrollPosition.scrollsBackward()) {
+			Collections.reverse(content);
+		}
+
+		return Window.from(content, index ->
+			ScrollPosition.of(toKeyset(content.get(index), keysetSort), scrollPosition.getDirection()), hasNext);
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -278,9 +471,11 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 			.filter(Objects::nonNull)
 			.collect(StreamUtils.toUnmodifiableList());
 
-		Map<ID, T> keysValues = !keys.isEmpty()
-			? getTemplate().getAll(keys)
-			: Collections.emptyMap();
+		NearCache<ID, T> nearCache = !keys.isEmpty() ? resolveNearCache() : null;
+
+		Map<ID, T> keysValues = keys.isEmpty() ? Collections.emptyMap()
+			: nearCache != null ? nearCache.getAll(keys, missingKeys -> getTemplate().getAll(missingKeys))
+			: getTemplate().getAll(keys);
 
 		List<T> values = CollectionUtils.nullSafeMap(keysValues).values().stream()
 			.filter(Objects::nonNull)
@@ -295,9 +490,15 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	@Override
 	public Optional<T> findById(@NonNull ID id) {
 
-		T value = id != null
-			? getTemplate().get(id)
-			: null;
+		if (id == null) {
+			return Optional.empty();
+		}
+
+		NearCache<ID, T> nearCache = resolveNearCache();
+
+		T value = nearCache != null
+			? nearCache.get(id, key -> getTemplate().get(key))
+			: getTemplate().get(id);
 
 		return Optional.ofNullable(value);
 	}
@@ -312,13 +513,24 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 	/**
 	 * @inheritDoc
+	 *
+	 * Partitioned {@link Region Regions} are cleared by the servers hosting the buckets. When the {@link Region}
+	 * cannot be cleared, for instance inside a transaction, the entries are removed in chunks of keys. Inside
+	 * a transaction, the chunks are removed one after the other on the calling {@link Thread}. On a peer
+	 * {@link Region}, the keys are read from the {@link Region#keySet() key set} as the entries are removed.
+	 * A client {@link Region} pages through the keys on the servers with OQL queries ordered by key, so only
+	 * a page of {@link GemfireTemplate#getBulkWriteChunkSize() chunk size} keys is fetched at a time. Only when
+	 * the keys cannot be ordered, for instance because they are not {@link Comparable}, are all keys fetched
+	 * with {@link Region#keySetOnServer()} instead, which holds every key in client memory.
+	 *
+	 * @see GemfireTemplate#removeAllInChunks(Iterable)
 	 */
 	@Override
 	public void deleteAll() {
 
 		getTemplate().execute((GemfireCallback<Void>) region -> {
 
-			if (isPartitioned(region) || isTransactionPresent(region)) {
+			if (isTransactionPresent(region)) {
 				doRegionClear(region);
 			}
 			else {
@@ -327,6 +539,14 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 			return null;
 		});
+
+		evictCachedCount();
+
+		NearCache<ID, T> nearCache = getNearCache();
+
+		if (nearCache != null) {
+			nearCache.clear();
+		}
 	}
 
 	/**
@@ -334,7 +554,24 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public void deleteAll(@NonNull Iterable<? extends T> entities) {
-		CollectionUtils.nullSafeIterable(entities).forEach(this::delete);
+
+		Set<ID> keys = new LinkedHashSet<>();
+
+		for (T entity : CollectionUtils.nullSafeIterable(entities)) {
+			if (entity != null) {
+				keys.add(getEntityInformation().getRequiredId(entity));
+			}
+		}
+
+		if (!keys.isEmpty()) {
+			try {
+				getTemplate().removeAll(keys);
+			}
+			finally {
+				evictCachedCount();
+				evictNearCachedEntities(keys);
+			}
+		}
 	}
 
 	/**
@@ -350,6 +587,8 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 		if (!keys.isEmpty()) {
 			getTemplate().removeAll(keys);
+			evictCachedCount();
+			evictNearCachedEntities(keys);
 		}
 	}
 
@@ -359,17 +598,123 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	@Override
 	public void deleteById(@NonNull ID id) {
 		getTemplate().remove(id);
+		evictCachedCount();
+		evictNearCachedEntity(id);
 	}
 
-	boolean isPartitioned(@Nullable Region<?, ?> region) {
+	/**
+	 * Returns the count of entities used to compute the total of a {@link Page requested page}.
+	 *
+	 * The count is cached for the configured {@link #getCountCacheTimeToLive() time-to-live}.
+	 *
+	 * @return the (possibly cached) count of entities stored in the {@link Region}.
+	 * @see #setCountCacheTimeToLive(Duration)
+	 * @see #count()
+	 */
+	long getCachedCount() {
 
-		return region != null
-			&& region.getAttributes() != null
-			&& isPartitioned(region.getAttributes().getDataPolicy());
+		Duration countCacheTimeToLive = getCountCacheTimeToLive();
+
+		if (!CachedCount.isEnabled(countCacheTimeToLive)) {
+			return count();
+		}
+
+		CachedCount cachedCount = this.cachedCount;
+
+		if (cachedCount == null || cachedCount.isExpired()) {
+			cachedCount = CachedCount.of(count(), countCacheTimeToLive);
+			this.cachedCount = cachedCount;
+		}
+
+		return cachedCount.getCount();
+	}
+
+	void evictCachedCount() {
+		this.cachedCount = null;
+	}
+
+	@Nullable NearCache<ID, T> resolveNearCache() {
+
+		NearCache<ID, T> nearCache = getNearCache();
+
+		return nearCache != null && !isTransactionPresent(getRegion()) ? nearCache : null;
 	}
 
-	boolean isPartitioned(@Nullable DataPolicy dataPolicy) {
-		return dataPolicy != null && dataPolicy.withPartitioning();
+	void evictNearCachedEntity(@Nullable ID id) {
+
+		NearCache<ID, T> nearCache = getNearCache();
+
+		if (nearCache != null) {
+			nearCache.invalidate(id);
+		}
+	}
+
+	void evictNearCachedEntities(@NonNull Iterable<? extends ID> ids) {
+
+		NearCache<ID, T> nearCache = getNearCache();
+
+		if (nearCache != null) {
+			nearCache.invalidateAll(ids);
+		}
+	}
+
+	@NonNull Sort resolveKeysetSort(@Nullable Sort sort) {
+
+		Sort keysetSort = sort != null ? sort : Sort.unsorted();
+
+		String idPropertyName = getEntityInformation() instanceof GemfireEntityInformation
+			? ((GemfireEntityInformation<?, ?>) getEntityInformation()).getIdPropertyName()
+			: null;
+
+		if (idPropertyName != null && keysetSort.getOrderFor(idPropertyName) == null) {
+			keysetSort = keysetSort.and(Sort.by(idPropertyName));
+		}
+
+		Assert.isTrue(keysetSort.isSorted(),
+			"Sort is required for keyset scrolling when the entity identifier cannot be determined");
+
+		return keysetSort;
+	}
+
+	@NonNull Map<String, Object> toKeyset(@NonNull T entity, @NonNull Sort sort) {
+
+		DirectFieldAccessFallbackBeanWrapper entityWrapper = new DirectFieldAccessFallbackBeanWrapper(entity);
+
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		for (Sort.Order order : sort) {
+			keyset.put(order.getProperty(), entityWrapper.getPropertyValue(order.getProperty()));
+		}
+
+		return keyset;
+	}
+
+	@NonNull String toKeysetPredicate(@NonNull Sort sort, @NonNull Map<String, Object> keyset,
+			@NonNull List<Object> parameters) {
+
+		List<String> equalities = new ArrayList<>();
+		List<String> predicates = new ArrayList<>();
+
+		for (Sort.Order order : sort) {
+
+			String property = order.getProperty();
+			Object value = keyset.get(property);
+
+			Assert.isTrue(value != null,
+				() -> String.format("Keyset must contain a non-null value for property [%s]", property));
+
+			parameters.add(value);
+
+			String parameter = "$" + parameters.size();
+
+			List<String> predicate = new ArrayList<>(equalities);
+
+			predicate.add(String.format("%1$s %2$s %3$s", property, order.isAscending() ? ">" : "<", parameter));
+			predicates.add(String.format("(%s)", String.join(" AND ", predicate)));
+			equalities.add(String.format("%1$s = %2$s", property, parameter));
+		}
+
+		return String.join(" OR ", predicates);
 	}
 
 	boolean isTransactionPresent(@Nullable Region<?, ?> region) {
@@ -384,16 +729,42 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	<K> void  doRegionClear(@NonNull Region<K, ?> region) {
-		region.removeAll(resolveRegionKeys(region));
+
+		BulkWriteResult result = getTemplate().removeAllInChunks(resolveRegionKeys(region));
+
+		if (!result.isSuccessful()) {
+			throw new GemfireBulkWriteException(result);
+		}
 	}
 
-	@NonNull <K> Set<K> resolveRegionKeys(@NonNull Region<K, ?> region) {
+	@NonNull <K> Iterable<K> resolveRegionKeys(@NonNull Region<K, ?> region) {
 
-		return RegionUtils.isClient(region) ? region.keySetOnServer()
+		return RegionUtils.isClient(region) ? resolveClientRegionKeys(region)
 			: RegionUtils.isServer(region) ? region.keySet()
 			: Collections.emptySet();
 	}
 
+	@NonNull <K> Iterable<K> resolveClientRegionKeys(@NonNull Region<K, ?> region) {
+
+		try {
+			return new PagedRegionKeys<>(getTemplate(), region.getFullPath(), resolveRegionKeysPageSize());
+		}
+		catch (RuntimeException cause) {
+
+			this.logger.debug("Failed to page the keys of Region [{}] in order; fetching all keys",
+				region.getFullPath(), cause);
+
+			return region.keySetOnServer();
+		}
+	}
+
+	private int resolveRegionKeysPageSize() {
+
+		int chunkSize = getTemplate().getBulkWriteChunkSize();
+
+		return chunkSize > 0 ? chunkSize : GemfireTemplate.DEFAULT_BULK_WRITE_CHUNK_SIZE;
+	}
+
 	@NonNull List<T> toList(@Nullable Iterable<T> iterable) {
 
 		return iterable instanceof List ? (List<T>) iterable
@@ -416,4 +787,66 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 		return PagingUtils.toPage(results, pageable);
 	}
+
+	/**
+	 * {@link Iterable} over the keys of a client {@link Region} fetched from the servers in pages, ordered by key,
+	 * using keyset pagination. The first page is fetched eagerly so that keys that cannot be ordered fail fast.
+	 */
+	static final class PagedRegionKeys<K> implements Iterable<K> {
+
+		private final int pageSize;
+
+		private final GemfireTemplate template;
+
+		private final List<K> firstPage;
+
+		private final String nextPageQuery;
+
+		PagedRegionKeys(@NonNull GemfireTemplate template, @NonNull String regionPath, int pageSize) {
+
+			this.template = template;
+			this.pageSize = pageSize;
+			this.nextPageQuery = String.format(SELECT_NEXT_KEYS_OQL_QUERY, regionPath, pageSize);
+			this.firstPage = find(String.format(SELECT_FIRST_KEYS_OQL_QUERY, regionPath, pageSize));
+		}
+
+		private List<K> find(String query, Object... arguments) {
+
+			SelectResults<K> selectResults = this.template.find(query, arguments);
+
+			return selectResults != null ? selectResults.asList() : Collections.emptyList();
+		}
+
+		@Override
+		public @NonNull Iterator<K> iterator() {
+
+			return new Iterator<K>() {
+
+				private List<K> page = firstPage;
+
+				private Iterator<K> keys = page.iterator();
+
+				@Override
+				public boolean hasNext() {
+
+					if (!this.keys.hasNext() && this.page.size() >= pageSize) {
+						this.page = find(nextPageQuery, this.page.get(this.page.size() - 1));
+						this.keys = this.page.iterator();
+					}
+
+					return this.keys.hasNext();
+				}
+
+				@Override
+				public K next() {
+
+					if (!hasNext()) {
+						throw new NoSuchElementException("No more Region keys");
+					}
+
+					return this.keys.next();
+				}
+			};
+		}
+	}
 }
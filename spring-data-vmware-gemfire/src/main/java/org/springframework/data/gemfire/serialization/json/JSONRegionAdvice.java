@@ -4,26 +4,29 @@
  */
 package org.springframework.data.gemfire.serialization.json;
 
-import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.RegionUtils.toRegionName;
-import static org.springframework.data.gemfire.util.RegionUtils.toRegionPath;
 
+import java.io.IOException;
 import java.util.AbstractCollection;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
@@ -39,16 +42,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Spring/AspectJ AOP Aspect adapting a {@link Region} to handle JSON data.
  *
+ * Objects are converted to JSON with a single {@link ObjectMapper} per Aspect, which can be
+ * {@link #setObjectMapper(ObjectMapper) configured}. {@link PdxInstance PdxInstances} are written in one pass,
+ * as compact JSON unless pretty printing is enabled. Pretty printing only adds whitespace between tokens.
+ *
+ * {@link PdxInstance} fields are written as {@link JSONFormatter} writes them. {@code byte[]} fields are written as
+ * arrays of numbers and non-ASCII characters are escaped. Fields {@link JSONFormatter} cannot convert, such as
+ * {@link java.util.Date Dates} or domain objects, are written by the {@link ObjectMapper}.
+ *
  * @author David Turanski
  * @author John Blum
  * @see Region
  * @see JSONFormatter
  * @see PdxInstance
+ * @see ObjectMapper
  * @see Aspect
  * @see Around
  */
@@ -59,10 +74,28 @@ public class JSONRegionAdvice {
 	private boolean convertReturnedCollections = true;
 	private boolean prettyPrint = false;
 
-	private List<String> includedRegions = new ArrayList<>();
+	private ObjectMapper jsonMapper;
+
+	private ObjectWriter jsonWriter;
+	private ObjectWriter prettyJsonWriter;
+
+	private Set<String> includedRegions = Collections.emptySet();
 
 	protected final Logger logger = LoggerFactory.getLogger(JSONRegionAdvice.class);
 
+	public JSONRegionAdvice() {
+		initJsonMapper(new ObjectMapper());
+	}
+
+	private void initJsonMapper(ObjectMapper objectMapper) {
+
+		this.jsonMapper = objectMapper.copy().registerModule(new SimpleModule(JSONRegionAdvice.class.getSimpleName())
+			.addSerializer(PdxInstance.class, new PdxInstanceSerializer()));
+
+		this.jsonWriter = this.jsonMapper.writer().with(JsonWriteFeature.ESCAPE_NON_ASCII);
+		this.prettyJsonWriter = this.jsonWriter.withDefaultPrettyPrinter();
+	}
+
 	/**
 	 * Flag to convert collections returned from cache from @{link PdxInstance} to JSON String. If the returned
 	 * collections are very large, overhead will be incurred to covert all the values from from
@@ -80,7 +113,12 @@ public class JSONRegionAdvice {
 	 * @param regions a List of region names to include
 	 */
 	public void setIncludedRegions(List<Region<?, ?>> regions) {
-		nullSafeList(regions).forEach(region -> this.includedRegions.add(toRegionName(region)));
+
+		Set<String> includedRegions = new HashSet<>(this.includedRegions);
+
+		nullSafeList(regions).forEach(region -> includedRegions.add(toRegionName(region)));
+
+		this.includedRegions = Collections.unmodifiableSet(includedRegions);
 	}
 
 	/**
@@ -89,7 +127,39 @@ public class JSONRegionAdvice {
 	 * @param regionNames a List of region names to include
 	 */
 	public void setIncludedRegionNames(List<String> regionNames) {
-		this.includedRegions = nullSafeList(regionNames);
+		this.includedRegions = Collections.unmodifiableSet(new HashSet<>(nullSafeList(regionNames)));
+	}
+
+	/**
+	 * Sets the {@link ObjectMapper} used to convert objects to JSON. By default, each instance of this Aspect
+	 * uses its own {@link ObjectMapper}.
+	 *
+	 * The given {@link ObjectMapper} is copied, and {@link PdxInstance} support is registered with the copy.
+	 * Later changes to the given {@link ObjectMapper} do not affect this Aspect.
+	 *
+	 * @param objectMapper {@link ObjectMapper} used to convert objects to JSON; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ObjectMapper} is {@literal null}.
+	 * @see ObjectMapper
+	 */
+	public void setObjectMapper(@NonNull ObjectMapper objectMapper) {
+
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+
+		initJsonMapper(objectMapper);
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} this Aspect uses to convert objects to JSON.
+	 *
+	 * This is the private copy of the {@link #setObjectMapper(ObjectMapper) configured} {@link ObjectMapper}
+	 * with {@link PdxInstance} support registered. Use {@link #setObjectMapper(ObjectMapper)} rather than
+	 * reconfiguring the returned {@link ObjectMapper}.
+	 *
+	 * @return the {@link ObjectMapper} used to convert objects to JSON.
+	 * @see ObjectMapper
+	 */
+	public @NonNull ObjectMapper getObjectMapper() {
+		return this.jsonMapper;
 	}
 
 	/**
@@ -141,8 +211,12 @@ public class JSONRegionAdvice {
 				result = returnValue;
 			}
 			else {
-				result = returnValue.entrySet().stream()
-					.collect(Collectors.toMap(Entry::getKey, entry -> convertToJson(entry.getValue())));
+
+				result = new LinkedHashMap<>(mapCapacity(returnValue.size()));
+
+				for (Entry<Object, Object> entry : returnValue.entrySet()) {
+					result.put(entry.getKey(), convertToJson(entry.getValue()));
+				}
 			}
 		}
 		catch (Throwable t) {
@@ -163,10 +237,10 @@ public class JSONRegionAdvice {
 		try {
 			if (isIncludedJsonRegion(pjp.getTarget())) {
 
-				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
-				Object val = newArgs[1];
+				// ProceedingJoinPoint.getArgs() returns a copy of the arguments
+				Object[] newArgs = pjp.getArgs();
 
-				newArgs[1] = convertToPdx(val);
+				newArgs[1] = convertToPdx(newArgs[1]);
 				returnValue = pjp.proceed(newArgs);
 				logger.debug("Converting [{}] to JSON", returnValue);
 				returnValue = convertToJson(returnValue);
@@ -190,10 +264,10 @@ public class JSONRegionAdvice {
 		try {
 			if (isIncludedJsonRegion(pjp.getTarget())) {
 
-				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
+				Object[] newArgs = pjp.getArgs();
 
 				Map<?, ?> map = (Map<?, ?>) newArgs[0];
-				Map<Object, Object> newArg = new HashMap<>();
+				Map<Object, Object> newArg = new LinkedHashMap<>(mapCapacity(map.size()));
 
 				for (Entry<?, ?> entry : map.entrySet()) {
 					newArg.put(entry.getKey(), convertToPdx(entry.getValue()));
@@ -229,7 +303,7 @@ public class JSONRegionAdvice {
 				result = returnValue;
 			}
 			else {
-				result = returnValue.stream().map(this::convertToPdx).collect(Collectors.toList());
+				result = convertToJson(returnValue);
 			}
 		}
 		catch (Throwable cause) {
@@ -256,14 +330,7 @@ public class JSONRegionAdvice {
 				returnValue = pjp.proceed();
 
 				if (returnValue instanceof SelectResults && this.convertReturnedCollections) {
-
-					List<Object> results = new ArrayList<>();
-
-					for (Object obj : (SelectResults<?>) returnValue) {
-						results.add(convertToJson(obj));
-					}
-
-					returnValue = new ImmutableSelectResults<>(results);
+					returnValue = new ImmutableSelectResults<>(convertToJson((SelectResults<?>) returnValue));
 				}
 				else {
 					returnValue = convertToJson(returnValue);
@@ -281,31 +348,37 @@ public class JSONRegionAdvice {
 	}
 
 	private boolean isIncludedJsonRegion(Object target) {
-		return target instanceof Region && isIncludedJsonRegion((Region) target);
+		return target instanceof Region && isIncludedJsonRegion((Region<?, ?>) target);
 	}
 
-	private boolean isIncludedJsonRegion(Region region) {
-
-		boolean result = false;
+	private boolean isIncludedJsonRegion(@Nullable Region<?, ?> region) {
 
-		if (isIncludedJsonRegion(toRegionName(region), toRegionPath(region))) {
+		Set<String> includedRegions = this.includedRegions;
 
-			if (logger.isDebugEnabled()) {
-				logger.debug("Region [{}] is included for JSON conversion", region.getName());
-			}
+		boolean result = region != null && (includedRegions.isEmpty()
+			|| includedRegions.contains(region.getName())
+			|| includedRegions.contains(region.getFullPath()));
 
-			result = true;
+		if (result && logger.isDebugEnabled()) {
+			logger.debug("Region [{}] is included for JSON conversion", region.getName());
 		}
 
 		return result;
 	}
 
-	private boolean isIncludedJsonRegion(String... regionReferences) {
+	private int mapCapacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+
+	private List<Object> convertToJson(Collection<?> values) {
+
+		List<Object> results = new ArrayList<>(values.size());
 
-		List<String> regionReferencesList = Arrays.asList(nullSafeArray(regionReferences, String.class));
+		for (Object value : values) {
+			results.add(convertToJson(value));
+		}
 
-		return CollectionUtils.isEmpty(this.includedRegions) || this.includedRegions.stream()
-			.anyMatch(includeRegion -> regionReferencesList.contains(includeRegion));
+		return results;
 	}
 
 	private Object convertToJson(Object returnValue) {
@@ -314,10 +387,13 @@ public class JSONRegionAdvice {
 
 		if (returnValue instanceof PdxInstance) {
 
-			result = JSONFormatter.toJSON((PdxInstance) returnValue);
+			ObjectWriter jsonWriter = this.prettyPrint ? this.prettyJsonWriter : this.jsonWriter;
 
-			if (!this.prettyPrint) {
-				result = flattenString(result);
+			try {
+				result = jsonWriter.writeValueAsString(returnValue);
+			}
+			catch (Throwable cause) {
+				handleThrowable(cause);
 			}
 		}
 
@@ -335,12 +411,8 @@ public class JSONRegionAdvice {
 			pdx = JSONFormatter.fromJSON((String) value);
 		}
 		else {
-
-			ObjectMapper mapper = new ObjectMapper();
-
 			try {
-				String json = mapper.writeValueAsString(value);
-				pdx = JSONFormatter.fromJSON(json);
+				pdx = JSONFormatter.fromJSON(this.jsonMapper.writeValueAsBytes(value));
 			}
 			catch (Throwable cause) {
 				handleThrowable(cause);
@@ -350,10 +422,6 @@ public class JSONRegionAdvice {
 		return pdx;
 	}
 
-	private Object flattenString(Object result) {
-		return result instanceof String ? ((String) result).replaceAll("\\s*", "") : result;
-	}
-
 	private void handleThrowable(Throwable cause) {
 
 		if (cause instanceof RuntimeException) {
@@ -369,7 +437,7 @@ public class JSONRegionAdvice {
 		private final List<T> results;
 
 		private ImmutableSelectResults(List<T> results) {
-			this.results = new ArrayList<>(results);
+			this.results = results;
 		}
 
 		@Override
@@ -412,4 +480,93 @@ public class JSONRegionAdvice {
 			return this.results.size();
 		}
 	}
+
+	/**
+	 * Jackson serializer writing the fields of a {@link PdxInstance}, in {@link PdxInstance#getFieldNames() order},
+	 * as a JSON object.
+	 *
+	 * Field values are written as {@link JSONFormatter} writes them, including {@code byte[]} values nested in
+	 * {@link Collection Collections}, {@link Map Maps} and {@link Object} arrays. Other values are written
+	 * by the {@link ObjectMapper}.
+	 */
+	static final class PdxInstanceSerializer extends StdSerializer<PdxInstance> {
+
+		private static final long serialVersionUID = 1L;
+
+		PdxInstanceSerializer() {
+			super(PdxInstance.class);
+		}
+
+		@Override
+		public void serialize(PdxInstance pdxInstance, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+
+			generator.writeStartObject(pdxInstance);
+
+			for (String fieldName : pdxInstance.getFieldNames()) {
+				generator.writeFieldName(fieldName);
+				writeValue(pdxInstance.getField(fieldName), generator, provider);
+			}
+
+			generator.writeEndObject();
+		}
+
+		private void writeValue(Object value, JsonGenerator generator, SerializerProvider provider)
+				throws IOException {
+
+			if (value instanceof PdxInstance) {
+				serialize((PdxInstance) value, generator, provider);
+			}
+			else if (value instanceof byte[]) {
+
+				byte[] bytes = (byte[]) value;
+
+				generator.writeStartArray(bytes, bytes.length);
+
+				for (byte element : bytes) {
+					generator.writeNumber(element);
+				}
+
+				generator.writeEndArray();
+			}
+			else if (value instanceof Object[]) {
+
+				Object[] array = (Object[]) value;
+
+				generator.writeStartArray(array, array.length);
+
+				for (Object element : array) {
+					writeValue(element, generator, provider);
+				}
+
+				generator.writeEndArray();
+			}
+			else if (value instanceof Collection) {
+
+				Collection<?> collection = (Collection<?>) value;
+
+				generator.writeStartArray(collection, collection.size());
+
+				for (Object element : collection) {
+					writeValue(element, generator, provider);
+				}
+
+				generator.writeEndArray();
+			}
+			else if (value instanceof Map) {
+
+				generator.writeStartObject(value);
+
+				for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+					generator.writeFieldName(String.valueOf(entry.getKey()));
+					writeValue(entry.getValue(), generator, provider);
+				}
+
+				generator.writeEndObject();
+			}
+			else {
+				provider.defaultSerializeValue(value, generator);
+			}
+		}
+	}
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit Tests for {@link AsyncGemfireTemplate}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.AsyncGemfireTemplate
+ * @since 1.0.1
+ */
+public class AsyncGemfireTemplateUnitTests {
+
+	private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+	@Test
+	public void getCompletesWithValue() throws Exception {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		doReturn("one").when(mockTemplate).get(eq(1));
+
+		AsyncGemfireTemplate asyncTemplate = new AsyncGemfireTemplate(mockTemplate);
+
+		try {
+			assertThat(asyncTemplate.<Integer, String>get(1).get(5, TimeUnit.SECONDS)).isEqualTo("one");
+		}
+		finally {
+			asyncTemplate.destroy();
+		}
+
+		verify(mockTemplate, times(1)).get(eq(1));
+	}
+
+	@Test
+	public void putRunsOnGivenExecutor() throws Exception {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		AsyncGemfireTemplate asyncTemplate = new AsyncGemfireTemplate(mockTemplate, tasks::add);
+
+		CompletableFuture<Object> future = asyncTemplate.put(1, "one");
+
+		assertThat(future).isNotDone();
+		verify(mockTemplate, never()).put(eq(1), eq("one"));
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(future).isDone();
+		verify(mockTemplate, times(1)).put(eq(1), eq("one"));
+	}
+
+	@Test
+	public void operationFailureCompletesExceptionally() {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		DataAccessResourceFailureException cause = new DataAccessResourceFailureException("TEST");
+
+		doThrow(cause).when(mockTemplate).remove(eq(1));
+
+		CompletableFuture<Object> future = new AsyncGemfireTemplate(mockTemplate, DIRECT_EXECUTOR).remove(1);
+
+		assertThat(future).isCompletedExceptionally();
+		assertThat(future).failsWithin(0, TimeUnit.SECONDS)
+			.withThrowableOfType(ExecutionException.class)
+			.withCause(cause);
+	}
+
+	@Test
+	public void rejectedOperationCompletesExceptionally() {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		AsyncGemfireTemplate asyncTemplate = new AsyncGemfireTemplate(mockTemplate, task -> {
+			throw new RejectedExecutionException("TEST");
+		});
+
+		assertThat(asyncTemplate.containsKey(1)).isCompletedExceptionally();
+
+		verify(mockTemplate, never()).containsKey(eq(1));
+	}
+
+	@Test
+	public void streamEmitsQueryResultsAsRequested() throws Exception {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		doReturn(Arrays.asList(1, 2, 3).stream()).when(mockTemplate).stream(eq("SELECT * FROM /Example"));
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		new AsyncGemfireTemplate(mockTemplate, DIRECT_EXECUTOR).<Integer>stream("SELECT * FROM /Example")
+			.subscribe(subscriber);
+
+		verify(mockTemplate, never()).stream(eq("SELECT * FROM /Example"));
+
+		subscriber.subscription.get().request(2);
+
+		assertThat(subscriber.results).containsExactly(1, 2);
+		assertThat(subscriber.completed.getCount()).isOne();
+
+		subscriber.subscription.get().request(2);
+
+		assertThat(subscriber.results).containsExactly(1, 2, 3);
+		assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(subscriber.error.get()).isNull();
+
+		verify(mockTemplate, times(1)).stream(eq("SELECT * FROM /Example"));
+	}
+
+	@Test
+	public void streamSignalsErrorForInvalidRequest() {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		new AsyncGemfireTemplate(mockTemplate, DIRECT_EXECUTOR).<Integer>stream("SELECT * FROM /Example")
+			.subscribe(subscriber);
+
+		subscriber.subscription.get().request(0);
+
+		assertThat(subscriber.error.get()).isInstanceOf(IllegalArgumentException.class);
+		assertThat(subscriber.results).isEmpty();
+	}
+
+	@Test
+	public void streamStopsEmittingWhenCancelled() {
+
+		GemfireOperations mockTemplate = mock(GemfireOperations.class);
+
+		doReturn(Arrays.asList(1, 2, 3).stream()).when(mockTemplate).stream(eq("SELECT * FROM /Example"));
+
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+
+		new AsyncGemfireTemplate(mockTemplate, DIRECT_EXECUTOR).<Integer>stream("SELECT * FROM /Example")
+			.subscribe(subscriber);
+
+		subscriber.subscription.get().request(1);
+		subscriber.subscription.get().cancel();
+		subscriber.subscription.get().request(2);
+
+		assertThat(subscriber.results).containsExactly(1);
+		assertThat(subscriber.completed.getCount()).isOne();
+	}
+
+	static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+		private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+		private final CountDownLatch completed = new CountDownLatch(1);
+
+		private final List<T> results = new ArrayList<>();
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription.set(subscription);
+		}
+
+		@Override
+		public void onNext(T item) {
+			this.results.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error.set(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed.countDown();
+		}
+	}
+}
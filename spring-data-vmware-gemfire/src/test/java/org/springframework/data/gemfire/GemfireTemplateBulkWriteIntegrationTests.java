@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.PartitionAttributesFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.internal.cache.PartitionedRegionHelper;
+
+/**
+ * Integration Tests for the bulk writes of {@link GemfireTemplate} to a peer {@literal PARTITION}
+ * {@link Region}.
+ *
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @since 1.0.1
+ */
+public class GemfireTemplateBulkWriteIntegrationTests {
+
+	private static final int TOTAL_NUMBER_OF_BUCKETS = 4;
+
+	private static Cache cache;
+
+	private static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void setUp() {
+
+		cache = new CacheFactory()
+			.set("name", GemfireTemplateBulkWriteIntegrationTests.class.getSimpleName())
+			.set("log-level", "error")
+			.create();
+
+		region = cache.createRegionFactory(RegionShortcut.PARTITION)
+			.setPartitionAttributes(new PartitionAttributesFactory<>()
+				.setTotalNumBuckets(TOTAL_NUMBER_OF_BUCKETS)
+				.create())
+			.create("BulkWriteExample");
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		GemfireUtils.close(cache);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Region<Object, Object> recordPutAll(Region<Object, Object> region, List<Set<Object>> chunks) {
+
+		return (Region<Object, Object>) Proxy.newProxyInstance(Region.class.getClassLoader(),
+			new Class<?>[] { Region.class }, (proxy, method, arguments) -> {
+
+				if ("putAll".equals(method.getName()) && arguments.length == 1) {
+					chunks.add(Set.copyOf(((Map<Object, Object>) arguments[0]).keySet()));
+				}
+
+				try {
+					return method.invoke(region, arguments);
+				}
+				catch (InvocationTargetException cause) {
+					throw cause.getTargetException();
+				}
+			});
+	}
+
+	@Test
+	public void putAllInChunksGroupsEntriesByActualBucket() {
+
+		List<Set<Object>> chunks = new ArrayList<>();
+
+		GemfireTemplate template = new GemfireTemplate(recordPutAll(region, chunks));
+
+		template.setBulkWriteBucketGrouping(true);
+		template.setBulkWriteChunkSize(5);
+		template.setBulkWriteParallelism(TOTAL_NUMBER_OF_BUCKETS);
+		template.setBulkWriteExecutor(Runnable::run);
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		for (int key = 1; key <= 20; key++) {
+			entries.put(key, String.valueOf(key));
+		}
+
+		BulkWriteResult result = template.putAllInChunks(entries.entrySet());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.getChunkCount()).isEqualTo(TOTAL_NUMBER_OF_BUCKETS);
+		assertThat(chunks).hasSize(TOTAL_NUMBER_OF_BUCKETS);
+		assertThat(region).hasSize(20);
+
+		PartitionedRegion partitionedRegion = (PartitionedRegion) region;
+
+		for (Set<Object> chunk : chunks) {
+
+			Set<Integer> buckets = chunk.stream()
+				.map(key -> PartitionedRegionHelper.getHashKey(partitionedRegion, key))
+				.collect(Collectors.toSet());
+
+			assertThat(buckets).hasSize(1);
+		}
+	}
+}
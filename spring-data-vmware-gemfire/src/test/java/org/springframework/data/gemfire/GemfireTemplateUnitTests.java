@@ -5,21 +5,33 @@
 package org.springframework.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +39,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CacheWriterException;
+import org.apache.geode.cache.PartitionAttributes;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
@@ -36,7 +52,13 @@ import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.MicrometerGemFireMetrics;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 
 /**
@@ -176,6 +198,21 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		verifyNoMoreInteractions(mockSelectResults);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamIteratesResultsWithoutCopying() throws Exception {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.spliterator()).thenReturn(Arrays.<Object>asList(1, 2, 3).spliterator());
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		assertThat(template.stream("SELECT * FROM /Example WHERE id > $1", 0)).containsExactly(1, 2, 3);
+
+		verify(mockQuery, times(1)).execute(eq(0));
+		verify(mockSelectResults, never()).asList();
+	}
+
 	@Test(expected = InvalidDataAccessApiUsageException.class)
 	public void findWithSingleResultQueryThrowsInvalidDataAccessApiUsageException() throws Exception {
 
@@ -260,6 +297,92 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void findReusesCompiledQueryAndQueryService() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE name = $1";
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+		when(mockSelectResults.asList()).thenReturn(Collections.singletonList(1));
+
+		assertThat(template.getQueryCacheSize()).isEqualTo(GemfireTemplate.DEFAULT_QUERY_CACHE_SIZE);
+		assertThat(template.find(expectedQuery, "Jon")).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, "Jane")).isEqualTo(mockSelectResults);
+		assertThat((Object) template.findUnique(expectedQuery, "Pie")).isEqualTo(1);
+		assertThat(template.getQueryCacheHitCount()).isEqualTo(2L);
+		assertThat(template.getQueryCacheMissCount()).isEqualTo(1L);
+
+		verify(mockRegionService, times(1)).getQueryService();
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq("Jon"));
+		verify(mockQuery, times(1)).execute(eq("Jane"));
+		verify(mockQuery, times(1)).execute(eq("Pie"));
+	}
+
+	@Test
+	public void findEvictsLeastRecentlyUsedCompiledQuery() throws Exception {
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(new Object[0])).thenReturn(mockSelectResults);
+
+		template.setQueryCacheSize(2);
+
+		template.find("SELECT * FROM /Example WHERE id = 1");
+		template.find("SELECT * FROM /Example WHERE id = 2");
+		template.find("SELECT * FROM /Example WHERE id = 1");
+		template.find("SELECT * FROM /Example WHERE id = 3");
+		template.find("SELECT * FROM /Example WHERE id = 1");
+		template.find("SELECT * FROM /Example WHERE id = 2");
+
+		assertThat(template.getQueryCacheHitCount()).isEqualTo(2L);
+		assertThat(template.getQueryCacheMissCount()).isEqualTo(4L);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example WHERE id = 1"));
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /Example WHERE id = 2"));
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example WHERE id = 3"));
+	}
+
+	@Test
+	public void findWithQueryCacheDisabledCompilesEveryQuery() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(new Object[0])).thenReturn(mockSelectResults);
+
+		template.setQueryCacheSize(0);
+
+		template.find(expectedQuery);
+		template.find(expectedQuery);
+
+		assertThat(template.getQueryCacheSize()).isZero();
+		assertThat(template.getQueryCacheHitCount()).isZero();
+		assertThat(template.getQueryCacheMissCount()).isEqualTo(2L);
+
+		verify(mockRegionService, times(1)).getQueryService();
+		verify(mockQueryService, times(2)).newQuery(eq(expectedQuery));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setQueryCacheSizeToNegativeValueThrowsIllegalArgumentException() {
+
+		try {
+			template.setQueryCacheSize(-1);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Query cache size [-1] must be greater than or equal to 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void removeAllCallsRegionRemoveAll() {
@@ -374,4 +497,283 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		verify(mockRegion, never()).getAttributes();
 		verify(mockRegionService, times(1)).getQueryService();
 	}
+
+	private static Map<Integer, String> newEntries(int count) {
+
+		Map<Integer, String> entries = new LinkedHashMap<>();
+
+		for (int key = 1; key <= count; key++) {
+			entries.put(key, String.valueOf(key));
+		}
+
+		return entries;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void removeAllInChunksRemovesKeysInChunksAndRecordsFailedChunks() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		doThrow(new CacheWriterException("TEST")).when(mockRegion).removeAll(eq(Set.of(3, 4)));
+
+		template.setBulkWriteChunkSize(2);
+
+		BulkWriteResult result = template.removeAllInChunks(newEntries(5).keySet());
+
+		assertThat(result.getChunkCount()).isEqualTo(3);
+		assertThat(result.getEntryCount()).isEqualTo(5L);
+		assertThat(result.getWrittenEntryCount()).isEqualTo(3L);
+		assertThat(result.getFailures()).hasSize(1);
+		assertThat(result.getFailures().get(0).getKeys()).containsExactly(3, 4);
+
+		verify(mockRegion, times(1)).removeAll(eq(Set.of(1, 2)));
+		verify(mockRegion, times(1)).removeAll(eq(Set.of(3, 4)));
+		verify(mockRegion, times(1)).removeAll(eq(Set.of(5)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllWritesMapWithinChunkSizeInSingleRegionPutAll() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		Map<Integer, String> entries = newEntries(3);
+
+		template.putAll(entries);
+
+		verify(mockRegion, times(1)).putAll(eq(entries));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllWritesMapLargerThanDefaultChunkSizeInSingleRegionPutAll() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		Map<Integer, String> entries = newEntries(GemfireTemplate.DEFAULT_BULK_WRITE_CHUNK_SIZE + 1);
+
+		template.putAll(entries);
+		template.removeAll(entries.keySet());
+
+		verify(mockRegion, times(1)).putAll(eq(entries));
+		verify(mockRegion, times(1)).removeAll(eq(entries.keySet()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllWritesMapLargerThanChunkSizeInChunks() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		template.setBulkWriteChunkSize(2);
+		template.putAll(newEntries(5));
+
+		verify(mockRegion, times(1)).putAll(eq(Map.of(1, "1", 2, "2")));
+		verify(mockRegion, times(1)).putAll(eq(Map.of(3, "3", 4, "4")));
+		verify(mockRegion, times(1)).putAll(eq(Map.of(5, "5")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllInChunksRecordsFailedChunksAndWritesRemainingChunks() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		doAnswer(invocation -> {
+			if (invocation.<Map<?, ?>>getArgument(0).containsKey(3)) {
+				throw new CacheWriterException("TEST");
+			}
+			return null;
+		}).when(mockRegion).putAll(anyMap());
+
+		template.setBulkWriteChunkSize(2);
+
+		BulkWriteResult result = template.putAllInChunks(newEntries(5).entrySet());
+
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.getChunkCount()).isEqualTo(3);
+		assertThat(result.getEntryCount()).isEqualTo(5L);
+		assertThat(result.getFailedEntryCount()).isEqualTo(2L);
+		assertThat(result.getWrittenEntryCount()).isEqualTo(3L);
+		assertThat(result.getFailures()).hasSize(1);
+		assertThat(result.getFailures().get(0).getChunkIndex()).isEqualTo(1);
+		assertThat(result.getFailures().get(0).getKeys()).containsExactly(3, 4);
+		assertThat(result.getFailures().get(0).getCause()).isInstanceOf(DataAccessException.class)
+			.hasCauseInstanceOf(CacheWriterException.class);
+
+		verify(mockRegion, times(3)).putAll(anyMap());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllThrowsGemfireBulkWriteExceptionWhenChunkFails() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		doAnswer(invocation -> {
+			throw new CacheWriterException("TEST");
+		}).when(mockRegion).putAll(anyMap());
+
+		template.setBulkWriteChunkSize(2);
+
+		assertThatExceptionOfType(GemfireBulkWriteException.class)
+			.isThrownBy(() -> template.putAll(newEntries(3)))
+			.withMessage("Failed to write [3] of [3] entries in [2] of [2] chunks")
+			.satisfies(exception -> assertThat(exception.getResult().getFailures()).hasSize(2));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllInChunksWritesChunksInParallelWithinBoundedWindow() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		AtomicInteger concurrentWrites = new AtomicInteger(0);
+		AtomicInteger maxConcurrentWrites = new AtomicInteger(0);
+		AtomicInteger writtenEntries = new AtomicInteger(0);
+
+		doAnswer(invocation -> {
+
+			maxConcurrentWrites.accumulateAndGet(concurrentWrites.incrementAndGet(), Math::max);
+			Thread.sleep(20L);
+			writtenEntries.addAndGet(invocation.<Map<?, ?>>getArgument(0).size());
+			concurrentWrites.decrementAndGet();
+
+			return null;
+		}).when(mockRegion).putAll(anyMap());
+
+		template.setBulkWriteChunkSize(1);
+		template.setBulkWriteParallelism(3);
+
+		BulkWriteResult result = template.putAllInChunks(newEntries(12).entrySet());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.getChunkCount()).isEqualTo(12);
+		assertThat(writtenEntries.get()).isEqualTo(12);
+		assertThat(maxConcurrentWrites.get()).isBetween(1, 3);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllInChunksWritesChunksOnCallingThreadInTransaction() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		Cache mockCache = mock(Cache.class);
+
+		CacheTransactionManager mockCacheTransactionManager = mock(CacheTransactionManager.class);
+
+		when(mockRegion.getRegionService()).thenReturn(mockCache);
+		when(mockCache.getCacheTransactionManager()).thenReturn(mockCacheTransactionManager);
+		when(mockCacheTransactionManager.exists()).thenReturn(true);
+
+		Thread callingThread = Thread.currentThread();
+
+		Set<Thread> writingThreads = ConcurrentHashMap.newKeySet();
+
+		doAnswer(invocation -> writingThreads.add(Thread.currentThread())).when(mockRegion).putAll(anyMap());
+		doAnswer(invocation -> writingThreads.add(Thread.currentThread())).when(mockRegion).removeAll(anyCollection());
+
+		Executor mockExecutor = mock(Executor.class);
+
+		template.setBulkWriteChunkSize(1);
+		template.setBulkWriteParallelism(3);
+		template.setBulkWriteExecutor(mockExecutor);
+
+		assertThat(template.putAllInChunks(newEntries(4).entrySet()).isSuccessful()).isTrue();
+		assertThat(template.removeAllInChunks(Arrays.asList(1, 2, 3)).isSuccessful()).isTrue();
+		assertThat(writingThreads).containsExactly(callingThread);
+
+		verify(mockRegion, times(4)).putAll(anyMap());
+		verify(mockRegion, times(3)).removeAll(anyCollection());
+		verifyNoInteractions(mockExecutor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllInChunksGroupsEntriesByBucketForPartitionedRegion() {
+
+		Region<Integer, String> mockRegion = (Region<Integer, String>) this.mockRegion;
+
+		RegionAttributes<Integer, String> mockRegionAttributes = mock(RegionAttributes.class);
+
+		PartitionAttributes<Integer, String> mockPartitionAttributes = mock(PartitionAttributes.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getPartitionAttributes()).thenReturn(mockPartitionAttributes);
+		when(mockPartitionAttributes.getTotalNumBuckets()).thenReturn(2);
+
+		template.setBulkWriteBucketGrouping(true);
+		template.setBulkWriteChunkSize(2);
+		template.setBulkWriteParallelism(2);
+		template.setBulkWriteExecutor(Runnable::run);
+
+		BulkWriteResult result = template.putAllInChunks(newEntries(4).entrySet());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.getChunkCount()).isEqualTo(2);
+
+		verify(mockRegion, times(1)).putAll(eq(Map.of(2, "2", 4, "4")));
+		verify(mockRegion, times(1)).putAll(eq(Map.of(1, "1", 3, "3")));
+	}
+
+	@Test
+	public void metricsDefaultsToNoOp() {
+
+		assertThat(template.getMetrics()).isSameAs(GemFireMetrics.NOOP);
+
+		template.setMetrics(new MicrometerGemFireMetrics(new SimpleMeterRegistry()));
+		template.setMetrics(null);
+
+		assertThat(template.getMetrics()).isSameAs(GemFireMetrics.NOOP);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getRecordsRegionOperation() {
+
+		Region<Object, Object> mockRegion = (Region<Object, Object>) this.mockRegion;
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		when(mockRegion.getName()).thenReturn("Example");
+		when(mockRegion.get(eq(1))).thenReturn(new byte[] { 0, 1, 2, 3 });
+
+		template.setMetrics(new MicrometerGemFireMetrics(meterRegistry));
+
+		assertThat((byte[]) template.get(1)).hasSize(4);
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME)
+			.tag("region", "Example").tag("operation", "get").tag("outcome", "success").timer().count())
+			.isOne();
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME + ".results")
+			.tag("operation", "get").summary().totalAmount()).isEqualTo(1.0d);
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME + ".payload")
+			.tag("operation", "get").summary().totalAmount()).isEqualTo(4.0d);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failedPutRecordsFailure() {
+
+		Region<Object, Object> mockRegion = (Region<Object, Object>) this.mockRegion;
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		when(mockRegion.getName()).thenReturn("Example");
+		doThrow(new CacheWriterException("TEST")).when(mockRegion).put(any(), any());
+
+		template.setMetrics(new MicrometerGemFireMetrics(meterRegistry));
+
+		assertThatExceptionOfType(DataAccessException.class).isThrownBy(() -> template.put(1, "one"));
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME)
+			.tag("operation", "put").tag("outcome", "failure").timer().count()).isOne();
+
+		assertThat(meterRegistry.find(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME)
+			.tag("operation", "put").tag("outcome", "success").timer().count()).isZero();
+	}
 }
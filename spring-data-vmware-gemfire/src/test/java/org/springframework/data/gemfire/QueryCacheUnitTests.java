@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Query;
+
+/**
+ * Unit Tests for {@link QueryCache}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.QueryCache
+ * @since 1.0.1
+ */
+public class QueryCacheUnitTests {
+
+	private final AtomicInteger compileCount = new AtomicInteger(0);
+
+	private final Function<String, Query> compiler = query -> {
+		this.compileCount.incrementAndGet();
+		return mock(Query.class);
+	};
+
+	@Test
+	public void getCompilesOnMissAndReturnsCachedQueryOnHit() {
+
+		QueryCache queryCache = new QueryCache(10);
+
+		Query query = queryCache.get("SELECT * FROM /Example", this.compiler);
+
+		assertThat(queryCache.get("SELECT * FROM /Example", this.compiler)).isSameAs(query);
+		assertThat(this.compileCount.get()).isOne();
+		assertThat(queryCache.getHitCount()).isOne();
+		assertThat(queryCache.getMissCount()).isOne();
+		assertThat(queryCache.size()).isOne();
+	}
+
+	@Test
+	public void evictsQueriesNotAccessedSinceLastChanceFirst() {
+
+		QueryCache queryCache = new QueryCache(2);
+
+		queryCache.get("SELECT * FROM /Example WHERE id = 1", this.compiler);
+		queryCache.get("SELECT * FROM /Example WHERE id = 2", this.compiler);
+		queryCache.get("SELECT * FROM /Example WHERE id = 1", this.compiler);
+		queryCache.get("SELECT * FROM /Example WHERE id = 3", this.compiler);
+
+		this.compileCount.set(0);
+
+		queryCache.get("SELECT * FROM /Example WHERE id = 1", this.compiler);
+		queryCache.get("SELECT * FROM /Example WHERE id = 3", this.compiler);
+
+		assertThat(this.compileCount.get()).isZero();
+		assertThat(queryCache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void staysBoundedUnderConcurrentAccess() throws Exception {
+
+		QueryCache queryCache = new QueryCache(16);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int thread = 0; thread < 8; thread++) {
+
+				int offset = thread;
+
+				futures.add(executor.submit(() -> {
+					for (int count = 0; count < 1000; count++) {
+						queryCache.get("SELECT * FROM /Example WHERE id = " + ((count + offset) % 64), this.compiler);
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(10L, TimeUnit.SECONDS);
+			}
+
+			// A Query cached while another Thread is evicting may exceed the bound until the next miss.
+			assertThat(queryCache.size()).isLessThanOrEqualTo(16 + 8);
+			assertThat(queryCache.getHitCount() + queryCache.getMissCount()).isEqualTo(8000L);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void clearRemovesAllQueries() {
+
+		QueryCache queryCache = new QueryCache(10);
+
+		queryCache.get("SELECT * FROM /Example", this.compiler);
+		queryCache.clear();
+
+		assertThat(queryCache.size()).isZero();
+
+		queryCache.get("SELECT * FROM /Example", this.compiler);
+
+		assertThat(this.compileCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void disabledCacheCompilesEveryQuery() {
+
+		QueryCache queryCache = new QueryCache(0);
+
+		queryCache.get("SELECT * FROM /Example", this.compiler);
+		queryCache.get("SELECT * FROM /Example", this.compiler);
+
+		assertThat(queryCache.isEnabled()).isFalse();
+		assertThat(queryCache.size()).isZero();
+		assertThat(this.compileCount.get()).isEqualTo(2);
+	}
+}
@@ -26,6 +26,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.distributed.DistributedLockService;
 
 import org.springframework.cache.Cache;
 
@@ -84,6 +85,33 @@ public class GemfireCacheManagerUnitTests {
 		return null;
 	}
 
+	@Test
+	public void newGemfireCacheUsesConfiguredDistributedLockService() {
+
+		DistributedLockService mockLockService = mock(DistributedLockService.class);
+
+		assertThat(cacheManager.newGemfireCache(mockRegion).getDistributedLockService()).isNull();
+
+		cacheManager.setDistributedLockService(mockLockService);
+
+		GemfireCache cache = cacheManager.newGemfireCache(mockRegion);
+
+		assertThat(cache.getNativeCache()).isSameAs(mockRegion);
+		assertThat(cache.getDistributedLockService()).isSameAs(mockLockService);
+	}
+
+	@Test
+	public void newGemfireCacheUsesConfiguredBatchSizeAndFlushInterval() {
+
+		cacheManager.setBatchSize(50);
+		cacheManager.setFlushInterval(5L);
+
+		GemfireCache cache = cacheManager.newGemfireCache(mockRegion);
+
+		assertThat(cache.getBatchSize()).isEqualTo(50);
+		assertThat(cache.getFlushInterval()).isEqualTo(5L);
+	}
+
 	@Test
 	public void assertGemFireCacheAvailableWithAvailableGemFireCacheIsSuccessful() {
 
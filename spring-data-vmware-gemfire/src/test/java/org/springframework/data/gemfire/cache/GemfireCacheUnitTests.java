@@ -5,24 +5,52 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.distributed.DistributedLockService;
 
 import org.springframework.cache.Cache;
 
@@ -237,6 +265,125 @@ public class GemfireCacheUnitTests {
 		}
 	}
 
+	@Test
+	public void getWithValueLoaderSharesLoadForConcurrentMissesOnTheSameKey() throws Exception {
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		Callable<String> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+			return "test";
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> leader = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> follower = executor.submit(() -> gemfireCache.get("key", valueLoader));
+
+			Thread.sleep(100L);
+			release.countDown();
+
+			assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+			assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("test");
+			assertThat(loadCount.get()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderLoadsDifferentKeysInParallel() throws Exception {
+
+		CountDownLatch bothLoading = new CountDownLatch(2);
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		Callable<Boolean> valueLoader = () -> {
+			bothLoading.countDown();
+			return bothLoading.await(5, TimeUnit.SECONDS);
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<Boolean> one = executor.submit(() -> gemfireCache.get("one", valueLoader));
+			Future<Boolean> two = executor.submit(() -> gemfireCache.get("two", valueLoader));
+
+			assertThat(one.get(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(two.get(10, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderThrowsValueRetrievalExceptionForRecursiveLoad() {
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		assertThatExceptionOfType(Cache.ValueRetrievalException.class)
+			.isThrownBy(() -> gemfireCache.get("key", () -> gemfireCache.get("key", () -> "test")))
+			.withRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLoadsUnderDistributedLock() throws Exception {
+
+		DistributedLockService mockLockService = mock(DistributedLockService.class);
+
+		when(mockLockService.lock(any(), anyLong(), anyLong())).thenReturn(true);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setDistributedLockService(mockLockService);
+
+		assertThat(gemfireCache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockLockService, times(1)).lock(eq("key"),
+			eq(GemfireCache.DEFAULT_DISTRIBUTED_LOCK_WAIT_TIME), eq(GemfireCache.DEFAULT_DISTRIBUTED_LOCK_LEASE_TIME));
+		verify(mockRegion, times(2)).get(eq("key"));
+		verify(mockRegion, times(1)).put(eq("key"), eq("mockValue"));
+		verify(mockLockService, times(1)).unlock(eq("key"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getWithValueLoaderLoadsWithoutDistributedLockWhenLockIsUnavailable() throws Exception {
+
+		DistributedLockService mockLockService = mock(DistributedLockService.class);
+
+		when(mockLockService.lock(any(), anyLong(), anyLong())).thenReturn(false);
+		when(mockCallable.call()).thenReturn("mockValue");
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setDistributedLockService(mockLockService);
+		gemfireCache.setDistributedLockWaitTime(10L);
+
+		assertThat(gemfireCache.get("key", mockCallable)).isEqualTo("mockValue");
+
+		verify(mockLockService, times(1)).lock(eq("key"), eq(10L), anyLong());
+		verify(mockLockService, never()).unlock(any());
+		verify(mockCallable, times(1)).call();
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void putCachesValue() {
@@ -281,4 +428,289 @@ public class GemfireCacheUnitTests {
 
 		verify(mockRegion, times(1)).putIfAbsent(eq("key"), eq("mockValue"));
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllReadsRegionInChunks() {
+
+		doAnswer(invocation -> {
+			Map<Object, Object> values = new HashMap<>();
+			for (Object key : invocation.<Collection<Object>>getArgument(0)) {
+				if (!"three".equals(key)) {
+					values.put(key, key.toString().toUpperCase());
+				}
+			}
+			return values;
+		}).when(mockRegion).getAll(anyCollection());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setBatchSize(2);
+
+		Map<Object, Object> values = gemfireCache.getAll(Arrays.asList("one", "two", "three"));
+
+		assertThat(values).containsExactly(Map.entry("one", "ONE"), Map.entry("two", "TWO"));
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList("one", "two")));
+		verify(mockRegion, times(1)).getAll(eq(Collections.singletonList("three")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void putAllWritesRegionInChunksSkippingNullValues() {
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+
+		entries.put("one", 1);
+		entries.put("two", null);
+		entries.put("three", 3);
+		entries.put("four", 4);
+
+		List<Map<Object, Object>> chunks = new ArrayList<>();
+
+		doAnswer(invocation -> chunks.add(new LinkedHashMap<>(invocation.<Map<Object, Object>>getArgument(0))))
+			.when(mockRegion).putAll(anyMap());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setBatchSize(2);
+		gemfireCache.putAll(entries);
+
+		assertThat(chunks).hasSize(2);
+		assertThat(chunks.get(0)).containsExactly(Map.entry("one", 1), Map.entry("three", 3));
+		assertThat(chunks.get(1)).containsExactly(Map.entry("four", 4));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void evictAllRemovesKeysInChunks() {
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setBatchSize(2);
+		gemfireCache.evictAll(Arrays.asList("one", "two", "three"));
+
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList("one", "two")));
+		verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList("three")));
+		verify(mockRegion, never()).remove(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void clearRemovesAllKeysInChunksWhenRegionClearIsUnsupported() {
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+		doReturn(new HashSet<>(Arrays.asList(1, 2, 3))).when(mockRegion).keySetOnServer();
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setBatchSize(2);
+		gemfireCache.clear();
+
+		verify(mockRegion, times(1)).clear();
+		verify(mockRegion, times(1)).keySetOnServer();
+		verify(mockRegion, never()).keySet();
+		verify(mockRegion, times(1)).removeAll(eq(Arrays.asList(1, 2)));
+		verify(mockRegion, times(1)).removeAll(eq(Collections.singletonList(3)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void batchScopeKeepsValuesAndWritesWithPutAllOnClose() {
+
+		doReturn(Collections.singletonMap("one", 1)).when(mockRegion).getAll(anyCollection());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		try (GemfireCache.BatchScope scope = GemfireCache.BatchScope.open()) {
+
+			gemfireCache.getAll(Arrays.asList("one", "two"));
+
+			assertThat(gemfireCache.get("one", Integer.class)).isEqualTo(1);
+			assertThat(gemfireCache.get("two")).isNull();
+
+			gemfireCache.put("three", 3);
+			gemfireCache.put("four", 4);
+
+			assertThat(gemfireCache.get("three", Integer.class)).isEqualTo(3);
+
+			try (GemfireCache.BatchScope nestedScope = GemfireCache.BatchScope.open()) {
+				assertThat(nestedScope).isSameAs(scope);
+			}
+
+			assertThat(GemfireCache.BatchScope.isOpen()).isTrue();
+			verify(mockRegion, never()).putAll(anyMap());
+		}
+
+		assertThat(GemfireCache.BatchScope.isOpen()).isFalse();
+
+		Map<Object, Object> expectedWrites = new LinkedHashMap<>();
+
+		expectedWrites.put("three", 3);
+		expectedWrites.put("four", 4);
+
+		verify(mockRegion, times(1)).getAll(eq(Arrays.asList("one", "two")));
+		verify(mockRegion, never()).get(any());
+		verify(mockRegion, never()).put(any(), any());
+		verify(mockRegion, times(1)).putAll(eq(expectedWrites));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void flushIntervalCoalescesConcurrentLookupsIntoGetAll() throws Exception {
+
+		doAnswer(invocation -> {
+			Map<Object, Object> values = new HashMap<>();
+			invocation.<Collection<Object>>getArgument(0).forEach(key -> values.put(key, key.toString().length()));
+			return values;
+		}).when(mockRegion).getAll(anyCollection());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setBatchSize(3);
+		gemfireCache.setFlushInterval(TimeUnit.SECONDS.toMillis(30));
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+
+			Future<Integer> one = executor.submit(() -> gemfireCache.get("a", Integer.class));
+			Future<Integer> two = executor.submit(() -> gemfireCache.get("bb", Integer.class));
+			Future<Integer> three = executor.submit(() -> gemfireCache.get("ccc", Integer.class));
+
+			assertThat(one.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+			assertThat(two.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+			assertThat(three.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(mockRegion, times(1)).getAll(anyCollection());
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void flushIntervalDefersWritesIntoPutAll() {
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setFlushInterval(TimeUnit.SECONDS.toMillis(30));
+		gemfireCache.put("one", 1);
+		gemfireCache.put("two", 2);
+		gemfireCache.evict("two");
+
+		assertThat(gemfireCache.get("one", Integer.class)).isEqualTo(1);
+
+		verify(mockRegion, never()).putAll(anyMap());
+
+		gemfireCache.flush();
+
+		verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", 1)));
+		verify(mockRegion, times(1)).remove(eq("two"));
+		verify(mockRegion, never()).put(any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllReturnsDeferredWrites() {
+
+		doReturn(Collections.singletonMap("two", 2)).when(mockRegion).getAll(anyCollection());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setFlushInterval(TimeUnit.SECONDS.toMillis(30));
+		gemfireCache.put("one", 1);
+
+		assertThat(gemfireCache.getAll(Arrays.asList("one", "two"))).containsOnly(entry("one", 1), entry("two", 2));
+
+		verify(mockRegion, times(1)).getAll(eq(Collections.singletonList("two")));
+		verify(mockRegion, never()).putAll(anyMap());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void evictWaitsForDeferredWriteOfSameKeyBeingFlushed() throws Exception {
+
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return null;
+		}).when(mockRegion).putAll(anyMap());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setFlushInterval(TimeUnit.SECONDS.toMillis(30));
+		gemfireCache.put("one", 1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<?> flush = executor.submit(gemfireCache::flush);
+
+			assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(gemfireCache.get("one", Integer.class)).isEqualTo(1);
+
+			Future<?> evict = executor.submit(() -> gemfireCache.evict("one"));
+
+			Thread.sleep(100L);
+
+			assertThat(evict.isDone()).isFalse();
+			verify(mockRegion, never()).remove(any());
+
+			release.countDown();
+			flush.get(5, TimeUnit.SECONDS);
+			evict.get(5, TimeUnit.SECONDS);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		InOrder inOrder = inOrder(mockRegion);
+
+		inOrder.verify(mockRegion, times(1)).putAll(eq(Collections.singletonMap("one", 1)));
+		inOrder.verify(mockRegion, times(1)).remove(eq("one"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void failedBackgroundFlushIsThrownByNextFlush() throws Exception {
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		doThrow(cause).when(mockRegion).putAll(anyMap());
+
+		GemfireCache gemfireCache = GemfireCache.wrap(mockRegion);
+
+		gemfireCache.setFlushInterval(10L);
+		gemfireCache.put("one", 1);
+
+		verify(mockRegion, timeout(5000L).times(1)).putAll(eq(Collections.singletonMap("one", 1)));
+
+		long timeout = System.currentTimeMillis() + 5000L;
+
+		while (true) {
+			try {
+				gemfireCache.flush();
+				assertThat(System.currentTimeMillis()).isLessThan(timeout);
+				Thread.sleep(10L);
+			}
+			catch (IllegalStateException expected) {
+				assertThat(expected).hasMessageContaining("Failed to write [1] deferred values");
+				assertThat(expected).hasCause(cause);
+				break;
+			}
+		}
+
+		gemfireCache.flush();
+	}
 }
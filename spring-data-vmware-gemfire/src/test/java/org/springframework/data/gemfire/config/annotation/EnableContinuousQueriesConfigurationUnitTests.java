@@ -42,6 +42,7 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
+import org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
@@ -114,6 +115,30 @@ public class EnableContinuousQueriesConfigurationUnitTests extends SpringApplica
 		assertThat(container.getTaskExecutor()).isEqualTo(mockTaskExecutor);
 	}
 
+	@Test
+	public void continuousQueryEventDispatcherConfigurationIsCorrect() {
+
+		newApplicationContext(TestContinuousQueryEventDispatcherConfiguration.class);
+
+		ContinuousQueryListenerContainer container =
+			getBean("continuousQueryListenerContainer", ContinuousQueryListenerContainer.class);
+
+		assertThat(container).isNotNull();
+		assertThat(container.getBatchSize()).isEqualTo(50);
+		assertThat(container.getBatchTimeInterval()).isEqualTo(250);
+		assertThat(container.isBatching()).isTrue();
+		assertThat(container.getMaxConcurrency()).isEqualTo(2);
+		assertThat(container.getOverflowPolicy()).isEqualTo(ContinuousQueryEventDispatcher.OverflowPolicy.DROP);
+		assertThat(container.getQueueCapacity()).isEqualTo(500);
+		assertThat(container.isUseVirtualThreads()).isFalse();
+		assertThat(container.getTaskExecutor()).isInstanceOf(ContinuousQueryEventDispatcher.class);
+
+		ContinuousQueryEventDispatcher dispatcher = (ContinuousQueryEventDispatcher) container.getTaskExecutor();
+
+		assertThat(dispatcher.getOverflowPolicy()).isEqualTo(ContinuousQueryEventDispatcher.OverflowPolicy.DROP);
+		assertThat(dispatcher.getQueueCapacity()).isEqualTo(500);
+	}
+
 	private void testRegisterAndExecuteContinuousQuery(Class<?>... annotatedClasses) throws Exception {
 
 		ConfigurableApplicationContext applicationContext = newApplicationContext(annotatedClasses);
@@ -193,6 +218,19 @@ public class EnableContinuousQueriesConfigurationUnitTests extends SpringApplica
 		}
 	}
 
+	@ClientCacheApplication
+	@EnableGemFireMockObjects
+	@EnableContinuousQueries(batchSize = 50, batchTimeInterval = 250, maxConcurrency = 2,
+		overflowPolicy = ContinuousQueryEventDispatcher.OverflowPolicy.DROP, queueCapacity = 500)
+	@SuppressWarnings("unused")
+	static class TestContinuousQueryEventDispatcherConfiguration {
+
+		@Bean("DEFAULT")
+		Pool mockPool() {
+			return mock(Pool.class);
+		}
+	}
+
 	@ClientCacheApplication
 	@EnableContinuousQueries
 	@EnableGemFireMockObjects
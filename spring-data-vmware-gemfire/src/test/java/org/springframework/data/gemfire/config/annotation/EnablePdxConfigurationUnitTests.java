@@ -87,6 +87,7 @@ public class EnablePdxConfigurationUnitTests {
 		annotationAttributes.put("persistent", Boolean.TRUE);
 		annotationAttributes.put("readSerialized", Boolean.TRUE);
 		annotationAttributes.put("serializerBeanName", "MockPdxSerializer");
+		annotationAttributes.put("typedFieldAccess", Boolean.TRUE);
 
 		when(mockAnnotationMetadata.hasAnnotation(eq(EnablePdx.class.getName()))).thenReturn(true);
 		when(mockAnnotationMetadata.getAnnotationAttributes(eq(EnablePdx.class.getName())))
@@ -102,6 +103,7 @@ public class EnablePdxConfigurationUnitTests {
 		assertThat(this.pdxConfiguration.isPersistent()).isTrue();
 		assertThat(this.pdxConfiguration.isReadSerialized()).isTrue();
 		assertThat(this.pdxConfiguration.getSerializerBeanName().orElse(null)).isEqualTo("MockPdxSerializer");
+		assertThat(this.pdxConfiguration.isTypedFieldAccess()).isTrue();
 
 		verify(mockAnnotationMetadata, times(1)).hasAnnotation(eq(EnablePdx.class.getName()));
 		verify(mockAnnotationMetadata, times(1))
@@ -123,6 +125,7 @@ public class EnablePdxConfigurationUnitTests {
 		assertThat(this.pdxConfiguration.isPersistent()).isFalse();
 		assertThat(this.pdxConfiguration.isReadSerialized()).isFalse();
 		assertThat(this.pdxConfiguration.getSerializerBeanName().isPresent()).isFalse();
+		assertThat(this.pdxConfiguration.isTypedFieldAccess()).isFalse();
 
 		verify(mockAnnotationMetadata, times(1)).hasAnnotation(eq(EnablePdx.class.getName()));
 		verifyNoMoreInteractions(mockAnnotationMetadata);
@@ -250,6 +253,20 @@ public class EnablePdxConfigurationUnitTests {
 		verify(mockBeanFactory, never()).getBean(anyString(), any(PdxSerializer.class));
 	}
 
+	@Test
+	public void resolvePdxSerializerWithTypedFieldAccessConfiguresMappingPdxSerializer() {
+
+		BeanFactory mockBeanFactory = mock(BeanFactory.class);
+
+		this.pdxConfiguration.setBeanFactory(mockBeanFactory);
+		this.pdxConfiguration.setTypedFieldAccess(true);
+
+		PdxSerializer pdxSerializer = this.pdxConfiguration.resolvePdxSerializer();
+
+		assertThat(pdxSerializer).isInstanceOf(MappingPdxSerializer.class);
+		assertThat(((MappingPdxSerializer) pdxSerializer).isTypedFieldAccess()).isTrue();
+	}
+
 	@Test
 	public void resolvePdxSerializerReturnsConfiguredPdxSerializer() {
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.metrics.GemFireMetrics;
+import org.springframework.data.gemfire.metrics.GemFireMetricsAware;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit Tests for {@link GemFireMetricsConfiguration}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.GemFireMetricsConfiguration
+ * @since 1.0.1
+ */
+public class GemFireMetricsConfigurationUnitTests {
+
+	@Test
+	public void beanPostProcessorIsDeclaredStatic() throws NoSuchMethodException {
+
+		Method beanPostProcessorMethod = GemFireMetricsConfiguration.class
+			.getMethod("gemfireMetricsBeanPostProcessor", ObjectProvider.class);
+
+		assertThat(Modifier.isStatic(beanPostProcessorMethod.getModifiers())).isTrue();
+	}
+
+	@Test
+	public void configuresGemFireMetricsAwareBeansWithGemFireMetrics() {
+
+		try (AnnotationConfigApplicationContext applicationContext =
+				new AnnotationConfigApplicationContext(TestConfiguration.class)) {
+
+			GemFireMetrics metrics = applicationContext.getBean(GemFireMetrics.class);
+
+			assertThat(applicationContext.getBean(TestMetricsAware.class).metrics).isSameAs(metrics);
+		}
+	}
+
+	@Configuration
+	@EnableGemFireMetrics
+	static class TestConfiguration {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean
+		TestMetricsAware testMetricsAware() {
+			return new TestMetricsAware();
+		}
+	}
+
+	static class TestMetricsAware implements GemFireMetricsAware {
+
+		private GemFireMetrics metrics;
+
+		@Override
+		public void setMetrics(@Nullable GemFireMetrics metrics) {
+			this.metrics = metrics;
+		}
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.slf4j.Logger;
+
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect.OperationStatistics;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect.TraceRecord;
+
+/**
+ * Unit Tests for the sampling, statistics and trace buffer of {@link RegionDataAccessTracingAspect}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
+ * @since 1.0.1
+ */
+public class RegionDataAccessTracingAspectSamplingUnitTests {
+
+	private static ProceedingJoinPoint mockJoinPoint(String regionName, String operation, Object result,
+			Object... arguments) throws Throwable {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+		Signature mockSignature = mock(Signature.class);
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(regionName).when(mockRegion).getName();
+		doReturn(operation).when(mockSignature).getName();
+		doReturn(mockRegion).when(mockJoinPoint).getTarget();
+		doReturn(mockSignature).when(mockJoinPoint).getSignature();
+		doReturn(arguments).when(mockJoinPoint).getArgs();
+		doReturn(result).when(mockJoinPoint).proceed();
+
+		return mockJoinPoint;
+	}
+
+	private static RegionDataAccessTracingAspect newTracingAspect(Logger logger) {
+
+		return new RegionDataAccessTracingAspect() {
+
+			@Override
+			protected Logger getLogger() {
+				return logger;
+			}
+		};
+	}
+
+	@Test
+	public void recordsStatisticsAndTracesOfSampledCalls() throws Throwable {
+
+		Logger mockLogger = mock(Logger.class);
+
+		doReturn(true).when(mockLogger).isTraceEnabled();
+
+		RegionDataAccessTracingAspect aspect = newTracingAspect(mockLogger);
+
+		aspect.setPayloadSizingEnabled(true);
+		aspect.setSlowThreshold(0L);
+
+		Map<Object, Object> entries = new HashMap<>();
+
+		entries.put(1, new byte[10]);
+		entries.put(2, new byte[20]);
+
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "putAll", null, entries));
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "get", new byte[5], 1));
+
+		Map<String, OperationStatistics> statistics = aspect.getOperationStatistics().get("Example");
+
+		assertThat(statistics).containsOnlyKeys("putAll", "get");
+
+		OperationStatistics putAllStatistics = statistics.get("putAll");
+
+		assertThat(putAllStatistics.getCount()).isOne();
+		assertThat(putAllStatistics.getFailureCount()).isZero();
+		assertThat(putAllStatistics.getTotalKeyCount()).isEqualTo(2L);
+		assertThat(putAllStatistics.getTotalPayloadSize()).isEqualTo(30L);
+		assertThat(Arrays.stream(putAllStatistics.getLatencyHistogram()).sum()).isOne();
+		assertThat(statistics.get("get").getMaxPayloadSize()).isEqualTo(5L);
+
+		List<TraceRecord> traces = aspect.getRecentTraces();
+
+		assertThat(traces).extracting(TraceRecord::getOperation).containsExactly("putAll", "get");
+		assertThat(traces.get(0).getStackTrace()).isNotEmpty();
+	}
+
+	@Test
+	public void sampleRatesApplyPerRegionAndOperation() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		Map<String, Double> sampleRates = new HashMap<>();
+
+		sampleRates.put("Example", 0.0d);
+		sampleRates.put("Example.put", 1.0d);
+		sampleRates.put("*.remove", 0.0d);
+
+		aspect.setSampleRates(sampleRates);
+
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "get", "value", "key"));
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "put", null, "key", "value"));
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Other", "remove", null, "key"));
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Other", "get", "value", "key"));
+
+		Map<String, Map<String, OperationStatistics>> statistics = aspect.getOperationStatistics();
+
+		assertThat(statistics).containsOnlyKeys("Example", "Other");
+		assertThat(statistics.get("Example")).containsOnlyKeys("put");
+		assertThat(statistics.get("Other")).containsOnlyKeys("get");
+	}
+
+	@Test
+	public void payloadIsNotSizedByDefault() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "put", null, "key", new byte[10]));
+
+		assertThat(aspect.isPayloadSizingEnabled()).isFalse();
+		assertThat(aspect.getOperationStatistics().get("Example").get("put").getTotalPayloadSize()).isZero();
+		assertThat(aspect.getRecentTraces().get(0).getPayloadSize()).isEqualTo(-1L);
+	}
+
+	@Test
+	public void stackTraceIsOnlyCapturedForSlowCalls() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		aspect.setSlowThreshold(60_000L);
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "get", "value", "key"));
+
+		assertThat(aspect.getRecentTraces()).hasSize(1);
+		assertThat(aspect.getRecentTraces().get(0).getStackTrace()).isEmpty();
+	}
+
+	@Test
+	public void stackTraceIsNotCapturedWithoutSlowThresholdWhileTraceIsDisabled() throws Throwable {
+
+		Logger mockLogger = mock(Logger.class);
+
+		RegionDataAccessTracingAspect aspect = newTracingAspect(mockLogger);
+
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "get", "value", "key"));
+
+		assertThat(aspect.getRecentTraces()).hasSize(1);
+		assertThat(aspect.getRecentTraces().get(0).getStackTrace()).isEmpty();
+
+		doReturn(true).when(mockLogger).isTraceEnabled();
+
+		aspect.regionDataAccessTracingAdvice(mockJoinPoint("Example", "get", "value", "key"));
+
+		assertThat(aspect.getRecentTraces()).hasSize(2);
+		assertThat(aspect.getRecentTraces().get(1).getStackTrace()).isNotEmpty();
+
+		verify(mockLogger, times(1)).trace(anyString(), any(Object.class), any(Object.class));
+	}
+
+	@Test
+	public void traceBufferKeepsMostRecentTraces() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		aspect.setTraceBufferCapacity(2);
+
+		for (String regionName : Arrays.asList("One", "Two", "Three")) {
+			aspect.regionDataAccessTracingAdvice(mockJoinPoint(regionName, "get", null, "key"));
+		}
+
+		assertThat(aspect.getRecentTraces()).extracting(TraceRecord::getRegionName).containsExactly("Two", "Three");
+	}
+
+	@Test
+	public void failedCallsAreRecordedAndRethrown() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("Example", "get", null, "key");
+
+		doThrow(new IllegalStateException("TEST")).when(mockJoinPoint).proceed();
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> aspect.regionDataAccessTracingAdvice(mockJoinPoint))
+			.withMessage("TEST");
+
+		assertThat(aspect.getOperationStatistics().get("Example").get("get").getFailureCount()).isOne();
+		assertThat(aspect.getRecentTraces().get(0).isFailed()).isTrue();
+	}
+
+	@Test
+	public void disabledTracingOnlyProceeds() throws Throwable {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint("Example", "get", "value", "key");
+
+		aspect.setEnabled(false);
+
+		assertThat(aspect.regionDataAccessTracingAdvice(mockJoinPoint)).isEqualTo("value");
+		assertThat(aspect.getOperationStatistics()).isEmpty();
+		assertThat(aspect.getRecentTraces()).isEmpty();
+
+		verify(mockJoinPoint, times(1)).proceed();
+		verify(mockJoinPoint, never()).getSignature();
+		verify(mockJoinPoint, never()).getTarget();
+		verify(mockJoinPoint, never()).getArgs();
+	}
+
+	@Test
+	public void invalidSampleRateThrowsIllegalArgumentException() {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> aspect.setSampleRate(1.5d))
+			.withMessage("Sample rate [1.5] must be between 0.0 and 1.0");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> aspect.setSampleRates(Collections.singletonMap("Example", -0.1d)))
+			.withMessage("Sample rate [-0.1] must be between 0.0 and 1.0");
+	}
+}
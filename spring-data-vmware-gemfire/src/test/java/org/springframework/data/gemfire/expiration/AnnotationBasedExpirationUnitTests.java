@@ -249,6 +249,47 @@ public class AnnotationBasedExpirationUnitTests {
 		assertThat(expiration.getExpiry(mockRegionEntry)).isEqualTo(expectedExpirationAttributes);
 	}
 
+	@Test
+	public void getExpiryReturnsCachedExpirationAttributesPerRegionEntryValueType() {
+
+		Region.Entry mockRegionEntryOne = mock(Region.Entry.class, "MockRegionEntryOne");
+		Region.Entry mockRegionEntryTwo = mock(Region.Entry.class, "MockRegionEntryTwo");
+
+		when(mockRegionEntryOne.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+		when(mockRegionEntryTwo.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+
+		ExpirationAttributes expirationAttributes = noDefaultExpiration.getExpiry(mockRegionEntryOne);
+
+		assertExpiration(expirationAttributes, 60, ExpirationAction.INVALIDATE);
+		assertThat(noDefaultExpiration.getExpiry(mockRegionEntryTwo)).isSameAs(expirationAttributes);
+	}
+
+	@Test
+	public void getExpiryEvaluatesSpelExpressionTimeoutOnEveryCall() {
+
+		StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+
+		AnnotationBasedExpiration.EVALUATION_CONTEXT_REFERENCE.set(evaluationContext);
+
+		try {
+
+			Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+			when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithSpelExpressionExpiration());
+
+			evaluationContext.setVariable("timeout", 30);
+
+			assertExpiration(noDefaultExpiration.getExpiry(mockRegionEntry), 30, ExpirationAction.DESTROY);
+
+			evaluationContext.setVariable("timeout", 45);
+
+			assertExpiration(noDefaultExpiration.getExpiry(mockRegionEntry), 45, ExpirationAction.DESTROY);
+		}
+		finally {
+			AnnotationBasedExpiration.EVALUATION_CONTEXT_REFERENCE.set(null);
+		}
+	}
+
 	@Test
 	public void isExpirationConfiguredWithGenericExpirationBasedRegionEntry() {
 
@@ -454,6 +495,9 @@ public class AnnotationBasedExpirationUnitTests {
 	@Expiration(timeout = "60", action = "INVALIDATE")
 	public static class RegionEntryValueWithGenericExpiration { }
 
+	@Expiration(timeout = "#timeout", action = "DESTROY")
+	public static class RegionEntryValueWithSpelExpressionExpiration { }
+
 	public static class RegionEntryValueWithNoExpiration { }
 
 }
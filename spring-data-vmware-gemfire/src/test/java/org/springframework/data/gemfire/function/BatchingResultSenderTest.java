@@ -10,13 +10,16 @@ import static org.mockito.Mockito.mock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
 
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.cache.util.ObjectSizer;
 
 import org.assertj.core.api.Assertions;
 
@@ -160,6 +163,125 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 
+	@Test
+	public void iteratorResultsArePulledLazilyInChunks() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		AtomicInteger pulledResults = new AtomicInteger(0);
+
+		Iterator<Integer> results = IntStream.range(0, 25).boxed()
+			.peek(result -> {
+				// At most the current chunk and one look-ahead result are held before the chunk is sent
+				assertThat(pulledResults.get() - resultSender.getResults().size()).isLessThanOrEqualTo(10);
+				pulledResults.incrementAndGet();
+			})
+			.iterator();
+
+		new BatchingResultSender(10, resultSender).sendResults(results);
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkSizes()).containsExactly(10, 10, 5);
+		assertThat(resultSender.getResults()).hasSize(25);
+	}
+
+	@Test
+	public void iteratorResultsAreSentAsSingleListWhenBatchingIsDisabled() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(0, resultSender).sendResults(IntStream.range(0, 25).boxed().iterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkSizes()).containsExactly(25);
+	}
+
+	@Test
+	public void emptyIteratorResultsSendEmptyLastResult() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(10, resultSender).sendResults(Collections.emptyIterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getResults()).isEmpty();
+	}
+
+	@Test
+	public void listChunkingIsBoundedByBatchBytes() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		ObjectSizer fixedSizer = result -> 100;
+
+		List<Integer> results = new ArrayList<>();
+
+		IntStream.range(0, 10).forEach(results::add);
+
+		new BatchingResultSender(0, 300L, fixedSizer, resultSender).sendResults(results);
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkSizes()).containsExactly(3, 3, 3, 1);
+		assertThat(resultSender.getResults()).containsExactlyElementsOf(results);
+	}
+
+	@Test
+	public void listChunkingIsBoundedByBatchSizeOrBatchBytesWhicheverIsReachedFirst() {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		ObjectSizer fixedSizer = result -> 100;
+
+		new BatchingResultSender(2, 1000L, fixedSizer, resultSender)
+			.sendResults(IntStream.range(0, 5).boxed().iterator());
+
+		assertThat(resultSender.getChunkSizes()).containsExactly(2, 2, 1);
+	}
+
+	@Test
+	public void arrayChunkingIsBoundedByBatchBytes() {
+
+		TestArrayResultSender resultSender = new TestArrayResultSender();
+
+		ObjectSizer fixedSizer = result -> 100;
+
+		Integer[] results = IntStream.range(0, 10).boxed().toArray(Integer[]::new);
+
+		new BatchingResultSender(0, 400L, fixedSizer, resultSender).sendArrayResults(results);
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getChunkSizes()).containsExactly(4, 4, 2);
+		assertThat(resultSender.getResults()).containsExactly((Object[]) results);
+	}
+
+	@Test
+	public void primitiveArrayChunkingIsBoundedByBatchBytes() {
+
+		List<Integer> chunkSizes = new ArrayList<>();
+
+		ResultSender<Object> resultSender = new ResultSender<Object>() {
+
+			@Override
+			public void lastResult(Object result) {
+				chunkSizes.add(((long[]) result).length);
+			}
+
+			@Override
+			public void sendResult(Object result) {
+				chunkSizes.add(((long[]) result).length);
+			}
+
+			@Override
+			public void sendException(Throwable cause) {
+				Assertions.fail("Function send result operation failed", cause);
+			}
+		};
+
+		new BatchingResultSender(0, 32L, resultSender).sendArrayResults(new long[10]);
+
+		assertThat(chunkSizes).containsExactly(4, 4, 2);
+	}
+
     private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize, int resultSetSize){
 
         BatchingResultSender batchResultSender = new BatchingResultSender(batchSize, resultSender);
@@ -191,6 +313,8 @@ public class BatchingResultSenderTest {
 
 		private List<Object> results = new ArrayList<>();
 
+		private final List<Integer> chunkSizes = new ArrayList<>();
+
         public boolean isLastResultSent() {
             return this.lastResultSent;
         }
@@ -218,6 +342,10 @@ public class BatchingResultSenderTest {
 
 		protected abstract void addResults(Object item, List<Object> results);
 
+		public List<Integer> getChunkSizes() {
+			return this.chunkSizes;
+		}
+
 		public List<Object> getResults() {
 			return this.results;
 		}
@@ -231,6 +359,7 @@ public class BatchingResultSenderTest {
 
 			Object[] array = (Object[]) result;
 
+			getChunkSizes().add(array.length);
 			Collections.addAll(results, array);
 		}
 	}
@@ -243,6 +372,7 @@ public class BatchingResultSenderTest {
 
 			Collection<?> list = (Collection<?>) result;
 
+			getChunkSizes().add(list.size());
 			results.addAll(list);
 		}
 	}
@@ -6,14 +6,24 @@
 package org.springframework.data.gemfire.function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.Test;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.pdx.PdxSerializer;
 
+import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -78,6 +88,72 @@ public class FunctionContextInjectingArgumentResolverUnitTests {
 		assertThat(functionArgumentResolver.getArgumentTypePosition(functionFour, FunctionContext.class)).isEqualTo(-1);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolveFunctionArgumentsInjectsFilterAndFunctionContextAtDeclaredPositions() throws Exception {
+
+		Method functionFive = FunctionFive.class
+			.getDeclaredMethod("functionFive", Set.class, String.class, FunctionContext.class, Integer.class);
+
+		Set<String> filter = Collections.singleton("key");
+
+		Object[] functionArguments = { "test", 1 };
+
+		RegionFunctionContext mockFunctionContext = mock(RegionFunctionContext.class);
+
+		doReturn(functionArguments).when(mockFunctionContext).getArguments();
+		doReturn(filter).when(mockFunctionContext).getFilter();
+
+		Object[] args = new FunctionContextInjectingArgumentResolver(functionFive)
+			.resolveFunctionArguments(mockFunctionContext);
+
+		assertThat(args).containsExactly(filter, "test", mockFunctionContext, 1);
+		assertThat(args).isNotSameAs(functionArguments);
+	}
+
+	@Test
+	public void resolveFunctionArgumentsWithWrongNumberOfArgumentsThrowsIllegalArgumentException() throws Exception {
+
+		Method functionTwo = FunctionTwo.class.getDeclaredMethod("functionTwo", FunctionContext.class);
+
+		FunctionContext<?> mockFunctionContext = mock(FunctionContext.class);
+
+		doReturn(new Object[] { "test" }).when(mockFunctionContext).getArguments();
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new FunctionContextInjectingArgumentResolver(functionTwo)
+				.resolveFunctionArguments(mockFunctionContext))
+			.withMessage("Wrong number of arguments for method [functionTwo]; Expected [1], but was [2]");
+	}
+
+	@Test
+	public void pdxSerializerPresenceIsCachedPerCache() throws Exception {
+
+		Method functionTwo = FunctionTwo.class.getDeclaredMethod("functionTwo", FunctionContext.class);
+
+		Cache mockCache = mock(Cache.class);
+		Cache mockRecreatedCache = mock(Cache.class);
+
+		FunctionContext<?> mockFunctionContext = mock(FunctionContext.class);
+
+		doReturn(mockCache).when(mockFunctionContext).getCache();
+		doReturn(mock(PdxSerializer.class)).when(mockCache).getPdxSerializer();
+
+		FunctionContextInjectingArgumentResolver functionArgumentResolver =
+			new FunctionContextInjectingArgumentResolver(functionTwo);
+
+		assertThat(functionArgumentResolver.isPdxSerializerConfigured(mockFunctionContext)).isTrue();
+		assertThat(functionArgumentResolver.isPdxSerializerConfigured(mockFunctionContext)).isTrue();
+
+		verify(mockCache, times(1)).getPdxSerializer();
+
+		doReturn(mockRecreatedCache).when(mockFunctionContext).getCache();
+
+		assertThat(functionArgumentResolver.isPdxSerializerConfigured(mockFunctionContext)).isFalse();
+
+		verify(mockRecreatedCache, times(1)).getPdxSerializer();
+	}
+
 	static class FunctionOne {
 
 		@GemfireFunction
@@ -104,4 +180,11 @@ public class FunctionContextInjectingArgumentResolverUnitTests {
 		void functionFour(Object functionContext, String arg) { }
 
 	}
+
+	static class FunctionFive {
+
+		@GemfireFunction
+		void functionFive(@Filter Set<String> keys, String arg, FunctionContext functionContext, Integer number) { }
+
+	}
 }
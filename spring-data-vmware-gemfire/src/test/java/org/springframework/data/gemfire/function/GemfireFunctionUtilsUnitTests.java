@@ -137,6 +137,48 @@ public class GemfireFunctionUtilsUnitTests {
 		}
 	}
 
+	@Test
+	public void configureWithBatchBytes() throws Exception {
+
+		Method functionWithBatchBytes = TestFunctions.class.getDeclaredMethod("functionWithBatchBytes");
+
+		AnnotationAttributes gemfireFunctionAttributes =
+			GemfireFunctionUtils.getAnnotationAttributes(functionWithBatchBytes, GemfireFunction.class);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, functionWithBatchBytes);
+
+		GemfireFunctionUtils.configureBatchBytes(this.testFunctions, functionWithBatchBytes,
+			gemfireFunctionAttributes, function);
+
+		assertThat(function.getBatchBytes()).isEqualTo(1_048_576L);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void configureWithInvalidBatchBytesThrowsIllegalArgumentException() throws Exception {
+
+		Method functionWithInvalidBatchBytes =
+			TestFunctions.class.getDeclaredMethod("functionWithInvalidBatchBytes");
+
+		AnnotationAttributes gemfireFunctionAttributes =
+			GemfireFunctionUtils.getAnnotationAttributes(functionWithInvalidBatchBytes, GemfireFunction.class);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, functionWithInvalidBatchBytes);
+
+		try {
+			GemfireFunctionUtils.configureBatchBytes(this.testFunctions, functionWithInvalidBatchBytes,
+				gemfireFunctionAttributes, function);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("GemfireFunction.batchBytes [-1] specified on [%1$s.%2$s] must be a non-negative value",
+				testFunctions.getClass().getName(), functionWithInvalidBatchBytes.getName());
+
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	public void configureWithNoBatchSize() throws Exception {
 
@@ -362,6 +404,12 @@ public class GemfireFunctionUtilsUnitTests {
 		@GemfireFunction(batchSize = -5)
 		void functionWithInvalidBatchSize() { }
 
+		@GemfireFunction(batchBytes = 1_048_576L)
+		void functionWithBatchBytes() { }
+
+		@GemfireFunction(batchBytes = -1L)
+		void functionWithInvalidBatchBytes() { }
+
 		@GemfireFunction(HA = true)
 		void functionWithHighAvailability() { }
 
@@ -5,6 +5,7 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -16,11 +17,17 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -193,4 +200,117 @@ public class AbstractFunctionExecutionTest {
 			throw expected;
 		}
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeStreamingStreamsResultsFromStreamingResultCollector() {
+
+		Object[] args = { "one", "two" };
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		when(mockExecution.setArguments(eq(args))).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(StreamingResultCollector.class))).thenAnswer(invocation -> {
+
+			ResultCollector resultCollector = invocation.getArgument(0);
+
+			when(mockExecution.execute(eq(mockFunction))).thenAnswer(execution -> {
+				resultCollector.addResult(null, Arrays.asList(1, 2));
+				resultCollector.addResult(null, Arrays.asList(3));
+				resultCollector.endResults();
+				return resultCollector;
+			});
+
+			return mockExecution;
+		});
+
+		when(mockFunction.hasResult()).thenReturn(true);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		List<Object> results = functionExecution.setFunction(mockFunction)
+			.setArguments(args)
+			.executeStreaming(1, AbstractFunctionExecution.getDefaultStreamingExecutor())
+			.collect(Collectors.toList());
+
+		assertThat(results).containsExactly(Arrays.asList(1, 2), Arrays.asList(3));
+
+		verify(mockExecution, times(1)).withCollector(any(StreamingResultCollector.class));
+		verify(mockExecution, times(1)).execute(eq(mockFunction));
+	}
+
+	@Test
+	public void executeStreamingRethrowsExecutionFailure() {
+
+		FunctionException cause = new FunctionException("TEST");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(StreamingResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("TestFunction"))).thenThrow(cause);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Stream<Object> results = functionExecution.setFunctionId("TestFunction").executeStreaming(4, Runnable::run);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> results.collect(Collectors.toList()))
+			.isSameAs(cause);
+	}
+
+	@Test
+	public void executeAsyncExecutesFunctionOnExecutor() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+
+			@Override
+			protected Execution getExecution() {
+				return mockExecution;
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override <T> Iterable<T> execute() {
+				return (Iterable<T>) Arrays.asList("one", "two");
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> results = functionExecution.executeAsync(tasks::add);
+
+		assertThat(results).isNotDone();
+		assertThat(tasks).hasSize(1);
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(results.get(5, TimeUnit.SECONDS)).containsExactly("one", "two");
+	}
+
+	@Test
+	public void executeAndExtractAsyncCompletesExceptionallyWhenRejected() {
+
+		RejectedExecutionException cause = new RejectedExecutionException("TEST");
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Object> result = functionExecution.executeAndExtractAsync(task -> {
+			throw cause;
+		});
+
+		assertThat(result).isCompletedExceptionally();
+		assertThat(result).failsWithin(0, TimeUnit.SECONDS)
+			.withThrowableOfType(ExecutionException.class)
+			.withCause(cause);
+	}
 }
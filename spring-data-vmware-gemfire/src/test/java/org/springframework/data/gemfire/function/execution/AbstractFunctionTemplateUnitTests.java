@@ -12,6 +12,10 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -222,4 +226,105 @@ public class AbstractFunctionTemplateUnitTests {
 		verify(mockFunctionExecution, times(1)).setTimeout(500);
 		verify(mockFunctionExecution, times(1)).execute(eq(false));
 	}
+
+	@Test
+	public void executeAsyncWithFunctionIdAndArgsUsesConfiguredAsyncExecutor() {
+
+		Object[] args = { "test", "testing", "tested" };
+
+		CompletableFuture<Iterable<Object>> results = CompletableFuture.completedFuture(Arrays.asList(args));
+
+		Executor executor = Runnable::run;
+
+		when(mockFunctionExecution.setArguments(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(null)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(500)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.executeAsync(eq(executor))).thenReturn(results);
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setAsyncExecutor(executor);
+		functionTemplate.setTimeout(500);
+
+		assertThat(functionTemplate.getAsyncExecutor()).isSameAs(executor);
+		assertThat(functionTemplate.executeAsync("TestFunction", args)).isSameAs(results);
+
+		verify(mockFunctionExecution, times(1)).setFunctionId("TestFunction");
+		verify(mockFunctionExecution, times(1)).setTimeout(500);
+		verify(mockFunctionExecution, times(1)).executeAsync(eq(executor));
+	}
+
+	@Test
+	public void defaultAsyncExecutorIsShared() {
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		assertThat(functionTemplate.getAsyncExecutor()).isSameAs(AbstractFunctionExecution.getDefaultAsyncExecutor());
+	}
+
+	@Test
+	public void executeStreamingWithFunctionIdAndArgsUsesConfiguredStreamingExecutor() {
+
+		Object[] args = { "test" };
+
+		Stream<Object> results = Stream.of("test");
+
+		Executor executor = Runnable::run;
+
+		when(mockFunctionExecution.setArguments(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(null)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(0L)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.executeStreaming(eq(8), eq(executor))).thenReturn(results);
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setStreamingBufferCapacity(8);
+		functionTemplate.setStreamingExecutor(executor);
+
+		assertThat(functionTemplate.getStreamingExecutor()).isSameAs(executor);
+		assertThat(functionTemplate.executeStreaming("TestFunction", args)).isSameAs(results);
+
+		verify(mockFunctionExecution, times(1)).executeStreaming(eq(8), eq(executor));
+	}
+
+	@Test
+	public void defaultStreamingExecutorIsSharedAndBounded() {
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		Executor streamingExecutor = functionTemplate.getStreamingExecutor();
+
+		assertThat(streamingExecutor).isSameAs(AbstractFunctionExecution.getDefaultStreamingExecutor());
+		assertThat(streamingExecutor).isInstanceOf(ThreadPoolExecutor.class);
+		assertThat(((ThreadPoolExecutor) streamingExecutor).getMaximumPoolSize())
+			.isEqualTo(AbstractFunctionExecution.DEFAULT_STREAMING_MAX_CONCURRENCY);
+		assertThat(((ThreadPoolExecutor) streamingExecutor).getQueue().remainingCapacity())
+			.isLessThanOrEqualTo(AbstractFunctionExecution.DEFAULT_STREAMING_QUEUE_CAPACITY);
+	}
 }
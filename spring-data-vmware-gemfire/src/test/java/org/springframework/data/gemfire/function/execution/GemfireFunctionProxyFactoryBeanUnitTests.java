@@ -6,6 +6,7 @@ package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,13 +15,21 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.data.gemfire.function.annotation.FunctionId;
+import org.springframework.data.gemfire.function.annotation.OnServer;
 
 import org.aopalliance.intercept.MethodInvocation;
 
@@ -87,6 +96,122 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 			.execute("oneArg", invocation.getArguments());
 	}
 
+	@Test
+	public void invokeAsyncReturnsCompletableFutureWithSingleResult() throws Exception {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("oneArgAsync", String.class);
+
+		CompletableFuture<Iterable<Object>> results = new CompletableFuture<>();
+
+		when(this.functionOperations.executeAsync("oneArgAsync", invocation.getArguments()))
+			.thenReturn(results);
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat((CompletableFuture<?>) result).isNotDone();
+
+		results.complete(Collections.singleton(1));
+
+		assertThat(((CompletableFuture<?>) result).get(5, TimeUnit.SECONDS)).isEqualTo(1);
+
+		verify(this.functionOperations, times(1))
+			.executeAsync("oneArgAsync", invocation.getArguments());
+		verify(this.functionOperations, never())
+			.execute("oneArgAsync", invocation.getArguments());
+	}
+
+	@Test
+	public void invokeAsyncReturnsCompletionStageWithAllResults() throws Exception {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("collectionsAsync", List.class);
+
+		when(this.functionOperations.executeAsync("collectionsAsync", invocation.getArguments()))
+			.thenReturn(CompletableFuture.completedFuture(Arrays.asList(1, 2, 3)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletionStage.class);
+		assertThat(((CompletionStage<?>) result).toCompletableFuture().get(5, TimeUnit.SECONDS))
+			.isEqualTo(Arrays.asList(1, 2, 3));
+	}
+
+	@Test
+	public void functionDispatchIsResolvedOncePerMethod() throws Exception {
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Method oneArg = IFoo.class.getMethod("oneArg", String.class);
+		Method oneArgAsync = IFoo.class.getMethod("oneArgAsync", String.class);
+
+		GemfireFunctionProxyFactoryBean.FunctionDispatch dispatch = proxy.getFunctionDispatch(oneArg);
+
+		assertThat(dispatch).isSameAs(proxy.getFunctionDispatch(oneArg));
+		assertThat(dispatch.getFunctionId()).isEqualTo("oneArg");
+		assertThat(dispatch.getFilterArgPosition()).isEqualTo(-1);
+		assertThat(dispatch.isAsync()).isFalse();
+		assertThat(dispatch.isSingleResult()).isFalse();
+		assertThat(proxy.getFunctionDispatch(oneArgAsync).isAsync()).isTrue();
+	}
+
+	@Test
+	public void functionDispatchExtractsSingleResultForOnServerFunctions() throws Exception {
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IBar.class, this.functionOperations);
+
+		assertThat(proxy.getFunctionDispatch(IBar.class.getMethod("single")).isSingleResult()).isTrue();
+	}
+
+	@Test
+	public void invokeResolvesSingleResultWithoutCountingResults() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("oneArg", String.class);
+
+		Iterable<Object> results = new Iterable<Object>() {
+
+			@Override
+			public Iterator<Object> iterator() {
+				return Collections.singleton((Object) 1).iterator();
+			}
+
+			@Override
+			public Spliterator<Object> spliterator() {
+				throw new UnsupportedOperationException("Results must not be counted");
+			}
+		};
+
+		when(this.functionOperations.execute("oneArg", invocation.getArguments())).thenReturn(results);
+
+		assertThat(new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations).invoke(invocation))
+			.isEqualTo(1);
+	}
+
+	@Test
+	public void invokeCopiesResultsIntoSetReturnType() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("set");
+
+		when(this.functionOperations.execute("set", invocation.getArguments()))
+			.thenReturn(Arrays.asList(1, 2, 2));
+
+		Object result = new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations).invoke(invocation);
+
+		assertThat(result).isInstanceOf(Set.class);
+		assertThat(result).isEqualTo(new LinkedHashSet<>(Arrays.asList(1, 2)));
+	}
+
 	@SuppressWarnings("unused")
 	private static class TestMethodInvocation implements MethodInvocation {
 
@@ -161,5 +286,19 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 
 		Map<String, Integer> getMapWithNoArgs();
 
+		CompletableFuture<Integer> oneArgAsync(String key);
+
+		CompletionStage<List<Integer>> collectionsAsync(List<Integer> args);
+
+		Set<Integer> set();
+
+	}
+
+	@OnServer
+	@SuppressWarnings("unused")
+	public interface IBar {
+
+		Integer single();
+
 	}
 }
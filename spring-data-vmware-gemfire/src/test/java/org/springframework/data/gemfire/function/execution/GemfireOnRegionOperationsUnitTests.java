@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for the default asynchronous operations of {@link GemfireFunctionOperations}
+ * and {@link GemfireOnRegionOperations}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations
+ * @see org.springframework.data.gemfire.function.execution.GemfireOnRegionOperations
+ * @since 1.0.1
+ */
+public class GemfireOnRegionOperationsUnitTests {
+
+	private static final String ASYNC_THREAD_NAME_PREFIX = "FunctionExecution-Async-";
+
+	@Test
+	public void executeAsyncWithFunctionIdAndArgsRunsOnDefaultAsyncExecutor() throws Exception {
+
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		GemfireOnRegionOperations operations = mock(GemfireOnRegionOperations.class, CALLS_REAL_METHODS);
+
+		doAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return Collections.singletonList("test");
+		}).when(operations).execute(eq("TestFunction"), eq("arg"));
+
+		assertThat(operations.<Object>executeAsync("TestFunction", "arg").get(5L, TimeUnit.SECONDS))
+			.containsExactly("test");
+		assertThat(threadName.get()).startsWith(ASYNC_THREAD_NAME_PREFIX);
+	}
+
+	@Test
+	public void executeAndExtractAsyncWithFunctionIdKeysAndArgsRunsOnDefaultAsyncExecutor() throws Exception {
+
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		Set<?> keys = Collections.singleton("key");
+
+		GemfireOnRegionOperations operations = mock(GemfireOnRegionOperations.class, CALLS_REAL_METHODS);
+
+		doAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return "test";
+		}).when(operations).executeAndExtract(eq("TestFunction"), eq(keys), eq("arg"));
+
+		assertThat(operations.<Object>executeAndExtractAsync("TestFunction", keys, "arg").get(5L, TimeUnit.SECONDS))
+			.isEqualTo("test");
+		assertThat(threadName.get()).startsWith(ASYNC_THREAD_NAME_PREFIX);
+	}
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 1.0.1
+ */
+public class StreamingResultCollectorUnitTests {
+
+	@Test
+	public void streamsResultsInOrderAndCountsResultsPerMember() {
+
+		DistributedMember mockMemberOne = mock(DistributedMember.class, "MemberOne");
+		DistributedMember mockMemberTwo = mock(DistributedMember.class, "MemberTwo");
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(mockMemberOne, Arrays.asList(1, 2));
+		resultCollector.addResult(mockMemberTwo, Arrays.asList(3, 4));
+		resultCollector.addResult(mockMemberOne, null);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.isComplete()).isTrue();
+		assertThat(resultCollector.getMemberResultCounts())
+			.containsEntry(mockMemberOne, 2L)
+			.containsEntry(mockMemberTwo, 1L);
+		assertThat(resultCollector.stream().collect(Collectors.toList()))
+			.containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4), null);
+	}
+
+	@Test
+	public void streamsResultsWhileFunctionIsExecuting() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>("TestFunction", 2, 0L);
+
+		CountDownLatch firstResultConsumed = new CountDownLatch(1);
+
+		Thread sender = new Thread(() -> {
+			try {
+				resultCollector.addResult(null, 1);
+				firstResultConsumed.await(5, TimeUnit.SECONDS);
+				for (int result = 2; result <= 5; result++) {
+					resultCollector.addResult(null, result);
+				}
+				resultCollector.endResults();
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		sender.start();
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo(1);
+
+		firstResultConsumed.countDown();
+
+		assertThat(results.next()).isEqualTo(2);
+		assertThat(results.next()).isEqualTo(3);
+		assertThat(results.next()).isEqualTo(4);
+		assertThat(results.next()).isEqualTo(5);
+		assertThat(results.hasNext()).isFalse();
+
+		sender.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(sender.isAlive()).isFalse();
+	}
+
+	@Test
+	public void closeReleasesSenderWaitingOnFullBuffer() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>("TestFunction", 1, 0L);
+
+		Thread sender = new Thread(() -> {
+			for (int result = 1; result <= 10; result++) {
+				resultCollector.addResult(null, result);
+			}
+			resultCollector.endResults();
+		});
+
+		sender.start();
+
+		try (Stream<Integer> results = resultCollector.stream()) {
+			assertThat(results.findFirst()).hasValue(1);
+		}
+
+		sender.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(resultCollector.isClosed()).isTrue();
+		assertThat(sender.isAlive()).isFalse();
+	}
+
+	@Test
+	public void producerThreadWaitsOnFullBufferForSlowConsumer() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>("TestFunction", 2, 0L);
+
+		AtomicInteger addedResultCount = new AtomicInteger(0);
+
+		Thread producer = new Thread(() -> {
+			resultCollector.bindProducerThread(Thread.currentThread());
+			for (int result = 1; result <= 10; result++) {
+				resultCollector.addResult(null, result);
+				addedResultCount.incrementAndGet();
+			}
+			resultCollector.endResults();
+		});
+
+		producer.start();
+		producer.join(250L);
+
+		assertThat(producer.isAlive()).isTrue();
+		assertThat(addedResultCount.get()).isEqualTo(2);
+
+		List<Integer> results = new ArrayList<>();
+
+		for (Iterator<Integer> iterator = resultCollector.iterator(); iterator.hasNext(); ) {
+			results.add(iterator.next());
+			Thread.sleep(10L);
+		}
+
+		producer.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(results).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		assertThat(producer.isAlive()).isFalse();
+	}
+
+	@Test
+	public void resultsFromOtherThreadsSpillOverFullBufferForSlowConsumer() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>("TestFunction", 2, 0L);
+
+		Thread producer = new Thread(() -> resultCollector.bindProducerThread(Thread.currentThread()));
+
+		producer.start();
+		producer.join(TimeUnit.SECONDS.toMillis(5));
+
+		// Simulates a GemFire message Thread delivering results from a remote member in a peer Execution
+		Thread messageThread = new Thread(() -> {
+			for (int result = 1; result <= 10; result++) {
+				resultCollector.addResult(null, result);
+			}
+			resultCollector.endResults();
+		});
+
+		messageThread.start();
+		messageThread.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertThat(messageThread.isAlive()).isFalse();
+
+		List<Integer> results = new ArrayList<>();
+
+		for (Iterator<Integer> iterator = resultCollector.iterator(); iterator.hasNext(); ) {
+			results.add(iterator.next());
+			Thread.sleep(10L);
+		}
+
+		assertThat(results).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+	}
+
+	@Test
+	public void throwableResultIsRethrownAsFunctionException() {
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>("TestFunction", 4, 0L);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.addResult(null, cause);
+		resultCollector.endResults();
+
+		Iterator<Object> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo("one");
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::next)
+			.withMessage("Execution of Function [TestFunction] failed")
+			.withCause(cause);
+	}
+
+	@Test
+	public void failedExecutionIsRethrownAfterPreviousResults() {
+
+		FunctionException cause = new FunctionException("TEST");
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>("TestFunction", 4, 0L);
+
+		resultCollector.addResult(null, "one");
+		resultCollector.fail(cause);
+
+		Iterator<Object> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo("one");
+		assertThatExceptionOfType(FunctionException.class).isThrownBy(results::hasNext).isSameAs(cause);
+		assertThat(resultCollector.isComplete()).isTrue();
+	}
+
+	@Test
+	public void timeoutWaitingForNextResult() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		Iterator<Object> results = resultCollector.getResult(50L, TimeUnit.MILLISECONDS).iterator();
+
+		assertThatExceptionOfType(ExecutionTimeoutFunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Failed to collect Function [unknown] results in the configured timeout [50 ms]");
+
+		assertThat(resultCollector.isClosed()).isTrue();
+	}
+
+	@Test
+	public void clearResultsDiscardsBufferedResultsBeforeConsumption() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.addResult(mock(DistributedMember.class), "stale");
+		resultCollector.clearResults();
+		resultCollector.addResult(null, "fresh");
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getMemberResultCounts()).isEmpty();
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly("fresh");
+	}
+
+	@Test
+	public void clearResultsAfterConsumptionFailsResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>("TestFunction", 4, 0L);
+
+		resultCollector.addResult(null, "one");
+
+		Iterator<Object> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo("one");
+
+		resultCollector.clearResults();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Function [TestFunction] was re-executed after results were consumed");
+	}
+
+	@Test
+	public void resultsCanOnlyBeConsumedOnce() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		assertThat(resultCollector.iterator()).isNotNull();
+		assertThatIllegalStateException().isThrownBy(resultCollector::stream)
+			.withMessage("Function results can only be consumed once");
+	}
+}
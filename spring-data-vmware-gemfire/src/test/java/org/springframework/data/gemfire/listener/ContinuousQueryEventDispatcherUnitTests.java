@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit Tests for {@link ContinuousQueryEventDispatcher}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryEventDispatcher
+ * @since 1.0.1
+ */
+public class ContinuousQueryEventDispatcherUnitTests {
+
+	private ContinuousQueryEventDispatcher dispatcher;
+
+	@After
+	public void tearDown() throws Exception {
+
+		if (this.dispatcher != null) {
+			this.dispatcher.destroy();
+		}
+	}
+
+	@Test
+	public void dispatchPreservesOrderPerLane() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 4, 1000,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		int eventCount = 500;
+
+		CountDownLatch latch = new CountDownLatch(eventCount * 2);
+
+		List<Integer> laneOneEvents = Collections.synchronizedList(new ArrayList<>());
+		List<Integer> laneTwoEvents = Collections.synchronizedList(new ArrayList<>());
+
+		for (int index = 0; index < eventCount; index++) {
+
+			int event = index;
+
+			assertThat(this.dispatcher.dispatch("CqOne", () -> {
+				laneOneEvents.add(event);
+				latch.countDown();
+			})).isTrue();
+
+			assertThat(this.dispatcher.dispatch("CqTwo", () -> {
+				laneTwoEvents.add(event);
+				latch.countDown();
+			})).isTrue();
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(laneOneEvents).hasSize(eventCount);
+		assertThat(laneTwoEvents).hasSize(eventCount);
+
+		for (int index = 0; index < eventCount; index++) {
+			assertThat(laneOneEvents.get(index)).isEqualTo(index);
+			assertThat(laneTwoEvents.get(index)).isEqualTo(index);
+		}
+
+		assertThat(this.dispatcher.getDispatchedEventCount()).isEqualTo(eventCount * 2L);
+		assertThat(this.dispatcher.getDroppedEventCount()).isZero();
+		assertThat(this.dispatcher.getMaxDispatchLatency()).isGreaterThanOrEqualTo(
+			this.dispatcher.getAverageDispatchLatency());
+	}
+
+	@Test
+	public void dispatchNeverRunsEventsForTheSameLaneConcurrently() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 8, 1000,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		AtomicBoolean concurrent = new AtomicBoolean(false);
+		AtomicInteger active = new AtomicInteger(0);
+
+		CountDownLatch latch = new CountDownLatch(200);
+
+		for (int index = 0; index < 200; index++) {
+			this.dispatcher.dispatch("Cq", () -> {
+
+				if (active.incrementAndGet() > 1) {
+					concurrent.set(true);
+				}
+
+				Thread.yield();
+				active.decrementAndGet();
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(concurrent.get()).isFalse();
+	}
+
+	@Test
+	public void dispatchDropsEventsWhenQueueIsFull() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 1, 2,
+			ContinuousQueryEventDispatcher.OverflowPolicy.DROP);
+
+		CountDownLatch blocking = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+
+		assertThat(this.dispatcher.dispatch("Cq", () -> {
+			running.countDown();
+			awaitQuietly(blocking);
+		})).isTrue();
+
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(this.dispatcher.dispatch("Cq", () -> {})).isTrue();
+		assertThat(this.dispatcher.dispatch("Cq", () -> {})).isTrue();
+		assertThat(this.dispatcher.dispatch("Cq", () -> {})).isFalse();
+
+		assertThat(this.dispatcher.getQueueDepth()).isEqualTo(2);
+		assertThat(this.dispatcher.getDroppedEventCount()).isEqualTo(1L);
+
+		blocking.countDown();
+	}
+
+	@Test
+	public void dispatchBlocksWhenQueueIsFull() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 1, 1,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		CountDownLatch blocking = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch dispatched = new CountDownLatch(1);
+
+		this.dispatcher.dispatch("Cq", () -> {
+			running.countDown();
+			awaitQuietly(blocking);
+		});
+
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+		this.dispatcher.dispatch("Cq", () -> {});
+
+		Thread producer = new Thread(() -> {
+			this.dispatcher.dispatch("Cq", () -> {});
+			dispatched.countDown();
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+
+		assertThat(dispatched.await(200, TimeUnit.MILLISECONDS)).isFalse();
+
+		blocking.countDown();
+
+		assertThat(dispatched.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(this.dispatcher.getDroppedEventCount()).isZero();
+	}
+
+	@Test
+	public void dispatchAfterDestroyDropsEvent() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 1, 10,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		this.dispatcher.destroy();
+
+		assertThat(this.dispatcher.dispatch("Cq", () -> {})).isFalse();
+		assertThat(this.dispatcher.getDroppedEventCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void dispatchReportsTasksRejectedByExecutor() {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 1, 10,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		ExecutorService executorService =
+			(ExecutorService) ReflectionTestUtils.getField(this.dispatcher, "executorService");
+
+		assertThat(executorService).isNotNull();
+
+		executorService.shutdown();
+
+		assertThat(this.dispatcher.dispatch("Cq", () -> {})).isFalse();
+		assertThat(this.dispatcher.dispatch(null, () -> {})).isFalse();
+		assertThat(this.dispatcher.getDroppedEventCount()).isEqualTo(2L);
+		assertThat(this.dispatcher.getQueueDepth()).isZero();
+		assertThat(this.dispatcher.getLaneCount()).isZero();
+	}
+
+	@Test
+	public void drainedLanesAreRemoved() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", 4, 1000,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		int laneCount = 100;
+
+		CountDownLatch latch = new CountDownLatch(laneCount * 5);
+
+		for (int event = 0; event < 5; event++) {
+			for (int lane = 0; lane < laneCount; lane++) {
+				assertThat(this.dispatcher.dispatch("Cq" + lane, latch::countDown)).isTrue();
+			}
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		while (this.dispatcher.getLaneCount() > 0 && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10L);
+		}
+
+		assertThat(this.dispatcher.getLaneCount()).isZero();
+		assertThat(this.dispatcher.getDispatchedEventCount()).isEqualTo(laneCount * 5L);
+	}
+
+	@Test
+	public void virtualThreadsFallBackToPlatformThreadsWhenUnsupported() throws Exception {
+
+		this.dispatcher = new ContinuousQueryEventDispatcher("TestCqDispatcher-", true, 1, 10,
+			ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK);
+
+		boolean virtualThreadsSupported = Runtime.version().feature() >= 21;
+
+		assertThat(this.dispatcher.isVirtualThreads()).isEqualTo(virtualThreadsSupported);
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		this.dispatcher.execute(latch::countDown);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void constructWithInvalidQueueCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ContinuousQueryEventDispatcher("TestCqDispatcher-", 1, 0,
+				ContinuousQueryEventDispatcher.OverflowPolicy.BLOCK))
+			.withMessage("Queue capacity [0] must be greater than 0");
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -24,7 +24,13 @@ import static org.mockito.Mockito.when;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.geode.cache.query.ExcludedEvent;
 import org.junit.Before;
@@ -38,6 +44,7 @@ import org.apache.geode.cache.client.Pool;
 import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqException;
+import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
 import org.apache.geode.cache.query.CqState;
 import org.apache.geode.cache.query.QueryException;
@@ -508,6 +515,203 @@ public class ContinuousQueryListenerContainerUnitTests {
 		assertThat(cqListenerContainer.initExecutor()).isInstanceOf(Executor.class);
 	}
 
+	@Test
+	public void initializesConfiguredDefaultContinuousQueryEventDispatcher() throws Exception {
+
+		cqListenerContainer.setMaxConcurrency(2);
+		cqListenerContainer.setOverflowPolicy(ContinuousQueryEventDispatcher.OverflowPolicy.DROP);
+		cqListenerContainer.setQueueCapacity(100);
+
+		Executor taskExecutor = cqListenerContainer.initExecutor();
+
+		assertThat(taskExecutor).isInstanceOf(ContinuousQueryEventDispatcher.class);
+
+		ContinuousQueryEventDispatcher dispatcher = (ContinuousQueryEventDispatcher) taskExecutor;
+
+		assertThat(dispatcher.getOverflowPolicy()).isEqualTo(ContinuousQueryEventDispatcher.OverflowPolicy.DROP);
+		assertThat(dispatcher.getQueueCapacity()).isEqualTo(100);
+		assertThat(dispatcher.isVirtualThreads()).isFalse();
+
+		dispatcher.destroy();
+	}
+
+	@Test
+	public void dispatchEventUsesContinuousQueryEventDispatcherLanePerCq() {
+
+		ContinuousQueryEventDispatcher mockDispatcher = mock(ContinuousQueryEventDispatcher.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		}).when(mockDispatcher).dispatch(any(), any());
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		CqQuery mockQuery = mock(CqQuery.class);
+
+		when(mockEvent.getCq()).thenReturn(mockQuery);
+
+		cqListenerContainer.setTaskExecutor(mockDispatcher);
+		cqListenerContainer.dispatchEvent(mockListener, mockEvent);
+
+		verify(mockDispatcher, times(1)).dispatch(eq(mockQuery), isA(Runnable.class));
+		verify(mockDispatcher, never()).execute(any());
+		verify(mockListener, times(1)).onEvent(eq(mockEvent));
+	}
+
+	@Test
+	public void newCqListenerWithBatchingDisabledReturnsEventDispatcherAdapter() {
+
+		BatchingContinuousQueryListener mockListener = mock(BatchingContinuousQueryListener.class);
+
+		assertThat(cqListenerContainer.isBatching()).isFalse();
+		assertThat(cqListenerContainer.newCqListener(mockListener))
+			.isNotInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+
+		cqListenerContainer.setBatchSize(10);
+
+		assertThat(cqListenerContainer.isBatching()).isTrue();
+		assertThat(cqListenerContainer.newCqListener(mock(ContinuousQueryListener.class)))
+			.isNotInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+	}
+
+	@Test
+	public void batchingCqListenerDispatchesFullBatch() {
+
+		BatchingContinuousQueryListener mockListener = mock(BatchingContinuousQueryListener.class);
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+		CqEvent mockEventThree = mock(CqEvent.class);
+
+		cqListenerContainer.setBatchSize(2);
+		cqListenerContainer.setBatchTimeInterval(60_000);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		try {
+
+			CqListener cqListener = cqListenerContainer.newCqListener(mockListener);
+
+			assertThat(cqListener).isInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+
+			cqListener.onEvent(mockEventOne);
+
+			verify(mockListener, never()).onEvents(any());
+
+			cqListener.onEvent(mockEventTwo);
+			cqListener.onEvent(mockEventThree);
+
+			verify(mockListener, times(1)).onEvents(eq(Arrays.asList(mockEventOne, mockEventTwo)));
+			verify(mockListener, never()).onEvents(eq(Arrays.asList(mockEventThree)));
+
+			cqListener.close();
+
+			verify(mockListener, times(1)).onEvents(eq(Arrays.asList(mockEventThree)));
+			verify(mockListener, never()).onEvent(any());
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchingCqListenerDispatchesIncompleteBatchAfterBatchTimeInterval() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(1);
+
+		List<CqEvent> receivedEvents = new CopyOnWriteArrayList<>();
+
+		BatchingContinuousQueryListener listener = events -> {
+			receivedEvents.addAll(events);
+			latch.countDown();
+		};
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+
+		cqListenerContainer.setBatchSize(100);
+		cqListenerContainer.setBatchTimeInterval(50);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		try {
+
+			CqListener cqListener = cqListenerContainer.newCqListener(listener);
+
+			cqListener.onEvent(mockEventOne);
+			cqListener.onError(mockEventTwo);
+
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(receivedEvents).containsExactly(mockEventOne, mockEventTwo);
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchingCqListenerDoesNotBlockAddingEventsWhileDispatching() throws Exception {
+
+		CountDownLatch dispatching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<List<CqEvent>> receivedBatches = new CopyOnWriteArrayList<>();
+
+		BatchingContinuousQueryListener listener = events -> {
+			receivedBatches.add(events);
+			dispatching.countDown();
+
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		};
+
+		CqEvent mockEventOne = mock(CqEvent.class);
+		CqEvent mockEventTwo = mock(CqEvent.class);
+		CqEvent mockEventThree = mock(CqEvent.class);
+		CqEvent mockEventFour = mock(CqEvent.class);
+
+		cqListenerContainer.setBatchSize(2);
+		cqListenerContainer.setBatchTimeInterval(60_000);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+		try {
+
+			CqListener cqListener = cqListenerContainer.newCqListener(listener);
+
+			Future<?> first = executorService.submit(() -> {
+				cqListener.onEvent(mockEventOne);
+				cqListener.onEvent(mockEventTwo);
+			});
+
+			assertThat(dispatching.await(5, TimeUnit.SECONDS)).isTrue();
+
+			executorService.submit(() -> {
+				cqListener.onEvent(mockEventThree);
+				cqListener.onEvent(mockEventFour);
+			}).get(5, TimeUnit.SECONDS);
+
+			assertThat(receivedBatches).containsExactly(Arrays.asList(mockEventOne, mockEventTwo));
+
+			release.countDown();
+			first.get(5, TimeUnit.SECONDS);
+
+			assertThat(receivedBatches).containsExactly(Arrays.asList(mockEventOne, mockEventTwo),
+				Arrays.asList(mockEventThree, mockEventFour));
+		}
+		finally {
+			release.countDown();
+			executorService.shutdownNow();
+			cqListenerContainer.destroy();
+		}
+	}
+
 	@Test
 	public void setAndGetAutoStartup() {
 
@@ -16,6 +16,11 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -23,6 +28,7 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
 
+import org.springframework.data.gemfire.listener.BatchingContinuousQueryListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
 
 /**
@@ -43,6 +49,8 @@ public class QueryListenerAdapterUnitTests {
 
 		void handleEvent(CqEvent event);
 
+		void handleEvents(List<CqEvent> events);
+
 		void handleQuery(CqQuery query);
 
 		void handleOperation(Operation op);
@@ -73,6 +81,20 @@ public class QueryListenerAdapterUnitTests {
 		}
 	}
 
+	@SuppressWarnings("unused")
+	static class OverloadedDelegate {
+
+		final List<Object> keys = new ArrayList<>();
+
+		public void handle(CqEvent event) {
+			this.keys.add(event.getKey());
+		}
+
+		public void handle(Object key) {
+			this.keys.add(key);
+		}
+	}
+
 	static CqEvent event() {
 
 		return new CqEvent() {
@@ -190,6 +212,176 @@ public class QueryListenerAdapterUnitTests {
 		verify(mockDelegate, times(1)).handleEvent(same(event));
 	}
 
+	@Test
+	public void handlesCqEventBatch() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		List<CqEvent> events = Arrays.asList(event(), event());
+
+		cqListenerAdapter.setDefaultListenerMethod("handleEvents");
+		cqListenerAdapter.onEvents(events);
+
+		verify(mockDelegate, times(1)).handleEvents(same(events));
+	}
+
+	@Test
+	public void handlesCqEventAsBatchOfOne() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		CqEvent event = event();
+
+		cqListenerAdapter.setDefaultListenerMethod("handleEvents");
+		cqListenerAdapter.onEvent(event);
+
+		verify(mockDelegate, times(1)).handleEvents(eq(Collections.singletonList(event)));
+	}
+
+	@Test
+	public void handlesCqEventBatchWithCqEventHandlerPerEvent() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate);
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo));
+
+		verify(mockDelegate, times(1)).handleEvent(same(eventOne));
+		verify(mockDelegate, times(1)).handleEvent(same(eventTwo));
+		verify(mockDelegate, never()).handleEvents(any());
+	}
+
+	@Test
+	public void adapterWithBatchingListenerOnEventsIsCorrect() {
+
+		BatchingContinuousQueryListener mockCqListener = mock(BatchingContinuousQueryListener.class);
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockCqListener);
+
+		List<CqEvent> events = Arrays.asList(event(), event());
+
+		cqListenerAdapter.onEvents(events);
+
+		verify(mockCqListener, times(1)).onEvents(same(events));
+	}
+
+	@Test
+	public void adapterWithListenerOnEventsNotifiesListenerPerEvent() {
+
+		SampleListener listener = new SampleListener();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(listener);
+
+		cqListenerAdapter.onEvents(Arrays.asList(event(), event(), event()));
+
+		assertThat(listener.count).isEqualTo(3);
+	}
+
+	@Test
+	public void handlesCqEventBatchWithFailingCqEventHandlerPerEvent() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+		CqEvent eventThree = event();
+
+		doAnswer(invocation -> { throw new IllegalStateException("TEST"); })
+			.when(mockDelegate).handleEvent(same(eventOne));
+
+		List<Throwable> exceptions = new ArrayList<>();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate) {
+
+			@Override
+			protected void handleListenerException(Throwable cause) {
+				exceptions.add(cause);
+			}
+		};
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo, eventThree));
+
+		verify(mockDelegate, times(1)).handleEvent(same(eventOne));
+		verify(mockDelegate, times(1)).handleEvent(same(eventTwo));
+		verify(mockDelegate, times(1)).handleEvent(same(eventThree));
+
+		assertThat(exceptions).hasSize(1);
+		assertThat(exceptions.get(0)).hasRootCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void handlesCqEventBatchWithOverriddenInvokeListenerMethodPerEvent() {
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		List<CqEvent> invokedEvents = new ArrayList<>();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(mockDelegate) {
+
+			@Override
+			protected void invokeListenerMethod(CqEvent event, String methodName) {
+				invokedEvents.add(event);
+				super.invokeListenerMethod(event, methodName);
+			}
+		};
+
+		List<CqEvent> events = Arrays.asList(event(), event());
+
+		cqListenerAdapter.onEvents(events);
+
+		assertThat(invokedEvents).containsExactlyElementsOf(events);
+		verify(mockDelegate, times(2)).handleEvent(any(CqEvent.class));
+	}
+
+	@Test
+	public void invokesCqEventHandlersEventMajor() {
+
+		OverloadedDelegate delegate = new OverloadedDelegate();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(delegate);
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+
+		cqListenerAdapter.setDefaultListenerMethod("handle");
+		cqListenerAdapter.onEvent(eventOne);
+
+		delegate.keys.clear();
+
+		cqListenerAdapter.invokeListenerMethod(Arrays.asList(eventOne, eventTwo), "handle");
+
+		assertThat(delegate.keys).containsExactly(eventOne.getKey(), eventOne.getKey(),
+			eventTwo.getKey(), eventTwo.getKey());
+	}
+
+	@Test
+	public void adapterWithFailingListenerOnEventsNotifiesListenerForRemainingEvents() {
+
+		ContinuousQueryListener mockCqListener = mock(ContinuousQueryListener.class);
+
+		CqEvent eventOne = event();
+		CqEvent eventTwo = event();
+
+		doAnswer(invocation -> { throw new IllegalStateException("TEST"); })
+			.when(mockCqListener).onEvent(same(eventOne));
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockCqListener));
+
+		cqListenerAdapter.onEvents(Arrays.asList(eventOne, eventTwo));
+
+		verify(mockCqListener, times(1)).onEvent(same(eventOne));
+		verify(mockCqListener, times(1)).onEvent(same(eventTwo));
+		verify(cqListenerAdapter, times(1)).handleListenerException(isA(IllegalStateException.class));
+	}
+
 	@Test
 	public void handlesCqQuery() {
 
@@ -455,6 +455,92 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.resolveCustomPdxSerializer(addressProperty)).isEqualTo(mockTypedSerializer);
 	}
 
+	@Test
+	public void getCodecPlanComputesPlanForEntity() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxCodecPlan codecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		assertThat(codecPlan).isNotNull();
+		assertThat(codecPlan.getEntity()).isSameAs(personEntity);
+		assertThat(codecPlan.getIdentityFieldName()).isEqualTo("id");
+		assertThat(codecPlan.getReadableProperties()).extracting(PdxCodecPlan.PropertyCodec::getName)
+			.containsExactlyInAnyOrder("id", "firstname", "lastname", "address");
+
+		for (PdxCodecPlan.PropertyCodec propertyCodec : codecPlan.getReadableProperties()) {
+			if ("address".equals(propertyCodec.getName())) {
+				assertThat(propertyCodec.getCustomPdxSerializer()).isSameAs(mockAddressSerializer);
+				assertThat(propertyCodec.getType()).isEqualTo(Address.class);
+			}
+			else {
+				assertThat(propertyCodec.getCustomPdxSerializer()).isNull();
+			}
+		}
+	}
+
+	@Test
+	public void getCodecPlanIsCached() {
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxCodecPlan codecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		assertThat(this.pdxSerializer.getCodecPlan(personEntity)).isSameAs(codecPlan);
+
+		verify(this.pdxSerializer, times(1)).newCodecPlan(eq(personEntity));
+	}
+
+	@Test
+	public void registerInvalidatesCodecPlans() {
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxCodecPlan codecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		this.pdxSerializer.register((customPdxSerializers, property) -> null);
+
+		assertThat(this.pdxSerializer.getCodecPlan(personEntity)).isNotSameAs(codecPlan);
+
+		verify(this.pdxSerializer, times(2)).newCodecPlan(eq(personEntity));
+	}
+
+	@Test
+	public void setCustomPdxSerializersInvalidatesCodecPlans() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxCodecPlan codecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		PdxCodecPlan newCodecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		assertThat(newCodecPlan).isNotSameAs(codecPlan);
+		assertThat(newCodecPlan.getReadableProperties()).extracting(PdxCodecPlan.PropertyCodec::getCustomPdxSerializer)
+			.contains(mockAddressSerializer);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void toDataResolvesCustomPdxSerializersOncePerEntity() {
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.toData(new Person(1L, "Jon", "Doe"), this.mockWriter)).isTrue();
+		assertThat(this.pdxSerializer.toData(new Person(2L, "Jane", "Doe"), this.mockWriter)).isTrue();
+
+		verify(this.pdxSerializer, times(1)).newCodecPlan(any(GemfirePersistentEntity.class));
+		verify(this.pdxSerializer, times(4)).resolveCustomPdxSerializer(any(PersistentProperty.class));
+		verify(this.mockWriter, times(2)).markIdentityField(eq("id"));
+	}
+
 	@Test
 	@SuppressWarnings("rawtypes")
 	public void resolveEntityInstantiatorForManagedPersistentEntityWithEntityInstantiator() {
@@ -677,6 +763,46 @@ public class MappingPdxSerializerUnitTests {
 			.doFromData(eq(Principal.class), eq(this.mockReader));
 	}
 
+	@Test
+	public void fromDataEvaluatesTypeFiltersOncePerType() {
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Account.class.equals(type));
+
+		doReturn("test").when(this.pdxSerializer).doFromData(any(Class.class), any(PdxReader.class));
+
+		assertThat(this.pdxSerializer.fromData(Account.class, this.mockReader)).isEqualTo("test");
+		assertThat(this.pdxSerializer.fromData(Account.class, this.mockReader)).isEqualTo("test");
+		assertThat(this.pdxSerializer.fromData(Principal.class, this.mockReader)).isNull();
+		assertThat(this.pdxSerializer.fromData(Principal.class, this.mockReader)).isNull();
+
+		verify(this.pdxSerializer, times(2)).getTypeFilters();
+		verify(this.pdxSerializer, times(2)).doFromData(eq(Account.class), eq(this.mockReader));
+	}
+
+	@Test
+	public void setIncludeTypeFiltersResetsCachedTypeFilterResults() {
+
+		doReturn("test").when(this.pdxSerializer).doFromData(any(Class.class), any(PdxReader.class));
+
+		assertThat(this.pdxSerializer.fromData(Principal.class, this.mockReader)).isNull();
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Principal.class.equals(type));
+
+		assertThat(this.pdxSerializer.fromData(Principal.class, this.mockReader)).isEqualTo("test");
+	}
+
+	@Test
+	public void setExcludeTypeFiltersResetsCachedTypeFilterResults() {
+
+		doReturn("test").when(this.pdxSerializer).doFromData(any(Class.class), any(PdxReader.class));
+
+		assertThat(this.pdxSerializer.fromData(MockitoJUnitRunner.class, this.mockReader)).isEqualTo("test");
+
+		this.pdxSerializer.setExcludeTypeFilters(type -> !MockitoJUnitRunner.class.equals(type));
+
+		assertThat(this.pdxSerializer.fromData(MockitoJUnitRunner.class, this.mockReader)).isNull();
+	}
+
 	@Test
 	public void fromDataWithTypeFilterFiltersApacheGeodeTypesReturnsNull() {
 		assertThat(this.pdxSerializer.fromData(org.apache.geode.cache.EntryEvent.class, this.mockReader)).isNull();
@@ -875,6 +1001,144 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.toData(new ApplicationDomainType(), this.mockWriter)).isFalse();
 	}
 
+	@Test
+	public void setTypedFieldAccessInvalidatesCodecPlans() {
+
+		GemfirePersistentEntity<?> personEntity = this.mappingContext.getPersistentEntity(Person.class);
+
+		PdxCodecPlan codecPlan = this.pdxSerializer.getCodecPlan(personEntity);
+
+		assertThat(this.pdxSerializer.isTypedFieldAccess()).isFalse();
+
+		this.pdxSerializer.setTypedFieldAccess(true);
+
+		assertThat(this.pdxSerializer.isTypedFieldAccess()).isTrue();
+		assertThat(this.pdxSerializer.getCodecPlan(personEntity)).isNotSameAs(codecPlan);
+	}
+
+	@Test
+	public void toDataWithTypedFieldAccessUsesTypedPdxWriterMethods() {
+
+		Measurement measurement = new Measurement();
+
+		measurement.setId(1L);
+		measurement.setCount(2);
+		measurement.setValue(3.5d);
+		measurement.name = "test";
+		measurement.samples = new long[] { 4L, 5L };
+		measurement.unit = 6;
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Measurement.class.equals(type));
+		this.pdxSerializer.setTypedFieldAccess(true);
+
+		assertThat(this.pdxSerializer.toData(measurement, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeLong(eq("id"), eq(1L));
+		verify(this.mockWriter, times(1)).writeInt(eq("count"), eq(2));
+		verify(this.mockWriter, times(1)).writeDouble(eq("value"), eq(3.5d));
+		verify(this.mockWriter, times(1)).writeString(eq("name"), eq("test"));
+		verify(this.mockWriter, times(1)).writeLongArray(eq("samples"), eq(new long[] { 4L, 5L }));
+		verify(this.mockWriter, times(1)).writeField(eq("unit"), eq(6), eq(Integer.class));
+		verify(this.mockWriter, times(1)).markIdentityField(eq("id"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void fromDataWithTypedFieldAccessUsesTypedPdxReaderMethods() {
+
+		when(this.mockReader.readLong(eq("id"))).thenReturn(1L);
+		when(this.mockReader.readInt(eq("count"))).thenReturn(2);
+		when(this.mockReader.readDouble(eq("value"))).thenReturn(3.5d);
+		when(this.mockReader.readString(eq("name"))).thenReturn("test");
+		when(this.mockReader.readLongArray(eq("samples"))).thenReturn(new long[] { 4L, 5L });
+		when(this.mockReader.readField(eq("unit"))).thenReturn(6);
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Measurement.class.equals(type));
+		this.pdxSerializer.setTypedFieldAccess(true);
+
+		Object obj = this.pdxSerializer.fromData(Measurement.class, this.mockReader);
+
+		assertThat(obj).isInstanceOf(Measurement.class);
+
+		Measurement measurement = (Measurement) obj;
+
+		assertThat(measurement.getId()).isEqualTo(1L);
+		assertThat(measurement.getCount()).isEqualTo(2);
+		assertThat(measurement.getValue()).isEqualTo(3.5d);
+		assertThat(measurement.name).isEqualTo("test");
+		assertThat(measurement.samples).containsExactly(4L, 5L);
+		assertThat(measurement.unit).isEqualTo(6);
+
+		verify(this.mockReader, never()).readField(eq("id"));
+		verify(this.mockReader, never()).readField(eq("count"));
+		verify(this.mockReader, never()).readField(eq("value"));
+	}
+
+	@Test(expected = MappingException.class)
+	public void toDataWithTypedFieldAccessHandlesException() {
+
+		Measurement measurement = new Measurement();
+
+		measurement.setCount(2);
+
+		when(this.mockWriter.writeInt(eq("count"), eq(2))).thenThrow(newIllegalArgumentException("test"));
+
+		try {
+			this.pdxSerializer.setIncludeTypeFilters(type -> Measurement.class.equals(type));
+			this.pdxSerializer.setTypedFieldAccess(true);
+			this.pdxSerializer.toData(measurement, this.mockWriter);
+		}
+		catch (MappingException expected) {
+
+			assertThat(expected).hasMessageStartingWith("An error occurred while serializing entity [%1$s] property [count]",
+				Measurement.class.getName());
+			assertThat(expected).hasCauseInstanceOf(IllegalArgumentException.class);
+			assertThat(expected.getCause()).hasMessage("test");
+
+			throw expected;
+		}
+	}
+
 	private static class ApplicationDomainType { }
 
+	@SuppressWarnings("unused")
+	static class Measurement {
+
+		@org.springframework.data.annotation.Id
+		private long id;
+
+		private int count;
+
+		private double value;
+
+		private String name;
+
+		private long[] samples;
+
+		private Integer unit;
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public int getCount() {
+			return this.count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public double getValue() {
+			return this.value;
+		}
+
+		public void setValue(double value) {
+			this.value = value;
+		}
+	}
 }
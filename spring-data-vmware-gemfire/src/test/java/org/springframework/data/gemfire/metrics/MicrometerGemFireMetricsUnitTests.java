@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.data.repository.Repository;
+
+/**
+ * Unit Tests for {@link MicrometerGemFireMetrics}.
+ *
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.data.gemfire.metrics.MicrometerGemFireMetrics
+ * @since 1.0.1
+ */
+public class MicrometerGemFireMetricsUnitTests {
+
+	private MeterRegistry meterRegistry;
+
+	private MicrometerGemFireMetrics metrics;
+
+	@Before
+	public void setup() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.metrics = new MicrometerGemFireMetrics(this.meterRegistry);
+	}
+
+	@Test
+	public void constructWithNullMeterRegistryThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new MicrometerGemFireMetrics(null))
+			.withMessage("MeterRegistry must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void isDisabledForEmptyCompositeMeterRegistry() {
+
+		CompositeMeterRegistry compositeMeterRegistry = new CompositeMeterRegistry();
+
+		MicrometerGemFireMetrics metrics = new MicrometerGemFireMetrics(compositeMeterRegistry);
+
+		assertThat(metrics.isEnabled()).isFalse();
+		assertThat(metrics.startFunctionExecution("TestFunction")).isSameAs(GemFireMetrics.Sample.NOOP);
+
+		compositeMeterRegistry.add(this.meterRegistry);
+
+		assertThat(metrics.isEnabled()).isTrue();
+		assertThat(metrics.startFunctionExecution("TestFunction")).isNotSameAs(GemFireMetrics.Sample.NOOP);
+	}
+
+	@Test
+	public void recordsSuccessfulRegionOperation() {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn("Example");
+
+		GemFireMetrics.Sample sample = this.metrics.startRegionOperation(mockRegion, "getAll");
+
+		sample.succeeded(3L);
+		sample.payloadSize(128L);
+		sample.stop();
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME)
+			.tag("region", "Example")
+			.tag("operation", "getAll")
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.SUCCESS_OUTCOME)
+			.timer().count()).isOne();
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME
+			+ MicrometerGemFireMetrics.RESULTS_METER_NAME_SUFFIX).summary().totalAmount()).isEqualTo(3.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REGION_OPERATIONS_METER_NAME
+			+ MicrometerGemFireMetrics.PAYLOAD_METER_NAME_SUFFIX).summary().totalAmount()).isEqualTo(128.0d);
+	}
+
+	@Test
+	public void recordsSampleStoppedWithoutSuccessAsFailure() {
+
+		GemFireMetrics.Sample sample = this.metrics.startRepositoryInvocation(TestRepository.class, "findById");
+
+		sample.stop();
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_INVOCATIONS_METER_NAME)
+			.tag("repository", "TestRepository")
+			.tag("method", "findById")
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.FAILURE_OUTCOME)
+			.timer().count()).isOne();
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_INVOCATIONS_METER_NAME)
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.SUCCESS_OUTCOME)
+			.timer().count()).isZero();
+
+		assertThat(this.meterRegistry.find(MicrometerGemFireMetrics.REPOSITORY_INVOCATIONS_METER_NAME
+			+ MicrometerGemFireMetrics.RESULTS_METER_NAME_SUFFIX).summary()).isNull();
+	}
+
+	@Test
+	public void reusesMetersForSameTags() {
+
+		for (int count = 0; count < 3; count++) {
+			GemFireMetrics.Sample sample = this.metrics.startRepositoryQuery(TestRepository.class, "findByName");
+			sample.succeeded();
+			sample.stop();
+		}
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_QUERIES_METER_NAME)
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.SUCCESS_OUTCOME)
+			.timers()).hasSize(1);
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_QUERIES_METER_NAME)
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.SUCCESS_OUTCOME)
+			.timer().count()).isEqualTo(3L);
+	}
+
+	@Test
+	public void recordsContinuousQueryEvents() {
+
+		GemFireMetrics.Sample sample = this.metrics.startContinuousQueryDispatch("TestCq", 5);
+
+		sample.succeeded();
+		sample.stop();
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.CONTINUOUS_QUERY_EVENTS_METER_NAME)
+			.tag("cq", "TestCq").counter().count()).isEqualTo(5.0d);
+
+		assertThat(this.meterRegistry.get(MicrometerGemFireMetrics.CONTINUOUS_QUERY_DISPATCHES_METER_NAME)
+			.tag("cq", "TestCq")
+			.tag(MicrometerGemFireMetrics.OUTCOME_TAG, MicrometerGemFireMetrics.SUCCESS_OUTCOME)
+			.timer().count()).isOne();
+	}
+
+	@Test
+	public void resultCountIsCorrect() {
+
+		assertThat(GemFireMetrics.resultCount(null)).isZero();
+		assertThat(GemFireMetrics.resultCount(Arrays.asList(1, 2, 3))).isEqualTo(3L);
+		assertThat(GemFireMetrics.resultCount(Collections.singletonMap(1, 2))).isOne();
+		assertThat(GemFireMetrics.resultCount(Optional.empty())).isZero();
+		assertThat(GemFireMetrics.resultCount(Optional.of("test"))).isOne();
+		assertThat(GemFireMetrics.resultCount(Stream.of(1, 2))).isEqualTo(-1L);
+		assertThat(GemFireMetrics.resultCount("test")).isOne();
+	}
+
+	@Test
+	public void noOpMetricsIsDisabled() {
+
+		assertThat(GemFireMetrics.NOOP.isEnabled()).isFalse();
+		assertThat(GemFireMetrics.nullSafe(null)).isSameAs(GemFireMetrics.NOOP);
+		assertThat(GemFireMetrics.nullSafe(this.metrics)).isSameAs(this.metrics);
+	}
+
+	interface TestRepository extends Repository<Object, Long> { }
+
+}
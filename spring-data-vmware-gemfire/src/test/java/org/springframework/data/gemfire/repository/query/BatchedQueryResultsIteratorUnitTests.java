@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.repository.sample.Person;
+
+/**
+ * Unit Tests for {@link BatchedQueryResultsIterator}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.BatchedQueryResultsIterator
+ * @since 1.0.1
+ */
+public class BatchedQueryResultsIteratorUnitTests {
+
+	private static final String QUERY = "SELECT * FROM /simple x WHERE x.lastname = $1";
+
+	private static final String FIRST_BATCH_QUERY =
+		"SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY id ASC LIMIT 2";
+
+	private static final String NEXT_BATCH_QUERY =
+		"SELECT DISTINCT * FROM /simple x WHERE (x.lastname = $1) AND id > $2 ORDER BY id ASC LIMIT 2";
+
+	@SuppressWarnings("unchecked")
+	private static SelectResults<Person> mockSelectResults(Person... people) {
+
+		SelectResults<Person> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(new ArrayList<>(Arrays.asList(people))).when(mockSelectResults).asList();
+
+		return mockSelectResults;
+	}
+
+	@Test
+	public void iteratesResultsFetchedLazilyInBatches() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+		Person cookieDoe = new Person(3L, "Cookie", "Doe");
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Person> firstBatch = mockSelectResults(jonDoe, janeDoe);
+		SelectResults<Person> lastBatch = mockSelectResults(cookieDoe);
+
+		doReturn(firstBatch).when(mockTemplate).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+		doReturn(lastBatch).when(mockTemplate).find(eq(NEXT_BATCH_QUERY), eq("Doe"), eq(2L));
+
+		BatchedQueryResultsIterator<Person> iterator =
+			new BatchedQueryResultsIterator<>(mockTemplate, QueryString.of(QUERY), "id", 2, "Doe");
+
+		verifyNoMoreInteractions(mockTemplate);
+
+		assertThat(iterator.next()).isEqualTo(jonDoe);
+		assertThat(iterator.next()).isEqualTo(janeDoe);
+
+		verify(mockTemplate, times(1)).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+		verifyNoMoreInteractions(mockTemplate);
+
+		assertThat(iterator.next()).isEqualTo(cookieDoe);
+		assertThat(iterator.hasNext()).isFalse();
+
+		verify(mockTemplate, times(1)).find(eq(NEXT_BATCH_QUERY), eq("Doe"), eq(2L));
+		verifyNoMoreInteractions(mockTemplate);
+
+		assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+	}
+
+	@Test
+	public void fetchesEmptyBatchWhenLastBatchIsFull() {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Person> firstBatch = mockSelectResults(jonDoe, janeDoe);
+		SelectResults<Person> emptyBatch = mockSelectResults();
+
+		doReturn(firstBatch).when(mockTemplate).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+		doReturn(emptyBatch).when(mockTemplate).find(eq(NEXT_BATCH_QUERY), eq("Doe"), eq(2L));
+
+		List<Person> results = new ArrayList<>();
+
+		new BatchedQueryResultsIterator<Person>(mockTemplate, QueryString.of(QUERY), "id", 2, "Doe")
+			.forEachRemaining(results::add);
+
+		assertThat(results).containsExactly(jonDoe, janeDoe);
+
+		verify(mockTemplate, times(1)).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+		verify(mockTemplate, times(1)).find(eq(NEXT_BATCH_QUERY), eq("Doe"), eq(2L));
+	}
+
+	@Test
+	public void iteratesNoResults() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Person> emptyBatch = mockSelectResults();
+
+		doReturn(emptyBatch).when(mockTemplate).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+
+		assertThat(new BatchedQueryResultsIterator<Person>(mockTemplate, QueryString.of(QUERY), "id", 2, "Doe")
+			.hasNext()).isFalse();
+
+		verify(mockTemplate, times(1)).find(eq(FIRST_BATCH_QUERY), eq("Doe"));
+	}
+}
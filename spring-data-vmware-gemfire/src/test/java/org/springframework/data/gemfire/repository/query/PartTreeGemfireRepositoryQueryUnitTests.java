@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+
+/**
+ * Unit Tests for {@link PartTreeGemfireRepositoryQuery}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @since 1.0.1
+ */
+public class PartTreeGemfireRepositoryQueryUnitTests {
+
+	private GemfireTemplate mockTemplate;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		Region<Object, Object> mockRegion = mock(Region.class);
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn("/simple").when(mockRegion).getFullPath();
+		doReturn(Collections.emptyList()).when(mockSelectResults).asList();
+
+		this.mockTemplate = mock(GemfireTemplate.class);
+
+		doReturn(mockRegion).when(this.mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(this.mockTemplate).find(anyString(), any());
+	}
+
+	private PartTreeGemfireRepositoryQuery newRepositoryQuery(String methodName, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(
+			PersonRepository.class.getMethod(methodName, parameterTypes),
+			new DefaultRepositoryMetadata(PersonRepository.class), new SpelAwareProxyProjectionFactory(),
+			new GemfireMappingContext());
+
+		return new PartTreeGemfireRepositoryQuery(queryMethod, this.mockTemplate);
+	}
+
+	@Test
+	public void executeReusesDerivedQuery() throws Exception {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery = newRepositoryQuery("findByFirstname", String.class);
+
+		StringBasedGemfireRepositoryQuery derivedQuery = repositoryQuery.resolveRepositoryQuery(new Object[] { "Jon" });
+
+		assertThat(derivedQuery).isNotNull();
+		assertThat(repositoryQuery.resolveRepositoryQuery(new Object[] { "Jane" })).isSameAs(derivedQuery);
+
+		repositoryQuery.execute(new Object[] { "Jon" });
+		repositoryQuery.execute(new Object[] { "Jane" });
+
+		verify(this.mockTemplate, times(1))
+			.find(eq("SELECT * FROM /simple x WHERE x.firstname = $1"), eq("Jon"));
+
+		verify(this.mockTemplate, times(1))
+			.find(eq("SELECT * FROM /simple x WHERE x.firstname = $1"), eq("Jane"));
+	}
+
+	@Test
+	public void executeCachesDerivedQueryPerSort() throws Exception {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery =
+			newRepositoryQuery("findByLastname", String.class, Sort.class);
+
+		Sort byFirstname = Sort.by("firstname");
+		Sort byFirstnameDescending = Sort.by(Sort.Direction.DESC, "firstname");
+
+		StringBasedGemfireRepositoryQuery ascendingQuery =
+			repositoryQuery.resolveRepositoryQuery(new Object[] { "Doe", byFirstname });
+
+		StringBasedGemfireRepositoryQuery descendingQuery =
+			repositoryQuery.resolveRepositoryQuery(new Object[] { "Doe", byFirstnameDescending });
+
+		assertThat(ascendingQuery).isNotSameAs(descendingQuery);
+		assertThat(repositoryQuery.resolveRepositoryQuery(new Object[] { "Smith", Sort.by("firstname") }))
+			.isSameAs(ascendingQuery);
+
+		repositoryQuery.execute(new Object[] { "Doe", byFirstnameDescending });
+
+		verify(this.mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname DESC"),
+				eq("Doe"), eq(byFirstnameDescending));
+	}
+
+	@Test
+	public void registerQueryPostProcessorDiscardsCachedDerivedQueries() throws Exception {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery = newRepositoryQuery("findByFirstname", String.class);
+
+		StringBasedGemfireRepositoryQuery derivedQuery = repositoryQuery.resolveRepositoryQuery(new Object[] { "Jon" });
+
+		repositoryQuery.register((queryMethod, query, arguments) -> query + " LIMIT 1");
+
+		assertThat(repositoryQuery.resolveRepositoryQuery(new Object[] { "Jon" })).isNotSameAs(derivedQuery);
+
+		repositoryQuery.execute(new Object[] { "Jon" });
+
+		verify(this.mockTemplate, times(1))
+			.find(eq("SELECT * FROM /simple x WHERE x.firstname = $1 LIMIT 1"), eq("Jon"));
+	}
+
+	@Test
+	public void prepareStringParametersWrapsLikeParameters() throws Exception {
+
+		PartTreeGemfireRepositoryQuery repositoryQuery = newRepositoryQuery(
+			"findByFirstnameContainingAndLastnameStartingWithAndAddressCityEndingWithAndId",
+			String.class, String.class, String.class, Long.class);
+
+		assertThat(repositoryQuery.prepareStringParameters(new Object[] { "on", "Do", "land", 1L }))
+			.containsExactly("%on%", "Do%", "%land", 1L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeStreamQueryFetchesResultsLazilyInBatches() throws Exception {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.singletonList(jonDoe)).when(mockSelectResults).asList();
+		doReturn(mockSelectResults).when(this.mockTemplate)
+			.find(eq("SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY id ASC LIMIT 1000"), eq("Doe"));
+
+		Object result = newRepositoryQuery("streamByLastname", String.class).execute(new Object[] { "Doe" });
+
+		assertThat(result).isInstanceOf(Stream.class);
+
+		verify(this.mockTemplate, never()).find(anyString(), any());
+
+		assertThat(((Stream<Object>) result)).containsExactly(jonDoe);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeOrderedIteratorQueryIteratesSingleResultSet() throws Exception {
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Collections.singletonList(jonDoe).iterator()).when(mockSelectResults).iterator();
+		doReturn(mockSelectResults).when(this.mockTemplate)
+			.find(eq("SELECT DISTINCT * FROM /simple x WHERE x.lastname = $1 ORDER BY firstname ASC"), eq("Doe"));
+
+		Object result = newRepositoryQuery("findByLastnameOrderByFirstname", String.class)
+			.execute(new Object[] { "Doe" });
+
+		assertThat(result).isInstanceOf(Iterator.class);
+		assertThat((Iterator<Object>) result).toIterable().containsExactly(jonDoe);
+
+		verify(mockSelectResults, never()).asList();
+	}
+
+	interface PersonRepository extends Repository<Person, Long> {
+
+		Stream<Person> streamByLastname(String lastname);
+
+		Iterator<Person> findByLastnameOrderByFirstname(String lastname);
+
+
+		Collection<Person> findByFirstname(String firstname);
+
+		Collection<Person> findByLastname(String lastname, Sort sort);
+
+		Collection<Person> findByFirstnameContainingAndLastnameStartingWithAndAddressCityEndingWithAndId(
+			String firstname, String lastname, String city, Long id);
+
+	}
+}
@@ -578,6 +578,88 @@ public class QueryStringUnitTests {
 			.isEqualTo("<TRACE> <HINT 'IdIdx', 'NameIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example LIMIT 20");
 	}
 
+	@Test
+	public void asCountQueryRemovesOrderByAndLimit() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example x WHERE x.name = $1 ORDER BY x.name ASC LIMIT 20");
+
+		assertThat(query.asCountQuery().map(QueryString::toString))
+			.hasValue("SELECT count(*) FROM /Example x WHERE x.name = $1");
+	}
+
+	@Test
+	public void asCountQueryRetainsDistinct() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT * FROM /Example x WHERE x.name = $1 ORDER BY x.name ASC LIMIT 20");
+
+		assertThat(query.asCountQuery().map(QueryString::toString))
+			.hasValue("SELECT DISTINCT count(*) FROM /Example x WHERE x.name = $1");
+	}
+
+	@Test
+	public void asCountQueryRetainsHintImportAndTrace() {
+
+		QueryString query = QueryString.of("<TRACE> <HINT 'IdIdx'> IMPORT org.example.domain.Type; SELECT * FROM /Example ORDER BY id DESC");
+
+		assertThat(query.asCountQuery().map(QueryString::toString))
+			.hasValue("<TRACE> <HINT 'IdIdx'> IMPORT org.example.domain.Type; SELECT count(*) FROM /Example");
+	}
+
+	@Test
+	public void asCountQueryWithProjectionCountsOverFromAndWhereClauses() {
+
+		QueryString query = QueryString.of("SELECT x.name, x.age FROM /Example x WHERE x.age > $1 ORDER BY x.name LIMIT 5");
+
+		assertThat(query.asCountQuery().map(QueryString::toString))
+			.hasValue("SELECT count(*) FROM /Example x WHERE x.age > $1");
+	}
+
+	@Test
+	public void asCountQueryWithDistinctProjectionReturnsEmpty() {
+		assertThat(QueryString.of("SELECT DISTINCT x.name FROM /Example x ORDER BY x.name").asCountQuery()).isEmpty();
+	}
+
+	@Test
+	public void asCountQueryWithAggregateNestedQueryOrGroupByReturnsEmpty() {
+
+		assertThat(QueryString.of("SELECT max(x.age) FROM /Example x").asCountQuery()).isEmpty();
+		assertThat(QueryString.of("SELECT x.name, (SELECT o.id FROM /Other o) FROM /Example x").asCountQuery()).isEmpty();
+		assertThat(QueryString.of("SELECT x.name FROM /Example x GROUP BY x.name").asCountQuery()).isEmpty();
+	}
+
+	@Test
+	public void whereAddsWhereClause() {
+
+		assertThat(QueryString.of("SELECT * FROM /Example x").where("id > $1").toString())
+			.isEqualTo("SELECT * FROM /Example x WHERE id > $1");
+	}
+
+	@Test
+	public void whereCombinesWithExistingWhereClauseBeforeOrderByAndLimit() {
+
+		QueryString query = QueryString.of("SELECT DISTINCT * FROM /Example x WHERE x.name = $1 OR x.age > $2 ORDER BY id ASC LIMIT 10");
+
+		assertThat(query.where("id > $3").toString())
+			.isEqualTo("SELECT DISTINCT * FROM /Example x WHERE (x.name = $1 OR x.age > $2) AND id > $3 ORDER BY id ASC LIMIT 10");
+	}
+
+	@Test
+	public void whereWithoutPredicateReturnsQueryAsIs() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example");
+
+		assertThat(query.where(" ")).isSameAs(query);
+	}
+
+	@Test
+	public void isOrderedAndIsSelectStar() {
+
+		assertThat(QueryString.of("SELECT * FROM /Example").isOrdered()).isFalse();
+		assertThat(QueryString.of("SELECT * FROM /Example").isSelectStar()).isTrue();
+		assertThat(QueryString.of("SELECT DISTINCT * FROM /Example ORDER BY id").isOrdered()).isTrue();
+		assertThat(QueryString.of("SELECT x.name FROM /Example x").isSelectStar()).isFalse();
+	}
+
 	@Getter
 	@ToString(of = "name")
 	@EqualsAndHashCode(of = "name")
@@ -5,12 +5,19 @@
 package org.springframework.data.gemfire.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -20,6 +27,9 @@ import org.junit.Test;
 
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.gemfire.GemfireTemplate;
+
 /**
  * Unit Tests for {@link StringBasedGemfireRepositoryQuery}
  *
@@ -190,4 +200,196 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		verify(mockQueryMethod, never()).getLimit();
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countExecutesCountQueryBoundedByLimit() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Integer> mockSelectResults = mock(SelectResults.class);
+
+		doAnswer(invocation -> Collections.singletonList(42).iterator()).when(mockSelectResults).iterator();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn(mockTemplate).when(repositoryQuery).getTemplate();
+
+		assertThat(repositoryQuery.count("SELECT * FROM /Example x WHERE x.age > $1 ORDER BY x.name", 21))
+			.isEqualTo(42L);
+
+		assertThat(repositoryQuery.count("SELECT * FROM /Example x WHERE x.age > $1 LIMIT 10", 21))
+			.isEqualTo(10L);
+
+		verify(mockTemplate, times(2))
+			.find(eq("SELECT count(*) FROM /Example x WHERE x.age > $1"), eq(21));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countDistinctQueryExecutesDistinctCountQuery() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Integer> mockSelectResults = mock(SelectResults.class);
+
+		doAnswer(invocation -> Collections.singletonList(7).iterator()).when(mockSelectResults).iterator();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn(mockTemplate).when(repositoryQuery).getTemplate();
+
+		assertThat(repositoryQuery.count("SELECT DISTINCT * FROM /Example x WHERE x.age > $1 ORDER BY x.name", 21))
+			.isEqualTo(7L);
+
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT count(*) FROM /Example x WHERE x.age > $1"), eq(21));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countWithProjectionExecutesCountQuery() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Integer> mockSelectResults = mock(SelectResults.class);
+
+		doAnswer(invocation -> Collections.singletonList(25).iterator()).when(mockSelectResults).iterator();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn(mockTemplate).when(repositoryQuery).getTemplate();
+
+		assertThat(repositoryQuery.count("SELECT x.name, x.age FROM /Example x WHERE x.age > $1 ORDER BY x.name", 21))
+			.isEqualTo(25L);
+		assertThat(repositoryQuery.count("SELECT x.name FROM /Example x WHERE x.age > $1 LIMIT 10", 21))
+			.isEqualTo(10L);
+
+		verify(mockTemplate, times(2)).find(eq("SELECT count(*) FROM /Example x WHERE x.age > $1"), eq(21));
+		verify(mockSelectResults, never()).size();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countWithDistinctProjectionCountsFullResults() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<String> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(25).when(mockSelectResults).size();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn(mockTemplate).when(repositoryQuery).getTemplate();
+
+		assertThat(repositoryQuery.count("SELECT DISTINCT x.name FROM /Example x WHERE x.age > $1", 21))
+			.isEqualTo(25L);
+		assertThat(repositoryQuery.count("SELECT DISTINCT x.name FROM /Example x WHERE x.age > $1 LIMIT 10", 21))
+			.isEqualTo(10L);
+
+		verify(mockTemplate, times(1)).find(eq("SELECT DISTINCT x.name FROM /Example x WHERE x.age > $1"), eq(21));
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT x.name FROM /Example x WHERE x.age > $1 LIMIT 10"), eq(21));
+	}
+
+	@Test
+	public void getCachedCountSharesCountAcrossPagesOfTheSameQueryAndArguments() {
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		repositoryQuery.setCountCacheTimeToLive(Duration.ofMinutes(1));
+
+		doReturn(42L).when(repositoryQuery).count(anyString(), any());
+
+		String query = "SELECT * FROM /Example x WHERE x.age > $1";
+
+		assertThat(repositoryQuery.getCachedCount(query, 21, PageRequest.of(0, 10))).isEqualTo(42L);
+		assertThat(repositoryQuery.getCachedCount(query, 21, PageRequest.of(1, 10))).isEqualTo(42L);
+		assertThat(repositoryQuery.getCachedCount(query, 30, PageRequest.of(0, 10))).isEqualTo(42L);
+
+		verify(repositoryQuery, times(1)).count(eq(query), eq(21), eq(PageRequest.of(0, 10)));
+		verify(repositoryQuery, times(1)).count(eq(query), eq(30), eq(PageRequest.of(0, 10)));
+		verify(repositoryQuery, times(2)).count(anyString(), any());
+	}
+
+	@Test
+	public void getCachedCountWithCountCacheDisabledCountsEveryPage() {
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		repositoryQuery.setCountCacheTimeToLive(Duration.ZERO);
+
+		doReturn(42L).when(repositoryQuery).count(anyString(), any());
+
+		String query = "SELECT * FROM /Example x WHERE x.age > $1";
+
+		repositoryQuery.getCachedCount(query, 21, PageRequest.of(0, 10));
+		repositoryQuery.getCachedCount(query, 21, PageRequest.of(1, 10));
+
+		verify(repositoryQuery, times(2)).count(anyString(), any());
+	}
+
+	@Test
+	public void resolvePreparedQueryPreparesQueryOnce() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		QueryString query = QueryString.of("SELECT * FROM /Example x WHERE x.name = $1");
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn("<TRACE> SELECT * FROM /Example x WHERE x.name = $1").when(repositoryQuery)
+			.prepareQuery(any(), any(), any());
+
+		assertThat(repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jon" }))
+			.isEqualTo("<TRACE> SELECT * FROM /Example x WHERE x.name = $1");
+
+		assertThat(repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jane" }))
+			.isEqualTo("<TRACE> SELECT * FROM /Example x WHERE x.name = $1");
+
+		verify(repositoryQuery, times(1)).prepareQuery(eq(mockQueryMethod), eq(query), any());
+	}
+
+	@Test
+	public void resolvePreparedQueryWithInParametersPreparesQueryOnEachExecution() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		QueryString query = QueryString.of("SELECT * FROM /Example x WHERE x.name IN SET $1");
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		doReturn("SELECT * FROM /Example x WHERE x.name IN SET ('Jon')").when(repositoryQuery)
+			.prepareQuery(any(), any(), any());
+
+		repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jon" });
+		repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jon" });
+
+		verify(repositoryQuery, times(2)).prepareQuery(eq(mockQueryMethod), eq(query), any());
+	}
+
+	@Test
+	public void resolvePreparedQueryWithRegisteredQueryPostProcessorPreparesQueryOnEachExecution() {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		QueryString query = QueryString.of("SELECT * FROM /Example x WHERE x.name = $1");
+
+		StringBasedGemfireRepositoryQuery repositoryQuery = spy(new StringBasedGemfireRepositoryQuery());
+
+		repositoryQuery.register((queryMethod, queryString, arguments) -> queryString);
+
+		doReturn("SELECT * FROM /Example x WHERE x.name = $1").when(repositoryQuery)
+			.prepareQuery(any(), any(), any());
+
+		repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jon" });
+		repositoryQuery.resolvePreparedQuery(mockQueryMethod, query, new Object[] { "Jane" });
+
+		verify(repositoryQuery, times(2)).prepareQuery(eq(mockQueryMethod), eq(query), any());
+	}
 }
@@ -17,6 +17,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 import java.util.stream.Stream;
 
 import org.junit.Test;
@@ -24,6 +26,7 @@ import org.mockito.InOrder;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.mapping.annotation.Region;
@@ -274,6 +277,47 @@ public class PagingUtilsUnitTests {
 		assertThat(pageThree).isEmpty();
 	}
 
+	@Test
+	public void toPageWithContentComputesTotalOnlyWhenUnknown() {
+
+		List<User> users = Arrays.asList(
+			User.newUser("Jon Doe"),
+			User.newUser("Jane Doe"),
+			User.newUser("Pie Doe")
+		);
+
+		AtomicInteger totalSupplierInvocationCount = new AtomicInteger();
+
+		LongSupplier totalSupplier = () -> {
+			totalSupplierInvocationCount.incrementAndGet();
+			return 11L;
+		};
+
+		Page<User> fullPage = PagingUtils.toPage(users, PageRequest.of(0, 3), totalSupplier);
+
+		assertThat(fullPage.getContent()).containsExactlyElementsOf(users);
+		assertThat(fullPage.getTotalElements()).isEqualTo(11L);
+		assertThat(totalSupplierInvocationCount.get()).isEqualTo(1);
+
+		Page<User> lastPage = PagingUtils.toPage(users, PageRequest.of(2, 5), totalSupplier);
+
+		assertThat(lastPage.getContent()).containsExactlyElementsOf(users);
+		assertThat(lastPage.getTotalElements()).isEqualTo(13L);
+		assertThat(totalSupplierInvocationCount.get()).isEqualTo(1);
+
+		Page<User> emptyFirstPage = PagingUtils.toPage(Collections.emptyList(), PageRequest.of(0, 5), totalSupplier);
+
+		assertThat(emptyFirstPage).isEmpty();
+		assertThat(emptyFirstPage.getTotalElements()).isEqualTo(0L);
+		assertThat(totalSupplierInvocationCount.get()).isEqualTo(1);
+
+		Page<User> emptyPage = PagingUtils.toPage(Collections.emptyList(), PageRequest.of(4, 5), totalSupplier);
+
+		assertThat(emptyPage).isEmpty();
+		assertThat(emptyPage.getTotalElements()).isEqualTo(11L);
+		assertThat(totalSupplierInvocationCount.get()).isEqualTo(2);
+	}
+
 	@Test
 	public void getPagedListFromListWithSizeLessThanPageSize() {
 
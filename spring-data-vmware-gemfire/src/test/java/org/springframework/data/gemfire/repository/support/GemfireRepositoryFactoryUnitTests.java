@@ -5,6 +5,9 @@
 package org.springframework.data.gemfire.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -25,6 +28,9 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 
@@ -32,7 +38,10 @@ import org.springframework.aop.framework.Advised;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
 import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.NearCached;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -484,6 +493,108 @@ public class GemfireRepositoryFactoryUnitTests {
 		assertThat(((Advised) gemfireRepository).getTargetClass()).isEqualTo(TestCustomBaseRepository.class);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void configuresNearCacheInvalidatedByRegionInterest() {
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		when(this.mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(this.mockRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(new GemfireTemplate(this.mockRegion), mock(EntityInformation.class));
+
+		repositoryFactory.configureNearCache(
+			mockRepositoryMetadata(Person.class, Long.class, NearCachedPeopleRepository.class), repository);
+
+		assertThat(repository.getNearCache()).isNotNull();
+		assertThat(repository.getNearCache().getName()).isEqualTo("NearCachedPeopleRepository");
+		assertThat(repository.getNearCache().getMaxEntries()).isEqualTo(100);
+
+		verify(mockAttributesMutator, times(1))
+			.addCacheListener(any(GemfireRepositoryFactory.NearCacheInvalidatingCacheListener.class));
+		verify(this.mockRegion, times(1)).registerInterestForAllKeys(eq(InterestResultPolicy.NONE));
+	}
+
+	@Test
+	public void configureNearCacheInvalidatedByInterestInPeerPartitionRegionThrowsIllegalStateException() {
+
+		when(this.mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(new GemfireTemplate(this.mockRegion), mock(EntityInformation.class));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> repositoryFactory.configureNearCache(
+				mockRepositoryMetadata(Person.class, Long.class, NearCachedPeopleRepository.class), repository))
+			.withMessageContaining("cannot be invalidated by interest in peer PARTITION Region [/simple]");
+
+		assertThat(repository.getNearCache()).isNull();
+		verify(this.mockRegion, never()).getAttributesMutator();
+	}
+
+	@Test
+	public void configuresNearCacheInvalidatedByContinuousQuery() {
+
+		ContinuousQueryListenerContainer mockContainer = mock(ContinuousQueryListenerContainer.class);
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		repositoryFactory.setContinuousQueryListenerContainerProvider(() -> mockContainer);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(new GemfireTemplate(this.mockRegion), mock(EntityInformation.class));
+
+		repositoryFactory.configureNearCache(
+			mockRepositoryMetadata(Person.class, Long.class, CqNearCachedPeopleRepository.class), repository);
+
+		assertThat(repository.getNearCache()).isNotNull();
+
+		verify(mockContainer, times(1)).isActive();
+		verify(mockContainer, times(1)).addContinuousQueryDefinition(any(ContinuousQueryDefinition.class));
+		verifyNoMoreInteractions(mockContainer);
+	}
+
+	@Test
+	public void configureNearCacheInvalidatedByContinuousQueryWithoutContainerThrowsIllegalStateException() {
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(new GemfireTemplate(this.mockRegion), mock(EntityInformation.class));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> repositoryFactory.configureNearCache(
+				mockRepositoryMetadata(Person.class, Long.class, CqNearCachedPeopleRepository.class), repository))
+			.withMessageContaining("ContinuousQueryListenerContainer is required");
+
+		assertThat(repository.getNearCache()).isNull();
+	}
+
+	@Test
+	public void doesNotConfigureNearCacheWithoutNearCachedAnnotation() {
+
+		GemfireRepositoryFactory repositoryFactory =
+			new GemfireRepositoryFactory(Collections.singletonList(this.mockRegion), this.mappingContext);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(new GemfireTemplate(this.mockRegion), mock(EntityInformation.class));
+
+		repositoryFactory.configureNearCache(
+			mockRepositoryMetadata(Person.class, Long.class, PeopleRepository.class), repository);
+
+		assertThat(repository.getNearCache()).isNull();
+	}
+
 	interface SamplePagingAndSortingRepository extends PagingAndSortingRepository<Person, Long> { }
 
 	static class TestCustomBaseRepository<T, ID extends Serializable> extends SimpleGemfireRepository<T, ID> {
@@ -519,4 +630,10 @@ public class GemfireRepositoryFactoryUnitTests {
 	@org.springframework.data.gemfire.mapping.annotation.Region
 	interface NonQualifiedRegionAnnotatedRepository extends GemfireRepository<Person, Long> { }
 
+	@NearCached(maxEntries = 100)
+	interface NearCachedPeopleRepository extends GemfireRepository<Person, Long> { }
+
+	@NearCached(invalidation = NearCached.Invalidation.CONTINUOUS_QUERY)
+	interface CqNearCachedPeopleRepository extends GemfireRepository<Person, Long> { }
+
 }
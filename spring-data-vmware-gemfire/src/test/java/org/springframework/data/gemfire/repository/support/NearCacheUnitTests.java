@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.data.gemfire.metrics.MicrometerGemFireMetrics;
+
+/**
+ * Unit Tests for {@link NearCache}.
+ *
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.support.NearCache
+ * @since 1.0.1
+ */
+public class NearCacheUnitTests {
+
+	private final AtomicInteger loadCount = new AtomicInteger(0);
+
+	private final Function<Long, String> loader = key -> {
+		this.loadCount.incrementAndGet();
+		return "value" + key;
+	};
+
+	@Test
+	public void constructWithIllegalArgumentsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new NearCache<>(" ", 1, 0L, null))
+			.withMessage("Name must not be null or empty");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new NearCache<>("Test", 0, 0L, null))
+			.withMessage("maxEntries must be greater than 0");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new NearCache<>("Test", 1, 0L, Duration.ofSeconds(-1L)))
+			.withMessage("timeToLive must not be negative");
+	}
+
+	@Test
+	public void getLoadsOnMissAndReturnsCachedValueOnHit() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+
+		assertThat(this.loadCount.get()).isOne();
+		assertThat(nearCache.getHitCount()).isEqualTo(2L);
+		assertThat(nearCache.getMissCount()).isOne();
+		assertThat(nearCache.size()).isOne();
+	}
+
+	@Test
+	public void getDoesNotCacheNullValues() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		assertThat(nearCache.get(1L, key -> null)).isNull();
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+		assertThat(this.loadCount.get()).isOne();
+	}
+
+	@Test
+	public void getRethrowsLoadFailureWithoutCaching() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> nearCache.get(1L, key -> { throw new IllegalStateException("TEST"); }))
+			.withMessage("TEST");
+
+		assertThat(nearCache.size()).isZero();
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+	}
+
+	@Test
+	public void returnsCopyOfCachedEntityToEachCaller() {
+
+		NearCache<Long, StringBuilder> nearCache = new NearCache<>("Test", 10, 0L, null,
+			value -> new StringBuilder(value), value -> 1, System::nanoTime);
+
+		StringBuilder loaded = nearCache.get(1L, key -> new StringBuilder("value"));
+
+		loaded.append("-modified");
+
+		StringBuilder first = nearCache.get(1L, key -> new StringBuilder("reloaded"));
+		StringBuilder second = nearCache.get(1L, key -> new StringBuilder("reloaded"));
+
+		assertThat(first).hasToString("value");
+		assertThat(second).hasToString("value");
+		assertThat(first).isNotSameAs(second);
+		assertThat(nearCache.isCopyOnRead()).isTrue();
+	}
+
+	@Test
+	public void returnsCachedEntityWhenCopyOnReadIsDisabled() {
+
+		NearCache<Long, StringBuilder> nearCache = new NearCache<>("Test", 10, 0L, null, false);
+
+		StringBuilder loaded = nearCache.get(1L, key -> new StringBuilder("value"));
+
+		assertThat(nearCache.get(1L, key -> new StringBuilder("reloaded"))).isSameAs(loaded);
+		assertThat(nearCache.isCopyOnRead()).isFalse();
+	}
+
+	@Test
+	public void evictsEntriesExceedingMaxEntries() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 3, 0L, null);
+
+		for (long key = 1L; key <= 10L; key++) {
+			nearCache.get(key, this.loader);
+		}
+
+		assertThat(nearCache.size()).isEqualTo(3);
+		assertThat(nearCache.getEvictionCount()).isEqualTo(7L);
+	}
+
+	@Test
+	public void evictsLeastRecentlyAccessedEntriesFirst() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 2, 0L, null);
+
+		nearCache.get(1L, this.loader);
+		nearCache.get(2L, this.loader);
+		nearCache.get(1L, this.loader);
+		nearCache.get(3L, this.loader);
+
+		this.loadCount.set(0);
+
+		nearCache.get(1L, this.loader);
+
+		assertThat(this.loadCount.get()).isZero();
+	}
+
+	@Test
+	public void evictsEntriesExceedingMaxBytes() {
+
+		NearCache<Long, String> nearCache =
+			new NearCache<>("Test", 100, 25L, null, null, value -> 10, System::nanoTime);
+
+		nearCache.get(1L, this.loader);
+		nearCache.get(2L, this.loader);
+
+		assertThat(nearCache.getEstimatedBytes()).isEqualTo(20L);
+
+		nearCache.get(3L, this.loader);
+
+		assertThat(nearCache.size()).isEqualTo(2);
+		assertThat(nearCache.getEstimatedBytes()).isEqualTo(20L);
+
+		nearCache.invalidate(2L);
+		nearCache.invalidate(3L);
+
+		assertThat(nearCache.getEstimatedBytes()).isLessThanOrEqualTo(10L);
+	}
+
+	@Test
+	public void expiresEntriesAfterTimeToLive() {
+
+		AtomicLong clock = new AtomicLong(0L);
+
+		NearCache<Long, String> nearCache =
+			new NearCache<>("Test", 10, 0L, Duration.ofSeconds(5L), null, value -> 1, clock::get);
+
+		nearCache.get(1L, this.loader);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(4L));
+		nearCache.get(1L, this.loader);
+
+		assertThat(this.loadCount.get()).isOne();
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(2L));
+		nearCache.get(1L, this.loader);
+
+		assertThat(this.loadCount.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void invalidateDuringLoadDoesNotCacheStaleValue() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		assertThat(nearCache.get(1L, key -> {
+			nearCache.invalidate(key);
+			return "stale";
+		})).isEqualTo("stale");
+
+		assertThat(nearCache.size()).isZero();
+		assertThat(nearCache.get(1L, this.loader)).isEqualTo("value1");
+	}
+
+	@Test
+	public void invalidateAndClearRemoveEntries() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		nearCache.get(1L, this.loader);
+		nearCache.get(2L, this.loader);
+		nearCache.get(3L, this.loader);
+
+		nearCache.invalidateAll(Arrays.asList(1L, 2L));
+
+		assertThat(nearCache.size()).isOne();
+
+		nearCache.clear();
+
+		assertThat(nearCache.size()).isZero();
+		assertThat(nearCache.getEstimatedBytes()).isZero();
+	}
+
+	@Test
+	public void concurrentGetsForSameKeyLoadOnce() throws Exception {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Function<Long, String> blockingLoader = key -> {
+			this.loadCount.incrementAndGet();
+			loading.countDown();
+			try {
+				release.await(5L, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			return "value" + key;
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			Future<String> first = executor.submit(() -> nearCache.get(1L, blockingLoader));
+
+			assertThat(loading.await(5L, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> second = executor.submit(() -> nearCache.get(1L, blockingLoader));
+			Future<String> third = executor.submit(() -> nearCache.get(1L, blockingLoader));
+
+			release.countDown();
+
+			assertThat(first.get(5L, TimeUnit.SECONDS)).isEqualTo("value1");
+			assertThat(second.get(5L, TimeUnit.SECONDS)).isEqualTo("value1");
+			assertThat(third.get(5L, TimeUnit.SECONDS)).isEqualTo("value1");
+			assertThat(this.loadCount.get()).isOne();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getAllLoadsMissingKeysOnly() {
+
+		NearCache<Long, String> nearCache = new NearCache<>("Test", 10, 0L, null);
+
+		nearCache.get(2L, this.loader);
+
+		AtomicInteger bulkLoadedKeyCount = new AtomicInteger(0);
+
+		Map<Long, String> values = nearCache.getAll(Arrays.asList(3L, 2L, 1L), keys -> {
+			bulkLoadedKeyCount.addAndGet(keys.size());
+			Map<Long, String> loaded = new HashMap<>();
+			keys.forEach(key -> loaded.put(key, "value" + key));
+			return loaded;
+		});
+
+		assertThat(values).containsExactly(Map.entry(3L, "value3"), Map.entry(2L, "value2"),
+			Map.entry(1L, "value1"));
+
+		assertThat(bulkLoadedKeyCount.get()).isEqualTo(2);
+		assertThat(nearCache.size()).isEqualTo(3);
+		assertThat(nearCache.getHitCount()).isOne();
+	}
+
+	@Test
+	public void recordsHitsAndMissesInMetrics() {
+
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		NearCache<Long, String> nearCache = new NearCache<>("TestRepository", 10, 0L, null);
+
+		nearCache.setMetrics(new MicrometerGemFireMetrics(meterRegistry));
+		nearCache.get(1L, this.loader);
+		nearCache.get(1L, this.loader);
+		nearCache.get(1L, this.loader);
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_CACHE_GETS_METER_NAME)
+			.tag("repository", "TestRepository")
+			.tag("result", "hit")
+			.counter().count()).isEqualTo(2.0d);
+
+		assertThat(meterRegistry.get(MicrometerGemFireMetrics.REPOSITORY_CACHE_GETS_METER_NAME)
+			.tag("repository", "TestRepository")
+			.tag("result", "miss")
+			.counter().count()).isEqualTo(1.0d);
+	}
+}
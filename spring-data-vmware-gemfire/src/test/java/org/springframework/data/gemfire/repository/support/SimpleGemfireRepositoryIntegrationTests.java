@@ -23,14 +23,18 @@ import org.apache.geode.cache.util.CacheListenerAdapter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.LocalRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 import org.springframework.data.repository.core.EntityInformation;
@@ -164,6 +168,49 @@ public class SimpleGemfireRepositoryIntegrationTests extends IntegrationTestsSup
 		assertThat(pageTwo.getContent()).containsExactly(people.get(3), people.get(4));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllScrollsUsingKeyset() {
+
+		List<Person> people = Arrays.asList(new Person(1L, "Jon", "Doe"), new Person(2L, "Jane", "Doe"),
+			new Person(3L, "Cookie", "Doe"), new Person(4L, "Pie", "Doe"), new Person(5L, "Sour", "Doe"));
+
+		people.forEach(person -> this.template.put(person.getId(), person));
+
+		GemfirePersistentEntity<Person> personEntity = (GemfirePersistentEntity<Person>)
+			new GemfireMappingContext().getRequiredPersistentEntity(Person.class);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(this.template, new DefaultGemfireEntityInformation<>(personEntity));
+
+		Sort orderByLastName = Sort.by("lastname").ascending();
+
+		Window<Person> windowOne = repository.findAll(ScrollPosition.keyset(), orderByLastName, 2);
+
+		assertThat(windowOne.getContent()).containsExactly(people.get(0), people.get(1));
+		assertThat(windowOne.hasNext()).isTrue();
+
+		ScrollPosition positionOne = windowOne.positionAt(windowOne.size() - 1);
+
+		Window<Person> windowTwo = repository.findAll((KeysetScrollPosition) positionOne, orderByLastName, 2);
+
+		assertThat(windowTwo.getContent()).containsExactly(people.get(2), people.get(3));
+		assertThat(windowTwo.hasNext()).isTrue();
+
+		ScrollPosition positionTwo = windowTwo.positionAt(windowTwo.size() - 1);
+
+		Window<Person> windowThree = repository.findAll((KeysetScrollPosition) positionTwo, orderByLastName, 2);
+
+		assertThat(windowThree.getContent()).containsExactly(people.get(4));
+		assertThat(windowThree.hasNext()).isFalse();
+
+		Window<Person> windowBackward =
+			repository.findAll(((KeysetScrollPosition) windowThree.positionAt(0)).backward(), orderByLastName, 3);
+
+		assertThat(windowBackward.getContent()).containsExactly(people.get(1), people.get(2), people.get(3));
+		assertThat(windowBackward.hasNext()).isTrue();
+	}
+
 	@Test
 	public void findAllWithIds() {
 
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.GemfireUtils;
+
+/**
+ * Integration Tests for the keyset pagination of {@link Region} keys used by
+ * {@link SimpleGemfireRepository#deleteAll()} on client {@link Region Regions}.
+ *
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 1.0.1
+ */
+public class SimpleGemfireRepositoryPagedRegionKeysIntegrationTests {
+
+	private static Cache cache;
+
+	private static Region<Long, String> region;
+
+	@BeforeClass
+	public static void setUp() {
+
+		cache = new CacheFactory()
+			.set("name", SimpleGemfireRepositoryPagedRegionKeysIntegrationTests.class.getSimpleName())
+			.set("log-level", "error")
+			.create();
+
+		region = cache.<Long, String>createRegionFactory(RegionShortcut.PARTITION).create("PagedKeys");
+
+		LongStream.rangeClosed(1L, 25L).forEach(key -> region.put(key, String.valueOf(key)));
+	}
+
+	@AfterClass
+	public static void tearDown() {
+		GemfireUtils.close(cache);
+	}
+
+	@Test
+	public void pagesThroughAllKeysInOrder() {
+
+		List<Long> keys = new ArrayList<>();
+
+		new SimpleGemfireRepository.PagedRegionKeys<Long>(new GemfireTemplate(region), region.getFullPath(), 10)
+			.forEach(keys::add);
+
+		assertThat(keys).containsExactlyElementsOf(LongStream.rangeClosed(1L, 25L).boxed()
+			.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void pagesThroughAllKeysWhenPageSizeDividesKeyCount() {
+
+		List<Long> keys = new ArrayList<>();
+
+		new SimpleGemfireRepository.PagedRegionKeys<Long>(new GemfireTemplate(region), region.getFullPath(), 5)
+			.forEach(keys::add);
+
+		assertThat(keys).hasSize(25).isSorted();
+	}
+}
@@ -5,8 +5,11 @@
 package org.springframework.data.gemfire.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
@@ -22,6 +25,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -29,9 +33,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -44,17 +51,24 @@ import org.mockito.stubbing.Answer;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.gemfire.GemfireBulkWriteException;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.sample.Animal;
 import org.springframework.data.gemfire.repository.sample.Identifiable;
 import org.springframework.data.gemfire.util.CollectionUtils;
@@ -393,6 +407,59 @@ public class SimpleGemfireRepositoryUnitTests {
 		verifyNoInteractions(mockRegion);
 	}
 
+	@Test
+	public void saveAllEntitiesInChunks() {
+
+		List<Animal> animals = Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"), newAnimal(3L, "dog"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		GemfireTemplate template = newGemfireTemplate(mockRegion);
+
+		template.setBulkWriteChunkSize(2);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThat(repository.saveAll(animals)).containsExactlyElementsOf(animals);
+
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(0, 2))));
+		verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(2, 3))));
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void saveAllEntitiesThrowsGemfireBulkWriteExceptionForFailedChunks() {
+
+		List<Animal> animals = Arrays.asList(newAnimal(1L, "bird"), newAnimal(2L, "cat"), newAnimal(3L, "dog"));
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		doAnswer(invocation -> {
+			if (invocation.<Map<?, ?>>getArgument(0).containsKey(3L)) {
+				throw new CacheWriterException("TEST");
+			}
+			return null;
+		}).when(mockRegion).putAll(anyMap());
+
+		GemfireTemplate template = newGemfireTemplate(mockRegion);
+
+		template.setBulkWriteChunkSize(2);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		assertThatExceptionOfType(GemfireBulkWriteException.class)
+			.isThrownBy(() -> repository.saveAll(animals))
+			.satisfies(exception -> {
+				assertThat(exception.getResult().getWrittenEntryCount()).isEqualTo(2L);
+				assertThat(exception.getResult().getFailures()).hasSize(1);
+				assertThat(exception.getResult().getFailures().get(0).getKeys()).containsExactly(3L);
+			});
+
+		verify(mockRegion, times(2)).putAll(anyMap());
+	}
+
 	@Test
 	public void countReturnsNumberOfRegionEntries() {
 
@@ -650,7 +717,10 @@ public class SimpleGemfireRepositoryUnitTests {
 			User.newUser("Sour Doe")
 		);
 
-		doReturn(users).when(repository).findAll(eq(orderBy));
+		repository.setCountCacheTimeToLive(Duration.ofMinutes(1));
+
+		doReturn(users).when(repository).findAll(eq(orderBy), anyInt());
+		doReturn((long) users.size()).when(repository).count();
 
 		Page pageOne = repository.findAll(mockPageable);
 
@@ -677,6 +747,291 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		assertThat(pageThree).isNotNull();
 		assertThat(pageThree).isEmpty();
+
+		verify(repository, times(1)).findAll(eq(orderBy), eq(5));
+		verify(repository, times(1)).findAll(eq(orderBy), eq(10));
+		verify(repository, times(1)).findAll(eq(orderBy), eq(15));
+		verify(repository, times(1)).count();
+	}
+
+	@Test
+	public void findAllPagedExecutesLimitedQuery() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+		SelectResults mockCountSelectResults = mock(SelectResults.class);
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate)
+			.find(eq("SELECT DISTINCT * FROM /Example ORDER BY name ASC LIMIT 4"));
+		doReturn(Arrays.asList("a", "b", "c", "d")).when(mockSelectResults).asList();
+		doReturn(mockCountSelectResults).when(mockTemplate).find(eq("SELECT count(*) FROM /Example"));
+		doReturn(Collections.singletonList(9).iterator()).when(mockCountSelectResults).iterator();
+
+		SimpleGemfireRepository repository = new SimpleGemfireRepository(mockTemplate, mockEntityInformation());
+
+		Page page = repository.findAll(PageRequest.of(1, 2, Sort.by("name")));
+
+		assertThat(page).isNotNull();
+		assertThat(page.getContent()).containsExactly("c", "d");
+		assertThat(page.getTotalElements()).isEqualTo(9L);
+		assertThat(page.getTotalPages()).isEqualTo(5);
+
+		verify(mockTemplate, times(1)).find(eq("SELECT DISTINCT * FROM /Example ORDER BY name ASC LIMIT 4"));
+		verify(mockTemplate, times(1)).find(eq("SELECT count(*) FROM /Example"));
+	}
+
+	@Test
+	public void findAllPagedDoesNotCountWhenTotalIsKnown() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString());
+		doReturn(Arrays.asList("a", "b", "c")).when(mockSelectResults).asList();
+
+		SimpleGemfireRepository repository = new SimpleGemfireRepository(mockTemplate, mockEntityInformation());
+
+		Page page = repository.findAll(PageRequest.of(1, 2));
+
+		assertThat(page).isNotNull();
+		assertThat(page.getContent()).containsExactly("c");
+		assertThat(page.getTotalElements()).isEqualTo(3L);
+
+		verify(mockTemplate, times(1)).find(eq("SELECT * FROM /Example LIMIT 4"));
+		verify(mockTemplate, never()).find(eq("SELECT count(*) FROM /Example"));
+	}
+
+	@Test
+	public void findAllPagedCachesCountUntilEvicted() {
+
+		SimpleGemfireRepository repository =
+			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion()), mockEntityInformation()));
+
+		repository.setCountCacheTimeToLive(Duration.ofMinutes(1));
+
+		doReturn(Arrays.asList("a", "b")).when(repository).findAll(any(Sort.class), anyInt());
+		doReturn(10L).doReturn(20L).when(repository).count();
+
+		assertThat(repository.findAll(PageRequest.of(0, 2)).getTotalElements()).isEqualTo(10L);
+		assertThat(repository.findAll(PageRequest.of(0, 2)).getTotalElements()).isEqualTo(10L);
+
+		repository.evictCachedCount();
+
+		assertThat(repository.findAll(PageRequest.of(0, 2)).getTotalElements()).isEqualTo(20L);
+
+		verify(repository, times(2)).count();
+	}
+
+	@Test
+	public void findAllPagedWithCountCacheDisabledCountsEveryPage() {
+
+		SimpleGemfireRepository repository =
+			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion()), mockEntityInformation()));
+
+		repository.setCountCacheTimeToLive(Duration.ZERO);
+
+		doReturn(Arrays.asList("a", "b")).when(repository).findAll(any(Sort.class), anyInt());
+		doReturn(10L).when(repository).count();
+
+		repository.findAll(PageRequest.of(0, 2));
+		repository.findAll(PageRequest.of(0, 2));
+
+		verify(repository, times(2)).count();
+	}
+
+	@Test
+	public void saveEvictsCachedCount() {
+
+		Region mockRegion = mockRegion();
+
+		SimpleGemfireRepository repository =
+			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		repository.setCountCacheTimeToLive(Duration.ofMinutes(1));
+
+		doReturn(10L).when(repository).count();
+
+		assertThat(repository.getCachedCount()).isEqualTo(10L);
+		assertThat(repository.getCachedCount()).isEqualTo(10L);
+
+		repository.save(newAnimal("dog"));
+
+		assertThat(repository.getCachedCount()).isEqualTo(10L);
+
+		verify(repository, times(2)).count();
+	}
+
+	@Test
+	public void findAllUnpagedReturnsAllEntities() {
+
+		SimpleGemfireRepository repository =
+			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion()), mockEntityInformation()));
+
+		doReturn(Arrays.asList("a", "b", "c")).when(repository).findAll(eq(Sort.unsorted()));
+
+		Page page = repository.findAll(Pageable.unpaged());
+
+		assertThat(page).isNotNull();
+		assertThat(page.getContent()).containsExactly("a", "b", "c");
+		assertThat(page.getTotalElements()).isEqualTo(3L);
+
+		verify(repository, never()).count();
+	}
+
+	private GemfireEntityInformation<Animal, Long> mockGemfireEntityInformation() {
+
+		GemfireEntityInformation<Animal, Long> mockEntityInformation = mock(GemfireEntityInformation.class);
+
+		doReturn("id").when(mockEntityInformation).getIdPropertyName();
+
+		return mockEntityInformation;
+	}
+
+	@Test
+	public void findAllWithInitialKeysetScrollPosition() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		Animal cat = newAnimal(1L, "cat");
+		Animal dog = newAnimal(2L, "dog");
+		Animal eel = newAnimal(3L, "eel");
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+		doReturn(Arrays.asList(cat, dog, eel)).when(mockSelectResults).asList();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(mockTemplate, mockGemfireEntityInformation());
+
+		Window<Animal> window = repository.findAll(ScrollPosition.keyset(), Sort.by("name"), 2);
+
+		assertThat(window).isNotNull();
+		assertThat(window.getContent()).containsExactly(cat, dog);
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.positionAt(1)).isInstanceOf(KeysetScrollPosition.class);
+		assertThat(((KeysetScrollPosition) window.positionAt(1)).getKeys())
+			.containsExactly(Map.entry("name", "dog"), Map.entry("id", 2L));
+
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT * FROM /Example ORDER BY name ASC, id ASC LIMIT 3"));
+	}
+
+	@Test
+	public void findAllWithForwardKeysetScrollPositionSeeksPastKeyset() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		Animal eel = newAnimal(3L, "eel");
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+		doReturn(Collections.singletonList(eel)).when(mockSelectResults).asList();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(mockTemplate, mockGemfireEntityInformation());
+
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		keyset.put("name", "dog");
+		keyset.put("id", 2L);
+
+		Window<Animal> window = repository.findAll(ScrollPosition.forward(keyset), Sort.by("name"), 2);
+
+		assertThat(window).isNotNull();
+		assertThat(window.getContent()).containsExactly(eel);
+		assertThat(window.hasNext()).isFalse();
+
+		verify(mockTemplate, times(1)).find(eq("SELECT DISTINCT * FROM /Example"
+			+ " WHERE (name > $1) OR (name = $1 AND id > $2) ORDER BY name ASC, id ASC LIMIT 3"),
+				eq("dog"), eq(2L));
+	}
+
+	@Test
+	public void findAllWithBackwardKeysetScrollPositionSeeksBeforeKeyset() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		SelectResults mockSelectResults = mock(SelectResults.class);
+
+		Animal bat = newAnimal(1L, "bat");
+		Animal cat = newAnimal(2L, "cat");
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+		doReturn(mockSelectResults).when(mockTemplate).find(anyString(), any());
+		doReturn(Arrays.asList(cat, bat)).when(mockSelectResults).asList();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(mockTemplate, mockGemfireEntityInformation());
+
+		Window<Animal> window =
+			repository.findAll(ScrollPosition.backward(Collections.singletonMap("id", 3L)), Sort.unsorted(), 5);
+
+		assertThat(window).isNotNull();
+		assertThat(window.getContent()).containsExactly(bat, cat);
+		assertThat(window.hasNext()).isFalse();
+
+		verify(mockTemplate, times(1))
+			.find(eq("SELECT DISTINCT * FROM /Example WHERE (id < $1) ORDER BY id DESC LIMIT 6"), eq(3L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findAllWithIncompleteKeysetThrowsIllegalArgumentException() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		Region mockRegion = mockRegion("Example");
+
+		doReturn(mockRegion).when(mockTemplate).getRegion();
+
+		try {
+			new SimpleGemfireRepository<>(mockTemplate, mockGemfireEntityInformation())
+				.findAll(ScrollPosition.forward(Collections.singletonMap("id", 3L)), Sort.by("name"), 5);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Keyset must contain a non-null value for property [name]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+		finally {
+			verify(mockTemplate, never()).find(anyString(), any());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void findAllWithKeysetScrollPositionAndNoSortOrIdentifierThrowsIllegalArgumentException() {
+
+		try {
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation())
+				.findAll(ScrollPosition.keyset(), Sort.unsorted(), 5);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected)
+				.hasMessage("Sort is required for keyset scrolling when the entity identifier cannot be determined");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
 	}
 
 	@Test(expected = IllegalArgumentException.class)
@@ -834,6 +1189,59 @@ public class SimpleGemfireRepositoryUnitTests {
 		verifyNoInteractions(mockRegion);
 	}
 
+	@Test
+	public void findByIdUsesNearCacheUntilEvicted() {
+
+		Animal dog = newAnimal(1L, "dog");
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		doReturn(dog).when(mockRegion).get(eq(1L));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setNearCache(new NearCache<>("AnimalRepository", 10, 0L, null, false));
+
+		assertThat(repository.findById(1L).orElse(null)).isEqualTo(dog);
+		assertThat(repository.findById(1L).orElse(null)).isEqualTo(dog);
+		assertThat(repository.existsById(1L)).isTrue();
+
+		verify(mockRegion, times(1)).get(eq(1L));
+
+		repository.deleteById(1L);
+
+		assertThat(repository.findById(1L).orElse(null)).isEqualTo(dog);
+
+		verify(mockRegion, times(2)).get(eq(1L));
+
+		repository.save(dog);
+
+		assertThat(repository.getNearCache().size()).isZero();
+	}
+
+	@Test
+	public void findByIdBypassesNearCacheInTransaction() {
+
+		Animal dog = newAnimal(1L, "dog");
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache("MockRegion", true),
+			DataPolicy.REPLICATE);
+
+		doReturn(dog).when(mockRegion).get(eq(1L));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setNearCache(new NearCache<>("AnimalRepository", 10, 0L, null, false));
+
+		assertThat(repository.findById(1L).orElse(null)).isEqualTo(dog);
+		assertThat(repository.findById(1L).orElse(null)).isEqualTo(dog);
+
+		verify(mockRegion, times(2)).get(eq(1L));
+		assertThat(repository.getNearCache().size()).isZero();
+	}
+
 	@Test
 	public void deleteByIdSuccessfully() {
 
@@ -877,9 +1285,31 @@ public class SimpleGemfireRepositoryUnitTests {
 			newAnimal(3L, "dog")
 		));
 
-		verify(mockRegion, times(1)).remove(eq(1L));
-		verify(mockRegion, times(1)).remove(eq(2L));
-		verify(mockRegion, times(1)).remove(eq(3L));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(1L, 2L, 3L)));
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void deleteEntitiesInChunks() {
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		GemfireTemplate template = newGemfireTemplate(mockRegion);
+
+		template.setBulkWriteChunkSize(2);
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		repository.deleteAll(Arrays.asList(
+			newAnimal(1L, "bird"),
+			null,
+			newAnimal(2L, "cat"),
+			newAnimal(3L, "dog")
+		));
+
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(1L, 2L)));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(3L)));
 		verifyNoMoreInteractions(mockRegion);
 	}
 
@@ -896,7 +1326,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		gemfireRepository.deleteAll();
 
 		verify(mockCache, times(1)).getCacheTransactionManager();
-		verify(mockRegion, times(2)).getAttributes();
+		verify(mockRegion, never()).getAttributes();
 		verify(mockRegion, times(2)).getRegionService();
 		verify(mockRegion, times(1)).clear();
 		verify(mockRegion, never()).keySet();
@@ -924,7 +1354,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		gemfireRepository.deleteAll();
 
 		verify(mockCache, times(1)).getCacheTransactionManager();
-		verify(mockRegion, times(4)).getAttributes();
+		verify(mockRegion, times(2)).getAttributes();
 		verify(mockRegion, times(2)).getRegionService();
 		verify(mockRegion, times(1)).clear();
 		verify(mockRegion, times(1)).keySet();
@@ -948,13 +1378,40 @@ public class SimpleGemfireRepositoryUnitTests {
 
 		gemfireRepository.deleteAll();
 
-		verify(mockCache, times(0)).getCacheTransactionManager();
-		verify(mockRegion, times(4)).getAttributes();
-		verify(mockRegion, never()).getRegionService();
-		verify(mockRegion, never()).clear();
-		verify(mockRegion, times(1)).keySet();
+		verify(mockCache, times(1)).getCacheTransactionManager();
+		verify(mockRegion, times(2)).getRegionService();
+		verify(mockRegion, times(1)).clear();
+		verify(mockRegion, never()).keySet();
 		verify(mockRegion, never()).keySetOnServer();
-		verify(mockRegion, times(1)).removeAll(eq(keys));
+		verify(mockRegion, never()).removeAll(any(Collection.class));
+	}
+
+	@Test
+	public void deleteAllPagesThroughKeysInChunksWhenClearThrowsException() {
+
+		Cache mockCache = mockCache("MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.PARTITION);
+
+		Set<Long> keys = new LinkedHashSet<>(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		when(mockRegion.keySet()).thenReturn(keys);
+
+		GemfireTemplate template = newGemfireTemplate(mockRegion);
+
+		template.setBulkWriteChunkSize(2);
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		gemfireRepository.deleteAll();
+
+		verify(mockRegion, times(1)).clear();
+		verify(mockRegion, times(1)).keySet();
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(1L, 2L)));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(3L, 4L)));
+		verify(mockRegion, times(1)).removeAll(eq(CollectionUtils.asSet(5L)));
 	}
 
 	@Test
@@ -974,7 +1431,7 @@ public class SimpleGemfireRepositoryUnitTests {
 		gemfireRepository.deleteAll();
 
 		verify(mockCache, times(1)).getCacheTransactionManager();
-		verify(mockRegion, times(4)).getAttributes();
+		verify(mockRegion, times(2)).getAttributes();
 		verify(mockRegion, times(2)).getRegionService();
 		verify(mockRegion, never()).clear();
 		verify(mockRegion, times(1)).keySet();
@@ -983,7 +1440,79 @@ public class SimpleGemfireRepositoryUnitTests {
 	}
 
 	@Test
-	public void deleteAllWithKeySetOnServerWhenClientRegion() {
+	public void deleteAllRemovesKeysOnCallingThreadWhenTransactionPresent() {
+
+		Cache mockCache = mockCache("MockCache", true);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.PARTITION);
+
+		when(mockRegion.keySet()).thenReturn(new LinkedHashSet<>(Arrays.asList(1L, 2L, 3L)));
+
+		Thread callingThread = Thread.currentThread();
+
+		Set<Thread> removingThreads = new HashSet<>();
+
+		doAnswer(invocation -> removingThreads.add(Thread.currentThread()))
+			.when(mockRegion).removeAll(any(Collection.class));
+
+		Executor mockExecutor = mock(Executor.class);
+
+		GemfireTemplate template = newGemfireTemplate(mockRegion);
+
+		template.setBulkWriteChunkSize(1);
+		template.setBulkWriteParallelism(3);
+		template.setBulkWriteExecutor(mockExecutor);
+
+		new SimpleGemfireRepository<>(template, mockEntityInformation()).deleteAll();
+
+		assertThat(removingThreads).containsExactly(callingThread);
+
+		verify(mockRegion, never()).clear();
+		verify(mockRegion, times(3)).removeAll(any(Collection.class));
+		verifyNoInteractions(mockExecutor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deleteAllWithPagedKeysWhenClientRegion() {
+
+		Cache mockCache = mockCache("MockCache", false);
+
+		Region<Long, Animal> mockRegion = mockRegion("MockRegion", mockCache, DataPolicy.EMPTY);
+
+		RegionAttributes<Long, Animal> mockRegionAttributes = mockRegion.getAttributes();
+
+		SelectResults<Long> mockFirstPage = mock(SelectResults.class);
+		SelectResults<Long> mockLastPage = mock(SelectResults.class);
+
+		doThrow(new UnsupportedOperationException("TEST")).when(mockRegion).clear();
+		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
+		doReturn(Arrays.asList(1L, 2L)).when(mockFirstPage).asList();
+		doReturn(Collections.singletonList(3L)).when(mockLastPage).asList();
+
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		template.setBulkWriteChunkSize(2);
+
+		doReturn(mockFirstPage).when(template)
+			.find(eq("SELECT DISTINCT key FROM /MockRegion.keySet key ORDER BY key LIMIT 2"));
+		doReturn(mockLastPage).when(template)
+			.find(eq("SELECT DISTINCT key FROM /MockRegion.keySet key WHERE key > $1 ORDER BY key LIMIT 2"), eq(2L));
+
+		SimpleGemfireRepository<Animal, Long> gemfireRepository =
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
+
+		gemfireRepository.deleteAll();
+
+		verify(mockRegion, times(1)).clear();
+		verify(mockRegion, never()).keySetOnServer();
+		verify(mockRegion, never()).keySet();
+		verify(mockRegion, times(1)).removeAll(eq(new HashSet<>(Arrays.asList(1L, 2L))));
+		verify(mockRegion, times(1)).removeAll(eq(Collections.singleton(3L)));
+	}
+
+	@Test
+	public void deleteAllWithKeySetOnServerWhenClientRegionKeysCannotBePaged() {
 
 		Cache mockCache = mockCache("MockCache", false);
 
@@ -997,20 +1526,19 @@ public class SimpleGemfireRepositoryUnitTests {
 		doReturn("TestPool").when(mockRegionAttributes).getPoolName();
 		doReturn(keys).when(mockRegion).keySetOnServer();
 
+		GemfireTemplate template = spy(newGemfireTemplate(mockRegion));
+
+		doThrow(new IllegalStateException("TEST")).when(template).find(anyString());
+
 		SimpleGemfireRepository<Animal, Long> gemfireRepository =
-			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+			new SimpleGemfireRepository<>(template, mockEntityInformation());
 
 		gemfireRepository.deleteAll();
 
-		verify(mockCache, times(1)).getCacheTransactionManager();
-		verify(mockRegion, times(4)).getAttributes();
-		verify(mockRegion, times(2)).getRegionService();
 		verify(mockRegion, times(1)).clear();
 		verify(mockRegion, times(1)).keySetOnServer();
 		verify(mockRegion, never()).keySet();
 		verify(mockRegion, times(1)).removeAll(eq(keys));
-
-		verifyNoMoreInteractions(mockRegion);
 	}
 
 	@Test
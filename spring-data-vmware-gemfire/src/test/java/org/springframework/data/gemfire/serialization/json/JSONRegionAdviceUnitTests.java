@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) VMware, Inc. 2022-2023. All rights reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.springframework.data.gemfire.serialization.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * Unit Tests for {@link JSONRegionAdvice}.
+ *
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.serialization.json.JSONRegionAdvice
+ * @since 1.0.1
+ */
+public class JSONRegionAdviceUnitTests {
+
+	private static PdxInstance mockPdxInstance(Map<String, Object> fields) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		doReturn(Arrays.asList(fields.keySet().toArray(new String[0]))).when(mockPdxInstance).getFieldNames();
+		fields.forEach((fieldName, value) -> doReturn(value).when(mockPdxInstance).getField(fieldName));
+
+		return mockPdxInstance;
+	}
+
+	private static Region<?, ?> mockRegion(String name) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn(name).when(mockRegion).getName();
+		doReturn(Region.SEPARATOR + name).when(mockRegion).getFullPath();
+
+		return mockRegion;
+	}
+
+	private static ProceedingJoinPoint mockJoinPoint(Object target, Object returnValue) throws Throwable {
+
+		ProceedingJoinPoint mockJoinPoint = mock(ProceedingJoinPoint.class);
+
+		doReturn(target).when(mockJoinPoint).getTarget();
+		doReturn(returnValue).when(mockJoinPoint).proceed();
+
+		return mockJoinPoint;
+	}
+
+	@Test
+	public void getConvertsPdxInstanceToCompactJson() throws Throwable {
+
+		Map<String, Object> address = new LinkedHashMap<>();
+
+		address.put("city", "Portland Oregon");
+
+		Map<String, Object> person = new LinkedHashMap<>();
+
+		person.put("id", 1L);
+		person.put("name", "Jon Doe");
+		person.put("address", mockPdxInstance(address));
+		person.put("tags", Arrays.asList("one", "two"));
+		person.put("nickname", null);
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint(mockRegion("Example"), mockPdxInstance(person));
+
+		assertThat(new JSONRegionAdvice().get(mockJoinPoint)).isEqualTo("{\"id\":1,\"name\":\"Jon Doe\","
+			+ "\"address\":{\"city\":\"Portland Oregon\"},\"tags\":[\"one\",\"two\"],\"nickname\":null}");
+	}
+
+	@Test
+	public void getUsesConfiguredObjectMapper() throws Throwable {
+
+		ObjectMapper objectMapper = new ObjectMapper().enable(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS);
+
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		advice.setObjectMapper(objectMapper);
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint(mockRegion("Example"),
+			mockPdxInstance(Collections.singletonMap("id", 1)));
+
+		assertThat(advice.getObjectMapper()).isNotSameAs(objectMapper);
+		assertThat(advice.getObjectMapper().getFactory().isEnabled(JsonGenerator.Feature.WRITE_NUMBERS_AS_STRINGS))
+			.isTrue();
+		assertThat(advice.get(mockJoinPoint)).isEqualTo("{\"id\":\"1\"}");
+	}
+
+	@Test
+	public void objectMapperIsNotSharedBetweenAdvice() {
+
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		assertThat(advice.getObjectMapper()).isSameAs(advice.getObjectMapper());
+		assertThat(advice.getObjectMapper()).isNotSameAs(new JSONRegionAdvice().getObjectMapper());
+	}
+
+	@Test
+	public void getConvertsPdxInstanceToCompactJsonMatchingJsonFormatter() throws Throwable {
+
+		Map<String, Object> address = new LinkedHashMap<>();
+
+		address.put("city", "Montr\u00e9al");
+
+		Map<String, Object> person = new LinkedHashMap<>();
+
+		person.put("id", 1L);
+		person.put("photo", new byte[] { 1, -2, 3 });
+		person.put("address", mockPdxInstance(address));
+		person.put("scores", new int[] { 90, 85 });
+		person.put("attachments", Arrays.asList(new byte[] { 4 }, "none"));
+		person.put("nickname", null);
+
+		PdxInstance pdxInstance = mockPdxInstance(person);
+
+		String expectedJson = JSONFormatter.toJSON(pdxInstance).replaceAll("\\s", "");
+
+		assertThat(new JSONRegionAdvice().get(mockJoinPoint(mockRegion("Example"), pdxInstance)))
+			.isEqualTo(expectedJson)
+			.isEqualTo("{\"id\":1,\"photo\":[1,-2,3],\"address\":{\"city\":\"Montr\\u00E9al\"},"
+				+ "\"scores\":[90,85],\"attachments\":[[4],\"none\"],\"nickname\":null}");
+	}
+
+	@Test
+	public void getConvertsPdxInstanceToCompactJsonMatchingPrettyJson() throws Throwable {
+
+		Map<String, Object> address = new LinkedHashMap<>();
+
+		address.put("city", "Portland");
+		address.put("location", new Location(45.5, -122.6));
+
+		Map<String, Object> person = new LinkedHashMap<>();
+
+		person.put("id", 1L);
+		person.put("photo", new byte[] { 1, -2, 3 });
+		person.put("birthDate", new Date(0L));
+		person.put("address", mockPdxInstance(address));
+		person.put("location", new Location(1.0, 2.0));
+		person.put("tags", Arrays.asList("one", "two"));
+
+		PdxInstance pdxInstance = mockPdxInstance(person);
+
+		JSONRegionAdvice prettyAdvice = new JSONRegionAdvice();
+
+		prettyAdvice.setPrettyPrint(true);
+
+		String compactJson = (String) new JSONRegionAdvice().get(mockJoinPoint(mockRegion("Example"), pdxInstance));
+		String prettyJson = (String) prettyAdvice.get(mockJoinPoint(mockRegion("Example"), pdxInstance));
+
+		assertThat(prettyJson).contains("\n");
+		assertThat(prettyJson.replaceAll("\\s", "")).isEqualTo(compactJson);
+		assertThat(compactJson).isEqualTo("{\"id\":1,\"photo\":[1,-2,3],\"birthDate\":0,"
+			+ "\"address\":{\"city\":\"Portland\",\"location\":{\"latitude\":45.5,\"longitude\":-122.6}},"
+			+ "\"location\":{\"latitude\":1.0,\"longitude\":2.0},\"tags\":[\"one\",\"two\"]}");
+	}
+
+	@Test
+	public void setObjectMapperToNullThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new JSONRegionAdvice().setObjectMapper(null))
+			.withMessage("ObjectMapper must not be null");
+	}
+
+	@Test
+	public void getFromExcludedRegionDoesNotConvertPdxInstance() throws Throwable {
+
+		PdxInstance mockPdxInstance = mockPdxInstance(Collections.singletonMap("id", 1));
+
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		advice.setIncludedRegionNames(Arrays.asList("Included", "/Other"));
+
+		assertThat(advice.get(mockJoinPoint(mockRegion("Excluded"), mockPdxInstance))).isSameAs(mockPdxInstance);
+		assertThat(advice.get(mockJoinPoint(mockRegion("Included"), mockPdxInstance))).isEqualTo("{\"id\":1}");
+		assertThat(advice.get(mockJoinPoint(mockRegion("Other"), mockPdxInstance))).isEqualTo("{\"id\":1}");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void setIncludedRegionsAddsRegionNames() throws Throwable {
+
+		PdxInstance mockPdxInstance = mockPdxInstance(Collections.singletonMap("id", 1));
+
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		advice.setIncludedRegionNames(Collections.singletonList("One"));
+		advice.setIncludedRegions(Collections.singletonList(mockRegion("Two")));
+
+		assertThat(advice.get(mockJoinPoint(mockRegion("One"), mockPdxInstance))).isEqualTo("{\"id\":1}");
+		assertThat(advice.get(mockJoinPoint(mockRegion("Two"), mockPdxInstance))).isEqualTo("{\"id\":1}");
+		assertThat(advice.get(mockJoinPoint(mockRegion("Three"), mockPdxInstance))).isSameAs(mockPdxInstance);
+	}
+
+	@Test
+	public void getAllConvertsValuesPreservingMissingKeys() throws Throwable {
+
+		Map<Object, Object> values = new LinkedHashMap<>();
+
+		values.put("keyOne", mockPdxInstance(Collections.singletonMap("id", 1)));
+		values.put("keyTwo", null);
+		values.put("keyThree", "plain");
+
+		Map<Object, Object> results =
+			new JSONRegionAdvice().getAll(mockJoinPoint(mockRegion("Example"), values));
+
+		assertThat(results).containsOnlyKeys("keyOne", "keyTwo", "keyThree");
+		assertThat(results.get("keyOne")).isEqualTo("{\"id\":1}");
+		assertThat(results.get("keyTwo")).isNull();
+		assertThat(results.get("keyThree")).isEqualTo("plain");
+	}
+
+	@Test
+	public void valuesConvertsPdxInstancesToJson() throws Throwable {
+
+		Collection<Object> values = Arrays.asList(mockPdxInstance(Collections.singletonMap("id", 1)),
+			mockPdxInstance(Collections.singletonMap("id", 2)));
+
+		assertThat(new JSONRegionAdvice().values(mockJoinPoint(mockRegion("Example"), values)))
+			.containsExactly("{\"id\":1}", "{\"id\":2}");
+	}
+
+	@Test
+	public void valuesAreNotConvertedWhenConvertReturnedCollectionsIsFalse() throws Throwable {
+
+		Collection<Object> values = Collections.singletonList(mockPdxInstance(Collections.singletonMap("id", 1)));
+
+		JSONRegionAdvice advice = new JSONRegionAdvice();
+
+		advice.setConvertReturnedCollections(false);
+
+		assertThat(advice.values(mockJoinPoint(mockRegion("Example"), values))).isSameAs(values);
+	}
+
+	@Test
+	public void putPassesPdxInstanceThrough() throws Throwable {
+
+		PdxInstance mockPdxInstance = mockPdxInstance(Collections.singletonMap("id", 1));
+
+		Object[] arguments = { "key", mockPdxInstance };
+
+		ProceedingJoinPoint mockJoinPoint = mockJoinPoint(mockRegion("Example"), null);
+
+		doReturn(arguments).when(mockJoinPoint).getArgs();
+		doReturn(mockPdxInstance).when(mockJoinPoint).proceed(arguments);
+
+		assertThat(new JSONRegionAdvice().put(mockJoinPoint)).isEqualTo("{\"id\":1}");
+
+		verify(mockJoinPoint, times(1)).proceed(arguments);
+	}
+
+	@SuppressWarnings("unused")
+	public static final class Location {
+
+		private final double latitude;
+		private final double longitude;
+
+		Location(double latitude, double longitude) {
+			this.latitude = latitude;
+			this.longitude = longitude;
+		}
+
+		public double getLatitude() {
+			return this.latitude;
+		}
+
+		public double getLongitude() {
+			return this.longitude;
+		}
+	}
+}